@@ -0,0 +1,34 @@
+package benchmarks;
+
+import interfaces.IBoard;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One {@link IBoard#updateAll()} pass over a midgame board, the per-tick cost of
+ * advancing piece states and resolving arrivals.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardUpdateBenchmark {
+
+    private MidgamePosition position;
+    private IBoard board;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        position = MidgamePosition.create();
+        board = position.getBoard();
+    }
+
+    @Benchmark
+    public int updateAll() {
+        position.getClock().advance();
+        return board.updateAll();
+    }
+}
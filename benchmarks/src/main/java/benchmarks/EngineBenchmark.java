@@ -0,0 +1,93 @@
+package benchmarks;
+
+import interfaces.IBoard;
+import interfaces.IBoardEngine;
+import interfaces.IPiece;
+import moves.Move;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import pieces.Position;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Move generation and validation on a midgame position.
+ * <p>
+ * {@code isMoveLegal} is measured over every pseudo-move of every piece on the board
+ * (blocked, capturing, own-piece and quiet targets alike), which is what a client
+ * highlighting moves or a search would ask the engine.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EngineBenchmark {
+
+    private IBoard board;
+    private IBoardEngine engine;
+
+    /** Squares holding a piece. */
+    private Position[] occupied;
+
+    /** Candidate move origins and destinations, index-aligned. */
+    private Position[] from;
+    private Position[] to;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        board = MidgamePosition.create().getBoard();
+        engine = board.getBoardRulesEngine();
+
+        List<Position> pieces = new ArrayList<>();
+        List<Position> froms = new ArrayList<>();
+        List<Position> tos = new ArrayList<>();
+
+        for (int r = 0; r < board.getRows(); r++) {
+            for (int c = 0; c < board.getCols(); c++) {
+                Position pos = new Position(r, c);
+                IPiece piece = board.getPiece(pos);
+                if (piece == null) continue;
+
+                pieces.add(pos);
+                for (Move m : piece.getMoves()) {
+                    Position target = pos.add(m.dx(), m.dy());
+                    if (board.isInBounds(target)) {
+                        froms.add(pos);
+                        tos.add(target);
+                    }
+                }
+            }
+        }
+
+        occupied = pieces.toArray(new Position[0]);
+        from = froms.toArray(new Position[0]);
+        to = tos.toArray(new Position[0]);
+    }
+
+    /**
+     * Validates every pseudo-move on the board once.
+     */
+    @Benchmark
+    public int isMoveLegal() {
+        int legal = 0;
+        for (int i = 0; i < from.length; i++) {
+            if (engine.isMoveLegal(board, from[i], to[i])) legal++;
+        }
+        return legal;
+    }
+
+    /**
+     * Generates the legal moves of every piece on the board once.
+     */
+    @Benchmark
+    public void getLegalMoves(Blackhole bh) {
+        for (Position pos : occupied) {
+            bh.consume(engine.getLegalMoves(board, pos));
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package benchmarks;
+
+import interfaces.IGame;
+import interfaces.IPiece;
+import org.openjdk.jmh.annotations.*;
+import pieces.Position;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One {@link IGame#update()} tick on a midgame position with player selections queued.
+ * <p>
+ * Each tick both players ask a few of their pieces to jump (a select/select pair on the same square).
+ * Pieces that are still airborne or resting reject the request, so in steady state the tick mixes
+ * executed commands with rejected selections, like a game with impatient players.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameUpdateBenchmark {
+
+    /** Number of pieces per player asked to jump on every tick. */
+    @Param({"1", "4"})
+    public int piecesPerPlayer;
+
+    private MidgamePosition position;
+    private IGame game;
+
+    private int[] owners;
+    private Position[] squares;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        position = MidgamePosition.create();
+        game = position.getGame();
+
+        List<Integer> ownerList = new ArrayList<>();
+        List<Position> squareList = new ArrayList<>();
+        int[] picked = new int[game.getPlayers().length];
+
+        for (int r = 0; r < game.getBoard().getRows(); r++) {
+            for (int c = 0; c < game.getBoard().getCols(); c++) {
+                Position pos = new Position(r, c);
+                IPiece piece = game.getBoard().getPiece(pos);
+                if (piece == null || picked[piece.getPlayer()] >= piecesPerPlayer) continue;
+
+                picked[piece.getPlayer()]++;
+                ownerList.add(piece.getPlayer());
+                squareList.add(pos);
+            }
+        }
+
+        owners = ownerList.stream().mapToInt(Integer::intValue).toArray();
+        squares = squareList.toArray(new Position[0]);
+    }
+
+    @Benchmark
+    public void update() {
+        for (int i = 0; i < squares.length; i++) {
+            game.handleSelection(owners[i], squares[i]);
+            game.handleSelection(owners[i], squares[i]);
+        }
+        position.tick();
+    }
+}
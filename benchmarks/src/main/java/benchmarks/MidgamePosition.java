@@ -0,0 +1,137 @@
+package benchmarks;
+
+import board.BoardConfig;
+import constants.BoardConstants;
+import game.GameFactory;
+import interfaces.IBoard;
+import interfaces.IGame;
+import interfaces.IPiece;
+import interfaces.IPlayer;
+import pieces.Position;
+import player.PlayerFactory;
+import utils.TickClock;
+
+import java.awt.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A real game advanced to a typical midgame position.
+ * <p>
+ * The position is reached by playing a scripted opening through {@link IGame#handleSelection}
+ * and {@link IGame#update()}, so every piece carries the state a live game would give it
+ * (moved pawns, developed minor pieces, one exchange on e5/e4) rather than a hand-built board.
+ * After the script all pieces are back in their idle state.
+ * </p>
+ */
+public class MidgamePosition {
+
+    /** Simulated tick length, matching the 60 FPS game loop. */
+    public static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(16);
+
+    /** Time given to every scripted move: travel plus long rest, with margin. */
+    private static final long SETTLE_NANOS = TimeUnit.SECONDS.toNanos(12);
+
+    /** Scripted opening: {playerId, fromRow, fromCol, toRow, toCol}. */
+    private static final int[][] OPENING = {
+            {1, 6, 4, 4, 4},
+            {0, 1, 4, 3, 4},
+            {1, 7, 6, 5, 5},
+            {0, 0, 1, 2, 2},
+            {1, 6, 3, 4, 3},
+            {0, 1, 3, 2, 3},
+            {1, 4, 3, 3, 4}, // pawn takes pawn
+            {0, 2, 3, 3, 4}, // pawn takes back
+            {1, 7, 5, 4, 2},
+            {0, 0, 6, 2, 5},
+            {1, 7, 1, 5, 2},
+            {0, 0, 2, 4, 6},
+    };
+
+    private final TickClock clock;
+    private final IGame game;
+
+    private MidgamePosition(TickClock clock, IGame game) {
+        this.clock = clock;
+        this.game = game;
+    }
+
+    /**
+     * Creates a new game and plays the scripted opening.
+     *
+     * @return the fixture, positioned after the opening
+     * @throws IllegalStateException if a scripted move was not carried out
+     */
+    public static MidgamePosition create() {
+        TickClock clock = new TickClock(TICK_NANOS);
+
+        BoardConfig boardConfig = boardConfig();
+        IPlayer[] players = PlayerFactory.createPlayers(new String[]{"white", "black"}, boardConfig, clock);
+        IGame game = GameFactory.createNewGame(boardConfig, players, clock);
+        game.setStartTimeNano(clock.nanoTime());
+
+        MidgamePosition position = new MidgamePosition(clock, game);
+        position.settle();
+        for (int[] m : OPENING) {
+            position.play(m[0], new Position(m[1], m[2]), new Position(m[3], m[4]));
+        }
+        return position;
+    }
+
+    /**
+     * @return the board configuration the server uses for new games
+     */
+    public static BoardConfig boardConfig() {
+        return new BoardConfig(
+                new Dimension(BoardConstants.BOARD_ROWS, BoardConstants.BOARD_COLS),
+                new Dimension(BoardConstants.SQUARE_SIZE * BoardConstants.BOARD_ROWS,
+                        BoardConstants.SQUARE_SIZE * BoardConstants.BOARD_COLS),
+                new Dimension(BoardConstants.BOARD_WIDTH_M, BoardConstants.BOARD_HEIGHT_M)
+        );
+    }
+
+    /**
+     * Selects a piece and its destination, then runs ticks until the move and rest are over.
+     */
+    private void play(int playerId, Position from, Position to) {
+        game.handleSelection(playerId, from);
+        game.handleSelection(playerId, to);
+        settle();
+
+        IPiece moved = game.getBoard().getPiece(to);
+        if (moved == null || moved.getPlayer() != playerId) {
+            throw new IllegalStateException("Scripted move " + from + " -> " + to + " was not played");
+        }
+    }
+
+    /**
+     * Runs game ticks until every piece has finished its current action and rest.
+     */
+    private void settle() {
+        for (long t = 0; t < SETTLE_NANOS; t += TICK_NANOS) {
+            tick();
+        }
+    }
+
+    /**
+     * Advances the clock by one tick and updates the game.
+     */
+    public void tick() {
+        clock.advance();
+        game.update();
+    }
+
+    /** @return the game holding the position */
+    public IGame getGame() {
+        return game;
+    }
+
+    /** @return the board holding the position */
+    public IBoard getBoard() {
+        return game.getBoard();
+    }
+
+    /** @return the clock driving the game */
+    public TickClock getClock() {
+        return clock;
+    }
+}
@@ -0,0 +1,47 @@
+package benchmarks;
+
+import board.OffHeapGameStore;
+import board.PieceTable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One tick of every game in an {@link OffHeapGameStore} holding many copies of the midgame
+ * position: the per-tick cost of a dense node whose games live off-heap.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OffHeapGameStoreBenchmark {
+
+    @Param({"10000"})
+    public int games;
+
+    private MidgamePosition position;
+    private OffHeapGameStore store;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        position = MidgamePosition.create();
+        PieceTable midgame = PieceTable.of(position.getBoard());
+        store = new OffHeapGameStore(midgame, 48, 1024);
+        for (int i = 0; i < games; i++) {
+            store.create();
+        }
+    }
+
+    @Benchmark
+    public int tickAll() {
+        position.getClock().advance();
+        long now = position.getClock().nanoTime();
+        int visited = 0;
+        for (int game = 0; game < games; game++) {
+            visited += store.tick(game, now);
+        }
+        return visited;
+    }
+}
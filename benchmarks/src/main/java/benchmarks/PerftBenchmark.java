@@ -0,0 +1,41 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import perft.Perft;
+import replay.GameReplayer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Perft node counting from the initial layout: move generation, legality checks and
+ * make/undo on the board, as in a search. Divide the node count by the time for nodes per second.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PerftBenchmark {
+
+    @Param({"3", "4"})
+    public int depth;
+
+    private Perft perft;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        perft = new Perft(GameReplayer.defaultBoardConfig());
+        if (!perft.run(depth).matchesGolden()) {
+            throw new IllegalStateException("perft(" + depth + ") differs from its golden value");
+        }
+    }
+
+    /**
+     * Counts the nodes of the given depth once.
+     */
+    @Benchmark
+    public long perft() {
+        return perft.run(depth).nodes();
+    }
+}
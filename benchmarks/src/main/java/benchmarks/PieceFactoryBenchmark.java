@@ -0,0 +1,43 @@
+package benchmarks;
+
+import board.BoardConfig;
+import interfaces.IPiece;
+import org.openjdk.jmh.annotations.*;
+import pieces.EPieceType;
+import pieces.PiecesFactory;
+import pieces.Position;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building a piece from its resources: state configs, sprites, transitions and moves.
+ * This runs for all 32 pieces at game creation and for every pawn promotion.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PieceFactoryBenchmark {
+
+    @Param({"P", "N", "B", "R", "Q", "K"})
+    public EPieceType type;
+
+    @Param({"0", "1"})
+    public int playerId;
+
+    private BoardConfig boardConfig;
+    private Position pos;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boardConfig = MidgamePosition.boardConfig();
+        pos = new Position(BoardConfig.rowsOfPlayer.get(playerId).get(0), 3);
+    }
+
+    @Benchmark
+    public IPiece createPieceByCode() {
+        return PiecesFactory.createPieceByCode(type, playerId, pos, boardConfig);
+    }
+}
@@ -0,0 +1,34 @@
+package benchmarks;
+
+import board.PieceTable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One {@link PieceTable#tick(long)} pass over the midgame position, to compare with
+ * {@link BoardUpdateBenchmark}: the same per-tick work on the struct-of-arrays layout.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PieceTableBenchmark {
+
+    private MidgamePosition position;
+    private PieceTable table;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        position = MidgamePosition.create();
+        table = PieceTable.of(position.getBoard());
+    }
+
+    @Benchmark
+    public int tick() {
+        position.getClock().advance();
+        return table.tick(position.getClock().nanoTime());
+    }
+}
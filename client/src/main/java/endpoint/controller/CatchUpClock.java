@@ -0,0 +1,72 @@
+package endpoint.controller;
+
+import interfaces.IClock;
+
+/**
+ * Game clock of a replica being rebuilt: pinned and stepped by hand while the game is
+ * re-simulated from its start, then released to follow the estimate of the server clock.
+ * <p>
+ * Pieces keep a reference to the clock they were created with, so the rebuilt replica
+ * carries on with this clock after the catch-up.
+ * </p>
+ */
+public class CatchUpClock implements IClock {
+
+    private final IClock live;
+
+    /** Whether the clock is pinned; game times may be negative, so no sentinel value is used. */
+    private volatile boolean pinned = false;
+
+    /** Pinned game time. */
+    private volatile long pinnedNanos;
+
+    /**
+     * Creates a clock following the given live clock.
+     *
+     * @param live the clock followed once released
+     */
+    public CatchUpClock(IClock live) {
+        this.live = live;
+    }
+
+    @Override
+    public long nanoTime() {
+        return pinned ? pinnedNanos : live.nanoTime();
+    }
+
+    /**
+     * Stops the clock at the given game time.
+     *
+     * @param nanos the game time to hold
+     */
+    public void pin(long nanos) {
+        pinnedNanos = nanos;
+        pinned = true;
+    }
+
+    /**
+     * Moves the pinned clock forward.
+     *
+     * @param nanos the game time to add
+     * @return the new game time
+     */
+    public long advance(long nanos) {
+        if (!pinned) throw new IllegalStateException("clock is not pinned");
+        pinnedNanos += nanos;
+        return pinnedNanos;
+    }
+
+    /**
+     * Lets the clock follow the live clock from now on.
+     */
+    public void release() {
+        pinned = false;
+    }
+
+    /**
+     * @return true while the clock is pinned
+     */
+    public boolean isPinned() {
+        return pinned;
+    }
+}
@@ -0,0 +1,145 @@
+package endpoint.controller;
+
+import dto.StateHashDTO;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Compares the board hashes broadcast by the server with the hashes of the local replica.
+ * <p>
+ * The replica runs on an estimate of the server clock and applies the player's own selections
+ * early (prediction) and the opponent's late (latency), so around a state change the two boards
+ * legitimately differ for a short while. A server hash therefore matches if the replica held the
+ * same hash at any time within a tolerance window around the server's time, and is only judged
+ * once the replica has played past that window. A desync is declared after several consecutive
+ * mismatches, which a transient timing difference does not produce.
+ * </p>
+ * <p>
+ * The replica's history is kept as a ring of hash changes, so steady positions cost nothing.
+ * </p>
+ */
+public class DesyncDetector {
+
+    /** Number of hash changes remembered; a change per tick covers about a second. */
+    private static final int HISTORY = 64;
+
+    /** Outcome of judging a server hash. */
+    public enum Verdict {
+        /** The replica held the server's hash within the tolerance window. */
+        MATCH,
+        /** The replica never held the server's hash within the tolerance window. */
+        MISMATCH,
+        /** The window is older than the remembered history; the hash is ignored. */
+        UNKNOWN
+    }
+
+    private final long toleranceNanos;
+    private final int confirmations;
+
+    /** Times of the remembered hash changes, oldest first (ring). */
+    private final long[] changeTimes = new long[HISTORY];
+
+    /** Hash in effect from the change at the same index. */
+    private final long[] changeHashes = new long[HISTORY];
+
+    private int changes = 0;
+
+    /** Server hashes waiting for the replica to play past their window, oldest first. */
+    private final Deque<StateHashDTO> pending = new ArrayDeque<>();
+
+    private int consecutiveMismatches = 0;
+    private Verdict lastVerdict = Verdict.UNKNOWN;
+
+    /**
+     * Creates a detector.
+     *
+     * @param toleranceNanos how far apart in game time the replica may reach the server's state
+     * @param confirmations  consecutive mismatches needed to declare a desync
+     */
+    public DesyncDetector(long toleranceNanos, int confirmations) {
+        if (toleranceNanos < 0) throw new IllegalArgumentException("toleranceNanos must be >= 0");
+        if (confirmations <= 0) throw new IllegalArgumentException("confirmations must be > 0");
+        this.toleranceNanos = toleranceNanos;
+        this.confirmations = confirmations;
+    }
+
+    /**
+     * Queues a hash received from the server; it is judged by a later {@link #recordLocal}.
+     *
+     * @param remote the server's hash
+     */
+    public synchronized void onRemote(StateHashDTO remote) {
+        pending.addLast(remote);
+    }
+
+    /**
+     * Records the replica's hash after a game update and judges the server hashes whose
+     * tolerance window has now been played.
+     *
+     * @param timeNanos game time of the update
+     * @param hash      hash of the replica's board after the update
+     * @return true if the replica is now considered out of sync
+     */
+    public synchronized boolean recordLocal(long timeNanos, long hash) {
+        if (changes == 0 || changeHashes[(changes - 1) % HISTORY] != hash) {
+            changeTimes[changes % HISTORY] = timeNanos;
+            changeHashes[changes % HISTORY] = hash;
+            changes++;
+        }
+
+        StateHashDTO remote;
+        while ((remote = pending.peekFirst()) != null && remote.timeNanos() + toleranceNanos <= timeNanos) {
+            pending.pollFirst();
+            lastVerdict = judge(remote);
+            switch (lastVerdict) {
+                case MATCH -> consecutiveMismatches = 0;
+                case MISMATCH -> consecutiveMismatches++;
+                case UNKNOWN -> { }
+            }
+        }
+        return isDesynced();
+    }
+
+    /**
+     * @return true once enough consecutive server hashes mismatched
+     */
+    public synchronized boolean isDesynced() {
+        return consecutiveMismatches >= confirmations;
+    }
+
+    /**
+     * @return the verdict of the most recently judged server hash
+     */
+    public synchronized Verdict getLastVerdict() {
+        return lastVerdict;
+    }
+
+    /**
+     * Forgets the history and pending hashes, e.g. after the replica was rebuilt.
+     */
+    public synchronized void reset() {
+        changes = 0;
+        pending.clear();
+        consecutiveMismatches = 0;
+        lastVerdict = Verdict.UNKNOWN;
+    }
+
+    /**
+     * Checks whether the replica held the server's hash at some time in its tolerance window.
+     */
+    private Verdict judge(StateHashDTO remote) {
+        long from = remote.timeNanos() - toleranceNanos;
+        long to = remote.timeNanos() + toleranceNanos;
+        int oldest = Math.max(0, changes - HISTORY);
+
+        // Walk back from the newest change; the first change at or before 'from' is in effect
+        // at the start of the window and ends the walk.
+        for (int i = changes - 1; i >= oldest; i--) {
+            long time = changeTimes[i % HISTORY];
+            if (time <= to && changeHashes[i % HISTORY] == remote.hash()) return Verdict.MATCH;
+            if (time <= from) return Verdict.MISMATCH;
+        }
+        return Verdict.UNKNOWN;
+    }
+}
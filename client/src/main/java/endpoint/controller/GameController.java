@@ -1,6 +1,7 @@
 package endpoint.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import board.BoardSnapshot;
 import dto.*;
 import endpoint.launch.ChessClientEndpoint;
 import events.EGameEvent;
@@ -9,6 +10,7 @@ import events.GameEvent;
 import events.IEventListener;
 import game.GameLoop;
 import interfaces.AppLogger;
+import interfaces.IBoard;
 import interfaces.IGame;
 import interfaces.IGameLoop;
 import pieces.Position;
@@ -16,9 +18,17 @@ import sound.EventSoundListener;
 import utils.Slf4jAdapter;
 import utils.Utils;
 
+import javax.swing.*;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 /**
@@ -28,10 +38,25 @@ import java.util.function.Consumer;
  * and running the game loop.
  * </p>
  */
-public class GameController implements Runnable, IEventListener {
+public class GameController implements IEventListener {
 
     private static final AppLogger logger = new Slf4jAdapter(GameController.class);
 
+    /** Number of clock pings sent right after connecting */
+    private static final int CLOCK_SYNC_BURST = 5;
+
+    /** Delay between pings of the initial burst, in milliseconds */
+    private static final long CLOCK_SYNC_BURST_INTERVAL_MS = 200;
+
+    /** Delay between periodic re-synchronization pings, in milliseconds */
+    private static final long CLOCK_SYNC_INTERVAL_MS = 10_000;
+
+    /** How far apart in game time the replica may reach a server board hash, in nanoseconds */
+    private static final long DESYNC_TOLERANCE_NANOS = 500_000_000L;
+
+    /** Consecutive mismatching server hashes after which the replica is rebuilt */
+    private static final int DESYNC_CONFIRMATIONS = 3;
+
     /**
      * The game model representing the current state of the game
      */
@@ -67,15 +92,64 @@ public class GameController implements Runnable, IEventListener {
      */
     private final ServerMessageHandler serverMessageHandler;
 
+    /**
+     * Tracks locally predicted selections until the server echoes them
+     */
+    private final SelectionPredictor selectionPredictor = new SelectionPredictor();
+
+    /**
+     * Checks the replica against the board hashes broadcast by the server
+     */
+    private final DesyncDetector desyncDetector = new DesyncDetector(DESYNC_TOLERANCE_NANOS, DESYNC_CONFIRMATIONS);
+
+    /**
+     * Whether a resync was requested and not answered yet
+     */
+    private volatile boolean resyncRequested = false;
+
     /**
      * List of listeners for game events
      */
     private final List<GameEventListener> listeners = new CopyOnWriteArrayList<>();
 
     /**
-     * Thread for listening to server messages
+     * Estimate of the server's game clock, shared by the game model and loop
+     */
+    private final ServerClock serverClock = new ServerClock();
+
+    /**
+     * Scheduler sending clock synchronization pings
+     */
+    private ScheduledExecutorService clockSyncExecutor;
+
+    /**
+     * Loop ticking the current model (null until the game runs)
+     */
+    private IGameLoop gameLoop;
+
+    /**
+     * Rebuilds requested by the server and not run yet, oldest first, each with the selections
+     * received after its request; guarded by itself. Selections are held here instead of being
+     * applied to a model that is about to be replaced.
+     */
+    private final Deque<List<PlayerSelectedDTO>> pendingRebuilds = new ArrayDeque<>();
+
+    /**
+     * Server messages received before the first clock sample, in arrival order; guarded by
+     * {@link #pendingRebuilds}. A model is only built once the server clock is known, and
+     * later messages wait behind the held ones to keep their order.
      */
-    private Thread listenerThread;
+    private final List<Runnable> heldUntilSync = new ArrayList<>();
+
+    /** Number of rebuilds requested so far; a rebuild is skipped once a later one was requested. */
+    private final AtomicInteger rebuildsRequested = new AtomicInteger();
+
+    /** Thread re-simulating games for rebuilds, off the event dispatch thread */
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "GameController-Rebuild");
+        t.setDaemon(true);
+        return t;
+    });
 
     /**
      * Constructs a GameController with the specified client and ObjectMapper.
@@ -101,30 +175,22 @@ public class GameController implements Runnable, IEventListener {
     // ------------------- Threads -------------------
 
     /**
-     * Starts the listener thread that polls messages from the server.
+     * Registers with the endpoint so decoded server messages are dispatched
+     * directly to the message handler, and starts clock synchronization.
      */
     public void startListening() {
-        if (listenerThread == null || !listenerThread.isAlive()) {
-            listenerThread = new Thread(this, "GameController-Listener");
-            listenerThread.setDaemon(true);
-            listenerThread.start();
-            logger.debug("GameController started listening thread");
-        }
+        client.setMessageListener(serverMessageHandler::handleMessage);
+        logger.debug("GameController started listening");
+        startClockSync();
     }
 
     /**
-     * Stops the listener thread gracefully.
+     * Stops receiving server messages and clock synchronization.
      */
     public void stopListening() {
-        if (listenerThread != null) {
-            listenerThread.interrupt();
-            try {
-                listenerThread.join(2000);
-            } catch (InterruptedException ignored) {
-                Thread.currentThread().interrupt();
-            }
-            logger.debug("GameController stopped listening thread");
-        }
+        stopClockSync();
+        client.setMessageListener(null);
+        logger.debug("GameController stopped listening");
     }
 
     /**
@@ -132,26 +198,48 @@ public class GameController implements Runnable, IEventListener {
      */
     public void startRunGame() {
         if (model != null && !Thread.currentThread().isInterrupted()) {
-            IGameLoop gameLoop = new GameLoop(model);
+            gameLoop = new GameLoop(model, serverClock);
             new Thread(gameLoop, "Game-Loop-Thread").start();
         }
     }
 
     /**
-     * Main loop that polls messages from the server and delegates them to the message handler.
+     * Starts sending clock pings: a short burst to get an initial estimate,
+     * then periodic pings to follow drift.
      */
-    @Override
-    public void run() {
-        logger.debug("GameController run() loop started");
-        while (!Thread.currentThread().isInterrupted()) {
-            try {
-                String message = client.pollNextMessage(500, TimeUnit.MILLISECONDS);
-                if (message != null) serverMessageHandler.handleMessage(message);
-            } catch (InterruptedException e) {
-                logger.error("Error in GameController loop", e);
-            }
+    private void startClockSync() {
+        if (clockSyncExecutor != null) return;
+        clockSyncExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "GameController-ClockSync");
+            t.setDaemon(true);
+            return t;
+        });
+        for (int i = 0; i < CLOCK_SYNC_BURST; i++) {
+            clockSyncExecutor.schedule(this::sendClockPing, i * CLOCK_SYNC_BURST_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        }
+        clockSyncExecutor.scheduleWithFixedDelay(this::sendClockPing,
+                CLOCK_SYNC_INTERVAL_MS, CLOCK_SYNC_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops sending clock pings.
+     */
+    private void stopClockSync() {
+        if (clockSyncExecutor != null) {
+            clockSyncExecutor.shutdownNow();
+            clockSyncExecutor = null;
+        }
+    }
+
+    /**
+     * Sends one clock ping stamped with the local clock.
+     */
+    private void sendClockPing() {
+        try {
+            client.sendCommand(EventType.CLOCK_PING, new ClockSyncDTO(System.nanoTime(), 0));
+        } catch (Exception e) {
+            logger.debug("Clock ping not sent: " + e.getMessage());
         }
-        logger.debug("GameController run() loop ended");
     }
 
     // ------------------- Event Handling -------------------
@@ -168,6 +256,7 @@ public class GameController implements Runnable, IEventListener {
             case GAME_UPDATE -> {
                 gamePanel.onGameUpdate();
                 gamePanel.updateTimerLabel(Utils.formatElapsedTime(model.getElapsedMillis()));
+                checkSync();
             }
             case PIECE_END_MOVED -> playerActionHandler.refreshLegalMoves();
         }
@@ -220,6 +309,43 @@ public class GameController implements Runnable, IEventListener {
         return mapper;
     }
 
+    /**
+     * @return the client's estimate of the server game clock
+     */
+    public ServerClock getServerClock() {
+        return serverClock;
+    }
+
+    /**
+     * Feeds a clock pong into the server clock estimate.
+     *
+     * @param pong the server's answer to a clock ping
+     */
+    void onClockPong(ClockSyncDTO pong) {
+        serverClock.onPong(pong, System.nanoTime());
+        synchronized (pendingRebuilds) {
+            if (heldUntilSync.isEmpty() || !serverClock.isSynchronized()) return;
+            List<Runnable> ready = new ArrayList<>(heldUntilSync);
+            heldUntilSync.clear();
+            ready.forEach(Runnable::run);
+        }
+    }
+
+    /**
+     * Holds a server message until the clock has its first sample, see {@link #heldUntilSync}.
+     *
+     * @param message    handles the message once released
+     * @param needsClock whether the message builds a model from the server clock
+     * @return true if the message was held
+     */
+    private boolean holdUntilSync(Runnable message, boolean needsClock) {
+        synchronized (pendingRebuilds) {
+            if (heldUntilSync.isEmpty() && (!needsClock || serverClock.isSynchronized())) return false;
+            heldUntilSync.add(message);
+            return true;
+        }
+    }
+
     /**
      * Sets the player ID and notifies listeners.
      *
@@ -232,33 +358,223 @@ public class GameController implements Runnable, IEventListener {
 
     /**
      * Initializes the game using a GameDTO object and notifies listeners.
+     * Held until the server clock has its first sample.
      *
      * @param dto the game DTO
      */
     void playInit(GameDTO dto) {
-        GameHelper helper = new GameHelper(playerId);
+        if (holdUntilSync(() -> playInit(dto), true)) return;
+
+        GameHelper helper = new GameHelper(playerId, serverClock);
         model = helper.createGame(dto);
         gamePanel = helper.createGamePanel(model, playerActionHandler);
         fireEvent(GameEventListener::onGameInit);
     }
 
     /**
-     * Handles a player selection command.
+     * Handles an authoritative player selection echoed by the server.
+     * <p>
+     * Echoes of our own predicted selections are already applied and are dropped; deferred
+     * ones are applied now. On a misprediction the local pending selection is rolled back and
+     * the deferred actions are dropped before the server's selection is applied. While a
+     * rebuild is pending the selection is held and applied to the rebuilt model.
+     * </p>
      *
      * @param cmd the player selection DTO
      */
     void onPlayerSelect(PlayerSelectedDTO cmd) {
-        model.handleSelection(cmd.playerId(), cmd.selection());
+        if (holdUntilSync(() -> onPlayerSelect(cmd), false)) return;
+
+        synchronized (pendingRebuilds) {
+            if (!pendingRebuilds.isEmpty()) {
+                pendingRebuilds.peekLast().add(cmd);
+                return;
+            }
+            applySelection(cmd);
+        }
+    }
+
+    /**
+     * Applies an authoritative selection to the current model, see {@link #onPlayerSelect}.
+     */
+    private void applySelection(PlayerSelectedDTO cmd) {
+        switch (selectionPredictor.reconcile(cmd, playerId)) {
+            case CONFIRMED -> { }
+            case REMOTE, DEFERRED -> model.handleSelection(cmd.playerId(), cmd.selection());
+            case MISPREDICTED -> {
+                logger.info("Selection prediction diverged from server (seq " + cmd.seq() + "), rolling back");
+                model.clearSelection(playerId);
+                playerActionHandler.resetSelection();
+                model.handleSelection(cmd.playerId(), cmd.selection());
+            }
+        }
+    }
+
+    /**
+     * Catches up after the server gave this client its seat back.
+     * <p>
+     * The replica is rebuilt in full from the server's selection history, like on a resync, so
+     * missed selections take effect at the time the server applied them. Predictions still
+     * outstanding never reached the server and are dropped.
+     * </p>
+     *
+     * @param dto the resume payload (game snapshot and selection history)
+     */
+    void onResumed(ResumeDTO dto) {
+        if (holdUntilSync(() -> onResumed(dto), true)) return;
+
+        logger.info("Resumed session, re-simulating " + dto.selections().size() + " selections");
+        requestRebuild(dto.game(), dto.selections(), dto.appliedNanos());
+    }
+
+    /**
+     * Queues a board hash broadcast by the server; it is checked against the replica
+     * once the replica has played past its time.
+     *
+     * @param dto the server's board hash
+     */
+    void onStateHash(StateHashDTO dto) {
+        desyncDetector.onRemote(dto);
+    }
+
+    /**
+     * Records the replica's board hash after a game update and asks the server for its
+     * history once the replica is found out of sync.
+     */
+    private void checkSync() {
+        IBoard board = model.getBoard();
+        BoardSnapshot snapshot = board == null ? null : board.getSnapshot();
+        if (snapshot == null) return; // no board published yet
+
+        if (desyncDetector.recordLocal(snapshot.timeNanos(), snapshot.hash()) && !resyncRequested) {
+            resyncRequested = true;
+            logger.warn("Board diverged from server, requesting resync");
+            try {
+                client.sendCommand(EventType.RESYNC_REQUEST, null);
+            } catch (Exception e) {
+                resyncRequested = false;
+                logger.error("Resync request not sent", e);
+            }
+        }
+    }
+
+    /**
+     * Replaces the diverged replica with one rebuilt from the server's selection history.
+     * <p>
+     * The game is re-simulated up to the current server time off the event dispatch thread.
+     * On the event dispatch thread, where the loop ticks, the running loop is then stopped and
+     * pending predictions are dropped; listeners install the new panel and restart the loop.
+     * </p>
+     *
+     * @param dto the server's selection history
+     */
+    void onResync(ResyncDTO dto) {
+        if (holdUntilSync(() -> onResync(dto), true)) return;
+
+        logger.info("Resynchronizing, re-simulating " + dto.selections().size() + " selections");
+        requestRebuild(dto.game(), dto.selections(), dto.appliedNanos());
     }
 
     /**
-     * Sends the player's selection to the server.
+     * Rebuilds the replica from a selection history, holding the selections received meanwhile.
+     * <p>
+     * The game is re-simulated on {@link #rebuildExecutor} and installed on the event dispatch
+     * thread, where the current model ticks. Only the latest of several pending rebuilds is run, since its history covers the
+     * earlier ones; the selections held for it are applied once it is installed.
+     * </p>
+     *
+     * @param game         snapshot of the game
+     * @param selections   every selection of the game, in order
+     * @param appliedNanos server game time each selection was applied, same order
+     */
+    private void requestRebuild(GameDTO game, List<PlayerSelectedDTO> selections, long[] appliedNanos) {
+        int request;
+        synchronized (pendingRebuilds) {
+            pendingRebuilds.addLast(new ArrayList<>());
+            request = rebuildsRequested.incrementAndGet();
+        }
+        rebuildExecutor.execute(() -> {
+            GameHelper helper = new GameHelper(playerId, new CatchUpClock(serverClock));
+            IGame rebuilt = request == rebuildsRequested.get() ? resimulate(helper, game, selections, appliedNanos) : null;
+            SwingUtilities.invokeLater(() -> {
+                synchronized (pendingRebuilds) {
+                    List<PlayerSelectedDTO> held = pendingRebuilds.pollFirst();
+                    if (rebuilt == null || !pendingRebuilds.isEmpty()) return;
+
+                    install(helper, rebuilt);
+                    held.forEach(this::applySelection);
+                }
+            });
+        });
+    }
+
+    /**
+     * Re-simulates a game up to the current server time.
+     *
+     * @return the rebuilt game, or null if the re-simulation failed
+     */
+    private IGame resimulate(GameHelper helper, GameDTO game, List<PlayerSelectedDTO> selections, long[] appliedNanos) {
+        try {
+            return helper.rebuildGame(game, selections, appliedNanos, serverClock.nanoTime());
+        } catch (RuntimeException e) {
+            logger.error("Rebuilding the game failed", e);
+            return null;
+        }
+    }
+
+    /**
+     * Replaces the replica with a rebuilt one, then lets the listeners show it: a first game
+     * is initialized, a running one has its panel swapped. Runs on the event dispatch thread.
+     *
+     * @param helper  the helper that rebuilt the game
+     * @param rebuilt the rebuilt game
+     */
+    private void install(GameHelper helper, IGame rebuilt) {
+        boolean running = model != null;
+        if (gameLoop != null) {
+            gameLoop.stop();
+            gameLoop = null;
+        }
+
+        model = rebuilt;
+        gamePanel = helper.createGamePanel(model, playerActionHandler);
+
+        selectionPredictor.reset();
+        playerActionHandler.resetSelection();
+        desyncDetector.reset();
+        resyncRequested = false;
+        fireEvent(running ? GameEventListener::onResync : GameEventListener::onGameInit);
+    }
+
+    /**
+     * Applies the player's piece selection locally (prediction) and sends it to the server.
+     * Behind a deferred action it is deferred as well, see {@link SelectionPredictor}.
      *
      * @param pos the selected position
      * @throws Exception if sending fails
      */
     void sendPlayerSelection(Position pos) throws Exception {
-        client.sendCommand(EventType.PLAYER_SELECTED, new PlayerSelectedDTO(playerId, pos));
+        if (selectionPredictor.hasDeferred()) {
+            sendPlayerAction(pos);
+            return;
+        }
+        PlayerSelectedDTO dto = selectionPredictor.predict(playerId, pos);
+        if (model != null) {
+            model.handleSelection(playerId, pos);
+        }
+        client.sendCommand(EventType.PLAYER_SELECTED, dto);
+    }
+
+    /**
+     * Sends the player's target selection, which executes a move or jump, to the server.
+     * It is applied when the server echoes it, so a mispredicted move never runs locally.
+     *
+     * @param pos the selected target position
+     * @throws Exception if sending fails
+     */
+    void sendPlayerAction(Position pos) throws Exception {
+        PlayerSelectedDTO dto = selectionPredictor.defer(playerId, pos);
+        client.sendCommand(EventType.PLAYER_SELECTED, dto);
     }
 
     // ------------------- Listener Interface -------------------
@@ -287,5 +603,11 @@ public class GameController implements Runnable, IEventListener {
          * Called when the game is initialized
          */
         void onGameInit();
+
+        /**
+         * Called when the model and panel were rebuilt after a desync; the new panel
+         * replaces the old one and the game loop must be restarted
+         */
+        void onResync();
     }
 }
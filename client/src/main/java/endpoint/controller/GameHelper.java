@@ -1,13 +1,17 @@
 package endpoint.controller;
 
+import constants.GameConstants;
+import events.EventPublisher;
 import dto.*;
 import endpoint.view.BoardPanel;
 import game.GameFactory;
+import interfaces.IClock;
 import interfaces.IGame;
 import interfaces.IPlayer;
 import interfaces.IPlayerCursor;
 import player.PlayerCursor;
 import pieces.Position;
+import utils.SystemClock;
 import viewUtils.game.GamePanel;
 import viewUtils.game.PlayerInfoPanel;
 
@@ -27,27 +31,105 @@ public class GameHelper {
     /** The ID of the current player */
     private final int playerId;
 
+    /** The game clock (the client's estimate of the server clock) */
+    private final IClock clock;
+
     /**
      * Constructs a GameHelper for the given player ID.
      *
      * @param playerId the ID of the current player
      */
     public GameHelper(int playerId) {
+        this(playerId, SystemClock.getInstance());
+    }
+
+    /**
+     * Constructs a GameHelper for the given player ID and game clock.
+     *
+     * @param playerId the ID of the current player
+     * @param clock    the game clock shared with the server
+     */
+    public GameHelper(int playerId, IClock clock) {
         this.playerId = playerId;
+        this.clock = clock;
     }
 
     /**
      * Creates the Game model from a GameDTO.
+     * The game uses the server's start time, expressed in the shared game clock.
      *
      * @param dto the GameDTO containing initial game state
      * @return a new IGame instance
      */
     public IGame createGame(GameDTO dto) {
         IPlayer[] players = Arrays.stream(dto.getPlayers())
-                .map(p -> PlayerDTO.to(p, dto.getBoardConfig()))
+                .map(p -> PlayerDTO.to(p, dto.getBoardConfig(), clock))
                 .toArray(IPlayer[]::new);
 
-        return GameFactory.createNewGame(dto.getBoardConfig(), players);
+        IGame game = GameFactory.createNewGame(dto.getBoardConfig(), players, clock);
+        game.setStartTimeNano(dto.getStartTimeNano());
+        return game;
+    }
+
+    /**
+     * Rebuilds the Game model from the server's full selection history by re-simulating it.
+     * <p>
+     * The game is created at its start time and stepped one game-loop period at a time; each
+     * selection is handed to the game once the simulation reaches the time the server applied it,
+     * so it takes effect at the same update as on the server. The simulation then runs up to
+     * {@code untilNanos} and the clock is released to follow the live clock. Events published
+     * while re-simulating are muted, since they replay the past.
+     * This helper's clock must be a {@link CatchUpClock}.
+     * </p>
+     *
+     * @param dto        the resync payload
+     * @param untilNanos the game time to catch up to, normally the current server time
+     * @return the rebuilt game, in step with the live clock
+     */
+    public IGame rebuildGame(ResyncDTO dto, long untilNanos) {
+        return rebuildGame(dto.game(), dto.selections(), dto.appliedNanos(), untilNanos);
+    }
+
+    /**
+     * Rebuilds the Game model from a selection history, like {@link #rebuildGame(ResyncDTO, long)}.
+     *
+     * @param dto          snapshot of the game
+     * @param selections   every selection of the game, in order
+     * @param appliedNanos server game time each selection was applied, same order
+     * @param untilNanos   the game time to catch up to, normally the current server time
+     * @return the rebuilt game, in step with the live clock
+     */
+    public IGame rebuildGame(GameDTO dto, List<PlayerSelectedDTO> selections, long[] appliedNanos, long untilNanos) {
+        if (!(clock instanceof CatchUpClock catchUp)) {
+            throw new IllegalStateException("Rebuilding a game needs a CatchUpClock");
+        }
+        long tickNanos = GameConstants.GAME_LOOP_MS * 1_000_000L;
+        catchUp.pin(dto.getStartTimeNano());
+        IGame game = createGame(dto);
+
+        // Events of the re-simulation replay the past; listeners only care about the live game
+        EventPublisher.getInstance().muted(() -> {
+            for (int i = 0; i < selections.size(); i++) {
+                stepUntil(game, catchUp, tickNanos, appliedNanos[i]);
+                game.handleSelection(selections.get(i).playerId(), selections.get(i).selection());
+            }
+            stepUntil(game, catchUp, tickNanos, untilNanos);
+            return null;
+        });
+        game.getBoard().publishSnapshot(game.getTick());
+
+        catchUp.release();
+        return game;
+    }
+
+    /**
+     * Runs the game updates of every game-loop period ending at or before the given time.
+     */
+    private static void stepUntil(IGame game, CatchUpClock clock, long tickNanos, long untilNanos) {
+        while (clock.nanoTime() + tickNanos <= untilNanos) {
+            clock.advance(tickNanos);
+            game.update();
+        }
     }
 
     /**
@@ -35,7 +35,8 @@ public class PlayerActionHandler {
      * Handles a player selecting a position on the board.
      * <p>
      * Depending on the current client state, either selects a piece, displays its legal moves,
-     * or resets the selection if selecting a target.
+     * or resets the selection if selecting a target. A target is only applied to the game once
+     * the server confirms it.
      * </p>
      *
      * @param pos the position selected by the player
@@ -43,6 +44,7 @@ public class PlayerActionHandler {
     public void handlePlayerSelection(Position pos) {
         IPiece p = controller.getModel().getBoard().getPiece(pos);
         BoardPanel boardPanel = (BoardPanel) controller.getGamePanel().getBoardPanel();
+        boolean selectsTarget = clientState == ClientState.WAIT_SELECTING_TARGET;
 
         switch (clientState) {
             case WAIT_SELECTING_PIECE -> {
@@ -68,14 +70,33 @@ public class PlayerActionHandler {
             }
         }
 
-        // Send the player's selection to the server
+        // Send the selection to the server, applying a piece selection locally right away
         try {
-            controller.sendPlayerSelection(pos);
+            if (selectsTarget) {
+                controller.sendPlayerAction(pos);
+            } else {
+                controller.sendPlayerSelection(pos);
+            }
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
     }
 
+    /**
+     * Clears the current selection and returns to piece selection.
+     * <p>
+     * Called when a locally predicted selection is rolled back.
+     * </p>
+     */
+    public void resetSelection() {
+        selected = null;
+        clientState = ClientState.WAIT_SELECTING_PIECE;
+        if (controller.getGamePanel() != null) {
+            BoardPanel boardPanel = (BoardPanel) controller.getGamePanel().getBoardPanel();
+            boardPanel.clearSelection();
+        }
+    }
+
     /**
      * Refreshes the legal moves for the currently selected piece.
      * <p>
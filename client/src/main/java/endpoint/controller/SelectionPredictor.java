@@ -0,0 +1,127 @@
+package endpoint.controller;
+
+import dto.PlayerSelectedDTO;
+import pieces.Position;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Tracks the local player's selections until the server confirms them.
+ * <p>
+ * Every local selection gets an increasing sequence number and is remembered until the
+ * authoritative {@code PLAYER_SELECTED} echo with the same number arrives. Since the server
+ * processes one client's messages in order, echoes are expected in the same order as the
+ * predictions; any other echo of our own selections means the local state diverged.
+ * </p>
+ * <p>
+ * Only selections that can be cleared again are applied optimistically. A selection that
+ * executes a move or jump cannot be taken back once the piece runs, so it is deferred: applied
+ * when its echo arrives and dropped on a misprediction. Selections made after a deferred one
+ * are deferred too, so the game sees them in order.
+ * </p>
+ */
+public class SelectionPredictor {
+
+    /**
+     * Outcome of reconciling a server echo with the outstanding predictions.
+     */
+    public enum Reconciliation {
+        /** The echo confirms the oldest prediction; it was already applied locally. */
+        CONFIRMED,
+        /** The echo confirms the oldest prediction, which was deferred and must be applied now. */
+        DEFERRED,
+        /** The echo belongs to another player (or to no prediction) and must be applied. */
+        REMOTE,
+        /** The echo contradicts the predictions; local selection state must be rolled back. */
+        MISPREDICTED
+    }
+
+    /** A selection sent to the server and whether it was applied locally. */
+    private record Prediction(PlayerSelectedDTO dto, boolean applied) { }
+
+    /** Predictions not yet confirmed by the server, oldest first. */
+    private final Deque<Prediction> outstanding = new ArrayDeque<>();
+
+    /** Number of outstanding predictions that were deferred. */
+    private int deferred = 0;
+
+    /** Sequence number of the last prediction. */
+    private long lastSeq = 0;
+
+    /**
+     * Registers a local selection applied optimistically as a prediction.
+     *
+     * @param playerId the local player ID
+     * @param pos      the selected position
+     * @return the DTO to send to the server, carrying the prediction's sequence number
+     */
+    public synchronized PlayerSelectedDTO predict(int playerId, Position pos) {
+        return add(playerId, pos, true);
+    }
+
+    /**
+     * Registers a local selection that is only applied once the server confirms it.
+     *
+     * @param playerId the local player ID
+     * @param pos      the selected position
+     * @return the DTO to send to the server, carrying the prediction's sequence number
+     */
+    public synchronized PlayerSelectedDTO defer(int playerId, Position pos) {
+        return add(playerId, pos, false);
+    }
+
+    private PlayerSelectedDTO add(int playerId, Position pos, boolean applied) {
+        PlayerSelectedDTO dto = new PlayerSelectedDTO(playerId, pos.copy(), ++lastSeq);
+        outstanding.addLast(new Prediction(dto, applied));
+        if (!applied) deferred++;
+        return dto;
+    }
+
+    /**
+     * @return true while a deferred prediction waits for the server, so new selections must be deferred too
+     */
+    public synchronized boolean hasDeferred() {
+        return deferred > 0;
+    }
+
+    /**
+     * Matches an authoritative selection echo against the outstanding predictions.
+     * A mispredicted echo discards all outstanding predictions, deferred ones included.
+     *
+     * @param echo          the selection broadcast by the server
+     * @param localPlayerId the local player ID
+     * @return how the caller should treat the echo
+     */
+    public synchronized Reconciliation reconcile(PlayerSelectedDTO echo, int localPlayerId) {
+        if (echo.playerId() != localPlayerId || echo.seq() <= 0) {
+            return Reconciliation.REMOTE;
+        }
+
+        Prediction head = outstanding.peekFirst();
+        if (head != null && head.dto().seq() == echo.seq() && head.dto().selection().equals(echo.selection())) {
+            outstanding.pollFirst();
+            if (head.applied()) return Reconciliation.CONFIRMED;
+            deferred--;
+            return Reconciliation.DEFERRED;
+        }
+
+        reset();
+        return Reconciliation.MISPREDICTED;
+    }
+
+    /**
+     * @return number of predictions still waiting for the server
+     */
+    public synchronized int outstandingCount() {
+        return outstanding.size();
+    }
+
+    /**
+     * Drops all outstanding predictions (e.g. after the game state was replaced).
+     */
+    public synchronized void reset() {
+        outstanding.clear();
+        deferred = 0;
+    }
+}
@@ -0,0 +1,119 @@
+package endpoint.controller;
+
+import dto.ClockSyncDTO;
+import interfaces.IClock;
+
+/**
+ * Client-side estimate of the server's game clock.
+ * <p>
+ * Each ping/pong exchange yields a round-trip time and an offset
+ * ({@code serverTime - (send + receive) / 2}), assuming symmetric latency.
+ * As in NTP's clock filter, the offset of the sample with the smallest round trip
+ * among the most recent ones is used, since it carries the least queuing error.
+ * </p>
+ * <p>
+ * Until the first sample the clock reads local time, which has an unrelated origin; game time
+ * must not be taken from it before {@link #isSynchronized()}. The first sample is applied at
+ * once. A later sample raising the offset is applied at once too; one lowering it is slewed:
+ * the clock runs at {@code 1 - 1/SLEW_DIVISOR} of local speed until it reaches the new offset,
+ * so it never runs backwards and never stops.
+ * </p>
+ */
+public class ServerClock implements IClock {
+
+    /** Number of recent samples considered when picking the best offset. */
+    private static final int WINDOW = 8;
+
+    /** A lowered offset is reached by slowing the clock by local elapsed time / this. */
+    private static final long SLEW_DIVISOR = 10;
+
+    private final long[] roundTrips = new long[WINDOW];
+    private final long[] offsets = new long[WINDOW];
+    private int samples = 0;
+
+    /** Current estimate of serverClock - localClock, in nanoseconds. */
+    private volatile long offsetNanos = 0;
+
+    /** Round-trip time of the sample the offset was taken from. */
+    private volatile long roundTripNanos = -1;
+
+    /** Offset applied by {@link #nanoTime()}, moving towards {@link #offsetNanos}; valid once synchronized. */
+    private long appliedOffsetNanos;
+
+    /** Local time of the previous synchronized reading, or {@link Long#MIN_VALUE} if none. */
+    private long lastLocalNanos = Long.MIN_VALUE;
+
+    /**
+     * Returns the estimated server game-clock time, monotonic across offset updates once synchronized.
+     *
+     * @return Current server time in nanoseconds
+     */
+    @Override
+    public long nanoTime() {
+        return toServerTime(System.nanoTime());
+    }
+
+    /**
+     * Converts a local time to the estimated server time, slewing towards a lowered offset.
+     *
+     * @param localNanos local {@link System#nanoTime()}, not lower than in the previous call
+     * @return the estimated server time
+     */
+    public synchronized long toServerTime(long localNanos) {
+        if (!isSynchronized()) return localNanos;
+
+        long target = offsetNanos;
+        if (lastLocalNanos == Long.MIN_VALUE || target >= appliedOffsetNanos) {
+            appliedOffsetNanos = target;
+        } else {
+            long maxStep = (localNanos - lastLocalNanos) / SLEW_DIVISOR;
+            appliedOffsetNanos = Math.max(target, appliedOffsetNanos - maxStep);
+        }
+        lastLocalNanos = localNanos;
+        return localNanos + appliedOffsetNanos;
+    }
+
+    /**
+     * Records the result of a ping/pong exchange.
+     *
+     * @param pong              the server's answer
+     * @param clientReceiveNanos local {@link System#nanoTime()} when the answer arrived
+     */
+    public synchronized void onPong(ClockSyncDTO pong, long clientReceiveNanos) {
+        long rtt = clientReceiveNanos - pong.clientSendNanos();
+        if (rtt < 0) return;
+
+        int slot = samples % WINDOW;
+        roundTrips[slot] = rtt;
+        offsets[slot] = pong.serverNanos() - (pong.clientSendNanos() + rtt / 2);
+        samples++;
+
+        int best = 0;
+        for (int i = 1; i < Math.min(samples, WINDOW); i++) {
+            if (roundTrips[i] < roundTrips[best]) best = i;
+        }
+        roundTripNanos = roundTrips[best];
+        offsetNanos = offsets[best];
+    }
+
+    /**
+     * @return true once at least one exchange completed
+     */
+    public boolean isSynchronized() {
+        return roundTripNanos >= 0;
+    }
+
+    /**
+     * @return estimated offset of the server clock relative to the local clock, in nanoseconds
+     */
+    public long getOffsetNanos() {
+        return offsetNanos;
+    }
+
+    /**
+     * @return round-trip time of the sample used for the offset, or -1 if none yet
+     */
+    public long getRoundTripNanos() {
+        return roundTripNanos;
+    }
+}
@@ -4,14 +4,15 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import dto.*;
 import interfaces.AppLogger;
+import profiling.MessageCodecEvent;
 import utils.Slf4jAdapter;
 
 /**
- * Handles parsing and reacting to messages received from the server.
+ * Reacts to messages received from the server.
  *
- * <p>Each message is expected to be a JSON string containing a "type" field
- * and optionally a "data" field. The handler routes the message to
- * appropriate methods in {@link GameController} based on its type.</p>
+ * <p>Messages arrive already decoded by the endpoint (type plus JSON payload).
+ * The handler converts the payload to the typed DTO of its event type and routes
+ * it to the appropriate method in {@link GameController}.</p>
  */
 public class ServerMessageHandler {
 
@@ -30,39 +31,64 @@ public class ServerMessageHandler {
     }
 
     /**
-     * Handles a raw JSON message received from the server.
+     * Handles a decoded message received from the server.
      *
-     * @param message the raw JSON string
+     * @param message the message with its JSON payload
      */
-    public void handleMessage(String message) {
+    public void handleMessage(Message<JsonNode> message) {
+        EventType type = message.type();
+        JsonNode dataNode = message.data();
         try {
-            // Parse the message into a JSON tree
-            JsonNode root = controller.getMapper().readTree(message);
-            String typeStr = root.path("type").asText("");
-            JsonNode dataNode = root.path("data");
-
-            // Determine the event type, defaulting to UNKNOWN if invalid
-            EventType type = EventType.UNKNOWN;
-            try {
-                type = EventType.valueOf(typeStr);
-            } catch (IllegalArgumentException ignored) {}
-
             // Route message based on type
             switch (type) {
                 case WAIT ->
                         controller.fireEvent(l -> l.onWaitMessage(dataNode.asText("")));
                 case GAME_INIT ->
-                        controller.playInit(controller.getMapper().treeToValue(dataNode, GameDTO.class));
+                        controller.playInit(payload(type, dataNode, GameDTO.class));
                 case PLAYER_SELECTED ->
-                        controller.onPlayerSelect(controller.getMapper().treeToValue(dataNode, PlayerSelectedDTO.class));
+                        controller.onPlayerSelect(payload(type, dataNode, PlayerSelectedDTO.class));
                 case PLAYER_ID ->
                         controller.onPlayerId(dataNode.asInt(-1));
-                default ->
-                        controller.fireEvent(l -> l.onUnknownMessage(typeStr));
+                case RESUMED ->
+                        controller.onResumed(payload(type, dataNode, ResumeDTO.class));
+                case SESSION_TOKEN -> { } // kept by the endpoint for reconnects
+                case CLOCK_PONG ->
+                        controller.onClockPong(payload(type, dataNode, ClockSyncDTO.class));
+                case STATE_HASH ->
+                        controller.onStateHash(payload(type, dataNode, StateHashDTO.class));
+                case RESYNC ->
+                        controller.onResync(payload(type, dataNode, ResyncDTO.class));
+                default -> {
+                    // unknown messages carry the whole frame as payload
+                    String typeStr = type == EventType.UNKNOWN ? dataNode.path("type").asText("") : type.name();
+                    controller.fireEvent(l -> l.onUnknownMessage(typeStr));
+                }
             }
         } catch (JsonProcessingException e) {
-            // Log JSON parsing errors for debugging purposes
-            logger.error("Failed to parse JSON message", e);
+            // Log payload conversion errors for debugging purposes
+            logger.error("Failed to convert payload of " + type, e);
+        }
+    }
+
+    /**
+     * Converts a message payload to its typed DTO.
+     *
+     * @param type     the message type, for profiling
+     * @param dataNode the JSON payload
+     * @param dtoClass the DTO class of the message type
+     * @return the converted DTO
+     * @throws JsonProcessingException if the payload does not match the DTO
+     */
+    private <T> T payload(EventType type, JsonNode dataNode, Class<T> dtoClass) throws JsonProcessingException {
+        MessageCodecEvent jfr = new MessageCodecEvent();
+        jfr.begin();
+        T dto = controller.getMapper().treeToValue(dataNode, dtoClass);
+
+        if (jfr.shouldCommit()) {
+            jfr.operation = MessageCodecEvent.DECODE;
+            jfr.messageType = type.name();
+            jfr.commit();
         }
+        return dto;
     }
 }
@@ -2,23 +2,34 @@ package endpoint.launch;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import constants.ServerConfig;
 import dto.EventType;
 import dto.Message;
 import interfaces.AppLogger;
+import profiling.MessageCodecEvent;
 import utils.Slf4jAdapter;
 
 import javax.websocket.*;
 import java.io.Closeable;
 import java.io.IOException;
 import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Queue;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 /**
  * WebSocket client endpoint for communicating with the chess server.
  *
  * <p>This class handles connection, message sending, message receiving,
- * reconnection logic, and player ID management.</p>
+ * reconnection logic, and player ID management. Each incoming frame is decoded
+ * exactly once into a {@code Message<JsonNode>} and handed directly to the
+ * registered message listener on the receiving thread. Reconnects present the session
+ * token and the number of selection events already received, so the server can
+ * give the player back its seat and replay only what was missed.</p>
  */
 @ClientEndpoint
 public class ChessClientEndpoint implements Closeable {
@@ -28,20 +39,40 @@ public class ChessClientEndpoint implements Closeable {
     /** The current WebSocket session */
     private Session session;
 
-    /** Queue to hold incoming messages */
-    private final BlockingQueue<String> messageQueue = new LinkedBlockingQueue<>();
+    /** Receiver of decoded messages; null until the controller registers */
+    private Consumer<Message<JsonNode>> messageListener;
+
+    /** Messages decoded before a listener was registered, delivered on registration */
+    private final Queue<Message<JsonNode>> undelivered = new ArrayDeque<>();
+
+    /** Guards listener registration and delivery so messages keep their order */
+    private final Object deliveryLock = new Object();
 
     /** The player's assigned ID, -1 if not yet assigned */
     private volatile int playerId = -1;
 
+    /** Token identifying this player's seat on the server, null until assigned */
+    private volatile String sessionToken;
+
     /** JSON object mapper */
     private final ObjectMapper mapper = new ObjectMapper();
 
     /** The server endpoint URI */
     private final URI endpointURI;
 
-    /** Executor for scheduling reconnection attempts */
-    private final ScheduledExecutorService reconnectExecutor = Executors.newSingleThreadScheduledExecutor();
+    /** Scheduler for reconnection attempts, shared by all endpoints of the process */
+    private static final ScheduledExecutorService reconnectExecutor =
+            Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "ChessClientEndpoint-Reconnect");
+                t.setDaemon(true);
+                return t;
+            });
+
+    /** Pending reconnect attempt, cancelled on close */
+    private volatile ScheduledFuture<?> pendingReconnect;
+
+    /** Container used to open (and re-open) the connection */
+    private final WebSocketContainer container;
 
     /** Flag to track if connected */
     private final AtomicBoolean connected = new AtomicBoolean(false);
@@ -61,18 +92,45 @@ public class ChessClientEndpoint implements Closeable {
      * @throws Exception if connection fails
      */
     public ChessClientEndpoint(URI endpointURI) throws Exception {
+        this(endpointURI, ContainerProvider.getWebSocketContainer());
+    }
+
+    /**
+     * Creates a new ChessClientEndpoint and connects to the server through the given container.
+     * Many endpoints in one process (e.g. load-test bots) should share one container.
+     *
+     * @param endpointURI the server WebSocket URI
+     * @param container   the WebSocket client container
+     * @throws Exception if connection fails
+     */
+    public ChessClientEndpoint(URI endpointURI, WebSocketContainer container) throws Exception {
         this.endpointURI = endpointURI;
+        this.container = container;
         connect();
     }
 
     /**
-     * Connects to the server using a WebSocket container.
+     * Connects to the server using the WebSocket container.
      *
      * @throws Exception if connection fails
      */
     private void connect() throws Exception {
-        WebSocketContainer container = ContainerProvider.getWebSocketContainer();
-        container.connectToServer(this, endpointURI);
+        container.connectToServer(this, resumeURI());
+    }
+
+    /**
+     * Builds the URI to connect to: the endpoint URI, plus the session token once a
+     * seat was assigned.
+     *
+     * @return the URI for the next connection attempt
+     */
+    URI resumeURI() {
+        String token = sessionToken;
+        if (token == null) return endpointURI;
+
+        String query = ServerConfig.TOKEN_PARAM + "=" + URLEncoder.encode(token, StandardCharsets.UTF_8);
+        String base = endpointURI.toString();
+        return URI.create(base + (endpointURI.getRawQuery() == null ? "?" : "&") + query);
     }
 
     // ---------------------- WebSocket Callbacks ----------------------
@@ -87,8 +145,11 @@ public class ChessClientEndpoint implements Closeable {
 
     @OnMessage
     public void onMessage(String message) {
-        messageQueue.add(message); // store message for external retrieval
-        processMessage(message);   // process immediately
+        Message<JsonNode> decoded = decode(message);
+        if (decoded == null) return;
+
+        trackSession(decoded);
+        deliver(decoded);
     }
 
     @OnClose
@@ -107,30 +168,80 @@ public class ChessClientEndpoint implements Closeable {
     // ---------------------- Message Processing ----------------------
 
     /**
-     * Processes an incoming JSON message.
+     * Decodes a raw JSON frame into a message with a JSON payload.
+     * <p>
+     * Unknown types decode to {@link EventType#UNKNOWN} with the whole frame as
+     * payload, so the original type name remains available to the listener.
+     * </p>
      *
      * @param message the raw JSON message
+     * @return the decoded message, or null if the frame is not valid JSON
      */
-    private void processMessage(String message) {
+    Message<JsonNode> decode(String message) {
+        MessageCodecEvent jfr = new MessageCodecEvent();
+        jfr.begin();
         try {
             JsonNode root = mapper.readTree(message);
             String type = root.path("type").asText("");
-            JsonNode data = root.path("data");
 
-            EventType eventType;
+            Message<JsonNode> decoded;
             try {
-                eventType = EventType.valueOf(type);
+                decoded = new Message<>(EventType.valueOf(type), root.path("data"));
             } catch (IllegalArgumentException e) {
-                eventType = EventType.UNKNOWN;
+                decoded = new Message<>(EventType.UNKNOWN, root);
             }
 
-            switch (eventType) {
-                case PLAYER_ID -> updatePlayerId(data.asInt(-1));
-                default -> logger.debug("Unknown message type: " + type);
+            if (jfr.shouldCommit()) {
+                jfr.operation = MessageCodecEvent.DECODE;
+                jfr.messageType = type;
+                jfr.bytes = message.length();
+                jfr.commit();
             }
-
+            return decoded;
         } catch (Exception e) {
             logger.error("Failed to parse incoming message", e);
+            return null;
+        }
+    }
+
+    /**
+     * Updates the connection state kept by the endpoint (player ID, session token)
+     * from a decoded message.
+     *
+     * @param message the decoded message
+     */
+    private void trackSession(Message<JsonNode> message) {
+        JsonNode data = message.data();
+        switch (message.type()) {
+            case PLAYER_ID -> updatePlayerId(data.asInt(-1));
+            case SESSION_TOKEN -> sessionToken = data.asText(null);
+            default -> { }
+        }
+    }
+
+    /**
+     * Hands a decoded message to the listener, or keeps it until one is registered.
+     *
+     * @param message the decoded message
+     */
+    private void deliver(Message<JsonNode> message) {
+        synchronized (deliveryLock) {
+            if (messageListener == null) {
+                undelivered.add(message);
+                return;
+            }
+            dispatch(messageListener, message);
+        }
+    }
+
+    /**
+     * Invokes the listener, keeping listener failures away from the WebSocket thread.
+     */
+    private void dispatch(Consumer<Message<JsonNode>> listener, Message<JsonNode> message) {
+        try {
+            listener.accept(message);
+        } catch (Exception e) {
+            logger.error("Message listener failed for " + message.type(), e);
         }
     }
 
@@ -153,7 +264,7 @@ public class ChessClientEndpoint implements Closeable {
         reconnectAttempts++;
         long delay = Math.min(60, 1 << Math.min(reconnectAttempts, 6)); // cap at 60 seconds
 
-        reconnectExecutor.schedule(() -> {
+        pendingReconnect = reconnectExecutor.schedule(() -> {
             if (closing.get()) return;
             try {
                 connect();
@@ -189,32 +300,54 @@ public class ChessClientEndpoint implements Closeable {
      * @throws Exception if JSON serialization fails
      */
     public <T> void sendCommand(EventType type, T data) throws Exception {
-        Message<T> msg = new Message<>(type, data);
-        sendText(mapper.writeValueAsString(msg));
+        MessageCodecEvent jfr = new MessageCodecEvent();
+        jfr.begin();
+        String json = mapper.writeValueAsString(new Message<>(type, data));
+
+        if (jfr.shouldCommit()) {
+            jfr.operation = MessageCodecEvent.ENCODE;
+            jfr.messageType = type.name();
+            jfr.bytes = json.length();
+            jfr.commit();
+        }
+        sendText(json);
     }
 
     // ---------------------- Receiving Messages ----------------------
 
     /**
-     * Waits for the next message, blocking if none is available.
+     * Registers the receiver of decoded messages, replacing any previous one.
+     * Messages received while no listener was registered are delivered first, in order.
+     * Passing null stops delivery; later messages are kept until a listener is set again.
      *
-     * @return the next message string
-     * @throws InterruptedException if interrupted while waiting
+     * @param listener the message receiver, or null
      */
-    public String waitForNextMessage() throws InterruptedException {
-        return messageQueue.take();
+    public void setMessageListener(Consumer<Message<JsonNode>> listener) {
+        synchronized (deliveryLock) {
+            messageListener = listener;
+            if (listener == null) return;
+
+            Message<JsonNode> pending;
+            while ((pending = undelivered.poll()) != null) {
+                dispatch(listener, pending);
+            }
+        }
     }
 
     /**
-     * Polls for the next message with a timeout.
+     * Gets the session token used to resume the seat after a reconnect.
      *
-     * @param timeout the timeout duration
-     * @param unit the time unit
-     * @return the next message or null if none arrives in time
-     * @throws InterruptedException if interrupted while waiting
+     * @return the session token, or null if not yet assigned
+     */
+    public String getSessionToken() {
+        return sessionToken;
+    }
+
+    /**
+     * @return true while the WebSocket session is open
      */
-    public String pollNextMessage(long timeout, TimeUnit unit) throws InterruptedException {
-        return messageQueue.poll(timeout, unit);
+    public boolean isConnected() {
+        return connected.get();
     }
 
     /**
@@ -229,7 +362,7 @@ public class ChessClientEndpoint implements Closeable {
     // ---------------------- Close / Shutdown ----------------------
 
     /**
-     * Closes the WebSocket connection and shuts down the executor.
+     * Closes the WebSocket connection and cancels any pending reconnect.
      */
     @Override
     public void close() {
@@ -244,6 +377,7 @@ public class ChessClientEndpoint implements Closeable {
             }
         }
 
-        reconnectExecutor.shutdownNow();
+        ScheduledFuture<?> reconnect = pendingReconnect;
+        if (reconnect != null) reconnect.cancel(false);
     }
 }
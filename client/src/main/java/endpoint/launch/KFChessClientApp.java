@@ -47,6 +47,9 @@ public class KFChessClientApp implements GameEventListener {
     /** Waiting dialog displayed before the game starts */
     private WaitDialog waitDialog;
 
+    /** Main game window (null until the game UI is shown) */
+    private JFrame frame;
+
     /** Holds a pending game initialization DTO if received before player ID */
     private volatile GameDTO pendingGameDTO = null;
 
@@ -160,13 +163,27 @@ public class KFChessClientApp implements GameEventListener {
         SwingUtilities.invokeLater(this::initializeGameUI);
     }
 
+    @Override
+    public void onResync() {
+        SwingUtilities.invokeLater(() -> {
+            if (frame == null) return;
+
+            // Swap in the panel of the rebuilt model and restart the loop
+            frame.getContentPane().removeAll();
+            frame.add((GamePanel) controller.getGamePanel());
+            frame.revalidate();
+            frame.repaint();
+            controller.startRunGame();
+        });
+    }
+
     // ------------------- UI Initialization -------------------
 
     /**
      * Initializes and displays the main game window with the GamePanel.
      */
     private void initializeGameUI() {
-        JFrame frame = new JFrame("KFCHESS - Player " + (playerId + 1) +
+        frame = new JFrame("KFCHESS - Player " + (playerId + 1) +
                 " - " + controller.getModel().getPlayerById(playerId).getName());
         frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
 
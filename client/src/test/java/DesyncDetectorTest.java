@@ -0,0 +1,92 @@
+import dto.StateHashDTO;
+import endpoint.controller.DesyncDetector;
+import endpoint.controller.DesyncDetector.Verdict;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for DesyncDetector: tolerance window, confirmation count and history limits.
+ */
+public class DesyncDetectorTest {
+
+    private static final long MS = 1_000_000L;
+    private static final long TICK = 16 * MS;
+
+    private DesyncDetector detector;
+
+    @BeforeEach
+    void setup() {
+        detector = new DesyncDetector(100 * MS, 3);
+    }
+
+    @Test
+    void hashReachedWithinTolerance_matches() {
+        // The replica reaches the server's state 50 ms late
+        detector.onRemote(new StateHashDTO(1_000 * MS, 0xB, 1));
+        for (long t = 900 * MS; t < 1_050 * MS; t += TICK) detector.recordLocal(t, 0xA);
+        for (long t = 1_050 * MS; t <= 1_200 * MS; t += TICK) detector.recordLocal(t, 0xB);
+
+        assertEquals(Verdict.MATCH, detector.getLastVerdict());
+        assertFalse(detector.isDesynced());
+    }
+
+    @Test
+    void hashIsJudgedOnlyOnceItsWindowWasPlayed() {
+        detector.onRemote(new StateHashDTO(1_000 * MS, 0xB, 1));
+        detector.recordLocal(1_000 * MS, 0xA);
+
+        assertEquals(Verdict.UNKNOWN, detector.getLastVerdict());
+    }
+
+    @Test
+    void persistentMismatch_isDesyncAfterConfirmations() {
+        long t = 0;
+        for (int check = 1; check <= 3; check++) {
+            detector.onRemote(new StateHashDTO(check * 1_000 * MS, 0xB, 0));
+            boolean desynced = false;
+            for (; t <= check * 1_000 * MS + 200 * MS; t += TICK) desynced = detector.recordLocal(t, 0xA);
+
+            assertEquals(Verdict.MISMATCH, detector.getLastVerdict());
+            assertEquals(check == 3, desynced);
+        }
+    }
+
+    @Test
+    void matchBetweenMismatches_resetsTheCount() {
+        long[] remote = {0xB, 0xB, 0xA, 0xB, 0xB};
+        long t = 0;
+        for (int check = 0; check < remote.length; check++) {
+            detector.onRemote(new StateHashDTO((check + 1) * 1_000 * MS, remote[check], 0));
+            for (; t <= (check + 1) * 1_000 * MS + 200 * MS; t += TICK) detector.recordLocal(t, 0xA);
+        }
+
+        assertFalse(detector.isDesynced());
+    }
+
+    @Test
+    void windowOlderThanHistory_isUnknown() {
+        // Every tick changes the hash, so the history only covers the last 64 ticks
+        for (long i = 0; i < 200; i++) detector.recordLocal(i * TICK, i);
+        detector.onRemote(new StateHashDTO(10 * TICK, 10, 0));
+        detector.recordLocal(200 * TICK, 200);
+
+        assertEquals(Verdict.UNKNOWN, detector.getLastVerdict());
+    }
+
+    @Test
+    void reset_forgetsMismatchesAndPendingHashes() {
+        long t = 0;
+        for (int check = 1; check <= 3; check++) {
+            detector.onRemote(new StateHashDTO(check * 1_000 * MS, 0xB, 0));
+            for (; t <= check * 1_000 * MS + 200 * MS; t += TICK) detector.recordLocal(t, 0xA);
+        }
+        assertTrue(detector.isDesynced());
+
+        detector.onRemote(new StateHashDTO(t, 0xB, 0));
+        detector.reset();
+        assertFalse(detector.recordLocal(t + 1_000 * MS, 0xA));
+        assertEquals(Verdict.UNKNOWN, detector.getLastVerdict());
+    }
+}
@@ -4,13 +4,18 @@ import endpoint.controller.GameHelper;
 import endpoint.controller.PlayerActionHandler;
 import endpoint.controller.IGameUI;
 import events.EGameEvent;
+import events.EventPublisher;
 import events.GameEvent;
+import dto.ClockSyncDTO;
 import dto.EventType;
 import dto.GameDTO;
 import dto.PlayerSelectedDTO;
 import interfaces.IGame;
+import interfaces.IPiece;
 import interfaces.IPlayer;
 import pieces.Position;
+import replay.GameReplayer;
+import utils.TickClock;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import endpoint.launch.ChessClientEndpoint;
@@ -18,6 +23,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.MockedConstruction;
 
 import java.lang.reflect.Method;
+import java.util.List;
 import java.util.function.Consumer;
 
 import static org.mockito.Mockito.*;
@@ -96,6 +102,7 @@ public class GameControllerTest {
         Method setId = GameController.class.getDeclaredMethod("onPlayerId", int.class);
         setId.setAccessible(true);
         setId.invoke(controller, 1);
+        syncClock();
 
         try (MockedConstruction<GameHelper> mocked = mockConstruction(GameHelper.class,
                 (mock, context) -> {
@@ -112,6 +119,35 @@ public class GameControllerTest {
         verify(listener).onGameInit();
     }
 
+    @Test
+    void playInit_beforeFirstClockSample_waitsForIt() throws Exception {
+        IGame model = mock(IGame.class);
+        GameController.GameEventListener listener = mock(GameController.GameEventListener.class);
+        controller.addListener(listener);
+
+        try (MockedConstruction<GameHelper> mocked = mockConstruction(GameHelper.class,
+                (mock, context) -> when(mock.createGame(any(GameDTO.class))).thenReturn(model))) {
+            Method playInit = GameController.class.getDeclaredMethod("playInit", GameDTO.class);
+            playInit.setAccessible(true);
+            playInit.invoke(controller, mock(GameDTO.class));
+
+            assertNull(controller.getModel());
+            verify(listener, never()).onGameInit();
+
+            syncClock();
+        }
+
+        assertSame(model, controller.getModel());
+        verify(listener).onGameInit();
+    }
+
+    /** Feeds the controller its first clock sample. */
+    private void syncClock() throws Exception {
+        Method onPong = GameController.class.getDeclaredMethod("onClockPong", ClockSyncDTO.class);
+        onPong.setAccessible(true);
+        onPong.invoke(controller, new ClockSyncDTO(System.nanoTime(), System.nanoTime()));
+    }
+
     @Test
     void sendPlayerSelection_sendsCommandToEndpoint() throws Exception {
         Method setId = GameController.class.getDeclaredMethod("onPlayerId", int.class);
@@ -130,6 +166,143 @@ public class GameControllerTest {
         assertEquals(pos, dto.selection());
     }
 
+    @Test
+    void sendPlayerSelection_appliesPrediction_andConfirmedEchoIsNotReapplied() throws Exception {
+        IGame model = mock(IGame.class);
+        java.lang.reflect.Field modelField = GameController.class.getDeclaredField("model");
+        modelField.setAccessible(true);
+        modelField.set(controller, model);
+
+        Method setId = GameController.class.getDeclaredMethod("onPlayerId", int.class);
+        setId.setAccessible(true);
+        setId.invoke(controller, 0);
+
+        Position pos = new Position(6, 0);
+        Method sendSel = GameController.class.getDeclaredMethod("sendPlayerSelection", Position.class);
+        sendSel.setAccessible(true);
+        sendSel.invoke(controller, pos);
+
+        // applied locally before the server answers
+        verify(model).handleSelection(0, pos);
+
+        ArgumentCaptor<PlayerSelectedDTO> captor = ArgumentCaptor.forClass(PlayerSelectedDTO.class);
+        verify(client).sendCommand(eq(EventType.PLAYER_SELECTED), captor.capture());
+
+        Method onSelect = GameController.class.getDeclaredMethod("onPlayerSelect", PlayerSelectedDTO.class);
+        onSelect.setAccessible(true);
+        onSelect.invoke(controller, captor.getValue());
+
+        // the echo confirms the prediction and is not applied a second time
+        verify(model, times(1)).handleSelection(0, pos);
+
+        // a remote player's echo is applied
+        PlayerSelectedDTO remote = new PlayerSelectedDTO(1, new Position(1, 0), 1);
+        onSelect.invoke(controller, remote);
+        verify(model).handleSelection(1, new Position(1, 0));
+    }
+
+    @Test
+    void sendPlayerAction_runsTheMoveOnlyOnceTheServerConfirmsIt() throws Exception {
+        TickClock clock = TickClock.atGameLoopRate();
+        IGame game = readyGame(clock);
+        IPiece pawn = game.getBoard().getPiece(new Position(6, 0));
+
+        List<PlayerSelectedDTO> sent = selectMove(game, new Position(6, 0), new Position(5, 0));
+        play(game, clock, 300);
+        assertSame(pawn, game.getBoard().getPiece(new Position(6, 0)));
+
+        Method onSelect = GameController.class.getDeclaredMethod("onPlayerSelect", PlayerSelectedDTO.class);
+        onSelect.setAccessible(true);
+        for (PlayerSelectedDTO echo : sent) onSelect.invoke(controller, echo);
+        play(game, clock, 300);
+
+        assertSame(pawn, game.getBoard().getPiece(new Position(5, 0)));
+    }
+
+    @Test
+    void mispredictedMove_neverRunsLocally() throws Exception {
+        TickClock clock = TickClock.atGameLoopRate();
+        IGame game = readyGame(clock);
+        IPiece pawn = game.getBoard().getPiece(new Position(6, 0));
+
+        List<PlayerSelectedDTO> sent = selectMove(game, new Position(6, 0), new Position(5, 0));
+
+        // the server took another piece selection for seq 1 and never saw the move
+        Method onSelect = GameController.class.getDeclaredMethod("onPlayerSelect", PlayerSelectedDTO.class);
+        onSelect.setAccessible(true);
+        onSelect.invoke(controller, new PlayerSelectedDTO(1, new Position(6, 1), sent.get(0).seq()));
+        play(game, clock, 300);
+
+        assertSame(pawn, game.getBoard().getPiece(new Position(6, 0)));
+        assertNull(game.getBoard().getPiece(new Position(5, 0)));
+    }
+
+    /** Creates a real game past its opening rest and installs it as the controller's model. */
+    private IGame readyGame(TickClock clock) throws Exception {
+        IGame game = GameReplayer.forServerGames(false).newGame(clock);
+        game.setRunning(true);
+        while (!game.getBoard().getPiece(new Position(6, 0)).canAction()) {
+            play(game, clock, 1);
+        }
+        java.lang.reflect.Field modelField = GameController.class.getDeclaredField("model");
+        modelField.setAccessible(true);
+        modelField.set(controller, game);
+
+        Method setId = GameController.class.getDeclaredMethod("onPlayerId", int.class);
+        setId.setAccessible(true);
+        setId.invoke(controller, 1); // the player of row 6
+        return game;
+    }
+
+    /** Selects a piece and its target the way the action handler does; returns what was sent. */
+    private List<PlayerSelectedDTO> selectMove(IGame game, Position from, Position to) throws Exception {
+        Method sendSel = GameController.class.getDeclaredMethod("sendPlayerSelection", Position.class);
+        sendSel.setAccessible(true);
+        sendSel.invoke(controller, from);
+        Method sendAction = GameController.class.getDeclaredMethod("sendPlayerAction", Position.class);
+        sendAction.setAccessible(true);
+        sendAction.invoke(controller, to);
+
+        ArgumentCaptor<PlayerSelectedDTO> captor = ArgumentCaptor.forClass(PlayerSelectedDTO.class);
+        verify(client, times(2)).sendCommand(eq(EventType.PLAYER_SELECTED), captor.capture());
+        return captor.getAllValues();
+    }
+
+    private static void play(IGame game, TickClock clock, int ticks) {
+        // Muted so the game's sounds are not played on machines without an audio line
+        EventPublisher.getInstance().muted(() -> {
+            for (int i = 0; i < ticks; i++) {
+                clock.advance();
+                game.update();
+            }
+            return null;
+        });
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void onPlayerSelect_whileRebuildPending_holdsSelectionForTheRebuiltModel() throws Exception {
+        IGame model = mock(IGame.class);
+        java.lang.reflect.Field modelField = GameController.class.getDeclaredField("model");
+        modelField.setAccessible(true);
+        modelField.set(controller, model);
+
+        java.lang.reflect.Field pendingField = GameController.class.getDeclaredField("pendingRebuilds");
+        pendingField.setAccessible(true);
+        java.util.Deque<java.util.List<PlayerSelectedDTO>> pending =
+                (java.util.Deque<java.util.List<PlayerSelectedDTO>>) pendingField.get(controller);
+        pending.add(new java.util.ArrayList<>());
+
+        PlayerSelectedDTO remote = new PlayerSelectedDTO(1, new Position(1, 0), 1);
+        Method onSelect = GameController.class.getDeclaredMethod("onPlayerSelect", PlayerSelectedDTO.class);
+        onSelect.setAccessible(true);
+        onSelect.invoke(controller, remote);
+
+        // the model about to be replaced is left alone
+        verify(model, never()).handleSelection(anyInt(), any());
+        assertEquals(java.util.List.of(remote), pending.peekLast());
+    }
+
     @Test
     void fireEvent_addAndRemoveListeners() throws Exception {
         GameController.GameEventListener l = mock(GameController.GameEventListener.class);
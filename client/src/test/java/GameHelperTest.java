@@ -1,21 +1,33 @@
 import board.BoardConfig;
 import dto.GameDTO;
 import dto.PlayerDTO;
+import dto.PlayerSelectedDTO;
+import dto.ResyncDTO;
+import events.EventPublisher;
+import endpoint.controller.CatchUpClock;
 import endpoint.controller.GameHelper;
 import endpoint.controller.PlayerActionHandler;
 import endpoint.view.BoardPanel;
+import game.GameFactory;
 import interfaces.IGame;
 import interfaces.IPlayer;
 import interfaces.IPlayerCursor;
 import interfaces.IBoard;
+import interfaces.IPiece;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Assumptions;
+import pieces.EPieceType;
+import pieces.Position;
+import player.PlayerFactory;
+import utils.TickClock;
 import viewUtils.game.GamePanel;
 import viewUtils.game.PlayerInfoPanel;
 
 import javax.swing.SwingUtilities;
 import java.awt.*;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -116,4 +128,52 @@ public class GameHelperTest {
         assertEquals(expectedBg, pips.get(0).getBackground());
         assertEquals(expectedBg, pips.get(1).getBackground());
     }
-}
\ No newline at end of file
+
+    @Test
+    void rebuildGame_resimulatesServerGameToTheSameBoard() {
+        BoardConfig bc = new BoardConfig(new Dimension(8, 8), new Dimension(512, 512), new Dimension(8, 8));
+        TickClock serverClock = TickClock.atGameLoopRate();
+        IGame server = GameFactory.createNewGame(bc,
+                PlayerFactory.createPlayers(new String[]{"Alice", "Bob"}, bc, serverClock), serverClock);
+        server.setStartTimeNano(serverClock.nanoTime());
+        long initialHash = server.getBoard().getHash();
+
+        // Each player pushes a pawn once the opening rest is over, as the server would log it
+        List<PlayerSelectedDTO> selections = new ArrayList<>();
+        List<Long> appliedNanos = new ArrayList<>();
+        // Muted so the game's sounds are not played on machines without an audio line
+        EventPublisher.getInstance().muted(() -> {
+            for (int tick = 1; tick <= 1200; tick++) {
+                serverClock.advance();
+                server.update();
+                if (tick == 800 || tick == 900) {
+                    int player = tick == 800 ? 0 : 1;
+                    IPiece pawn = server.getPlayerById(player).getPieces().stream()
+                            .filter(p -> p.getType() == EPieceType.P)
+                            .findFirst().orElseThrow();
+                    Position from = pawn.getPos();
+                    Position to = new Position(from.getRow() + (from.getRow() < 4 ? 1 : -1), from.getCol());
+                    for (Position pos : List.of(from, to)) {
+                        selections.add(new PlayerSelectedDTO(player, pos, 0));
+                        appliedNanos.add(serverClock.nanoTime());
+                        server.handleSelection(player, pos);
+                    }
+                }
+            }
+            return null;
+        });
+        assertNotEquals(initialHash, server.getBoard().getHash(), "the pawns moved");
+
+        GameDTO game = new GameDTO(bc, Arrays.stream(server.getPlayers()).map(PlayerDTO::from)
+                .toArray(PlayerDTO[]::new), 0, server.getStartTimeNano());
+        ResyncDTO dto = new ResyncDTO(game, selections,
+                appliedNanos.stream().mapToLong(Long::longValue).toArray(), selections.size());
+
+        CatchUpClock clock = new CatchUpClock(serverClock);
+        IGame rebuilt = new GameHelper(0, clock).rebuildGame(dto, serverClock.nanoTime());
+
+        assertEquals(server.getBoard().getHash(), rebuilt.getBoard().getHash());
+        assertEquals(serverClock.nanoTime(), rebuilt.getBoard().getSnapshot().timeNanos());
+        assertFalse(clock.isPinned(), "the rebuilt game follows the live clock");
+    }
+}
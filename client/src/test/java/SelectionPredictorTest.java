@@ -0,0 +1,90 @@
+import dto.PlayerSelectedDTO;
+import endpoint.controller.SelectionPredictor;
+import endpoint.controller.SelectionPredictor.Reconciliation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pieces.Position;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for SelectionPredictor: sequence numbering and echo reconciliation.
+ */
+public class SelectionPredictorTest {
+
+    private SelectionPredictor predictor;
+
+    @BeforeEach
+    void setup() {
+        predictor = new SelectionPredictor();
+    }
+
+    @Test
+    void predict_assignsIncreasingSequenceNumbers() {
+        PlayerSelectedDTO first = predictor.predict(0, new Position(6, 1));
+        PlayerSelectedDTO second = predictor.predict(0, new Position(5, 1));
+
+        assertEquals(1, first.seq());
+        assertEquals(2, second.seq());
+        assertEquals(2, predictor.outstandingCount());
+    }
+
+    @Test
+    void reconcile_ownEchoesInOrder_areConfirmed() {
+        PlayerSelectedDTO first = predictor.predict(0, new Position(6, 1));
+        PlayerSelectedDTO second = predictor.predict(0, new Position(5, 1));
+
+        assertEquals(Reconciliation.CONFIRMED, predictor.reconcile(first, 0));
+        assertEquals(Reconciliation.CONFIRMED, predictor.reconcile(second, 0));
+        assertEquals(0, predictor.outstandingCount());
+    }
+
+    @Test
+    void reconcile_otherPlayersEcho_isRemote() {
+        predictor.predict(0, new Position(6, 1));
+
+        PlayerSelectedDTO remote = new PlayerSelectedDTO(1, new Position(1, 1), 1);
+        assertEquals(Reconciliation.REMOTE, predictor.reconcile(remote, 0));
+        assertEquals(1, predictor.outstandingCount());
+    }
+
+    @Test
+    void reconcile_skippedPrediction_isMispredictedAndClears() {
+        predictor.predict(0, new Position(6, 1));
+        PlayerSelectedDTO second = predictor.predict(0, new Position(5, 1));
+
+        // server never echoed seq 1
+        assertEquals(Reconciliation.MISPREDICTED, predictor.reconcile(second, 0));
+        assertEquals(0, predictor.outstandingCount());
+    }
+
+    @Test
+    void reconcile_differentSelection_isMispredicted() {
+        PlayerSelectedDTO first = predictor.predict(0, new Position(6, 1));
+
+        PlayerSelectedDTO echo = new PlayerSelectedDTO(0, new Position(6, 2), first.seq());
+        assertEquals(Reconciliation.MISPREDICTED, predictor.reconcile(echo, 0));
+    }
+
+    @Test
+    void reconcile_deferredEcho_isAppliedOnConfirmation() {
+        PlayerSelectedDTO piece = predictor.predict(0, new Position(6, 1));
+        PlayerSelectedDTO target = predictor.defer(0, new Position(5, 1));
+        assertTrue(predictor.hasDeferred());
+
+        assertEquals(Reconciliation.CONFIRMED, predictor.reconcile(piece, 0));
+        assertEquals(Reconciliation.DEFERRED, predictor.reconcile(target, 0));
+        assertFalse(predictor.hasDeferred());
+    }
+
+    @Test
+    void reconcile_misprediction_dropsDeferredSelections() {
+        PlayerSelectedDTO piece = predictor.predict(0, new Position(6, 1));
+        predictor.defer(0, new Position(5, 1));
+
+        PlayerSelectedDTO echo = new PlayerSelectedDTO(0, new Position(6, 2), piece.seq());
+        assertEquals(Reconciliation.MISPREDICTED, predictor.reconcile(echo, 0));
+        assertFalse(predictor.hasDeferred());
+        assertEquals(0, predictor.outstandingCount());
+    }
+}
@@ -0,0 +1,93 @@
+import dto.ClockSyncDTO;
+import endpoint.controller.ServerClock;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for ServerClock offset estimation.
+ */
+public class ServerClockTest {
+
+    @Test
+    void unsynchronizedClock_followsLocalTime() {
+        ServerClock clock = new ServerClock();
+
+        assertFalse(clock.isSynchronized());
+        assertEquals(0, clock.getOffsetNanos());
+        assertEquals(-1, clock.getRoundTripNanos());
+    }
+
+    @Test
+    void onPong_estimatesOffsetFromSymmetricRoundTrip() {
+        ServerClock clock = new ServerClock();
+
+        // sent at 1000, server answered at 5500, received at 2000 -> offset = 5500 - 1500
+        clock.onPong(new ClockSyncDTO(1_000, 5_500), 2_000);
+
+        assertTrue(clock.isSynchronized());
+        assertEquals(1_000, clock.getRoundTripNanos());
+        assertEquals(4_000, clock.getOffsetNanos());
+    }
+
+    @Test
+    void onPong_prefersSampleWithSmallestRoundTrip() {
+        ServerClock clock = new ServerClock();
+
+        clock.onPong(new ClockSyncDTO(0, 10_100), 200);       // rtt 200, offset 10_000
+        clock.onPong(new ClockSyncDTO(1_000, 12_000), 3_000); // rtt 2000 (queued), offset 10_000 -> ignored anyway
+        clock.onPong(new ClockSyncDTO(5_000, 16_500), 8_000); // rtt 3000, offset 10_000
+
+        assertEquals(200, clock.getRoundTripNanos());
+        assertEquals(10_000, clock.getOffsetNanos());
+
+        clock.onPong(new ClockSyncDTO(9_000, 19_080), 9_100); // rtt 100, offset 10_030
+        assertEquals(100, clock.getRoundTripNanos());
+        assertEquals(10_030, clock.getOffsetNanos());
+    }
+
+    @Test
+    void nanoTime_neverDecreasesWhenOffsetDrops() {
+        ServerClock clock = new ServerClock();
+        clock.onPong(new ClockSyncDTO(0, 1_000_000_000L), 2_000_000_000L); // rtt 2 s, offset 0
+        long before = clock.nanoTime();
+
+        clock.onPong(new ClockSyncDTO(0, -60_000_000_000L), 0); // rtt 0, offset -60 s
+
+        assertEquals(-60_000_000_000L, clock.getOffsetNanos());
+        assertTrue(clock.nanoTime() >= before);
+    }
+
+    @Test
+    void nanoTime_appliesOffset() {
+        ServerClock clock = new ServerClock();
+        clock.onPong(new ClockSyncDTO(0, 1_000_000_000L), 0);
+
+        long diff = clock.nanoTime() - System.nanoTime();
+        assertTrue(Math.abs(diff - 1_000_000_000L) < 100_000_000L);
+    }
+
+    @Test
+    void readBeforeFirstPong_doesNotHoldTheClock() {
+        ServerClock clock = new ServerClock();
+        clock.toServerTime(5_000_000_000L);
+
+        clock.onPong(new ClockSyncDTO(0, -3_600_000_000_000L), 0); // offset -1 h
+
+        assertEquals(6_000_000_000L - 3_600_000_000_000L, clock.toServerTime(6_000_000_000L));
+    }
+
+    @Test
+    void loweredOffset_isSlewedInsteadOfHeld() {
+        ServerClock clock = new ServerClock();
+        clock.onPong(new ClockSyncDTO(0, 1_050_000_000L), 2_000_000_000L); // rtt 2 s, offset +50 ms
+        assertEquals(1_050_000_000L, clock.toServerTime(1_000_000_000L));
+
+        clock.onPong(new ClockSyncDTO(0, 0), 0); // rtt 0, offset 0
+
+        // 100 ms later the clock has absorbed 10 ms of the correction and still moved 90 ms
+        assertEquals(1_140_000_000L, clock.toServerTime(1_100_000_000L));
+        // 400 ms later the whole correction is absorbed
+        assertEquals(1_500_000_000L, clock.toServerTime(1_500_000_000L));
+    }
+}
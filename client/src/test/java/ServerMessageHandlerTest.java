@@ -0,0 +1,70 @@
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import dto.EventType;
+import dto.Message;
+import endpoint.controller.GameController;
+import endpoint.controller.ServerMessageHandler;
+import endpoint.launch.ChessClientEndpoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for ServerMessageHandler dispatching already-decoded messages.
+ */
+public class ServerMessageHandlerTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private ChessClientEndpoint client;
+    private GameController controller;
+    private GameController.GameEventListener listener;
+    private ServerMessageHandler handler;
+
+    @BeforeEach
+    void setup() {
+        client = mock(ChessClientEndpoint.class);
+        controller = new GameController(client, mapper);
+        listener = mock(GameController.GameEventListener.class);
+        controller.addListener(listener);
+        handler = new ServerMessageHandler(controller);
+    }
+
+    @Test
+    void playerIdAndWaitMessages_areRoutedToListeners() {
+        handler.handleMessage(new Message<>(EventType.PLAYER_ID, IntNode.valueOf(1)));
+        handler.handleMessage(new Message<>(EventType.WAIT, TextNode.valueOf("waiting")));
+
+        verify(listener).onPlayerId(1);
+        verify(listener).onWaitMessage("waiting");
+    }
+
+    @Test
+    void unknownMessage_reportsOriginalTypeName() throws Exception {
+        JsonNode frame = mapper.readTree("{\"type\":\"SOMETHING_NEW\",\"data\":1}");
+
+        handler.handleMessage(new Message<>(EventType.UNKNOWN, frame));
+
+        verify(listener).onUnknownMessage("SOMETHING_NEW");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void startListening_registersDirectDispatch_withoutPollingThread() {
+        controller.startListening();
+
+        var captor = org.mockito.ArgumentCaptor.forClass(Consumer.class);
+        verify(client).setMessageListener(captor.capture());
+        captor.getValue().accept(new Message<>(EventType.PLAYER_ID, IntNode.valueOf(0)));
+        verify(listener).onPlayerId(0);
+
+        controller.stopListening();
+        verify(client).setMessageListener(null);
+        verify(client, never()).sendText(any());
+    }
+}
@@ -3,7 +3,9 @@ package board;
 import command.IllegalCmdException;
 import interfaces.*;
 import pieces.Position;
+import utils.SystemClock;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -41,6 +43,34 @@ public class Board implements IBoard {
      */
     private final IBoardEngine boardRulesEngine;
 
+    /**
+     * Game clock providing the time for piece updates.
+     */
+    private final IClock clock;
+
+    /**
+     * Zobrist hash of the grid and target squares, maintained incrementally.
+     */
+    private long hash;
+
+    /**
+     * Key each square currently contributes to {@link #hash}, so a square can be re-keyed
+     * even after its piece changed state.
+     */
+    private final long[][] squareKeys;
+
+    /**
+     * Latest published snapshot; replaced, never modified, by the thread updating the board.
+     * Null until the first read or publication.
+     */
+    private transient volatile BoardSnapshot snapshot;
+
+    /**
+     * Whether {@link #snapshot} has been read since it was published; {@link #refreshSnapshot(long)}
+     * only captures a new one then, so a board nobody reads allocates no snapshots.
+     */
+    private transient volatile boolean snapshotRead;
+
     /**
      * Constant representing no target.
      */
@@ -54,7 +84,20 @@ public class Board implements IBoard {
      * @param players     array of players
      */
     public Board(BoardConfig bc, IBoardEngine rulesEngine, IPlayer[] players) {
+        this(bc, rulesEngine, players, SystemClock.getInstance());
+    }
+
+    /**
+     * Constructs a Board whose pieces are updated against the given game clock.
+     *
+     * @param bc          the board configuration
+     * @param rulesEngine the rules engine for move legality
+     * @param players     array of players
+     * @param clock       the game clock
+     */
+    public Board(BoardConfig bc, IBoardEngine rulesEngine, IPlayer[] players, IClock clock) {
         this.boardConfig = bc;
+        this.clock = clock;
         this.boardRulesEngine = rulesEngine;
         this.players = players;
 
@@ -62,8 +105,38 @@ public class Board implements IBoard {
         this.boardGrid = new IPiece[(int) bc.gridDimension().getWidth()][(int) bc.gridDimension().getHeight()];
         this.isTarget = new int[boardGrid.length][boardGrid[0].length];
         for (int[] row : isTarget) Arrays.fill(row, IS_NO_TARGET);
+        this.squareKeys = new long[boardGrid.length][boardGrid[0].length];
 
         initializeFromPlayers();
+        for (int r = 0; r < boardGrid.length; r++) {
+            for (int c = 0; c < boardGrid[r].length; c++) {
+                rekeySquare(r, c);
+            }
+        }
+        publishSnapshot(0);
+    }
+
+    /**
+     * Resets the players, then lays their pieces out again on an empty grid and recomputes the hash.
+     * The grid, the pieces and the players are reused, so no game objects are allocated.
+     */
+    @Override
+    public void reset() {
+        for (IPlayer p : players) p.reset();
+        for (int r = 0; r < boardGrid.length; r++) {
+            Arrays.fill(boardGrid[r], null);
+            Arrays.fill(isTarget[r], IS_NO_TARGET);
+            Arrays.fill(squareKeys[r], 0);
+        }
+        hash = 0;
+
+        initializeFromPlayers();
+        for (int r = 0; r < boardGrid.length; r++) {
+            for (int c = 0; c < boardGrid[r].length; c++) {
+                rekeySquare(r, c);
+            }
+        }
+        publishSnapshot(0);
     }
 
     /**
@@ -82,6 +155,11 @@ public class Board implements IBoard {
         return isInBounds(pos) && boardGrid[pos.getRow()][pos.getCol()] != null;
     }
 
+    @Override
+    public boolean hasPiece(int row, int col) {
+        return boardGrid[row][col] != null;
+    }
+
     @Override
     public boolean hasPieceOrIsTarget(Position pos) {
         return hasPiece(pos) || isTarget[pos.getRow()][pos.getCol()] != IS_NO_TARGET;
@@ -104,7 +182,8 @@ public class Board implements IBoard {
 
         IPiece piece = getPiece(from);
         boardGrid[from.getRow()][from.getCol()] = null;
-        isTarget[to.getRow()][to.getCol()] = piece.getPlayer();
+        rekeySquare(from.getRow(), from.getCol());
+        setTarget(to, piece.getPlayer());
         piece.move(to);
     }
 
@@ -113,21 +192,36 @@ public class Board implements IBoard {
         if (!boardRulesEngine.isJumpLegal(this, piece.getPos()))
             throw new IllegalCmdException(piece.toString());
         piece.jump();
+        rekeyPiece(piece);
     }
 
     @Override
-    public void updateAll() {
-        long now = System.nanoTime();
+    public int updateAll() {
+        long now = clock.nanoTime();
+        int updated = 0;
 
         for (IPlayer player : players) {
-            for (int i = 0; i < player.getPieces().size(); i++) {//Cannot be an iterator because Piece may be replaced during the loop
-                IPiece piece = player.getPieces().get(i);
+            // Indexed, not an iterator: a piece may be promoted or captured during the loop
+            List<IPiece> pieces = player.getPieces();
+            for (int i = 0; i < pieces.size(); i++) {
+                IPiece piece = pieces.get(i);
                 boardRulesEngine.handleUpdatePiece(this, player, piece, now);
 
                 // Update piece animation/physics
                 piece.update(now);
+                updated++;
+
+                IPiece inSlot = i < pieces.size() ? pieces.get(i) : piece;
+                if (inSlot != piece && piece.isCaptured()) {
+                    // The piece left play and the player's last piece took its slot: visit that one too
+                    rekeyPiece(piece);
+                    i--;
+                } else {
+                    rekeyPiece(inSlot);
+                }
             }
         }
+        return updated;
     }
 
     @Override
@@ -169,15 +263,114 @@ public class Board implements IBoard {
     @Override
     public void setGrid(Position pos, IPiece piece) {
         boardGrid[pos.getRow()][pos.getCol()] = piece;
+        rekeySquare(pos.getRow(), pos.getCol());
     }
 
     @Override
     public void setIsNoTarget(Position pos) {
-        isTarget[pos.getRow()][pos.getCol()] = IS_NO_TARGET;
+        setTarget(pos, IS_NO_TARGET);
+    }
+
+    @Override
+    public long getHash() {
+        return hash;
+    }
+
+    // ---------------------- Hashing ----------------------
+
+    /**
+     * Sets a target square, XOR-ing the previous target's key out and the new one in.
+     */
+    private void setTarget(Position pos, int player) {
+        int r = pos.getRow();
+        int c = pos.getCol();
+        int square = squareIndex(r, c);
+        if (isTarget[r][c] != IS_NO_TARGET) hash ^= Zobrist.targetKey(isTarget[r][c], square);
+        isTarget[r][c] = player;
+        if (player != IS_NO_TARGET) hash ^= Zobrist.targetKey(player, square);
+    }
+
+    /**
+     * Re-keys the square of a piece if the piece stands on it; its state may have changed.
+     */
+    private void rekeyPiece(IPiece piece) {
+        Position pos = piece.getPos();
+        if (pos != null && isInBounds(pos) && boardGrid[pos.getRow()][pos.getCol()] == piece) {
+            rekeySquare(pos.getRow(), pos.getCol());
+        }
+    }
+
+    /**
+     * Replaces the key a square contributes to the hash with the key of its current content.
+     */
+    private void rekeySquare(int r, int c) {
+        long key = Zobrist.pieceKey(boardGrid[r][c], squareIndex(r, c));
+        hash ^= squareKeys[r][c] ^ key;
+        squareKeys[r][c] = key;
+    }
+
+    /**
+     * Recomputes the hash from scratch; equals {@link #getHash()} whenever the board's pieces
+     * changed only through the board.
+     *
+     * @return the hash of the current grid and target squares
+     */
+    long computeHash() {
+        long h = 0;
+        for (int r = 0; r < boardGrid.length; r++) {
+            for (int c = 0; c < boardGrid[r].length; c++) {
+                h ^= Zobrist.pieceKey(boardGrid[r][c], squareIndex(r, c));
+                if (isTarget[r][c] != IS_NO_TARGET) h ^= Zobrist.targetKey(isTarget[r][c], squareIndex(r, c));
+            }
+        }
+        return h;
+    }
+
+    private int squareIndex(int r, int c) {
+        return r * boardGrid[0].length + c;
     }
 
     @Override
     public IBoardEngine getBoardRulesEngine() {
         return boardRulesEngine;
     }
+
+    // ---------------------- Snapshots ----------------------
+
+    @Override
+    public BoardSnapshot publishSnapshot(long tick) {
+        BoardSnapshot s = capture(tick);
+        snapshotRead = false;
+        snapshot = s;
+        return s;
+    }
+
+    @Override
+    public void refreshSnapshot(long tick) {
+        if (snapshotRead) publishSnapshot(tick);
+    }
+
+    /**
+     * Returns the latest published snapshot; the initial layout is published at construction.
+     * Reading it asks the update thread for a fresh one on its next {@link #refreshSnapshot(long)},
+     * so after a stretch without reads the snapshot returned is that old; see its tick.
+     */
+    @Override
+    public BoardSnapshot getSnapshot() {
+        if (!snapshotRead) snapshotRead = true;
+        return snapshot;
+    }
+
+    /**
+     * Copies the non-captured pieces into a new snapshot.
+     */
+    private BoardSnapshot capture(long tick) {
+        List<BoardSnapshot.PieceSnapshot> pieces = new ArrayList<>();
+        for (IPlayer player : players) {
+            for (IPiece piece : player.getPieces()) {
+                if (!piece.isCaptured()) pieces.add(BoardSnapshot.PieceSnapshot.of(piece));
+            }
+        }
+        return new BoardSnapshot(tick, clock.nanoTime(), hash, pieces);
+    }
 }
@@ -0,0 +1,77 @@
+package board;
+
+import interfaces.IPiece;
+import pieces.EPieceType;
+import state.EState;
+
+import java.awt.image.BufferedImage;
+import java.util.List;
+
+/**
+ * Immutable picture of the board taken at the end of a game update.
+ * <p>
+ * Snapshots are built by the thread that updates the board and published through a single
+ * volatile reference (see {@link interfaces.IBoard#getSnapshot()}), so any other thread — the
+ * Swing EDT painting the board, encoders, metrics — reads a consistent board without locking
+ * and without touching the live, mutable pieces.
+ * </p>
+ *
+ * @param tick      the game tick the snapshot was taken at
+ * @param timeNanos the game-clock time the snapshot was taken at
+ * @param hash      the board's position hash at that time, see {@link interfaces.IBoard#getHash()}
+ * @param pieces    the non-captured pieces, in player order
+ */
+public record BoardSnapshot(long tick, long timeNanos, long hash, List<PieceSnapshot> pieces) {
+
+    /**
+     * Creates a snapshot, defensively copying the piece list.
+     */
+    public BoardSnapshot {
+        pieces = List.copyOf(pieces);
+    }
+
+    /**
+     * Counts the pieces of a player in this snapshot.
+     *
+     * @param player the player id
+     * @return number of non-captured pieces owned by the player
+     */
+    public int countPieces(int player) {
+        int count = 0;
+        for (PieceSnapshot p : pieces) {
+            if (p.player() == player) count++;
+        }
+        return count;
+    }
+
+    /**
+     * State of one piece at snapshot time.
+     *
+     * @param type   piece type
+     * @param player owning player id
+     * @param row    logical row
+     * @param col    logical column
+     * @param state  current state
+     * @param x      physics X coordinate
+     * @param y      physics Y coordinate
+     * @param frame  current animation frame; shared, never modified after loading
+     */
+    public record PieceSnapshot(EPieceType type, int player, int row, int col, EState state,
+                                double x, double y, BufferedImage frame) {
+
+        /**
+         * Captures the current state of a piece. Must run on the thread updating the board.
+         *
+         * @param piece the piece
+         * @return its snapshot
+         */
+        public static PieceSnapshot of(IPiece piece) {
+            var state = piece.getCurrentState();
+            var physics = state.getPhysics();
+            return new PieceSnapshot(piece.getType(), piece.getPlayer(),
+                    piece.getPos().getRow(), piece.getPos().getCol(), state.getName(),
+                    physics.getCurrentX(), physics.getCurrentY(),
+                    state.getGraphics().getCurrentFrame());
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package board;
+
+/**
+ * Byte layout of one game in an {@link OffHeapGameStore} slab: a header, a fixed number of
+ * piece rows and the square arrays of a {@link PieceTable}.
+ * <pre>
+ * header   HASH long | COUNT int | LIVE int
+ * rows     TYPE byte | OWNER byte | STATE byte | FLAGS byte | SQUARE short | START short
+ *          | TARGET short | (pad) | START_TIME long | DEADLINE long          x maxRows
+ * squares  OCCUPANT byte | TARGET_PLAYER byte                                 x squares
+ * keys     square key long                                                   x squares
+ * </pre>
+ * Offsets of the fields are relative to their row or square.
+ *
+ * @param maxRows number of piece rows a record holds
+ * @param squares number of squares of the board
+ */
+record GameRecord(int maxRows, int squares) {
+
+    // Header
+    static final int HASH = 0;
+    static final int COUNT = 8;
+    static final int LIVE = 12;
+    private static final int HEADER_BYTES = 16;
+
+    // Row fields
+    static final int TYPE = 0;
+    static final int OWNER = 1;
+    static final int STATE = 2;
+    static final int FLAGS = 3;
+    static final int SQUARE = 4;
+    static final int START = 6;
+    static final int TARGET = 8;
+    static final int START_TIME = 16;
+    static final int DEADLINE = 24;
+    private static final int ROW_BYTES = 32;
+
+    /** {@link #FLAGS} bit of a piece that has not moved yet. */
+    static final int FIRST_MOVE = 1;
+
+    /** {@link #FLAGS} bit of a captured piece. */
+    static final int CAPTURED = 2;
+
+    // Square fields
+    static final int OCCUPANT = 0;
+    static final int TARGET_PLAYER = 1;
+    private static final int SQUARE_BYTES = 2;
+
+    GameRecord {
+        if (maxRows <= 0 || maxRows > Byte.MAX_VALUE) throw new IllegalArgumentException("maxRows must be in [1, 127]");
+        if (squares <= 0 || squares > Short.MAX_VALUE) throw new IllegalArgumentException("squares must be in [1, 32767]");
+    }
+
+    /** @return the offset of a row in a record starting at {@code base} */
+    int row(int base, int row) {
+        return base + HEADER_BYTES + row * ROW_BYTES;
+    }
+
+    /** @return the offset of a square in a record starting at {@code base} */
+    int square(int base, int square) {
+        return base + HEADER_BYTES + maxRows * ROW_BYTES + square * SQUARE_BYTES;
+    }
+
+    /** @return the offset of a square's hash key in a record starting at {@code base} */
+    int key(int base, int square) {
+        return keysOffset() + base + square * Long.BYTES;
+    }
+
+    /** @return the size of a record in bytes, a multiple of 8 */
+    int bytes() {
+        return keysOffset() + squares * Long.BYTES;
+    }
+
+    private int keysOffset() {
+        int end = HEADER_BYTES + maxRows * ROW_BYTES + squares * SQUARE_BYTES;
+        return (end + Long.BYTES - 1) / Long.BYTES * Long.BYTES;
+    }
+}
@@ -8,11 +8,12 @@ import interfaces.IBoard;
 import interfaces.IBoardEngine;
 import interfaces.IPiece;
 import interfaces.IPlayer;
-import moves.Data;
+import moves.ECondition;
+import moves.Move;
 import pieces.EPieceType;
 import pieces.Position;
+import profiling.CaptureEvent;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -43,13 +44,18 @@ public class KFCEngine implements IBoardEngine {
 
         int dx = to.getRow() - from.getRow();
         int dy = to.getCol() - from.getCol();
-        Data data = new Data(board, fromPiece, to);
+
+        // The target square is read once; every move condition is checked against it
+        IPiece toPiece = board.getPiece(to);
+        int satisfied = ECondition.satisfiedBy(toPiece != null, fromPiece.isFirstMove());
 
         // Check if the move matches any allowed move for the piece
-        boolean matchesMove = fromPiece.getMoves().stream()
-                .anyMatch(m -> m.dx() == dx && m.dy() == dy &&
-                        (m.condition() == null || Arrays.stream(m.condition())
-                                .allMatch(c -> c.isCanMove(data))));
+        List<Move> moves = fromPiece.getMoves();
+        boolean matchesMove = false;
+        for (int i = 0, n = moves.size(); i < n && !matchesMove; i++) {
+            Move m = moves.get(i);
+            matchesMove = m.dx() == dx && m.dy() == dy && m.allows(satisfied);
+        }
 
         if (!matchesMove) return false;
 
@@ -57,7 +63,6 @@ public class KFCEngine implements IBoardEngine {
         if (!fromPiece.getType().isCanSkip() && !isPathClear(board, from, to)) return false;
 
         // Target square legality
-        IPiece toPiece = board.getPiece(to);
         return (toPiece == null || fromPiece.getPlayer() != toPiece.getPlayer()) &&
                 fromPiece.getPlayer() != board.getTarget(to);
     }
@@ -104,11 +109,13 @@ public class KFCEngine implements IBoardEngine {
     private boolean isPathClear(IBoard board, Position from, Position to) {
         int stepRow = Integer.signum(to.dy(from));
         int stepCol = Integer.signum(to.dx(from));
-        Position current = from.add(stepRow, stepCol);
+        int row = from.getRow() + stepRow;
+        int col = from.getCol() + stepCol;
 
-        while (!current.equals(to)) {
-            if (board.hasPiece(current)) return false;
-            current = current.add(stepRow, stepCol);
+        while (row != to.getRow() || col != to.getCol()) {
+            if (board.hasPiece(row, col)) return false;
+            row += stepRow;
+            col += stepCol;
         }
         return true;
     }
@@ -151,11 +158,25 @@ public class KFCEngine implements IBoardEngine {
 
             // Handle capture
             if (target != null && target != piece && !target.isCaptured()) {
-                if (target.isCapturable())
+                CaptureEvent jfr = new CaptureEvent();
+                jfr.begin();
+
+                boolean occupantCaptured = target.isCapturable();
+                if (occupantCaptured)
                     board.getPlayers()[target.getPlayer()].markPieceCaptured(target);
                 else
                     board.getPlayers()[piece.getPlayer()].markPieceCaptured(piece);
 
+                if (jfr.shouldCommit()) {
+                    jfr.square = targetPos.toString();
+                    jfr.arrivingType = piece.getType().name();
+                    jfr.arrivingPlayer = piece.getPlayer();
+                    jfr.occupantType = target.getType().name();
+                    jfr.occupantPlayer = target.getPlayer();
+                    jfr.occupantCaptured = occupantCaptured;
+                    jfr.commit();
+                }
+
                 EventPublisher.getInstance().publish(EGameEvent.PIECE_CAPTURED,
                         new GameEvent(EGameEvent.PIECE_CAPTURED,
                                 new ActionData(piece.getPlayer(), null)));
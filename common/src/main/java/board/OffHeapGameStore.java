@@ -0,0 +1,224 @@
+package board;
+
+import command.IllegalCmdException;
+import utils.TickClock;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Benchmark experiment: off-heap store of many headless games, as a very dense node might keep them.
+ * <p>
+ * Nothing in the server uses it; it exists to measure, with {@code OffHeapGameStoreBenchmark},
+ * what ticking games held off-heap costs against {@link PieceTable} and {@link Board}. It only
+ * offers what that takes: creating and releasing games, ticking and commanding them, and their hash.
+ * </p>
+ * <p>
+ * Every game is a fixed-size {@link GameRecord} — header, piece rows and squares of a
+ * {@link PieceTable} — in a slab allocated with {@link ByteBuffer#allocateDirect}. The heap holds
+ * one buffer object per slab and a single working table that carries the compiled rules, so heap
+ * size and GC work stay flat however many games a node hosts. A game is advanced by loading its
+ * record into the working table, ticking it and writing it back, which is skipped when none of its
+ * deadlines has passed. Released records are reused by later games.
+ * </p>
+ * <p>
+ * A store is driven by one thread; it is not thread-safe. Game times of all games must share the
+ * origin of the start layout's clock, as {@link TickClock}s created alike do.
+ * </p>
+ */
+public final class OffHeapGameStore {
+
+    private final PieceTable worker;
+    private final GameRecord layout;
+    private final int recordBytes;
+    private final int gamesPerSlab;
+
+    /** Record of the start layout, copied into every new game. */
+    private final ByteBuffer startRecord;
+
+    private final List<ByteBuffer> slabs = new ArrayList<>();
+
+    /** Released game ids, reused first (stack). */
+    private int[] free = new int[16];
+    private int freeCount = 0;
+
+    /** Next never-used game id. */
+    private int nextId = 0;
+
+    private int live = 0;
+
+    /**
+     * Creates a store whose new games start in the position of the given table.
+     *
+     * @param startLayout  the start position, typically {@code PieceTable.of(board)} of a fresh board;
+     *                     the store keeps it as its working table
+     * @param maxPieces    piece rows per game; promotions of pawns lost on arrival add rows
+     * @param gamesPerSlab games per direct buffer
+     */
+    public OffHeapGameStore(PieceTable startLayout, int maxPieces, int gamesPerSlab) {
+        if (gamesPerSlab <= 0) throw new IllegalArgumentException("gamesPerSlab must be > 0");
+        this.worker = startLayout;
+        this.layout = new GameRecord(maxPieces, startLayout.getRows() * startLayout.getCols());
+        this.recordBytes = layout.bytes();
+        if ((long) recordBytes * gamesPerSlab > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("a slab of " + gamesPerSlab + " games exceeds 2 GB");
+        }
+        this.gamesPerSlab = gamesPerSlab;
+        this.startRecord = ByteBuffer.allocateDirect(recordBytes).order(ByteOrder.nativeOrder());
+        startLayout.storeTo(layout, startRecord, 0);
+    }
+
+    // ---------------------- Games ----------------------
+
+    /**
+     * Adds a game in the start layout.
+     *
+     * @return the game id
+     */
+    public int create() {
+        int game = allocate();
+        slab(game).put(base(game), startRecord, 0, recordBytes);
+        markLive(game);
+        return game;
+    }
+
+    /**
+     * Frees a game's record for reuse; the id must no longer be used.
+     *
+     * @param game the game id
+     */
+    public void release(int game) {
+        slab(game).putInt(checkedBase(game) + GameRecord.LIVE, 0);
+        if (freeCount == free.length) free = Arrays.copyOf(free, free.length * 2);
+        free[freeCount++] = game;
+        live--;
+    }
+
+    /** @return the number of games in the store */
+    public int size() {
+        return live;
+    }
+
+    /** @return the bytes of direct memory held by the slabs */
+    public long offHeapBytes() {
+        return (long) slabs.size() * gamesPerSlab * recordBytes;
+    }
+
+    /** @return the size of one game record in bytes */
+    public int recordBytes() {
+        return recordBytes;
+    }
+
+    // ---------------------- Simulation ----------------------
+
+    /**
+     * Advances a game, see {@link PieceTable#tick(long)}.
+     *
+     * @param game the game id
+     * @param now  the game's time in nanoseconds
+     * @return the number of pieces in play
+     */
+    public int tick(int game, long now) {
+        ByteBuffer slab = slab(game);
+        int base = checkedBase(game);
+
+        // Most ticks finish no action: then the deadlines are all that is read
+        int rows = slab.getInt(base + GameRecord.COUNT);
+        int visited = 0;
+        for (int row = 0; row < rows; row++) {
+            int r = layout.row(base, row);
+            if ((slab.get(r + GameRecord.FLAGS) & GameRecord.CAPTURED) != 0) continue;
+            if (now >= slab.getLong(r + GameRecord.DEADLINE)) return tickLoaded(slab, base, now);
+            visited++;
+        }
+        return visited;
+    }
+
+    /**
+     * Ticks a game in the working table and writes it back.
+     */
+    private int tickLoaded(ByteBuffer slab, int base, long now) {
+        worker.loadFrom(layout, slab, base);
+        int visited = worker.tick(now);
+        worker.storeTo(layout, slab, base);
+        return visited;
+    }
+
+    /**
+     * Starts a move in a game, see {@link PieceTable#move(int, int, long)}.
+     *
+     * @param game the game id
+     * @param from square index of the moving piece
+     * @param to   square index of the destination
+     * @param now  the game's time in nanoseconds
+     * @throws IllegalCmdException if the move is illegal
+     */
+    public void move(int game, int from, int to, long now) {
+        ByteBuffer slab = slab(game);
+        int base = checkedBase(game);
+        worker.loadFrom(layout, slab, base);
+        worker.move(from, to, now);
+        worker.storeTo(layout, slab, base);
+    }
+
+    /**
+     * Starts a jump in a game, see {@link PieceTable#jump(int, long)}.
+     *
+     * @param game the game id
+     * @param sq   square index of the jumping piece
+     * @param now  the game's time in nanoseconds
+     * @throws IllegalCmdException if there is no piece able to act on the square
+     */
+    public void jump(int game, int sq, long now) {
+        ByteBuffer slab = slab(game);
+        int base = checkedBase(game);
+        worker.loadFrom(layout, slab, base);
+        worker.jump(sq, now);
+        worker.storeTo(layout, slab, base);
+    }
+
+    /**
+     * @param game the game id
+     * @return the Zobrist hash of the game's position
+     */
+    public long getHash(int game) {
+        return slab(game).getLong(checkedBase(game) + GameRecord.HASH);
+    }
+
+    // ---------------------- Records ----------------------
+
+    private int allocate() {
+        if (freeCount > 0) return free[--freeCount];
+        int game = nextId++;
+        if (game / gamesPerSlab == slabs.size()) {
+            slabs.add(ByteBuffer.allocateDirect(gamesPerSlab * recordBytes).order(ByteOrder.nativeOrder()));
+        }
+        return game;
+    }
+
+    private void markLive(int game) {
+        slab(game).putInt(base(game) + GameRecord.LIVE, 1);
+        live++;
+    }
+
+    private ByteBuffer slab(int game) {
+        if (game < 0 || game >= nextId) throw new IllegalArgumentException("No game " + game);
+        return slabs.get(game / gamesPerSlab);
+    }
+
+    private int base(int game) {
+        return game % gamesPerSlab * recordBytes;
+    }
+
+    /**
+     * Returns the offset of a game's record, checking that the game was not released.
+     */
+    private int checkedBase(int game) {
+        int base = base(game);
+        if (slab(game).getInt(base + GameRecord.LIVE) == 0) throw new IllegalArgumentException("No game " + game);
+        return base;
+    }
+}
@@ -0,0 +1,638 @@
+package board;
+
+import command.IllegalCmdException;
+import interfaces.IBoard;
+import interfaces.IPhysicsData;
+import interfaces.IPiece;
+import interfaces.IPlayer;
+import interfaces.IState;
+import moves.ECondition;
+import moves.Move;
+import moves.Moves;
+import pieces.EPieceEvent;
+import pieces.EPieceType;
+import pieces.PiecesFactory;
+import pieces.Position;
+import state.EState;
+import state.TransitionTable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Data-oriented copy of a board for headless simulation: every piece is a row across parallel
+ * primitive arrays (type, owner, square, state, start and target square, start time, deadline),
+ * and a tick is one linear pass over them.
+ * <p>
+ * A {@link Board} tick follows {@code Piece → StateMachine → State → PhysicsData} for every piece
+ * through interface calls. Here the same rules are compiled into lookup tables when the table is
+ * created — state transitions from {@code transitions.csv}, action durations from the state
+ * configs, move sets from {@code moves*.txt} — so a piece whose action is still running costs a
+ * single comparison. The table reproduces {@link KFCEngine} and {@link Board#updateAll()} exactly
+ * (captures, promotion, target squares, the Zobrist hash), without events, animation or pixels.
+ * </p>
+ * <p>
+ * Rows are never reordered; a captured piece keeps its row and is skipped. A table is driven by
+ * one thread; it is not thread-safe.
+ * </p>
+ */
+public final class PieceTable {
+
+    /** No piece, no state or no target player. */
+    public static final int NONE = -1;
+
+    private static final EPieceType[] TYPES = EPieceType.values();
+    private static final EState[] STATES = EState.values();
+
+    private static final int MOVE = EPieceEvent.MOVE.ordinal();
+    private static final int JUMP = EPieceEvent.JUMP.ordinal();
+    private static final int DONE = EPieceEvent.DONE.ordinal();
+
+    // ---------------------- Rules, by piece type ----------------------
+
+    private final BoardConfig bc;
+    private final int rows;
+    private final int cols;
+
+    /** Squares as positions, {@code row * cols + col}, for timing moves without allocating. */
+    private final Position[] squares;
+
+    /** Next state ordinal by {@code [type][state][event]}, or {@link #NONE} if not allowed. */
+    private final byte[][][] next;
+
+    /** Duration of an action that stays on its square, by {@code [type][state]}. */
+    private final long[][] restNanos;
+
+    /** Physics of the move state by type; reset to time a move exactly as a piece would. */
+    private final IPhysicsData[] movePhysics;
+
+    /** Move set by {@code [type][owner]}. */
+    private final Move[][][] moves;
+
+    // ---------------------- Pieces, one row each ----------------------
+
+    private int count;
+    private byte[] type;
+    private byte[] owner;
+    private byte[] state;
+    private int[] square;
+    private int[] startSquare;
+    private int[] targetSquare;
+    private long[] startTime;
+    private long[] deadline;
+    private boolean[] firstMove;
+    private boolean[] captured;
+
+    // ---------------------- Squares ----------------------
+
+    /** Row standing on each square, or {@link #NONE}. */
+    private final int[] occupant;
+
+    /** Player moving to each square, or {@link #NONE}. */
+    private final int[] target;
+
+    /** Key each square contributes to {@link #hash}, as in {@link Board}. */
+    private final long[] squareKeys;
+
+    private long hash;
+
+    private PieceTable(BoardConfig bc, int rows, int cols, int players, int capacity) {
+        this.bc = bc;
+        this.rows = rows;
+        this.cols = cols;
+
+        this.squares = new Position[rows * cols];
+        for (int sq = 0; sq < squares.length; sq++) {
+            squares[sq] = new Position(sq / cols, sq % cols);
+        }
+
+        this.next = new byte[TYPES.length][STATES.length][EPieceEvent.values().length];
+        this.restNanos = new long[TYPES.length][STATES.length];
+        this.movePhysics = new IPhysicsData[TYPES.length];
+        this.moves = new Move[TYPES.length][players][];
+        for (EPieceType t : TYPES) {
+            loadRules(t, players);
+        }
+
+        this.type = new byte[capacity];
+        this.owner = new byte[capacity];
+        this.state = new byte[capacity];
+        this.square = new int[capacity];
+        this.startSquare = new int[capacity];
+        this.targetSquare = new int[capacity];
+        this.startTime = new long[capacity];
+        this.deadline = new long[capacity];
+        this.firstMove = new boolean[capacity];
+        this.captured = new boolean[capacity];
+
+        this.occupant = new int[squares.length];
+        this.target = new int[squares.length];
+        this.squareKeys = new long[squares.length];
+        Arrays.fill(occupant, NONE);
+        Arrays.fill(target, NONE);
+    }
+
+    /**
+     * Copies the current position of a board: its players' pieces with their states and timers,
+     * the grid and the target squares.
+     *
+     * @param board the board to copy
+     * @return a table in the same position, whose hash equals the board's
+     */
+    public static PieceTable of(IBoard board) {
+        IPlayer[] players = board.getPlayers();
+        int pieces = 0;
+        for (IPlayer player : players) pieces += player.getPieces().size();
+
+        PieceTable table = new PieceTable(board.getBoardConfig(), board.getRows(), board.getCols(),
+                players.length, Math.max(1, pieces));
+
+        Map<IPiece, Integer> rowOf = new IdentityHashMap<>();
+        for (IPlayer player : players) {
+            for (IPiece piece : player.getPieces()) {
+                rowOf.put(piece, table.copyRow(piece));
+            }
+        }
+        for (int sq = 0; sq < table.squares.length; sq++) {
+            Position pos = table.squares[sq];
+            IPiece piece = board.getPiece(pos);
+            if (piece != null) {
+                // A piece that lost on arrival may still stand on the grid, see land()
+                table.occupant[sq] = rowOf.computeIfAbsent(piece, table::copyRow);
+            }
+            table.target[sq] = board.getTarget(pos);
+            table.rekey(sq);
+        }
+        return table;
+    }
+
+    /**
+     * Compiles the transitions, durations and move sets of a piece type.
+     */
+    private void loadRules(EPieceType t, int players) {
+        int ti = t.ordinal();
+        TransitionTable transitions = new TransitionTable("/pieces/" + t.getVal() + "/states/transitions.csv");
+        for (EState s : STATES) {
+            for (EPieceEvent e : EPieceEvent.values()) {
+                byte to;
+                try {
+                    to = (byte) transitions.next(s, e).ordinal();
+                } catch (IllegalStateException illegal) {
+                    to = NONE;
+                }
+                next[ti][s.ordinal()][e.ordinal()] = to;
+            }
+
+            IPhysicsData physics = PiecesFactory.loadPhysics(t, s);
+            if (physics == null) {
+                restNanos[ti][s.ordinal()] = Long.MAX_VALUE;
+                continue;
+            }
+            physics.reset(s, squares[0], squares[0], bc, 0);
+            restNanos[ti][s.ordinal()] = physics.getDurationNanos();
+            if (s == EState.MOVE) movePhysics[ti] = physics;
+        }
+
+        try {
+            for (int p = 0; p < players; p++) {
+                moves[ti][p] = Moves.createMovesList(t, p).toArray(new Move[0]);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load moves of " + t, e);
+        }
+    }
+
+    /**
+     * Appends a row holding the given piece's features and timers.
+     */
+    private int copyRow(IPiece piece) {
+        IState s = piece.getCurrentState();
+        IPhysicsData physics = s.getPhysics();
+        int i = addRow();
+        type[i] = (byte) piece.getType().ordinal();
+        owner[i] = (byte) piece.getPlayer();
+        state[i] = (byte) s.getName().ordinal();
+        square[i] = squareOf(piece.getPos());
+        startSquare[i] = squareOf(physics.getStartPos());
+        targetSquare[i] = squareOf(physics.getTargetPos());
+        startTime[i] = physics.getStartTimeNanos();
+        deadline[i] = deadlineOf(startTime[i], physics.getDurationNanos());
+        firstMove[i] = piece.isFirstMove();
+        captured[i] = piece.isCaptured();
+        return i;
+    }
+
+    /**
+     * Appends an empty row, growing the arrays if needed.
+     */
+    private int addRow() {
+        if (count == type.length) {
+            int capacity = type.length * 2;
+            type = Arrays.copyOf(type, capacity);
+            owner = Arrays.copyOf(owner, capacity);
+            state = Arrays.copyOf(state, capacity);
+            square = Arrays.copyOf(square, capacity);
+            startSquare = Arrays.copyOf(startSquare, capacity);
+            targetSquare = Arrays.copyOf(targetSquare, capacity);
+            startTime = Arrays.copyOf(startTime, capacity);
+            deadline = Arrays.copyOf(deadline, capacity);
+            firstMove = Arrays.copyOf(firstMove, capacity);
+            captured = Arrays.copyOf(captured, capacity);
+        }
+        return count++;
+    }
+
+    // ---------------------- Tick ----------------------
+
+    /**
+     * Advances every piece to the given time in one pass, like {@link Board#updateAll()}:
+     * finished actions land, capture or lose against the occupant of their target square,
+     * promote, and move on to their next state.
+     *
+     * @param now current game time in nanoseconds
+     * @return the number of pieces in play that were visited
+     */
+    public int tick(long now) {
+        int visited = 0;
+        for (int i = 0; i < count; i++) {
+            if (captured[i]) continue;
+            visited++;
+            if (now >= deadline[i]) land(i, now);
+        }
+        return visited;
+    }
+
+    /**
+     * Resolves a finished action: first the rules engine's part, then the piece's own update.
+     */
+    private void land(int i, long now) {
+        int to = targetSquare[i];
+        int occ = occupant[to];
+        if (occ != NONE && occ != i && !captured[occ]) {
+            if (STATES[state[occ]].isCanCapturable()) captured[occ] = true;
+            else captured[i] = true;
+        }
+
+        int lastRow = owner[i] == 0 ? rows - 1 : 0;
+        boolean promoted = type[i] == EPieceType.P.ordinal() && to / cols == lastRow;
+        if (promoted) {
+            // The queen takes the pawn's row, or a new one if the pawn itself lost on arrival
+            int queen = captured[i] ? addRow() : i;
+            placeQueen(queen, owner[i], to, now);
+            occupant[to] = queen;
+        } else {
+            occupant[to] = i;
+        }
+        setTarget(to, NONE);
+
+        if (!promoted) {
+            square[i] = to;
+            transition(i, DONE, to, to, now);
+            if (now >= deadline[i]) transition(i, DONE, to, to, now);
+        }
+        rekey(to);
+    }
+
+    /**
+     * Fills a row with a freshly created queen, as {@link PiecesFactory} creates it.
+     */
+    private void placeQueen(int i, int player, int sq, long now) {
+        int q = EPieceType.Q.ordinal();
+        int rest = EState.LONG_REST.ordinal();
+        type[i] = (byte) q;
+        owner[i] = (byte) player;
+        state[i] = (byte) rest;
+        square[i] = sq;
+        startSquare[i] = sq;
+        targetSquare[i] = sq;
+        startTime[i] = now;
+        deadline[i] = deadlineOf(now, restNanos[q][rest]);
+        firstMove[i] = true;
+        captured[i] = false;
+    }
+
+    /**
+     * Moves a row to its next state, as {@code StateMachine.onEvent} does.
+     *
+     * @throws IllegalStateException if the state does not accept the event
+     */
+    private void transition(int i, int event, int from, int to, long now) {
+        int t = type[i];
+        int s = next[t][state[i]][event];
+        if (s == NONE) {
+            throw new IllegalStateException("Illegal transition: " + STATES[state[i]] + " + " + EPieceEvent.values()[event]);
+        }
+        state[i] = (byte) s;
+        startSquare[i] = from;
+        targetSquare[i] = to;
+        startTime[i] = now;
+
+        long duration = restNanos[t][s];
+        if (s == EState.MOVE.ordinal() && from != to) {
+            IPhysicsData physics = movePhysics[t];
+            physics.reset(EState.MOVE, squares[from], squares[to], bc, now);
+            duration = physics.getDurationNanos();
+        }
+        deadline[i] = deadlineOf(now, duration);
+    }
+
+    // ---------------------- Commands ----------------------
+
+    /**
+     * Checks a move with the rules of {@link KFCEngine#isMoveLegal}.
+     *
+     * @param from square index of the moving piece
+     * @param to   square index of the destination
+     * @return true if the move is legal
+     */
+    public boolean isMoveLegal(int from, int to) {
+        if (!isSquare(from) || !isSquare(to)) return false;
+        int i = occupant[from];
+        if (i == NONE || !STATES[state[i]].isCanAction()) return false;
+
+        int dx = to / cols - from / cols;
+        int dy = to % cols - from % cols;
+        int occ = occupant[to];
+        int satisfied = ECondition.satisfiedBy(occ != NONE, firstMove[i]);
+
+        boolean matchesMove = false;
+        for (Move m : moves[type[i]][owner[i]]) {
+            if (m.dx() == dx && m.dy() == dy && m.allows(satisfied)) {
+                matchesMove = true;
+                break;
+            }
+        }
+        if (!matchesMove) return false;
+        if (!TYPES[type[i]].isCanSkip() && !isPathClear(from, to)) return false;
+
+        return (occ == NONE || owner[i] != owner[occ]) && owner[i] != target[to];
+    }
+
+    /**
+     * Starts a move, like {@link Board#move}.
+     *
+     * @param from square index of the moving piece
+     * @param to   square index of the destination
+     * @param now  current game time in nanoseconds
+     * @throws IllegalCmdException if the move is illegal
+     */
+    public void move(int from, int to, long now) {
+        if (!isMoveLegal(from, to)) throw new IllegalCmdException("Move invalid from " + from + " to " + to);
+
+        int i = occupant[from];
+        occupant[from] = NONE;
+        rekey(from);
+        setTarget(to, owner[i]);
+        transition(i, MOVE, square[i], to, now);
+        firstMove[i] = false;
+    }
+
+    /**
+     * Starts a jump in place, like {@link Board#jump}.
+     *
+     * @param sq  square index of the jumping piece
+     * @param now current game time in nanoseconds
+     * @throws IllegalCmdException if there is no piece able to act on the square
+     */
+    public void jump(int sq, long now) {
+        int i = isSquare(sq) ? occupant[sq] : NONE;
+        if (i == NONE || !STATES[state[i]].isCanAction()) throw new IllegalCmdException("Jump invalid at " + sq);
+
+        transition(i, JUMP, targetSquare[i], targetSquare[i], now);
+        if (occupant[square[i]] == i) rekey(square[i]);
+    }
+
+    // ---------------------- Queries ----------------------
+
+    /** @return the number of rows, captured pieces included */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * @param sq square index {@code row * cols + col}
+     * @return the row standing on the square, or {@link #NONE}
+     */
+    public int occupantOf(int sq) {
+        return occupant[sq];
+    }
+
+    /**
+     * @param sq square index {@code row * cols + col}
+     * @return the player moving to the square, or {@link #NONE}
+     */
+    public int targetOf(int sq) {
+        return target[sq];
+    }
+
+    /** @return the piece type of a row */
+    public EPieceType typeOf(int row) {
+        return TYPES[type[row]];
+    }
+
+    /** @return the owner of a row */
+    public int ownerOf(int row) {
+        return owner[row];
+    }
+
+    /** @return the state of a row */
+    public EState stateOf(int row) {
+        return STATES[state[row]];
+    }
+
+    /** @return the square index of a row, {@code row * cols + col} */
+    public int squareOf(int row) {
+        return square[row];
+    }
+
+    /** @return the time a row's current action finishes, {@link Long#MAX_VALUE} if never */
+    public long deadlineOf(int row) {
+        return deadline[row];
+    }
+
+    /** @return true if the row's piece is out of play */
+    public boolean isCaptured(int row) {
+        return captured[row];
+    }
+
+    /** @return the Zobrist hash of the position, equal to {@link Board#getHash()} for the same position */
+    public long getHash() {
+        return hash;
+    }
+
+    /** @return number of columns of the board */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Lists the destinations a piece may move to, like {@link KFCEngine#getLegalMoves}.
+     *
+     * @param from square index of the piece
+     * @return the legal destinations, in move-set order
+     */
+    public List<Position> getLegalMoves(int from) {
+        int i = isSquare(from) ? occupant[from] : NONE;
+        if (i == NONE || captured[i]) return List.of();
+
+        List<Position> legal = new ArrayList<>();
+        for (Move m : moves[type[i]][owner[i]]) {
+            int row = from / cols + m.dx();
+            int col = from % cols + m.dy();
+            if (row >= 0 && row < rows && col >= 0 && col < cols && isMoveLegal(from, row * cols + col)) {
+                legal.add(squares[row * cols + col].copy());
+            }
+        }
+        return legal;
+    }
+
+    /** @return the move set of a piece type for a player */
+    List<Move> movesOf(EPieceType t, int player) {
+        return List.of(moves[t.ordinal()][player]);
+    }
+
+    /** @return the board configuration the table was copied from */
+    BoardConfig getBoardConfig() {
+        return bc;
+    }
+
+    /** @return number of rows of the board */
+    int getRows() {
+        return rows;
+    }
+
+    // ---------------------- Records ----------------------
+
+    /**
+     * Writes the position into a game record; the rules stay with the table.
+     *
+     * @param layout the record layout
+     * @param buf    the buffer holding the record
+     * @param base   offset of the record in the buffer
+     * @throws IllegalStateException if the table has more rows than a record holds
+     */
+    void storeTo(GameRecord layout, ByteBuffer buf, int base) {
+        checkLayout(layout);
+        if (count > layout.maxRows()) {
+            throw new IllegalStateException("a game record holds " + layout.maxRows() + " pieces, the table " + count);
+        }
+        buf.putLong(base + GameRecord.HASH, hash);
+        buf.putInt(base + GameRecord.COUNT, count);
+        for (int i = 0; i < count; i++) {
+            int r = layout.row(base, i);
+            buf.put(r + GameRecord.TYPE, type[i]);
+            buf.put(r + GameRecord.OWNER, owner[i]);
+            buf.put(r + GameRecord.STATE, state[i]);
+            buf.put(r + GameRecord.FLAGS, (byte) ((firstMove[i] ? GameRecord.FIRST_MOVE : 0)
+                    | (captured[i] ? GameRecord.CAPTURED : 0)));
+            buf.putShort(r + GameRecord.SQUARE, (short) square[i]);
+            buf.putShort(r + GameRecord.START, (short) startSquare[i]);
+            buf.putShort(r + GameRecord.TARGET, (short) targetSquare[i]);
+            buf.putLong(r + GameRecord.START_TIME, startTime[i]);
+            buf.putLong(r + GameRecord.DEADLINE, deadline[i]);
+        }
+        for (int sq = 0; sq < squares.length; sq++) {
+            int s = layout.square(base, sq);
+            buf.put(s + GameRecord.OCCUPANT, (byte) occupant[sq]);
+            buf.put(s + GameRecord.TARGET_PLAYER, (byte) target[sq]);
+            buf.putLong(layout.key(base, sq), squareKeys[sq]);
+        }
+    }
+
+    /**
+     * Replaces the position with the one in a game record written by {@link #storeTo}.
+     *
+     * @param layout the record layout
+     * @param buf    the buffer holding the record
+     * @param base   offset of the record in the buffer
+     */
+    void loadFrom(GameRecord layout, ByteBuffer buf, int base) {
+        checkLayout(layout);
+        hash = buf.getLong(base + GameRecord.HASH);
+        count = 0;
+        int rowsInRecord = buf.getInt(base + GameRecord.COUNT);
+        for (int n = 0; n < rowsInRecord; n++) {
+            int i = addRow();
+            int r = layout.row(base, i);
+            type[i] = buf.get(r + GameRecord.TYPE);
+            owner[i] = buf.get(r + GameRecord.OWNER);
+            state[i] = buf.get(r + GameRecord.STATE);
+            int flags = buf.get(r + GameRecord.FLAGS);
+            firstMove[i] = (flags & GameRecord.FIRST_MOVE) != 0;
+            captured[i] = (flags & GameRecord.CAPTURED) != 0;
+            square[i] = buf.getShort(r + GameRecord.SQUARE);
+            startSquare[i] = buf.getShort(r + GameRecord.START);
+            targetSquare[i] = buf.getShort(r + GameRecord.TARGET);
+            startTime[i] = buf.getLong(r + GameRecord.START_TIME);
+            deadline[i] = buf.getLong(r + GameRecord.DEADLINE);
+        }
+        for (int sq = 0; sq < squares.length; sq++) {
+            int s = layout.square(base, sq);
+            occupant[sq] = buf.get(s + GameRecord.OCCUPANT);
+            target[sq] = buf.get(s + GameRecord.TARGET_PLAYER);
+            squareKeys[sq] = buf.getLong(layout.key(base, sq));
+        }
+    }
+
+    private void checkLayout(GameRecord layout) {
+        if (layout.squares() != squares.length) {
+            throw new IllegalArgumentException("record has " + layout.squares() + " squares, the board " + squares.length);
+        }
+    }
+
+    // ---------------------- Helpers ----------------------
+
+    /**
+     * Checks the squares strictly between two squares on a line, like {@code KFCEngine.isPathClear}.
+     */
+    private boolean isPathClear(int from, int to) {
+        int stepRow = Integer.signum(to / cols - from / cols);
+        int stepCol = Integer.signum(to % cols - from % cols);
+        int row = from / cols + stepRow;
+        int col = from % cols + stepCol;
+
+        while (row != to / cols || col != to % cols) {
+            if (occupant[row * cols + col] != NONE) return false;
+            row += stepRow;
+            col += stepCol;
+        }
+        return true;
+    }
+
+    private void setTarget(int sq, int player) {
+        if (target[sq] != NONE) hash ^= Zobrist.targetKey(target[sq], sq);
+        target[sq] = player;
+        if (player != NONE) hash ^= Zobrist.targetKey(player, sq);
+    }
+
+    /**
+     * Replaces the key a square contributes to the hash with the key of its current content.
+     */
+    private void rekey(int sq) {
+        int i = occupant[sq];
+        long key = i == NONE || captured[i] ? 0 : Zobrist.pieceKey(TYPES[type[i]], owner[i], STATES[state[i]], sq);
+        hash ^= squareKeys[sq] ^ key;
+        squareKeys[sq] = key;
+    }
+
+    private boolean isSquare(int sq) {
+        return sq >= 0 && sq < squares.length;
+    }
+
+    private int squareOf(Position pos) {
+        return pos.getRow() * cols + pos.getCol();
+    }
+
+    /**
+     * Start time plus duration, saturating for actions that never finish.
+     */
+    private static long deadlineOf(long start, long duration) {
+        return duration == Long.MAX_VALUE || start > Long.MAX_VALUE - duration ? Long.MAX_VALUE : start + duration;
+    }
+}
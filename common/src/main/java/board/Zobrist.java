@@ -0,0 +1,95 @@
+package board;
+
+import interfaces.IPiece;
+import interfaces.IState;
+import pieces.EPieceType;
+import state.EState;
+
+/**
+ * Zobrist keys of the board features hashed by {@link Board}.
+ * <p>
+ * A position's hash is the XOR of one key per occupied square (piece type, owner, coarse state)
+ * and one key per target square (arriving player), so it is updated in O(1) by XOR-ing keys out
+ * and in as the board changes. Keys are derived from their feature with a fixed mixing function
+ * rather than drawn at random, so every process — client or server — computes the same hash
+ * for the same position, on any board size.
+ * </p>
+ */
+public final class Zobrist {
+
+    private static final long PIECE_SEED = 0x6A09E667F3BCC908L;
+    private static final long TARGET_SEED = 0xBB67AE8584CAA73BL;
+
+    /** Number of coarse states, see {@link #coarseState(EState)}. */
+    static final int COARSE_STATES = 4;
+
+    // Private constructor to prevent instantiation
+    private Zobrist() {}
+
+    /**
+     * Returns the key of a piece standing on a square; 0 for an empty square or a captured piece.
+     *
+     * @param piece  the piece, or null
+     * @param square square index {@code row * cols + col}
+     * @return the key
+     */
+    public static long pieceKey(IPiece piece, int square) {
+        if (piece == null || piece.isCaptured()) return 0;
+        IState state = piece.getCurrentState();
+        return pieceKey(piece.getType(), piece.getPlayer(), state == null ? null : state.getName(), square);
+    }
+
+    /**
+     * Returns the key of a piece standing on a square, given by its features.
+     *
+     * @param type   the piece type, or null
+     * @param player the owner
+     * @param state  the piece's state, or null
+     * @param square square index {@code row * cols + col}
+     * @return the key
+     */
+    static long pieceKey(EPieceType type, int player, EState state, int square) {
+        int typeIndex = type == null ? 0 : type.ordinal() + 1;
+        int coarse = coarseState(state);
+
+        long feature = (((long) typeIndex * 256 + player) * COARSE_STATES + coarse) * 65536 + square;
+        return mix(PIECE_SEED + feature);
+    }
+
+    /**
+     * Returns the key of a square a player's piece is moving to.
+     *
+     * @param player the arriving player
+     * @param square square index {@code row * cols + col}
+     * @return the key
+     */
+    public static long targetKey(int player, int square) {
+        return mix(TARGET_SEED + (long) player * 65536 + square);
+    }
+
+    /**
+     * Collapses a state into what matters to another piece: able to act, briefly resting,
+     * resting, or airborne (moving or jumping, hence neither capturable nor able to act).
+     *
+     * @param state the state, or null
+     * @return the coarse state in {@code [0, COARSE_STATES)}
+     */
+    static int coarseState(EState state) {
+        if (state == null) return 0;
+        return switch (state) {
+            case IDLE -> 0;
+            case SHORT_REST -> 1;
+            case LONG_REST -> 2;
+            case MOVE, JUMP -> 3;
+        };
+    }
+
+    /**
+     * SplitMix64 finalizer.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -5,6 +5,11 @@ import events.EventPublisher;
 import events.GameEvent;
 import events.listeners.ActionData;
 import interfaces.*;
+import journal.JournalEntry;
+import pieces.Position;
+import profiling.CommandEvent;
+
+import java.util.Optional;
 
 /**
  * Command representing a jump action for a piece on the board.
@@ -21,6 +26,9 @@ public class JumpCommand implements ICommand {
     /** The board on which the jump will be executed. */
     private final IBoard board;
 
+    /** Whether {@link #execute()} found the jump legal. */
+    private boolean accepted;
+
     /**
      * Constructs a new {@code JumpCommand} for a specific piece on a board.
      *
@@ -42,9 +50,13 @@ public class JumpCommand implements ICommand {
      */
     @Override
     public void execute() {
+        CommandEvent jfr = new CommandEvent();
+        jfr.begin();
+
         try {
             // Attempt to perform the jump on the board
             board.jump(piece);
+            accepted = true;
 
             // Publish a successful jump event
             EventPublisher.getInstance()
@@ -59,5 +71,22 @@ public class JumpCommand implements ICommand {
                             new GameEvent(EGameEvent.ILLEGAL_CMD,
                                     new ActionData(piece.getPlayer(), message)));
         }
+
+        if (jfr.shouldCommit()) {
+            jfr.command = "JUMP";
+            jfr.player = piece.getPlayer();
+            jfr.from = String.valueOf(piece.getPos());
+            jfr.to = jfr.from;
+            jfr.accepted = accepted;
+            jfr.commit();
+        }
+    }
+
+    @Override
+    public Optional<JournalEntry> toJournalEntry(long tick) {
+        if (!accepted) return Optional.empty();
+        // A jump keeps the piece on its square
+        Position at = piece.getPos();
+        return Optional.of(new JournalEntry(tick, piece.getPlayer(), JournalEntry.Kind.JUMP, at.copy(), at.copy()));
     }
 }
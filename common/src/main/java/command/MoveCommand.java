@@ -7,10 +7,14 @@ import events.listeners.ActionData;
 import interfaces.AppLogger;
 import interfaces.ICommand;
 import interfaces.IBoard;
+import journal.JournalEntry;
 import pieces.Position;
+import profiling.CommandEvent;
 import utils.Slf4jAdapter;
 import utils.Utils;
 
+import java.util.Optional;
+
 /**
  * Command representing a move action for a piece on the board.
  * <p>
@@ -31,6 +35,12 @@ public class MoveCommand implements ICommand {
     /** The board on which the move is executed. */
     private final IBoard board;
 
+    /** Owner of the moved piece, set by {@link #execute()}. */
+    private int player = -1;
+
+    /** Whether {@link #execute()} found the move legal. */
+    private boolean accepted;
+
     /**
      * Constructs a new {@code MoveCommand} with specified positions and board.
      *
@@ -61,11 +71,16 @@ public class MoveCommand implements ICommand {
      */
     @Override
     public void execute() {
+        CommandEvent jfr = new CommandEvent();
+        jfr.begin();
+
         String message;
+        player = board.getPiece(from).getPlayer();
+        accepted = board.getBoardRulesEngine().isMoveLegal(board, from, to);
 
-        if (board.getBoardRulesEngine().isMoveLegal(board, from, to)) {
+        if (accepted) {
             message = Utils.getName(from) + " --> " + Utils.getName(to);
-            ActionData actionData = new ActionData(board.getPiece(from).getPlayer(), message);
+            ActionData actionData = new ActionData(player, message);
 
             // Publish a successful move event
             EventPublisher.getInstance()
@@ -81,10 +96,25 @@ public class MoveCommand implements ICommand {
             EventPublisher.getInstance()
                     .publish(EGameEvent.ILLEGAL_CMD,
                             new GameEvent(EGameEvent.ILLEGAL_CMD,
-                                    new ActionData(board.getPiece(from).getPlayer(), message)));
+                                    new ActionData(player, message)));
         }
 
         // Log the move or illegal attempt
         logger.debug(message);
+
+        if (jfr.shouldCommit()) {
+            jfr.command = "MOVE";
+            jfr.player = player;
+            jfr.from = from.toString();
+            jfr.to = to.toString();
+            jfr.accepted = accepted;
+            jfr.commit();
+        }
+    }
+
+    @Override
+    public Optional<JournalEntry> toJournalEntry(long tick) {
+        if (!accepted) return Optional.empty();
+        return Optional.of(new JournalEntry(tick, player, JournalEntry.Kind.MOVE, from.copy(), to.copy()));
     }
 }
@@ -5,7 +5,8 @@ import utils.ConfigLoader;
 /**
  * Configuration constants for the game server.
  * <p>
- * Most values can be overridden via {@code config.properties}.
+ * Most values can be overridden via {@code config.properties}, and each of those by a system
+ * property of the same name (e.g. {@code -Dserver.rooms.multi=true}).
  * Includes host, port, WebSocket paths, and server endpoints.
  * </p>
  */
@@ -15,17 +16,102 @@ public final class ServerConfig {
     public static final String SERVER_ENDPOINT = "/game";
 
     /** Hostname or IP address of the server. Default is "localhost". */
-    public static final String HOST = ConfigLoader.getConfig("server.host", "0.0.0.0");
+    public static final String HOST = setting("server.host", "0.0.0.0");
 
     /** Port number of the server. Default is 8025. */
     public static final int PORT = Integer.parseInt(
-            System.getenv().getOrDefault("PORT", ConfigLoader.getConfig("server.port", "8025"))
+            System.getenv().getOrDefault("PORT", setting("server.port", "8025"))
     );
     /** WebSocket base path. Default is "/ws". */
-    public static final String WS_PATH = ConfigLoader.getConfig("server.ws.path", "/ws");
+    public static final String WS_PATH = setting("server.ws.path", "/ws");
 
     /** WebSocket game endpoint. Default is "/game". */
-    public static final String WS_GAME_ENDPOINT = ConfigLoader.getConfig("server.endpoint.game", "/game");
+    public static final String WS_GAME_ENDPOINT = setting("server.endpoint.game", "/game");
+
+    /**
+     * How long a disconnected player's seat is kept for resumption, in milliseconds.
+     * When every player is gone for longer than this, the game is shut down. Default is 30000.
+     */
+    public static final long SESSION_RESUME_GRACE_MS = Long.parseLong(
+            setting("server.session.resume.grace.ms", "30000"));
+
+    /**
+     * Whether one server hosts many games, pairing connecting players two by two into rooms.
+     * When false (the default) the server hosts a single game and exits once it is over.
+     */
+    public static final boolean MULTI_ROOM = Boolean.parseBoolean(
+            setting("server.rooms.multi", "false"));
+
+    /**
+     * Whether each session's inbound messages and outbound writes run on virtual threads,
+     * serialized per session, instead of on the WebSocket container's worker threads. Default is false.
+     */
+    public static final boolean VIRTUAL_THREADS = Boolean.parseBoolean(
+            setting("server.virtual.threads", "false"));
+
+    /**
+     * Maximum number of queued outbound messages per session when {@link #VIRTUAL_THREADS} is on;
+     * a client that falls this far behind is disconnected. Default is 1024.
+     */
+    public static final int OUTBOUND_QUEUE_LIMIT = Integer.parseInt(
+            setting("server.outbound.queue.limit", "1024"));
+
+    /** Interface the metrics/health HTTP endpoint binds to. Default is "127.0.0.1" (local only). */
+    public static final String METRICS_HOST = setting("server.metrics.host", "127.0.0.1");
+
+    /** Port of the metrics/health HTTP endpoint; 0 or less disables it. Default is 9090. */
+    public static final int METRICS_PORT = Integer.parseInt(setting("server.metrics.port", "9090"));
+
+    /**
+     * Whether games run in deterministic fixed-timestep mode: game time advances by exactly one
+     * game-loop period per tick instead of following the wall clock. Default is false.
+     */
+    public static final boolean FIXED_TIMESTEP = Boolean.parseBoolean(
+            setting("server.fixed.timestep", "false"));
+
+    /**
+     * Directory the per-game command journals are written to; empty (the default) disables journaling.
+     */
+    public static final String JOURNAL_DIR = setting("server.journal.dir", "");
+
+    /** Size in bytes after which a journal rolls over to a new segment file. Default is 8 MiB. */
+    public static final long JOURNAL_SEGMENT_BYTES = Long.parseLong(
+            setting("server.journal.segment.bytes", "8388608"));
+
+    /**
+     * Number of worker threads shared by the parallel searches of computer players; 0 or less (the default)
+     * uses all cores but one, which is left to the game loops.
+     */
+    public static final int BOT_SEARCH_THREADS = Integer.parseInt(
+            setting("bot.search.threads", "0"));
+
+    /**
+     * Number of game ticks between two board hashes broadcast to the clients of a game, which compare
+     * them with their own replica to detect a desync; 0 or less disables the check. Default is 60 (about 1 s).
+     */
+    public static final int STATE_HASH_TICKS = Integer.parseInt(
+            setting("server.state.hash.ticks", "60"));
+
+    /**
+     * Maximum number of finished games kept for reuse by the server's rooms; a new match
+     * resets one in place instead of allocating a new game. 0 disables reuse. Default is 16.
+     */
+    public static final int GAME_POOL_SIZE = Integer.parseInt(
+            setting("server.game.pool.size", "16"));
+
+    /** Query parameter carrying the session token on reconnect. */
+    public static final String TOKEN_PARAM = "token";
+
+    /**
+     * Reads a setting: the system property of that name if set, else {@code config.properties}.
+     *
+     * @param key          property key
+     * @param defaultValue value used when neither defines the key
+     * @return the setting
+     */
+    private static String setting(String key, String defaultValue) {
+        return System.getProperty(key, ConfigLoader.getConfig(key, defaultValue));
+    }
 
     // Private constructor to prevent instantiation
     private ServerConfig() {}
@@ -0,0 +1,13 @@
+package dto;
+
+/**
+ * Data Transfer Object for one NTP-style clock synchronization exchange.
+ * <p>
+ * The client sends {@link EventType#CLOCK_PING} with its send time; the server answers
+ * {@link EventType#CLOCK_PONG} echoing that time and adding its game-clock time.
+ * </p>
+ *
+ * @param clientSendNanos Client clock when the ping was sent
+ * @param serverNanos     Server game clock when the ping was answered (0 in a ping)
+ */
+public record ClockSyncDTO(long clientSendNanos, long serverNanos) { }
@@ -17,9 +17,30 @@ public enum EventType {
     /** Player ID assignment event. */
     PLAYER_ID,
 
+    /** Session token that lets a reconnecting client reclaim its seat. */
+    SESSION_TOKEN,
+
+    /** A reconnecting client reclaimed its seat; carries the state it missed. */
+    RESUMED,
+
     /** Setting or updating a player's name. */
     SET_NAME,
 
+    /** Client request for the server's game clock time. */
+    CLOCK_PING,
+
+    /** Server answer carrying its game clock time. */
+    CLOCK_PONG,
+
+    /** Periodic hash of the server's board, checked by clients against their replica. */
+    STATE_HASH,
+
+    /** Client request for the authoritative game history after its replica diverged. */
+    RESYNC_REQUEST,
+
+    /** Server answer to a resync request; carries every selection of the game with its time. */
+    RESYNC,
+
     /** Unknown or unrecognized event type. */
     UNKNOWN
 }
@@ -1,10 +1,12 @@
 package dto;
 
 import board.BoardConfig;
+import board.BoardSnapshot;
 import interfaces.IBoard;
 import interfaces.IPiece;
 
 import java.awt.image.BufferedImage;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -34,17 +36,52 @@ public record PieceView(BufferedImage frame, double x, double y) {
         );
     }
 
+    /**
+     * Creates a PieceView from a piece snapshot and board configuration.
+     *
+     * @param piece The piece snapshot to visualize
+     * @param bc Board configuration for scaling
+     * @return PieceView representing the piece's visual state
+     */
+    public static PieceView from(BoardSnapshot.PieceSnapshot piece, BoardConfig bc) {
+        return new PieceView(
+                piece.frame(),
+                (piece.x() / bc.physicsDimension().getWidth()) * bc.panelDimension().getWidth(),
+                (piece.y() / bc.physicsDimension().getHeight()) * bc.panelDimension().getHeight()
+        );
+    }
+
     /**
      * Converts all non-captured pieces on the board into PieceViews.
+     * Reads the board's latest published snapshot, so it is safe to call from the UI thread;
+     * boards that publish no snapshot are read directly.
      *
      * @param board Board containing players and pieces
      * @return List of PieceView objects for rendering
      */
     public static List<PieceView> toPieceViews(IBoard board) {
+        BoardSnapshot snapshot = board.getSnapshot();
+        if (snapshot != null) return toPieceViews(snapshot, board.getBoardConfig());
+
         return Arrays.stream(board.getPlayers())
                 .flatMap(player -> player.getPieces().stream())
                 .filter(piece -> !piece.isCaptured())
                 .map(p -> PieceView.from(p, board.getBoardConfig()))
                 .toList();
     }
+
+    /**
+     * Converts the pieces of a snapshot into PieceViews.
+     *
+     * @param snapshot Board snapshot
+     * @param bc Board configuration for scaling
+     * @return List of PieceView objects for rendering
+     */
+    public static List<PieceView> toPieceViews(BoardSnapshot snapshot, BoardConfig bc) {
+        List<PieceView> views = new ArrayList<>(snapshot.pieces().size());
+        for (BoardSnapshot.PieceSnapshot piece : snapshot.pieces()) {
+            views.add(from(piece, bc));
+        }
+        return views;
+    }
 }
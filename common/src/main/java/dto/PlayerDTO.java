@@ -1,6 +1,7 @@
 package dto;
 
 import board.BoardConfig;
+import interfaces.IClock;
 import interfaces.IPlayer;
 
 import java.awt.*;
@@ -37,4 +38,16 @@ public record PlayerDTO(int id, String name, String colorHex) {
     public static IPlayer to(PlayerDTO playerDTO, BoardConfig bc) {
         return player.PlayerFactory.createPlayer(playerDTO.id(), playerDTO.name(), bc);
     }
+
+    /**
+     * Converts a PlayerDTO back into an IPlayer whose pieces are timed by the given game clock.
+     *
+     * @param playerDTO The PlayerDTO instance
+     * @param bc Board configuration
+     * @param clock Game clock
+     * @return IPlayer instance
+     */
+    public static IPlayer to(PlayerDTO playerDTO, BoardConfig bc, IClock clock) {
+        return player.PlayerFactory.createPlayer(playerDTO.id(), playerDTO.name(), bc, clock);
+    }
 }
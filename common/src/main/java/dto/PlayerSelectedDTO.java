@@ -5,7 +5,21 @@ import pieces.Position;
 /**
  * Data Transfer Object representing a player's selection on the board.
  *
- * @param playerId ID of the player making the selection
+ * @param playerId  ID of the player making the selection
  * @param selection Board position selected by the player
+ * @param seq       Client-assigned sequence number, echoed back by the server so the
+ *                  sender can match the echo with its locally predicted selection
+ *                  (0 when the sender does not predict)
  */
-public record PlayerSelectedDTO(int playerId, Position selection) { }
+public record PlayerSelectedDTO(int playerId, Position selection, long seq) {
+
+    /**
+     * Creates a selection without a prediction sequence number.
+     *
+     * @param playerId  ID of the player making the selection
+     * @param selection Board position selected by the player
+     */
+    public PlayerSelectedDTO(int playerId, Position selection) {
+        this(playerId, selection, 0L);
+    }
+}
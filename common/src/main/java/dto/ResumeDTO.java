@@ -0,0 +1,17 @@
+package dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object sent to a client that reclaimed its seat with a session token.
+ * <p>
+ * Like a {@link ResyncDTO}, it carries the whole selection history with the server game-clock
+ * time each selection was handed to the game, so the client rebuilds its replica by
+ * re-simulating the game instead of applying the selections it missed at the wrong time.
+ * </p>
+ *
+ * @param game         Snapshot of the running game (board config, players, start time)
+ * @param selections   Every selection broadcast in this game, in order
+ * @param appliedNanos Server game clock when each selection was handed to the game, same order
+ */
+public record ResumeDTO(GameDTO game, List<PlayerSelectedDTO> selections, long[] appliedNanos) { }
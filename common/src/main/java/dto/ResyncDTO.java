@@ -0,0 +1,18 @@
+package dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object sent in answer to a {@link EventType#RESYNC_REQUEST}.
+ * <p>
+ * Carries the whole selection history with the server game-clock time each selection was
+ * handed to the game, so the client can rebuild its replica by re-simulating the game from
+ * its start instead of patching the diverged one.
+ * </p>
+ *
+ * @param game         Snapshot of the running game (board config, players, start time)
+ * @param selections   Every selection broadcast in this game, in order
+ * @param appliedNanos Server game clock when each selection was handed to the game, same order
+ * @param eventCount   Total number of selections broadcast in this game so far
+ */
+public record ResyncDTO(GameDTO game, List<PlayerSelectedDTO> selections, long[] appliedNanos, int eventCount) { }
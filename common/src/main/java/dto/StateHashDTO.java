@@ -0,0 +1,14 @@
+package dto;
+
+/**
+ * Data Transfer Object for the periodic board hash of {@link EventType#STATE_HASH}.
+ * <p>
+ * Clients compare it with the hash their own replica had around the same game time;
+ * a persistent difference means the replica diverged and needs a {@link EventType#RESYNC_REQUEST}.
+ * </p>
+ *
+ * @param timeNanos  Server game clock when the board was hashed
+ * @param hash       Position hash of the server's board at that time
+ * @param eventCount Number of selections broadcast in this game when the hash was sent
+ */
+public record StateHashDTO(long timeNanos, long hash, int eventCount) { }
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
 
 /**
  * Singleton event publisher that manages event listeners and publishes events to them.
@@ -21,6 +22,9 @@ public class EventPublisher {
     /** Mapping from game events to a list of their subscribers. */
     private final Map<EGameEvent, List<IEventListener>> listenersMap = new ConcurrentHashMap<>();
 
+    /** Whether events published by the current thread are dropped, see {@link #muted(Supplier)}. */
+    private final ThreadLocal<Boolean> muted = ThreadLocal.withInitial(() -> false);
+
     /** Private constructor for singleton pattern. */
     private EventPublisher() {}
 
@@ -69,6 +73,7 @@ public class EventPublisher {
      * @param event the event to publish
      */
     public void publish(EGameEvent topic, GameEvent event) {
+        if (muted.get()) return;
         List<IEventListener> listeners = listenersMap.get(topic);
         if (listeners != null) {
             for (IEventListener listener : listeners) {
@@ -76,4 +81,22 @@ public class EventPublisher {
             }
         }
     }
+
+    /**
+     * Runs a task with the events it publishes on the calling thread dropped, e.g. while a game
+     * is re-simulated from its history: listeners only care about the live game.
+     *
+     * @param task the task to run
+     * @param <T>  the task's result type
+     * @return the task's result
+     */
+    public <T> T muted(Supplier<T> task) {
+        boolean outer = muted.get();
+        muted.set(true);
+        try {
+            return task.get();
+        } finally {
+            muted.set(outer);
+        }
+    }
 }
@@ -2,26 +2,69 @@ package game;
 
 import interfaces.ICommand;
 import interfaces.IBoard;
+import interfaces.IBotPlayer;
+import interfaces.IClock;
 import interfaces.IGame;
+import interfaces.IGameJournal;
 import interfaces.IPlayer;
+import journal.JournalEntry;
 import pieces.Position;
+import utils.SystemClock;
 
-import java.util.LinkedList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Main game class. Manages the game loop, player turns, command execution, and win detection.
+ * <p>
+ * Selections may arrive from any thread (e.g. network I/O threads). They are only
+ * appended to a lock-free ingestion queue and are turned into commands on the thread
+ * that calls {@link #update()}, so player and board state is mutated by a single thread.
  */
 public class Game implements IGame {
 
+    /**
+     * A selection received from a player, waiting to be applied on the next update.
+     * A null position discards the player's pending selection instead.
+     */
+    private record PendingSelection(IPlayer player, Position position) {
+    }
+
     private final IPlayer[] players;
+    /** Players controlled by the program, asked for a decision on every update. */
+    private final IBotPlayer[] bots;
+    /** Multi-producer, single-consumer ingestion queue of selections. */
+    private final Queue<PendingSelection> selectionQueue;
+    /** Selections added to {@link #selectionQueue} and not yet drained; cheaper to read than its size. */
+    private final AtomicInteger queuedSelections = new AtomicInteger();
+    /** Commands produced while draining selections; only touched by the update thread. */
     private final Queue<ICommand> commandQueue;
     private final IBoard board;
+    private final IClock clock;
 
     private long startTimeNano;
     private volatile boolean running;
 
+    /** Work done by the last update, read by the game loop's metrics. */
+    private int lastCommandCount;
+    private int lastUpdatedPieceCount;
+
+    /** Number of updates so far. */
+    private long tick;
+
+    /** Journal of accepted commands, or null; set before the game loop starts. */
+    private volatile IGameJournal journal;
+
+    /** Accepted commands of the current update, handed to the journal at its end. */
+    private final List<JournalEntry> journalBatch = new ArrayList<>();
+
     /**
      * Constructs a new game with the given board and players.
      *
@@ -29,9 +72,26 @@ public class Game implements IGame {
      * @param players Array of players
      */
     public Game(IBoard board, IPlayer[] players) {
+        this(board, players, SystemClock.getInstance());
+    }
+
+    /**
+     * Constructs a new game whose elapsed time is measured on the given game clock.
+     *
+     * @param board   The game board
+     * @param players Array of players
+     * @param clock   The game clock
+     */
+    public Game(IBoard board, IPlayer[] players, IClock clock) {
         this.board = board;
+        this.clock = clock;
         this.players = players;
-        this.commandQueue = new LinkedList<>();
+        this.bots = Arrays.stream(players)
+                .filter(IBotPlayer.class::isInstance)
+                .map(IBotPlayer.class::cast)
+                .toArray(IBotPlayer[]::new);
+        this.selectionQueue = new ConcurrentLinkedQueue<>();
+        this.commandQueue = new ArrayDeque<>();
         this.running = false;
         this.startTimeNano = 0;
     }
@@ -46,15 +106,82 @@ public class Game implements IGame {
     }
 
     /**
-     * Updates the game state by executing queued commands and updating the board.
+     * Updates the game state: advances the board, then drains all selections received
+     * since the previous update in arrival order, executes the resulting commands and starts the
+     * bots' decisions, which come back as selections for a later update.
+     * Accepted commands are handed to the journal, if any, as one batch per update, and the
+     * resulting board is published as an immutable snapshot if readers on other threads asked for one.
      */
     @Override
     public void update() {
-        board.updateAll();
+        tick++;
+        lastUpdatedPieceCount = board.updateAll();
+
+        drainSelections();
 
+        IGameJournal journal = this.journal;
+        int executed = 0;
         ICommand cmd;
         while ((cmd = commandQueue.poll()) != null) {
             cmd.execute();
+            executed++;
+            if (journal != null) cmd.toJournalEntry(tick).ifPresent(journalBatch::add);
+        }
+        lastCommandCount = executed;
+
+        for (IBotPlayer bot : bots) {
+            bot.decideAsync(board, clock.nanoTime(), (from, to) -> selectForBot(bot, from, to));
+        }
+
+        if (journal != null && !journalBatch.isEmpty()) {
+            journal.appendTick(tick, journalBatch);
+            journalBatch.clear();
+        }
+
+        board.refreshSnapshot(tick);
+    }
+
+    @Override
+    public int getLastCommandCount() {
+        return lastCommandCount;
+    }
+
+    @Override
+    public int getLastUpdatedPieceCount() {
+        return lastUpdatedPieceCount;
+    }
+
+    @Override
+    public long getTick() {
+        return tick;
+    }
+
+    @Override
+    public void setJournal(IGameJournal journal) {
+        this.journal = journal;
+    }
+
+    @Override
+    public IGameJournal getJournal() {
+        return journal;
+    }
+
+    /**
+     * Converts every pending selection into a command (if any).
+     * Only selections counted when the drain starts are processed, so producers
+     * cannot keep the update thread busy indefinitely.
+     */
+    private void drainSelections() {
+        int pending = queuedSelections.get();
+        PendingSelection selection;
+        while (pending-- > 0 && (selection = selectionQueue.poll()) != null) {
+            queuedSelections.decrementAndGet();
+            if (selection.position() == null) {
+                selection.player().clearSelection();
+                continue;
+            }
+            Optional<ICommand> cmd = selection.player().handleSelection(board, selection.position());
+            cmd.ifPresent(this::addCommand);
         }
     }
 
@@ -78,15 +205,16 @@ public class Game implements IGame {
     }
 
     /**
-     * Handles a selection by a player and queues the resulting command if present.
+     * Enqueues a selection by a player. Safe to call from any thread; the selection is
+     * applied (and its command, if any, executed) during the next {@link #update()}.
      *
      * @param player   The player making the selection
      * @param selected Selected position on the board
      */
     @Override
     public void handleSelection(IPlayer player, Position selected) {
-        Optional<ICommand> cmd = player.handleSelection(getBoard(), selected);
-        cmd.ifPresent(this::addCommand);
+        Objects.requireNonNull(selected, "selected");
+        enqueue(new PendingSelection(player, selected));
     }
 
     @Override
@@ -94,6 +222,30 @@ public class Game implements IGame {
         handleSelection(getPlayerById(playerId), selected);
     }
 
+    @Override
+    public void clearSelection(int playerId) {
+        enqueue(new PendingSelection(getPlayerById(playerId), null));
+    }
+
+    /**
+     * Enqueues a bot's action as the selections a player would make: source, then target. A
+     * pending selection left over when the source can no longer act is cleared afterwards.
+     * Called from the bot's search thread.
+     */
+    private void selectForBot(IPlayer bot, Position from, Position to) {
+        handleSelection(bot, from);
+        handleSelection(bot, to);
+        enqueue(new PendingSelection(bot, null));
+    }
+
+    /**
+     * Appends a selection to the ingestion queue; counted after it is visible to the drain.
+     */
+    private void enqueue(PendingSelection selection) {
+        selectionQueue.add(selection);
+        queuedSelections.incrementAndGet();
+    }
+
     /**
      * Determines the winning player, or returns null if no winner yet.
      *
@@ -114,7 +266,7 @@ public class Game implements IGame {
     @Override
     public long getElapsedMillis() {
         if (startTimeNano == 0) return 0;
-        return (System.nanoTime() - startTimeNano) / 1_000_000;
+        return (clock.nanoTime() - startTimeNano) / 1_000_000;
     }
 
     @Override
@@ -141,4 +293,32 @@ public class Game implements IGame {
     public void setStartTimeNano(long startTimeNano) {
         this.startTimeNano = startTimeNano;
     }
+
+    @Override
+    public IClock getClock() {
+        return clock;
+    }
+
+    /**
+     * Resets the board, and with it the players, and forgets the queued selections, the tick count,
+     * the start time and the journal, so the game can be started again by a new game loop.
+     *
+     * @throws IllegalStateException if the game is running
+     */
+    @Override
+    public void reset() {
+        if (running) throw new IllegalStateException("Cannot reset a running game");
+        // Counted per removed selection: a selection being enqueued meanwhile is added before it is counted
+        while (selectionQueue.poll() != null) {
+            queuedSelections.decrementAndGet();
+        }
+        commandQueue.clear();
+        journalBatch.clear();
+        journal = null;
+        tick = 0;
+        lastCommandCount = 0;
+        lastUpdatedPieceCount = 0;
+        startTimeNano = 0;
+        board.reset();
+    }
 }
@@ -4,6 +4,7 @@ import board.Board;
 import board.BoardConfig;
 import board.KFCEngine;
 import interfaces.IBoard;
+import interfaces.IClock;
 import interfaces.IGame;
 import interfaces.IPlayer;
 
@@ -11,6 +12,9 @@ import events.listeners.CapturedLogger;
 import events.listeners.GameEndLogger;
 import events.listeners.JumpsLogger;
 import events.listeners.MovesLogger;
+import utils.SystemClock;
+
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Factory class for assembling and creating a complete game instance.
@@ -18,6 +22,9 @@ import events.listeners.MovesLogger;
  */
 public class GameFactory {
 
+    /** Whether the event loggers are registered; they are shared by all games of the process. */
+    private static final AtomicBoolean loggersRegistered = new AtomicBoolean(false);
+
     /**
      * Creates a fully initialized game with the specified board configuration and players.
      *
@@ -26,19 +33,34 @@ public class GameFactory {
      * @return Fully initialized IGame instance
      */
     public static IGame createNewGame(BoardConfig bc, IPlayer[] players) {
+        return createNewGame(bc, players, SystemClock.getInstance());
+    }
+
+    /**
+     * Creates a fully initialized game driven by the given game clock.
+     * The players' pieces should have been created with the same clock.
+     *
+     * @param bc      Board configuration
+     * @param players Array of players
+     * @param clock   Game clock
+     * @return Fully initialized IGame instance
+     */
+    public static IGame createNewGame(BoardConfig bc, IPlayer[] players, IClock clock) {
         // Create the rules engine.
         KFCEngine rulesEngine = new KFCEngine();
 
         // Create the board with injected rules engine and players.
-        IBoard board = new Board(bc, rulesEngine, players);
+        IBoard board = new Board(bc, rulesEngine, players, clock);
 
-        // Initialize event loggers.
-        new MovesLogger();
-        new JumpsLogger();
-        new CapturedLogger();
-        new GameEndLogger();
+        // Initialize event loggers once; every game publishes to the same event bus.
+        if (loggersRegistered.compareAndSet(false, true)) {
+            new MovesLogger();
+            new JumpsLogger();
+            new CapturedLogger();
+            new GameEndLogger();
+        }
 
         // Return the assembled Game instance.
-        return new Game(board, players);
+        return new Game(board, players, clock);
     }
 }
@@ -5,23 +5,54 @@ import events.EGameEvent;
 import events.EventPublisher;
 import events.GameEvent;
 import interfaces.AppLogger;
+import interfaces.IClock;
 import interfaces.IGame;
+import interfaces.IGameJournal;
 import interfaces.IGameLoop;
 import interfaces.IPlayer;
+import metrics.NodeMetrics;
+import metrics.TickMetrics;
+import profiling.TickEvent;
 import utils.Slf4jAdapter;
+import utils.SystemClock;
+import utils.TickClock;
 
 import javax.swing.*;
 
 /**
  * Implements the main game loop using a Swing Timer.
  * Responsible for updating game state, processing commands, and publishing events.
+ * <p>
+ * When the game clock is a {@link TickClock}, the loop runs in fixed-timestep mode: each tick
+ * advances the clock by exactly one step before updating the game, so game time depends only
+ * on the number of ticks and the simulation is deterministic. The timer may fire late or
+ * coalesce events, so each timer event runs as many ticks as whole steps of wall time have
+ * elapsed since the last one, up to {@link #MAX_TICKS_PER_EVENT}; a longer stall is dropped
+ * rather than replayed in a burst.
+ * </p>
  */
 public class GameLoop implements IGameLoop {
 
     private static final AppLogger logger = new Slf4jAdapter(GameLoop.class);
 
+    /** Most ticks run for one timer event in fixed-timestep mode. */
+    static final int MAX_TICKS_PER_EVENT = 5;
+
     private Timer timer;
     private final IGame game;
+    private final IClock clock;
+
+    /** The game clock when running in fixed-timestep mode, otherwise null. */
+    private final TickClock stepClock;
+
+    /** Wall time, from {@link System#nanoTime()}, up to which fixed steps have been run. */
+    private long steppedWallNanos;
+
+    /** Tick statistics of this game, registered with {@link NodeMetrics} while the loop runs. */
+    private final TickMetrics metrics;
+
+    /** Called on the loop thread after each game update; null for none. */
+    private volatile Runnable updateListener;
 
     /**
      * Constructs a GameLoop for the given game.
@@ -29,54 +60,156 @@ public class GameLoop implements IGameLoop {
      * @param game The game instance to run
      */
     public GameLoop(IGame game) {
+        this(game, SystemClock.getInstance());
+    }
+
+    /**
+     * Constructs a GameLoop for the given game, timed by the game's clock.
+     * A {@link TickClock} selects fixed-timestep mode.
+     *
+     * @param game  The game instance to run
+     * @param clock The game clock
+     */
+    public GameLoop(IGame game, IClock clock) {
         this.game = game;
+        this.clock = clock;
+        this.stepClock = clock instanceof TickClock tickClock ? tickClock : null;
+        this.metrics = NodeMetrics.getInstance().createGameMetrics();
+    }
+
+    /**
+     * Sets work run on the loop thread right after each game update, before the update is
+     * published. It sees the game exactly as updated, so it must be quick and not block.
+     *
+     * @param listener the work to run, or null for none
+     */
+    public void setUpdateListener(Runnable listener) {
+        this.updateListener = listener;
     }
 
     /**
      * Starts the game loop using a Swing Timer.
-     * Initializes the start time if the game is not already running.
+     * Initializes the start time if the game is not already running and no start
+     * time was provided (e.g. by the server).
      */
     @Override
     public void run() {
         if (timer == null) {
-            timer = new Timer(GameConstants.GAME_LOOP_MS, e -> tick());
+            timer = new Timer(GameConstants.GAME_LOOP_MS, e -> onTimer(System.nanoTime()));
         }
         if (!game.isRunning()) {
             game.setRunning(true);
-            game.setStartTimeNano(System.nanoTime());
+            if (game.getStartTimeNano() == 0) {
+                game.setStartTimeNano(clock.nanoTime());
+            }
         }
+        NodeMetrics.getInstance().register(metrics);
+        steppedWallNanos = System.nanoTime();
         timer.start();
     }
 
+    /**
+     * Handles one timer event: a single tick, or in fixed-timestep mode one tick per whole
+     * step of wall time elapsed since the last event, at most {@link #MAX_TICKS_PER_EVENT}.
+     *
+     * @param wallNanos the current wall time from {@link System#nanoTime()}
+     * @return number of ticks run
+     */
+    int onTimer(long wallNanos) {
+        if (stepClock == null) {
+            tick();
+            return 1;
+        }
+
+        long stepNanos = stepClock.getTickNanos();
+        long due = (wallNanos - steppedWallNanos) / stepNanos;
+        if (due > MAX_TICKS_PER_EVENT) {
+            // Too far behind to catch up unnoticed; drop the backlog
+            due = MAX_TICKS_PER_EVENT;
+            steppedWallNanos = wallNanos;
+        } else if (due > 0) {
+            steppedWallNanos += due * stepNanos;
+        }
+
+        int ran = 0;
+        while (ran < due) {
+            ran++;
+            if (!tick()) break;
+        }
+        return ran;
+    }
+
     /**
      * Executes a single tick of the game loop.
      * Updates the board, executes queued commands, and publishes relevant events.
+     *
+     * @return false if the game ended and the loop was stopped
      */
-    private void tick() {
+    private boolean tick() {
+        TickEvent jfr = new TickEvent();
+        jfr.begin();
+
+        long start = System.nanoTime();
         IPlayer winner = game.win();
         if (winner == null) {
+            if (stepClock != null) {
+                stepClock.advance();
+            }
             game.update();
+            Runnable listener = updateListener;
+            if (listener != null) {
+                listener.run();
+            }
+            long updated = System.nanoTime();
             EventPublisher.getInstance().publish(
                     EGameEvent.GAME_UPDATE,
                     new GameEvent(EGameEvent.GAME_UPDATE, null)
             );
+            long end = System.nanoTime();
+
+            // Timings use the real clock: the game clock may be offset or simulated
+            metrics.recordTick(start, updated - start, end - updated, end - start,
+                    game.getLastCommandCount(), game.getLastUpdatedPieceCount());
         } else {
             EventPublisher.getInstance().publish(
                     EGameEvent.GAME_ENDED,
                     new GameEvent(EGameEvent.GAME_ENDED, null)
             );
-            stopGameLoop();
+            stop();
             logger.debug("Game Over. Winner: Player " + winner.getName());
         }
+
+        if (jfr.shouldCommit()) {
+            jfr.gameOver = winner != null;
+            if (!jfr.gameOver) {
+                jfr.commands = game.getLastCommandCount();
+                jfr.pieces = game.getLastUpdatedPieceCount();
+            }
+            jfr.commit();
+        }
+        return winner == null;
     }
 
     /**
-     * Stops the game loop and sets the game as not running.
+     * Stops the game loop, sets the game as not running and closes its journal, if any.
      */
-    private void stopGameLoop() {
+    @Override
+    public void stop() {
         if (timer != null && timer.isRunning()) {
             timer.stop();
         }
         game.setRunning(false);
+        IGameJournal journal = game.getJournal();
+        if (journal != null) {
+            journal.close();
+        }
+        NodeMetrics.getInstance().unregister(metrics);
+    }
+
+    /**
+     * @return tick statistics of this loop, readable while it runs
+     */
+    public TickMetrics getMetrics() {
+        return metrics;
     }
 }
@@ -0,0 +1,128 @@
+package game;
+
+import board.BoardConfig;
+import interfaces.IClock;
+import interfaces.IGame;
+import player.PlayerFactory;
+import utils.TickClock;
+
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Pool of finished games, reused for the next match instead of building a new one.
+ * <p>
+ * A new game allocates its pieces with their state machines, physics and graphics, the players
+ * and the board arrays, all of which become garbage when the game ends. A server pairing many
+ * short matches turns that into bursts of young-generation collections. A released game is kept
+ * instead, and {@link #acquire(String[])} resets it in place to the start layout of
+ * {@code board.csv}: the same pieces go back to their starting squares and initial state.
+ * </p>
+ * <p>
+ * Games are reset when acquired rather than when released, so their opening rest starts with
+ * the new match. Each game keeps the clock its pieces were created with; a {@link TickClock} is
+ * moved back to tick 0 first. The most recently released game is reused first, and at most
+ * {@code maxIdle} games are kept; more are left to the garbage collector.
+ * </p>
+ * <p>
+ * The pool is thread-safe. A released game must no longer be updated by anyone.
+ * </p>
+ */
+public class GamePool {
+
+    private final BoardConfig boardConfig;
+    private final Supplier<IClock> clocks;
+    private final int maxIdle;
+
+    /** Released games, most recent first. */
+    private final Deque<IGame> idle = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong reused = new AtomicLong();
+
+    /**
+     * Creates an empty pool.
+     *
+     * @param boardConfig board configuration of the games
+     * @param clocks      supplies the game clock of each new game, e.g. {@code SystemClock::getInstance}
+     * @param maxIdle     maximum number of released games kept; 0 disables reuse
+     */
+    public GamePool(BoardConfig boardConfig, Supplier<IClock> clocks, int maxIdle) {
+        if (maxIdle < 0) throw new IllegalArgumentException("maxIdle must be >= 0");
+        this.boardConfig = Objects.requireNonNull(boardConfig);
+        this.clocks = Objects.requireNonNull(clocks);
+        this.maxIdle = maxIdle;
+    }
+
+    /**
+     * Returns a game in its starting position for the given players: a released one reset in place
+     * if any, otherwise a new one. Its game clock is {@link IGame#getClock()}.
+     *
+     * @param names the player names, one per seat
+     * @return a stopped game ready to be started by a game loop
+     */
+    public IGame acquire(String[] names) {
+        IGame game = idle.pollFirst();
+        if (game == null) {
+            created.incrementAndGet();
+            IClock clock = clocks.get();
+            return GameFactory.createNewGame(boardConfig,
+                    PlayerFactory.createPlayers(names, boardConfig, clock), clock);
+        }
+
+        idleCount.decrementAndGet();
+        reused.incrementAndGet();
+        // Piece states restart at the clock's current time
+        if (game.getClock() instanceof TickClock tickClock) {
+            tickClock.reset();
+        }
+        game.reset();
+        for (int i = 0; i < names.length; i++) {
+            game.setPlayerName(i, names[i]);
+        }
+        return game;
+    }
+
+    /**
+     * Hands a finished game back for reuse.
+     *
+     * @param game a stopped game acquired from this pool
+     * @return true if the game is kept, false if the pool is full
+     * @throws IllegalStateException if the game is still running
+     */
+    public boolean release(IGame game) {
+        if (game.isRunning()) throw new IllegalStateException("Cannot release a running game");
+        if (idleCount.incrementAndGet() > maxIdle) {
+            idleCount.decrementAndGet();
+            return false;
+        }
+        idle.offerFirst(game);
+        return true;
+    }
+
+    /**
+     * @return number of released games waiting to be reused
+     */
+    public int getIdleCount() {
+        return idleCount.get();
+    }
+
+    /**
+     * @return number of games built by this pool
+     */
+    public long getCreatedCount() {
+        return created.get();
+    }
+
+    /**
+     * @return number of acquisitions served by a released game
+     */
+    public long getReusedCount() {
+        return reused.get();
+    }
+}
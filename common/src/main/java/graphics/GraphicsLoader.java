@@ -8,7 +8,9 @@ import utils.Slf4jAdapter;
 import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utility class for loading and caching piece sprite images.
@@ -18,8 +20,8 @@ public class GraphicsLoader {
 
     private static final AppLogger logger = new Slf4jAdapter(GraphicsLoader.class);
 
-    /** Cache to prevent reloading the same image multiple times. */
-    private static final Map<String, BufferedImage> cache = new HashMap<>();
+    /** Cache to prevent reloading the same image multiple times; shared by all games of a server. */
+    private static final Map<String, BufferedImage> cache = new ConcurrentHashMap<>();
 
     /**
      * Loads a single sprite image for a given piece type, player, state, and frame index (1-based).
@@ -34,15 +36,18 @@ public class GraphicsLoader {
         String path = String.format("/pieces/%s/states/%s/sprites/sprites%d/%d.png",
                 pieceType.getVal(), stateName, player, frameIndex);
 
-        if (cache.containsKey(path)) return cache.get(path);
+        BufferedImage cached = cache.get(path);
+        if (cached != null) return cached;
 
-        try {
-            BufferedImage image = ImageIO.read(
-                    Objects.requireNonNull(GraphicsLoader.class.getResourceAsStream(path))
-            );
+        try (InputStream in = GraphicsLoader.class.getResourceAsStream(path)) {
+            // A missing frame ends the sequence probed by loadAllSprites; not an error
+            if (in == null) return null;
+
+            BufferedImage image = ImageIO.read(in);
+            if (image == null) throw new IOException("Unsupported image format");
             cache.put(path, image);
             return image;
-        } catch (IOException | IllegalArgumentException | NullPointerException e) {
+        } catch (IOException | IllegalArgumentException e) {
             logger.error("Failed to load sprite: " + path, e);
             return null;
         }
@@ -1,6 +1,7 @@
 package interfaces;
 
 import board.BoardConfig;
+import board.BoardSnapshot;
 import pieces.Position;
 
 import java.io.Serializable;
@@ -20,6 +21,15 @@ public interface IBoard extends Serializable {
      */
     boolean hasPiece(Position pos);
 
+    /**
+     * Checks if a piece exists at the given square, without allocating a position.
+     *
+     * @param row row of the square, in bounds
+     * @param col column of the square, in bounds
+     * @return true if a piece exists at the square, false otherwise
+     */
+    boolean hasPiece(int row, int col);
+
     /**
      * Checks if a piece exists at the given position
      * or if the position is marked as a valid target.
@@ -62,8 +72,10 @@ public interface IBoard extends Serializable {
 
     /**
      * Updates all pieces on the board and handles any required board state changes.
+     *
+     * @return number of pieces updated
      */
-    void updateAll();
+    int updateAll();
 
     /**
      * Checks whether a given position is within the board boundaries.
@@ -138,4 +150,52 @@ public interface IBoard extends Serializable {
      * @return IBoardEngine instance
      */
     IBoardEngine getBoardRulesEngine();
+
+    /**
+     * Returns the Zobrist hash of the position: each piece's type, owner, square and coarse state,
+     * and the squares pieces are moving to. Equal positions hash equally in every process.
+     *
+     * @return the position hash
+     */
+    long getHash();
+
+    /**
+     * Returns the board to the start of a game in place: the players are reset and their initial
+     * pieces put back on their starting squares, and no square is targeted.
+     * Must be called by the thread updating the board, or while no thread updates it.
+     */
+    void reset();
+
+    /**
+     * Captures the current board into an immutable snapshot and publishes it to readers.
+     * Must be called by the thread updating the board, once its update is complete.
+     *
+     * @param tick the game tick being published
+     * @return the published snapshot
+     */
+    BoardSnapshot publishSnapshot(long tick);
+
+    /**
+     * Publishes a new snapshot, as {@link #publishSnapshot(long)}, only if the latest one has been
+     * read since it was published, so boards without readers (e.g. headless server games) do not
+     * allocate one per tick. Must be called by the thread updating the board.
+     *
+     * @param tick the game tick being published
+     */
+    void refreshSnapshot(long tick);
+
+    /**
+     * Returns the most recently published snapshot. Safe to call from any thread; reading it
+     * asks for a fresh snapshot on the next {@link #refreshSnapshot(long)}.
+     * <p>
+     * Snapshots are only refreshed after a read, so the one returned is taken at the first
+     * refresh after the previous read. A reader polling every tick lags one tick at most,
+     * but the first read after a stretch without reads returns a snapshot as old as that
+     * stretch. Readers that need the current board compare {@link BoardSnapshot#tick()} with
+     * the game's tick and read again once a refresh has run.
+     * </p>
+     *
+     * @return the latest snapshot
+     */
+    BoardSnapshot getSnapshot();
 }
@@ -0,0 +1,37 @@
+package interfaces;
+
+import pieces.Position;
+
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+/**
+ * A player controlled by the program rather than by selections.
+ * <p>
+ * The game asks every bot for an asynchronous decision once per update, on the thread that
+ * updates the board, after the selections of human players have been applied. The bot copies what
+ * it needs from the board there and searches elsewhere; its action comes back as selections, like
+ * a human player's, applied on a later update.
+ * </p>
+ */
+public interface IBotPlayer extends IPlayer {
+
+    /**
+     * Decides the bot's next action on the calling thread, if any.
+     *
+     * @param board the game board
+     * @param now   current game-clock time in nanoseconds
+     * @return the command to execute this update, empty to do nothing
+     */
+    Optional<ICommand> decide(IBoard board, long now);
+
+    /**
+     * Starts a decision off the calling thread, if one is due. The board is only read before this
+     * method returns; {@code act} may be called later, from another thread.
+     *
+     * @param board the game board
+     * @param now   current game-clock time in nanoseconds
+     * @param act   receives the source and target squares of the chosen action, equal for a jump
+     */
+    void decideAsync(IBoard board, long now, BiConsumer<Position, Position> act);
+}
@@ -0,0 +1,19 @@
+package interfaces;
+
+/**
+ * Source of the monotonic time, in nanoseconds, that drives a game.
+ * <p>
+ * All game timestamps (start time, state start times, action deadlines) are expressed
+ * in the time base of the game's clock, so a client that shares the server's clock
+ * computes the same deadlines as the server.
+ * </p>
+ */
+public interface IClock {
+
+    /**
+     * Returns the current time of this clock.
+     *
+     * @return Current time in nanoseconds
+     */
+    long nanoTime();
+}
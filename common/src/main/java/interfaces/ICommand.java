@@ -1,5 +1,9 @@
 package interfaces;
 
+import journal.JournalEntry;
+
+import java.util.Optional;
+
 /**
  * Interface representing a command in the game using the Command Pattern.
  * Commands encapsulate actions that can be executed.
@@ -10,4 +14,14 @@ public interface ICommand {
      * Executes the encapsulated command action.
      */
     void execute();
+
+    /**
+     * Describes this command for the game journal once it has been executed.
+     *
+     * @param tick the tick the command was executed in
+     * @return the journal entry, or empty if the command was rejected or is not journaled
+     */
+    default Optional<JournalEntry> toJournalEntry(long tick) {
+        return Optional.empty();
+    }
 }
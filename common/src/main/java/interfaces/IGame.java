@@ -8,7 +8,8 @@ import pieces.Position;
 public interface IGame {
 
     /**
-     * Executes all queued commands and updates the game state.
+     * Updates the game state, applies all selections received since the last update
+     * and executes the resulting commands.
      */
     void update();
 
@@ -29,6 +30,7 @@ public interface IGame {
 
     /**
      * Handles a selection action from a player.
+     * The selection is queued and applied on the next {@link #update()}.
      *
      * @param player   The player making the selection
      * @param selected The selected position on the board
@@ -43,6 +45,14 @@ public interface IGame {
      */
     void handleSelection(int playerId, Position selected);
 
+    /**
+     * Discards the pending selection of a player.
+     * Queued like a selection, so it is applied in order with them on the next {@link #update()}.
+     *
+     * @param playerId The player's ID
+     */
+    void clearSelection(int playerId);
+
     /**
      * Returns the winning player.
      *
@@ -99,4 +109,42 @@ public interface IGame {
      * @param startTimeNano Start time in nanoseconds
      */
     void setStartTimeNano(long startTimeNano);
+
+    /**
+     * @return number of commands executed by the last {@link #update()}
+     */
+    int getLastCommandCount();
+
+    /**
+     * @return number of pieces updated by the last {@link #update()}
+     */
+    int getLastUpdatedPieceCount();
+
+    /**
+     * @return number of {@link #update()} calls so far; the tick journaled commands are stamped with
+     */
+    long getTick();
+
+    /**
+     * Sets the journal that records the commands accepted from now on.
+     *
+     * @param journal the journal, or null to stop journaling
+     */
+    void setJournal(IGameJournal journal);
+
+    /**
+     * @return the journal of this game, or null if it has none
+     */
+    IGameJournal getJournal();
+
+    /**
+     * @return the game clock this game and its pieces are timed by
+     */
+    IClock getClock();
+
+    /**
+     * Returns a stopped game to its starting position in place, reusing its board, players and
+     * pieces, so it can be played again without allocating a new game.
+     */
+    void reset();
 }
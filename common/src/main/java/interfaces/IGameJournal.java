@@ -0,0 +1,27 @@
+package interfaces;
+
+import journal.JournalEntry;
+
+import java.util.List;
+
+/**
+ * Sink for the commands accepted by a game, grouped by tick.
+ */
+public interface IGameJournal extends AutoCloseable {
+
+    /**
+     * Records the commands accepted during one tick. Called on the tick thread, so
+     * implementations must return without blocking on I/O. The list may be reused by
+     * the caller once this method returns.
+     *
+     * @param tick    the tick the commands were executed in
+     * @param entries the accepted commands, in execution order
+     */
+    void appendTick(long tick, List<JournalEntry> entries);
+
+    /**
+     * Stops accepting entries and releases the journal once pending entries are written.
+     */
+    @Override
+    void close();
+}
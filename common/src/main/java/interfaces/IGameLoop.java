@@ -12,4 +12,9 @@ public interface IGameLoop extends Runnable {
      */
     @Override
     void run();
+
+    /**
+     * Stops the loop; the game is marked as not running.
+     */
+    void stop();
 }
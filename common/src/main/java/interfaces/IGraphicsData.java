@@ -7,7 +7,10 @@ import java.awt.image.BufferedImage;
  */
 public interface IGraphicsData {
 
-    /** Resets the animation to the initial frame and state. */
+    /**
+     * Resets the animation to the initial frame. Does not read any clock; callers set the
+     * frame timestamp with {@link #setLastFrameTimeNanos(long)}.
+     */
     void reset();
 
     /**
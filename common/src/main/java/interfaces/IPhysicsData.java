@@ -34,6 +34,28 @@ public interface IPhysicsData {
     /** Returns true if the movement action is finished. */
     boolean isActionFinished(long now);
 
+    /**
+     * Returns the time the current action started, as given to {@link #reset}.
+     *
+     * @return start time in nanoseconds
+     */
+    long getStartTimeNanos();
+
+    /**
+     * Returns the duration of the current action, fixed when it was reset.
+     *
+     * @return duration in nanoseconds, or {@link Long#MAX_VALUE} if the action never finishes
+     */
+    long getDurationNanos();
+
+    /**
+     * Returns the duration of the current action in whole ticks of a fixed-timestep clock.
+     *
+     * @param tickNanos tick length in nanoseconds
+     * @return the duration rounded up to whole ticks, or {@link Long#MAX_VALUE} if it never finishes
+     */
+    long getDurationTicks(long tickNanos);
+
     /** Gets current X position in pixels (screen coordinates). */
     double getCurrentX();
 
@@ -37,6 +37,14 @@ public interface IPiece extends Serializable {
     /** Marks this piece as captured. */
     void markCaptured();
 
+    /**
+     * Puts this piece back in play on the given square, in its initial state restarted now and
+     * not yet moved, so a finished game can be set up again without creating new pieces.
+     *
+     * @param start the starting square
+     */
+    void reset(Position start);
+
     /** Retrieves the list of legal moves for this piece. */
     List<Move> getMoves();
 
@@ -39,6 +39,9 @@ public interface IPlayer extends Serializable {
      */
     Optional<ICommand> handleSelection(IBoard board, Position selected);
 
+    /** Discards a pending (first-click) selection, if any. */
+    void clearSelection();
+
     /** Returns the player's current score. */
     int getScore();
 
@@ -56,4 +59,10 @@ public interface IPlayer extends Serializable {
 
     /** Sets the player's display name. */
     void setName(String name);
+
+    /**
+     * Returns the player to the start of a game: the initial pieces back on their starting squares,
+     * full score and no pending selection. The name is kept.
+     */
+    void reset();
 }
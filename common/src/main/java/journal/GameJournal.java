@@ -0,0 +1,385 @@
+package journal;
+
+import interfaces.AppLogger;
+import interfaces.IGameJournal;
+import pieces.Position;
+import utils.Slf4jAdapter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only binary journal of the commands accepted by one game.
+ * <p>
+ * The journal is a sequence of segment files {@code <name>.<index>.kfj}. Each segment starts with
+ * a header (magic, format version, segment index) followed by one frame per tick:
+ * </p>
+ * <pre>
+ *   int   payload length
+ *   long  tick
+ *   short entry count
+ *   count x (byte player, byte kind, byte fromRow, byte fromCol, byte toRow, byte toCol)
+ *   int   CRC32C of the payload
+ * </pre>
+ * <p>
+ * The tick thread only encodes its batch into a byte array; buffering and file I/O run on a
+ * single writer thread shared by all journals. Frames are flushed to the file channel whenever
+ * the writer catches up, and forced to disk when a segment is rolled over or the journal is
+ * closed. A crash can therefore only leave a torn last frame, which {@link JournalReader} detects
+ * by its length or checksum and ignores; a reopened journal always starts a new segment, so
+ * nothing is ever appended after a torn frame.
+ * </p>
+ */
+public class GameJournal implements IGameJournal {
+
+    private static final AppLogger logger = new Slf4jAdapter(GameJournal.class);
+
+    /** File name extension of journal segments. */
+    public static final String EXTENSION = ".kfj";
+
+    /** Default maximum size of a segment before rolling over to the next one: 8 MiB. */
+    public static final long DEFAULT_SEGMENT_BYTES = 8L * 1024 * 1024;
+
+    /** "KFJ1" */
+    static final int MAGIC = 0x4B464A31;
+    static final short VERSION = 1;
+
+    /** Segment header: magic, version, segment index. */
+    static final int HEADER_BYTES = 4 + 2 + 4;
+
+    /** Payload bytes of a frame besides its entries: tick and entry count. */
+    static final int PAYLOAD_HEADER_BYTES = 8 + 2;
+
+    /** Encoded size of one entry. */
+    static final int ENTRY_BYTES = 6;
+
+    /** Size of the write buffer of each journal. */
+    private static final int BUFFER_BYTES = 64 * 1024;
+
+    /** Single writer thread shared by all journals of the process. */
+    private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "game-journal");
+        t.setDaemon(true);
+        return t;
+    });
+
+    /** Journals not closed yet, closed by the shutdown hook so their buffered frames are not lost. */
+    private static final Set<GameJournal> OPEN = ConcurrentHashMap.newKeySet();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(GameJournal::closeAll, "game-journal-shutdown"));
+    }
+
+    private final Path dir;
+    private final String name;
+    private final long segmentBytes;
+
+    /** Frames submitted to the writer and not yet buffered. */
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+    private final CompletableFuture<Void> closedFuture = new CompletableFuture<>();
+
+    // Owned by the writer thread after construction
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+    private FileChannel channel;
+    private int segmentIndex;
+    private long segmentSize;
+
+    /**
+     * Opens a journal with the default segment size.
+     *
+     * @param dir  directory holding the segments; created if missing
+     * @param name journal name, used as segment file name prefix
+     * @throws IOException if the first segment cannot be created
+     */
+    public GameJournal(Path dir, String name) throws IOException {
+        this(dir, name, DEFAULT_SEGMENT_BYTES);
+    }
+
+    /**
+     * Opens a journal. If segments with the same name exist, writing continues in a new segment.
+     *
+     * @param dir          directory holding the segments; created if missing
+     * @param name         journal name, used as segment file name prefix
+     * @param segmentBytes size after which a new segment is started
+     * @throws IOException if the first segment cannot be created
+     */
+    public GameJournal(Path dir, String name, long segmentBytes) throws IOException {
+        if (segmentBytes <= HEADER_BYTES) {
+            throw new IllegalArgumentException("Segment size too small: " + segmentBytes);
+        }
+        this.dir = dir;
+        this.name = name;
+        this.segmentBytes = segmentBytes;
+
+        Files.createDirectories(dir);
+        List<Path> existing = segments(dir, name);
+        int next = existing.isEmpty() ? 0 : segmentIndex(existing.get(existing.size() - 1), name) + 1;
+        openSegment(next);
+        OPEN.add(this);
+    }
+
+    /**
+     * Encodes the tick's entries and queues them for the writer thread.
+     */
+    @Override
+    public void appendTick(long tick, List<JournalEntry> entries) {
+        if (entries.isEmpty() || closed.get()) return;
+
+        byte[] frame = encode(tick, entries);
+        pending.incrementAndGet();
+        try {
+            WRITER.execute(() -> write(frame));
+        } catch (RejectedExecutionException e) {
+            // The process is shutting down
+            pending.decrementAndGet();
+        }
+    }
+
+    /**
+     * Closes the journal without waiting for pending frames to be written.
+     */
+    @Override
+    public void close() {
+        closeAsync();
+    }
+
+    /**
+     * Closes the journal once pending frames are written and forced to disk.
+     *
+     * @return a future completed when the last segment is closed
+     */
+    public CompletableFuture<Void> closeAsync() {
+        if (closed.compareAndSet(false, true)) {
+            OPEN.remove(this);
+            try {
+                WRITER.execute(this::closeNow);
+            } catch (RejectedExecutionException e) {
+                closeNow();
+            }
+        }
+        return closedFuture;
+    }
+
+    /**
+     * @return the journal name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the directory holding the segments
+     */
+    public Path getDir() {
+        return dir;
+    }
+
+    // ---------------------- Encoding ----------------------
+
+    /**
+     * Encodes one tick frame.
+     *
+     * @param tick    the tick
+     * @param entries the tick's entries
+     * @return the frame bytes
+     */
+    static byte[] encode(long tick, List<JournalEntry> entries) {
+        if (entries.size() > 0xFFFF) {
+            throw new IllegalArgumentException("Too many entries in one tick: " + entries.size());
+        }
+        int payload = PAYLOAD_HEADER_BYTES + entries.size() * ENTRY_BYTES;
+        ByteBuffer frame = ByteBuffer.allocate(4 + payload + 4);
+        frame.putInt(payload).putLong(tick).putShort((short) entries.size());
+        for (JournalEntry e : entries) {
+            Position from = e.from();
+            Position to = e.to();
+            frame.put((byte) e.player()).put((byte) e.kind().ordinal())
+                    .put((byte) from.getRow()).put((byte) from.getCol())
+                    .put((byte) to.getRow()).put((byte) to.getCol());
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(frame.array(), 4, payload);
+        frame.putInt((int) crc.getValue());
+        return frame.array();
+    }
+
+    // ---------------------- Writer Thread ----------------------
+
+    /**
+     * Buffers a frame, rolling over first if it would overflow the segment,
+     * and flushes the buffer once no more frames are pending.
+     */
+    private void write(byte[] frame) {
+        try {
+            if (channel == null) return; // failed earlier
+            if (segmentSize + frame.length > segmentBytes && segmentSize > HEADER_BYTES) {
+                rollOver();
+            }
+            if (frame.length > buffer.remaining()) {
+                flushBuffer();
+            }
+            if (frame.length > buffer.capacity()) {
+                writeFully(ByteBuffer.wrap(frame));
+            } else {
+                buffer.put(frame);
+            }
+            segmentSize += frame.length;
+        } catch (IOException e) {
+            fail(e);
+        } finally {
+            if (pending.decrementAndGet() == 0 && channel != null) {
+                try {
+                    flushBuffer();
+                } catch (IOException e) {
+                    fail(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Flushes, forces and closes the current segment.
+     */
+    private void closeNow() {
+        try {
+            if (channel != null) {
+                flushBuffer();
+                channel.force(true);
+                channel.close();
+                channel = null;
+            }
+            closedFuture.complete(null);
+        } catch (IOException e) {
+            fail(e);
+            closedFuture.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Finishes the current segment and starts the next one.
+     */
+    private void rollOver() throws IOException {
+        flushBuffer();
+        channel.force(true);
+        channel.close();
+        openSegment(segmentIndex + 1);
+    }
+
+    private void openSegment(int index) throws IOException {
+        channel = FileChannel.open(segmentPath(dir, name, index),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        segmentIndex = index;
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putInt(MAGIC).putShort(VERSION).putInt(index).flip();
+        writeFully(header);
+        segmentSize = HEADER_BYTES;
+    }
+
+    private void flushBuffer() throws IOException {
+        buffer.flip();
+        writeFully(buffer);
+        buffer.clear();
+    }
+
+    private void writeFully(ByteBuffer src) throws IOException {
+        while (src.hasRemaining()) {
+            channel.write(src);
+        }
+    }
+
+    /**
+     * Stops journaling after an I/O error; the game itself carries on.
+     */
+    private void fail(IOException e) {
+        logger.error("Game journal " + name + " failed; no further commands are recorded", e);
+        closed.set(true);
+        OPEN.remove(this);
+        buffer.clear();
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // already failing
+            }
+            channel = null;
+        }
+    }
+
+    /**
+     * Closes all open journals and waits briefly for the writer to finish.
+     */
+    private static void closeAll() {
+        for (GameJournal journal : OPEN) {
+            journal.closeAsync();
+        }
+        WRITER.shutdown();
+        try {
+            WRITER.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ---------------------- Segment Files ----------------------
+
+    /**
+     * Returns the path of a segment.
+     *
+     * @param dir   journal directory
+     * @param name  journal name
+     * @param index segment index
+     * @return the segment path
+     */
+    static Path segmentPath(Path dir, String name, int index) {
+        return dir.resolve(String.format("%s.%05d%s", name, index, EXTENSION));
+    }
+
+    /**
+     * Lists the segments of a journal in index order.
+     *
+     * @param dir  journal directory
+     * @param name journal name
+     * @return the segment paths, empty if the journal does not exist
+     * @throws IOException if the directory cannot be listed
+     */
+    static List<Path> segments(Path dir, String name) throws IOException {
+        if (!Files.isDirectory(dir)) return List.of();
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(p -> segmentIndex(p, name) >= 0)
+                    .sorted((a, b) -> Integer.compare(segmentIndex(a, name), segmentIndex(b, name)))
+                    .toList();
+        }
+    }
+
+    /**
+     * Parses the segment index from a segment file name.
+     *
+     * @return the index, or -1 if the file is not a segment of the named journal
+     */
+    static int segmentIndex(Path file, String name) {
+        String fileName = file.getFileName().toString();
+        String prefix = name + ".";
+        if (!fileName.startsWith(prefix) || !fileName.endsWith(EXTENSION)) return -1;
+        String index = fileName.substring(prefix.length(), fileName.length() - EXTENSION.length());
+        if (index.isEmpty() || !index.chars().allMatch(Character::isDigit)) return -1;
+        return Integer.parseInt(index);
+    }
+}
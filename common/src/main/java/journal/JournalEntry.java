@@ -0,0 +1,23 @@
+package journal;
+
+import pieces.Position;
+
+/**
+ * One accepted command as recorded in a game journal.
+ *
+ * @param tick   game update in which the command was executed, starting at 1
+ * @param player ID of the player owning the command's piece
+ * @param kind   kind of command
+ * @param from   square of the piece when the command was executed
+ * @param to     destination square; equal to {@code from} for jumps
+ */
+public record JournalEntry(long tick, int player, Kind kind, Position from, Position to) {
+
+    /**
+     * Kinds of journaled commands.
+     */
+    public enum Kind {
+        MOVE,
+        JUMP
+    }
+}
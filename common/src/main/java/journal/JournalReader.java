@@ -0,0 +1,113 @@
+package journal;
+
+import pieces.Position;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Reads the entries of a journal written by {@link GameJournal}.
+ * <p>
+ * Reading a segment stops at the first frame that is incomplete or fails its checksum,
+ * which is where a crash may have cut the segment short.
+ * </p>
+ */
+public final class JournalReader {
+
+    private static final JournalEntry.Kind[] KINDS = JournalEntry.Kind.values();
+
+    // Private constructor to prevent instantiation
+    private JournalReader() {}
+
+    /**
+     * Lists the names of the journals stored in a directory.
+     *
+     * @param dir journal directory
+     * @return the journal names in alphabetical order; empty if the directory does not exist
+     * @throws IOException if the directory cannot be listed
+     */
+    public static List<String> list(Path dir) throws IOException {
+        if (!Files.isDirectory(dir)) return List.of();
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.map(p -> p.getFileName().toString())
+                    .filter(f -> f.endsWith(GameJournal.EXTENSION))
+                    .map(f -> f.substring(0, f.length() - GameJournal.EXTENSION.length()))
+                    .filter(f -> f.lastIndexOf('.') > 0)
+                    .map(f -> f.substring(0, f.lastIndexOf('.')))
+                    .distinct()
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    /**
+     * Reads all entries of a journal, across its segments, in tick order.
+     *
+     * @param dir  journal directory
+     * @param name journal name
+     * @return the entries; empty if the journal does not exist
+     * @throws IOException if a segment cannot be read or is not a journal segment
+     */
+    public static List<JournalEntry> read(Path dir, String name) throws IOException {
+        List<JournalEntry> entries = new ArrayList<>();
+        for (Path segment : GameJournal.segments(dir, name)) {
+            readSegment(segment, entries);
+        }
+        return entries;
+    }
+
+    /**
+     * Reads the valid frames of one segment.
+     *
+     * @param segment the segment file
+     * @param out     list the entries are appended to
+     * @return true if the whole segment was valid, false if it ended in a torn frame
+     * @throws IOException if the file cannot be read or has no valid header
+     */
+    public static boolean readSegment(Path segment, List<JournalEntry> out) throws IOException {
+        ByteBuffer in = ByteBuffer.wrap(Files.readAllBytes(segment));
+        if (in.remaining() < GameJournal.HEADER_BYTES
+                || in.getInt() != GameJournal.MAGIC
+                || in.getShort() != GameJournal.VERSION) {
+            throw new IOException("Not a game journal segment: " + segment);
+        }
+        in.getInt(); // segment index
+
+        CRC32C crc = new CRC32C();
+        while (in.remaining() >= 4) {
+            int payload = in.getInt();
+            if (payload < GameJournal.PAYLOAD_HEADER_BYTES
+                    || (payload - GameJournal.PAYLOAD_HEADER_BYTES) % GameJournal.ENTRY_BYTES != 0
+                    || in.remaining() < payload + 4) {
+                return false;
+            }
+
+            crc.reset();
+            crc.update(in.array(), in.position(), payload);
+            if ((int) crc.getValue() != in.getInt(in.position() + payload)) {
+                return false;
+            }
+
+            long tick = in.getLong();
+            int count = Short.toUnsignedInt(in.getShort());
+            if (count * GameJournal.ENTRY_BYTES != payload - GameJournal.PAYLOAD_HEADER_BYTES) {
+                return false;
+            }
+            for (int i = 0; i < count; i++) {
+                int player = in.get();
+                JournalEntry.Kind kind = KINDS[in.get()];
+                Position from = new Position(in.get(), in.get());
+                Position to = new Position(in.get(), in.get());
+                out.add(new JournalEntry(tick, player, kind, from, to));
+            }
+            in.getInt(); // checksum
+        }
+        return !in.hasRemaining();
+    }
+}
@@ -0,0 +1,182 @@
+package metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of non-negative long values (typically nanoseconds or counts).
+ * <p>
+ * Values are counted in log-linear buckets: each power of two is split into
+ * {@value #SUB_BUCKETS} equal sub-buckets, so any recorded value is reported with
+ * a relative error of at most 12.5% while the whole range of {@code long} fits in
+ * fewer than 500 counters. Recording is a handful of atomic increments and never
+ * allocates, so it can be called from tick and I/O threads concurrently.
+ * </p>
+ * <p>
+ * Reads are not atomic with respect to concurrent writes; a {@link #snapshot()} taken
+ * while values are recorded may miss the most recent ones, which is fine for monitoring.
+ * </p>
+ */
+public class Histogram {
+
+    /** Bits of a value kept below its leading one bit. */
+    private static final int SUB_BITS = 3;
+
+    /** Number of sub-buckets per power of two. */
+    public static final int SUB_BUCKETS = 1 << SUB_BITS;
+
+    /** Number of buckets needed to cover every non-negative long. */
+    static final int BUCKET_COUNT = (63 - SUB_BITS + 1) * SUB_BUCKETS + SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records one value. Negative values are recorded as zero.
+     *
+     * @param value the value to record
+     */
+    public void record(long value) {
+        long v = Math.max(0, value);
+        counts.incrementAndGet(bucketOf(v));
+        count.incrementAndGet();
+        sum.addAndGet(v);
+
+        long m;
+        while (v > (m = max.get())) {
+            if (max.compareAndSet(m, v)) break;
+        }
+    }
+
+    /**
+     * Clears all recorded values.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        count.set(0);
+        sum.set(0);
+        max.set(0);
+    }
+
+    /**
+     * @return number of recorded values
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * @return sum of recorded values
+     */
+    public long getSum() {
+        return sum.get();
+    }
+
+    /**
+     * @return largest recorded value, or 0 if none
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Copies the current counters.
+     *
+     * @return a consistent-enough view of the recorded distribution
+     */
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.get(i);
+        }
+        return new Snapshot(copy, count.get(), sum.get(), max.get());
+    }
+
+    // ---------------------- Buckets ----------------------
+
+    /**
+     * Returns the bucket index of a non-negative value.
+     */
+    static int bucketOf(long v) {
+        if (v < SUB_BUCKETS) return (int) v;
+        int exp = 63 - Long.numberOfLeadingZeros(v);
+        int sub = (int) (v >>> (exp - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return (exp - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * Returns the smallest value counted in the given bucket.
+     */
+    static long lowerBound(int bucket) {
+        if (bucket < SUB_BUCKETS) return bucket;
+        int exp = bucket / SUB_BUCKETS + SUB_BITS - 1;
+        long sub = bucket % SUB_BUCKETS;
+        return (SUB_BUCKETS + sub) << (exp - SUB_BITS);
+    }
+
+    /**
+     * Returns the largest value counted in the given bucket.
+     */
+    static long upperBound(int bucket) {
+        return bucket == BUCKET_COUNT - 1 ? Long.MAX_VALUE : lowerBound(bucket + 1) - 1;
+    }
+
+    // ---------------------- Snapshot ----------------------
+
+    /**
+     * Immutable copy of a histogram's counters.
+     *
+     * @param counts per-bucket counts
+     * @param count  number of values
+     * @param sum    sum of values
+     * @param max    largest value
+     */
+    public record Snapshot(long[] counts, long count, long sum, long max) {
+
+        /**
+         * @return average value, or 0 if empty
+         */
+        public double mean() {
+            return count == 0 ? 0 : (double) sum / count;
+        }
+
+        /**
+         * Returns an upper estimate of the given percentile: the upper bound of the bucket
+         * holding it, capped at the recorded maximum.
+         *
+         * @param percentile percentile in [0, 100]
+         * @return the estimate, or 0 if empty
+         */
+        public long percentile(double percentile) {
+            long total = 0;
+            for (long c : counts) total += c;
+            if (total == 0) return 0;
+
+            long rank = Math.max(1, (long) Math.ceil(total * Math.min(100.0, Math.max(0.0, percentile)) / 100.0));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) return Math.min(upperBound(i), max);
+            }
+            return max;
+        }
+
+        /**
+         * Returns the distribution of values recorded after {@code earlier} was taken.
+         *
+         * @param earlier an older snapshot of the same histogram
+         * @return the difference; its max is this snapshot's max
+         */
+        public Snapshot minus(Snapshot earlier) {
+            long[] diff = new long[counts.length];
+            for (int i = 0; i < counts.length; i++) {
+                diff[i] = counts[i] - earlier.counts[i];
+            }
+            return new Snapshot(diff, count - earlier.count, sum - earlier.sum, max);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package metrics;
+
+import constants.GameConstants;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Process-wide registry of game-loop metrics: one {@link TickMetrics} per running game,
+ * plus an aggregate over every tick of every game on this node.
+ * All of it can be read while the loops run.
+ */
+public class NodeMetrics {
+
+    private static final NodeMetrics INSTANCE = new NodeMetrics();
+
+    /** Scheduled tick interval of the game loop. */
+    private static final long TICK_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(GameConstants.GAME_LOOP_MS);
+
+    private final TickMetrics nodeTicks = new TickMetrics("node", TICK_BUDGET_NANOS, null);
+
+    private final Map<String, TickMetrics> games = new ConcurrentHashMap<>();
+
+    private final AtomicInteger gameCounter = new AtomicInteger();
+
+    /**
+     * Returns the registry of this process.
+     *
+     * @return the shared instance
+     */
+    public static NodeMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Creates the metrics of a new game; its ticks also count towards the node aggregate.
+     *
+     * @return the game's metrics, not yet registered
+     */
+    public TickMetrics createGameMetrics() {
+        return new TickMetrics("game-" + gameCounter.incrementAndGet(), TICK_BUDGET_NANOS, nodeTicks);
+    }
+
+    /**
+     * Lists a running game's metrics.
+     *
+     * @param metrics the game's metrics
+     */
+    public void register(TickMetrics metrics) {
+        games.put(metrics.getId(), metrics);
+    }
+
+    /**
+     * Removes a finished game's metrics. Its ticks stay in the node aggregate.
+     *
+     * @param metrics the game's metrics
+     */
+    public void unregister(TickMetrics metrics) {
+        games.remove(metrics.getId());
+    }
+
+    /**
+     * @return metrics of every registered game (live view)
+     */
+    public Collection<TickMetrics> getGames() {
+        return Collections.unmodifiableCollection(games.values());
+    }
+
+    /**
+     * @return aggregate of every tick of every game since the process started
+     */
+    public TickMetrics getNodeTicks() {
+        return nodeTicks;
+    }
+}
@@ -0,0 +1,150 @@
+package metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Timing and work statistics of a game loop's ticks.
+ * <p>
+ * Written by the loop thread only; every counter is lock-free, so other threads
+ * (monitoring endpoints, tests) can read or {@link #snapshot()} it while the loop runs.
+ * A metrics object created with a parent also records every tick into the parent,
+ * which is how per-node aggregates are built from per-game metrics.
+ * </p>
+ */
+public class TickMetrics {
+
+    private final String id;
+    private final long budgetNanos;
+    private final TickMetrics parent;
+
+    /** Whole tick: win check, update and event publishing. */
+    private final Histogram tickDuration = new Histogram();
+
+    /** {@code game.update()} alone. */
+    private final Histogram updateDuration = new Histogram();
+
+    /** Publishing the tick's events to listeners. */
+    private final Histogram publishDuration = new Histogram();
+
+    /** Distance between the actual and the scheduled interval since the previous tick. */
+    private final Histogram jitter = new Histogram();
+
+    private final Histogram commandsPerTick = new Histogram();
+    private final Histogram piecesPerTick = new Histogram();
+
+    /** Ticks that took longer than the budget. */
+    private final AtomicLong overruns = new AtomicLong();
+
+    /** Start of the previous tick, 0 before the first; loop thread only. */
+    private long previousStart;
+
+    /**
+     * @param id          name used when reporting
+     * @param budgetNanos scheduled interval between ticks; longer ticks count as overruns
+     * @param parent      aggregate that also receives every tick, or null
+     */
+    public TickMetrics(String id, long budgetNanos, TickMetrics parent) {
+        this.id = id;
+        this.budgetNanos = budgetNanos;
+        this.parent = parent;
+    }
+
+    /**
+     * Records one tick.
+     *
+     * @param startNanos   {@link System#nanoTime()} when the tick started
+     * @param updateNanos  time spent in {@code game.update()}
+     * @param publishNanos time spent publishing events
+     * @param totalNanos   time spent in the whole tick
+     * @param commands     commands executed by the update
+     * @param pieces       pieces updated by the update
+     */
+    public void recordTick(long startNanos, long updateNanos, long publishNanos, long totalNanos,
+                           int commands, int pieces) {
+        long jitterNanos = previousStart == 0 ? -1 : Math.abs(startNanos - previousStart - budgetNanos);
+        previousStart = startNanos;
+        record(jitterNanos, updateNanos, publishNanos, totalNanos, commands, pieces);
+    }
+
+    /**
+     * Records a tick whose jitter was already computed (negative when unknown).
+     */
+    private void record(long jitterNanos, long updateNanos, long publishNanos, long totalNanos,
+                        int commands, int pieces) {
+        if (jitterNanos >= 0) jitter.record(jitterNanos);
+        tickDuration.record(totalNanos);
+        updateDuration.record(updateNanos);
+        publishDuration.record(publishNanos);
+        commandsPerTick.record(commands);
+        piecesPerTick.record(pieces);
+        if (totalNanos > budgetNanos) overruns.incrementAndGet();
+
+        if (parent != null) {
+            parent.record(jitterNanos, updateNanos, publishNanos, totalNanos, commands, pieces);
+        }
+    }
+
+    /**
+     * @return name used when reporting
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * @return scheduled interval between ticks in nanoseconds
+     */
+    public long getBudgetNanos() {
+        return budgetNanos;
+    }
+
+    /**
+     * @return number of recorded ticks
+     */
+    public long getTickCount() {
+        return tickDuration.getCount();
+    }
+
+    /**
+     * @return number of ticks longer than the budget
+     */
+    public long getOverrunCount() {
+        return overruns.get();
+    }
+
+    /**
+     * Copies the current statistics.
+     *
+     * @return the snapshot
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(id, overruns.get(),
+                tickDuration.snapshot(), updateDuration.snapshot(), publishDuration.snapshot(),
+                jitter.snapshot(), commandsPerTick.snapshot(), piecesPerTick.snapshot());
+    }
+
+    /**
+     * Point-in-time copy of tick statistics. Durations are in nanoseconds.
+     *
+     * @param id              metrics name
+     * @param overruns        ticks longer than the budget
+     * @param tickDuration    whole-tick durations
+     * @param updateDuration  {@code game.update()} durations
+     * @param publishDuration event publishing durations
+     * @param jitter          deviation of tick intervals from the schedule
+     * @param commandsPerTick commands executed per tick
+     * @param piecesPerTick   pieces updated per tick
+     */
+    public record Snapshot(String id, long overruns,
+                           Histogram.Snapshot tickDuration, Histogram.Snapshot updateDuration,
+                           Histogram.Snapshot publishDuration, Histogram.Snapshot jitter,
+                           Histogram.Snapshot commandsPerTick, Histogram.Snapshot piecesPerTick) {
+
+        /**
+         * @return number of ticks covered
+         */
+        public long ticks() {
+            return tickDuration.count();
+        }
+    }
+}
@@ -1,35 +1,60 @@
 package moves;
 
-import java.util.function.Predicate;
+import interfaces.IPiece;
 
 /**
  * Enum representing various move validation conditions for chess pieces.
  * <p>
- * Each enum value encapsulates a {@link Predicate} that determines whether
- * a move satisfies a specific rule, such as whether it is a capture or a first move.
+ * Each condition is a bit; a move's conditions are compiled into a mask when its move file is
+ * loaded (see {@link Move#conditionMask()}). A legality check computes once which conditions the
+ * situation satisfies — from the moving piece and the occupant of the target square — and a move
+ * is allowed if its mask holds no other bit, so no condition re-reads the board.
  * </p>
  */
 public enum ECondition {
 
     /** Validates that the target square is empty (non-capture move). */
-    NON_CAPTURE(d -> d.board.getPiece(d.to) == null),
+    NON_CAPTURE,
 
     /** Validates that the piece has not moved from its starting position (first move). */
-    FIRST_TIME(d -> d.pieceFrom.isFirstMove()),
+    FIRST_TIME,
 
     /** Validates that the target square contains a piece that can be captured. */
-    CAPTURE(d -> d.board.getPiece(d.to) != null);
+    CAPTURE;
 
-    /** Predicate used to test whether the move satisfies this condition. */
-    private final Predicate<Data> condition;
+    /** Bit of this condition in a condition mask. */
+    private final int bit = 1 << ordinal();
 
     /**
-     * Constructs a move validation condition with the given predicate.
+     * @return the bit of this condition in a condition mask
+     */
+    public int bit() {
+        return bit;
+    }
+
+    /**
+     * Compiles conditions into a mask.
+     *
+     * @param conditions the conditions, or null for none
+     * @return the OR of their bits
+     */
+    public static int maskOf(ECondition[] conditions) {
+        int mask = 0;
+        if (conditions != null) {
+            for (ECondition c : conditions) mask |= c.bit;
+        }
+        return mask;
+    }
+
+    /**
+     * Returns the conditions a move satisfies.
      *
-     * @param condition the predicate defining the validation logic for this condition
+     * @param targetOccupied whether a piece stands on the target square
+     * @param firstMove      whether the moving piece has not moved yet
+     * @return the mask of satisfied conditions
      */
-    ECondition(Predicate<Data> condition) {
-        this.condition = condition;
+    public static int satisfiedBy(boolean targetOccupied, boolean firstMove) {
+        return (targetOccupied ? CAPTURE.bit : NON_CAPTURE.bit) | (firstMove ? FIRST_TIME.bit : 0);
     }
 
     /**
@@ -39,6 +64,7 @@ public enum ECondition {
      * @return true if the move satisfies this condition, false otherwise
      */
     public boolean isCanMove(Data data) {
-        return condition.test(data);
+        IPiece target = data.board.getPiece(data.to);
+        return (satisfiedBy(target != null, data.pieceFrom.isFirstMove()) & bit) != 0;
     }
 }
@@ -7,20 +7,42 @@ package moves;
  * Typically used to define piece movement patterns.
  * </p>
  *
- * @param dx        Change in row (delta x)
- * @param dy        Change in column (delta y)
- * @param condition Array of conditions that must be satisfied for this move
+ * @param dx            Change in row (delta x)
+ * @param dy            Change in column (delta y)
+ * @param condition     Array of conditions that must be satisfied for this move
+ * @param conditionMask The conditions compiled into a mask, see {@link ECondition#maskOf}
  */
-public record Move(int dx, int dy, ECondition[] condition) {
+public record Move(int dx, int dy, ECondition[] condition, int conditionMask) {
 
     /**
-     * Canonical constructor for the Move record.
+     * Checks that the mask is the one compiled from the conditions, so the two never disagree.
+     *
+     * @throws IllegalArgumentException if {@code conditionMask} is not {@code ECondition.maskOf(condition)}
+     */
+    public Move {
+        if (conditionMask != ECondition.maskOf(condition)) {
+            throw new IllegalArgumentException("conditionMask does not match the conditions");
+        }
+    }
+
+    /**
+     * Creates a move, compiling its conditions into a mask.
      *
      * @param dx        Delta row (change in row)
      * @param dy        Delta column (change in column)
-     * @param condition Array of conditions that must be satisfied for this move
+     * @param condition Array of conditions that must be satisfied for this move, or null
      */
-    public Move {
-        // Record canonical constructor; logic is handled by fields.
+    public Move(int dx, int dy, ECondition[] condition) {
+        this(dx, dy, condition, ECondition.maskOf(condition));
+    }
+
+    /**
+     * Checks the move's conditions.
+     *
+     * @param satisfied mask of the conditions the situation satisfies, see {@link ECondition#satisfiedBy}
+     * @return true if every condition of the move is satisfied
+     */
+    public boolean allows(int satisfied) {
+        return (conditionMask & ~satisfied) == 0;
     }
 }
@@ -0,0 +1,204 @@
+package perft;
+
+import board.Board;
+import board.BoardConfig;
+import board.KFCEngine;
+import interfaces.IBoard;
+import interfaces.IBoardEngine;
+import interfaces.IPiece;
+import interfaces.IPlayer;
+import moves.Move;
+import moves.Moves;
+import pieces.EPieceType;
+import pieces.Position;
+import player.PlayerFactory;
+import utils.TickClock;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Perft-style move-generation counter for the KFChess rules.
+ * <p>
+ * Starting from the {@code board.csv} layout, it counts the move sequences of a given length
+ * in which the players alternate, every move being accepted by {@link KFCEngine#isMoveLegal}
+ * under the move sets loaded from {@code pieces/*}{@code /moves*.txt}. KFChess has no turns,
+ * check or timing in this count: pieces are replaced by timeless stand-ins that can always act,
+ * a move lands at once, and capturing a king ends the line. Up to depth 3 the counts equal those
+ * of standard chess; deeper they exceed them, since moving into check is allowed. The counts are
+ * kept as golden values, so an engine change can be checked to be both faster and rule-identical.
+ * </p>
+ * <p>
+ * Moves are made and undone in place on one board; an instance is not thread-safe.
+ * </p>
+ */
+public class Perft {
+
+    /** Expected node counts by depth, from the initial layout with player 0 to move. */
+    private static final long[] GOLDEN = {1, 20, 400, 8902, 197_742, 4_896_998};
+
+    /**
+     * Outcome of one count.
+     *
+     * @param depth        number of plies enumerated
+     * @param nodes        number of leaf positions reached
+     * @param elapsedNanos time the count took
+     */
+    public record Result(int depth, long nodes, long elapsedNanos) {
+
+        /** @return counting throughput in nodes per second */
+        public double nodesPerSecond() {
+            return elapsedNanos == 0 ? 0 : nodes * 1e9 / elapsedNanos;
+        }
+
+        /** @return true if there is no golden value for the depth or the count equals it */
+        public boolean matchesGolden() {
+            long golden = golden(depth);
+            return golden < 0 || golden == nodes;
+        }
+    }
+
+    private final IBoard board;
+    private final IBoardEngine engine;
+    private final int rows;
+    private final int cols;
+
+    /** Squares as positions, {@code row * cols + col}, so enumeration does not allocate them. */
+    private final Position[] squares;
+
+    /** Move set of a queen, by player, given to promoted pawns. */
+    private final List<Move>[] queenMoves;
+
+    /**
+     * Creates a counter on the server's board layout.
+     *
+     * @param bc the board configuration
+     */
+    @SuppressWarnings("unchecked")
+    public Perft(BoardConfig bc) {
+        TickClock clock = TickClock.atGameLoopRate();
+        IPlayer[] players = PlayerFactory.createPlayers(new String[]{"perft-0", "perft-1"}, bc, clock);
+        this.engine = new KFCEngine();
+        this.board = new Board(bc, engine, players, clock);
+        this.rows = board.getRows();
+        this.cols = board.getCols();
+
+        this.squares = new Position[rows * cols];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                Position pos = new Position(r, c);
+                squares[r * cols + c] = pos;
+                IPiece piece = board.getPiece(pos);
+                if (piece != null) {
+                    board.setGrid(pos, new PerftPiece(piece.getType(), piece.getPlayer(), piece.getMoves(), true));
+                }
+            }
+        }
+
+        this.queenMoves = new List[players.length];
+        try {
+            for (int p = 0; p < players.length; p++) {
+                queenMoves[p] = Moves.createMovesList(EPieceType.Q, p);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load queen moves", e);
+        }
+    }
+
+    /**
+     * Returns the golden node count of a depth.
+     *
+     * @param depth number of plies
+     * @return the expected count, or -1 if none is known
+     */
+    public static long golden(int depth) {
+        return depth >= 0 && depth < GOLDEN.length ? GOLDEN[depth] : -1;
+    }
+
+    /**
+     * @return the largest depth with a golden node count
+     */
+    public static int maxGoldenDepth() {
+        return GOLDEN.length - 1;
+    }
+
+    /**
+     * Counts the positions reached after {@code depth} plies, player 0 moving first, and times it.
+     *
+     * @param depth number of plies, at least 0
+     * @return the count and its duration
+     */
+    public Result run(int depth) {
+        if (depth < 0) throw new IllegalArgumentException("depth must be >= 0");
+        long start = System.nanoTime();
+        long nodes = count(depth, 0);
+        return new Result(depth, nodes, System.nanoTime() - start);
+    }
+
+    /**
+     * Counts the leaves of the move tree below the current position.
+     */
+    private long count(int depth, int player) {
+        if (depth == 0) return 1;
+
+        long nodes = 0;
+        for (int from = 0; from < squares.length; from++) {
+            IPiece piece = board.getPiece(squares[from]);
+            if (piece == null || piece.getPlayer() != player) continue;
+
+            List<Move> moves = piece.getMoves();
+            for (int i = 0; i < moves.size(); i++) {
+                Move m = moves.get(i);
+                int row = from / cols + m.dx();
+                int col = from % cols + m.dy();
+                if (row < 0 || row >= rows || col < 0 || col >= cols || isRepeatedDelta(moves, i)) continue;
+
+                int to = row * cols + col;
+                if (!engine.isMoveLegal(board, squares[from], squares[to])) continue;
+
+                nodes += depth == 1 ? 1 : makeCountUndo((PerftPiece) piece, from, to, depth, player);
+            }
+        }
+        return nodes;
+    }
+
+    /**
+     * Plays a move, counts the subtree below it and takes the move back.
+     */
+    private long makeCountUndo(PerftPiece piece, int from, int to, int depth, int player) {
+        IPiece captured = board.getPiece(squares[to]);
+        boolean wasFirstMove = piece.isFirstMove();
+
+        IPiece landed = piece;
+        int lastRow = player == 0 ? rows - 1 : 0;
+        if (piece.getType() == EPieceType.P && to / cols == lastRow) {
+            landed = new PerftPiece(EPieceType.Q, player, queenMoves[player], false);
+        }
+        piece.setFirstMove(false);
+        board.setGrid(squares[from], null);
+        board.setGrid(squares[to], landed);
+
+        long nodes = captured != null && captured.getType() == EPieceType.K
+                ? 1 // the game is over
+                : count(depth - 1, 1 - player);
+
+        board.setGrid(squares[to], captured);
+        board.setGrid(squares[from], piece);
+        piece.setFirstMove(wasFirstMove);
+        return nodes;
+    }
+
+    /**
+     * Move sets may list a delta several times with different conditions (the engine accepts
+     * the move if any entry matches); the destination is counted once.
+     */
+    private static boolean isRepeatedDelta(List<Move> moves, int index) {
+        Move m = moves.get(index);
+        for (int i = 0; i < index; i++) {
+            Move earlier = moves.get(i);
+            if (earlier.dx() == m.dx() && earlier.dy() == m.dy()) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,126 @@
+package perft;
+
+import interfaces.IPiece;
+import interfaces.IState;
+import moves.Move;
+import pieces.EPieceType;
+import pieces.Position;
+
+import java.util.List;
+
+/**
+ * Timeless stand-in for a piece during move enumeration.
+ * <p>
+ * A real piece rests after every action and only changes square once its move finishes,
+ * which a perft cannot undo. The stand-in is always able to act and only carries what the
+ * rules engine reads: type, owner, move set and the first-move flag. Methods that would
+ * start an action do nothing.
+ * </p>
+ */
+final class PerftPiece implements IPiece {
+
+    private final EPieceType type;
+    private final int player;
+    private List<Move> moves;
+    private boolean firstMove;
+
+    /**
+     * Creates a stand-in.
+     *
+     * @param type      piece type
+     * @param player    owning player id
+     * @param moves     move set of the type for that player
+     * @param firstMove whether the piece has not moved yet
+     */
+    PerftPiece(EPieceType type, int player, List<Move> moves, boolean firstMove) {
+        this.type = type;
+        this.player = player;
+        this.moves = moves;
+        this.firstMove = firstMove;
+    }
+
+    /**
+     * Sets the first-move flag; cleared when the piece is moved, restored when the move is undone.
+     */
+    void setFirstMove(boolean firstMove) {
+        this.firstMove = firstMove;
+    }
+
+    @Override
+    public int getPlayer() {
+        return player;
+    }
+
+    @Override
+    public EPieceType getType() {
+        return type;
+    }
+
+    @Override
+    public List<Move> getMoves() {
+        return moves;
+    }
+
+    @Override
+    public boolean isFirstMove() {
+        return firstMove;
+    }
+
+    @Override
+    public boolean canAction() {
+        return true;
+    }
+
+    @Override
+    public boolean isCaptured() {
+        return false;
+    }
+
+    @Override
+    public boolean isCapturable() {
+        return true;
+    }
+
+    /** The stand-in has no state; the board hashes it as idle. */
+    @Override
+    public IState getCurrentState() {
+        return null;
+    }
+
+    /** Squares are tracked by the board only. */
+    @Override
+    public Position getPos() {
+        return null;
+    }
+
+    /** The stand-in is timeless: it never changes state. */
+    @Override
+    public void update(long now) {
+    }
+
+    /** The counter moves stand-ins on the grid itself; the piece has no square or action to start. */
+    @Override
+    public void move(Position to) {
+    }
+
+    /** Jumps do not change the position, so the counter never plays them. */
+    @Override
+    public void jump() {
+    }
+
+    /** A captured stand-in simply leaves the grid; it keeps no captured flag. */
+    @Override
+    public void markCaptured() {
+    }
+
+    /** Squares are tracked by the board, so only the first-move flag is restored. */
+    @Override
+    public void reset(Position start) {
+        firstMove = true;
+    }
+
+    @Override
+    public void setMoves(List<Move> moves) {
+        this.moves = moves;
+    }
+}
@@ -128,6 +128,14 @@ public class Piece implements IPiece {
         return fsm.getCurrentState().getName().isCanCapturable();
     }
 
+    @Override
+    public void reset(Position start) {
+        setPosition(start.copy());
+        wasCaptured = false;
+        isFirstMove = true;
+        fsm.reset(position);
+    }
+
     @Override
     public String toString() {
         return type.toString() + playerId;
@@ -5,11 +5,13 @@ import graphics.GraphicsLoader;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import interfaces.AppLogger;
+import interfaces.IClock;
 import state.*;
 import interfaces.IGraphicsData;
 import interfaces.IPhysicsData;
 import interfaces.IState;
 import utils.Slf4jAdapter;
+import utils.SystemClock;
 
 import java.awt.image.BufferedImage;
 import java.io.File;
@@ -39,6 +41,21 @@ public class PiecesFactory {
      * @return Fully initialized Piece instance, or null if loading fails
      */
     public static Piece createPieceByCode(EPieceType code, int playerId, Position pos, BoardConfig config) {
+        return createPieceByCode(code, playerId, pos, config, SystemClock.getInstance());
+    }
+
+    /**
+     * Creates a Piece instance whose states are timed by the given game clock.
+     *
+     * @param code      Piece type
+     * @param playerId  Owner player ID
+     * @param pos       Board position
+     * @param config    Board configuration
+     * @param clock     Game clock
+     * @return Fully initialized Piece instance, or null if loading fails
+     */
+    public static Piece createPieceByCode(EPieceType code, int playerId, Position pos, BoardConfig config,
+                                          IClock clock) {
         Map<EState, IState> states = new HashMap<>();
         String basePath = "pieces/" + code.getVal() + "/states/";
 
@@ -87,7 +104,7 @@ public class PiecesFactory {
                     }
 
                     JsonNode root = mapper.readTree(is);
-                    IPhysicsData physics = mapper.treeToValue(root.path("physics"), PhysicsData.class);
+                    IPhysicsData physics = readPhysics(root);
                     IGraphicsData graphicsData = mapper.treeToValue(root.path("graphics"), GraphicsData.class);
                     BufferedImage[] sprites = GraphicsLoader.loadAllSprites(code, playerId, stateName);
 
@@ -99,7 +116,7 @@ public class PiecesFactory {
                     graphicsData.setFrames(sprites);
                     graphicsData.setTotalFrames(sprites.length);
 
-                    IState state = new State(stateName, pos, pos, config, physics, graphicsData);
+                    IState state = new State(stateName, pos, pos, config, physics, graphicsData, clock);
                     states.put(stateName, state);
                 }
             }
@@ -128,4 +145,29 @@ public class PiecesFactory {
             throw new RuntimeException(msg, e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Loads the physics settings of one state of a piece type, without sprites or a state machine.
+     *
+     * @param code  Piece type
+     * @param state State whose settings are loaded
+     * @return the physics data, not yet reset to an action, or null if the state has no config
+     */
+    public static IPhysicsData loadPhysics(EPieceType code, EState state) {
+        String configPath = "/pieces/" + code.getVal() + "/states/" + state + "/config.json";
+        try (InputStream is = PiecesFactory.class.getResourceAsStream(configPath)) {
+            return is == null ? null : readPhysics(mapper.readTree(is));
+        } catch (Exception e) {
+            String msg = "Exception in loadPhysics: " + e.getMessage();
+            logger.error(msg, e);
+            throw new RuntimeException(msg, e);
+        }
+    }
+
+    /**
+     * Reads the physics section of a state config.
+     */
+    private static IPhysicsData readPhysics(JsonNode root) throws Exception {
+        return mapper.treeToValue(root.path("physics"), PhysicsData.class);
+    }
+}
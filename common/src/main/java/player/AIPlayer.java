@@ -0,0 +1,616 @@
+package player;
+
+import command.JumpCommand;
+import command.MoveCommand;
+import interfaces.*;
+import moves.ECondition;
+import moves.Move;
+import pieces.EPieceType;
+import player.SearchPosition.SearchPiece;
+import pieces.Position;
+import state.EState;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Computer opponent choosing its actions with a time-budgeted search over the legal moves.
+ * <p>
+ * Kung-Fu Chess has no turns, so instead of alternating plies the search scores every action
+ * available right now against the opponent pieces able to answer it:
+ * </p>
+ * <ul>
+ *   <li>only pieces that can act are moved; resting and moving pieces are left alone;</li>
+ *   <li>a resting target cannot dodge and is worth its full value, an idle one may still leave;</li>
+ *   <li>landing on a jumping piece loses the arriving piece, so such captures are never played;</li>
+ *   <li>a destination is risky when an opponent piece that is idle or nearly rested attacks it,
+ *       less so when a piece of ours could recapture;</li>
+ *   <li>a threatened piece may step away or jump, which only protects it while in the air.</li>
+ * </ul>
+ * <p>
+ * Candidates are then refined with the second ply: the pieces a move leaves exposed, through lost
+ * defence or an opened line. Both phases stop at the decision's deadline and keep the best action
+ * found so far, so a decision never takes much longer than its budget.
+ * </p>
+ * <p>
+ * The search reads a {@link SearchPosition} copied from the board, so a game can run it off its
+ * update thread with {@link #decideAsync}; {@link #decide} runs it on the calling thread.
+ * </p>
+ * <p>
+ * With a parallelism above one the search runs on the shared {@link BotSearchPool}: pieces are
+ * scored by forked tasks, and the best candidates are refined in parallel rather than best-first,
+ * so more of them fit in the budget. Refinements are cached across decisions in a lock-free
+ * {@link TranspositionTable} keyed by the board's Zobrist hash and the move, since most decisions
+ * see a board that barely changed since the last one.
+ * </p>
+ */
+public class AIPlayer extends Player implements IBotPlayer {
+
+    /** Default time budget of one decision: 2 ms, an eighth of a 16 ms game-loop tick. */
+    public static final long DEFAULT_BUDGET_NANOS = 2_000_000L;
+
+    /** Default minimum game time between two decisions. */
+    public static final long DEFAULT_THINK_INTERVAL_NANOS = 250_000_000L;
+
+    /** Share of an idle target's value expected from attacking it, since it may still dodge. */
+    private static final double DODGE_FACTOR = 0.6;
+
+    /** Share of a threatened piece's value saved by jumping; it is only safe while in the air. */
+    private static final double JUMP_FACTOR = 0.5;
+
+    /** Weight of centralisation and pawn advance, which only break ties between quiet moves. */
+    private static final double POSITIONAL_WEIGHT = 0.05;
+
+    /** Amplitude of the random tie-break between equally scored moves. */
+    private static final double TIE_BREAK = 0.01;
+
+    /** Value of the king, whose loss ends the game. */
+    private static final double KING_VALUE = 100;
+
+    /** Returned when no piece attacks a square. */
+    private static final double NONE = Double.MAX_VALUE;
+
+    /** Candidates refined in parallel per search worker. */
+    private static final int REFINE_WIDTH = 8;
+
+    /** Entries of each bot's transposition table. */
+    private static final int TABLE_ENTRIES = 4096;
+
+    private final long budgetNanos;
+    private final long thinkIntervalNanos;
+    private final long seed;
+    private final int parallelism;
+    private final TranspositionTable table = new TranspositionTable(TABLE_ENTRIES);
+
+    /** Game time of the next decision; only touched by the thread updating the game. */
+    private long nextDecisionNanos = Long.MIN_VALUE;
+
+    /** Whether an asynchronous search is running; at most one runs per bot. */
+    private volatile boolean searching;
+
+    /** Incremented by {@link #reset()}, so a search started in the previous game is not played. */
+    private volatile int generation;
+
+    private volatile long lastSearchNanos;
+    private volatile int lastSearchedMoves;
+
+    /**
+     * A candidate action; a null target is a jump in place.
+     */
+    private record Candidate(SearchPiece piece, Position from, Position to, double score) {}
+
+    /**
+     * Constructs a computer player.
+     *
+     * @param id                 the player ID
+     * @param name               the player name
+     * @param color              the player's color
+     * @param initialPieces      list of initial pieces
+     * @param clock              the game clock
+     * @param budgetNanos        wall-clock time budget of one decision
+     * @param thinkIntervalNanos minimum game time between two decisions
+     * @param seed               seed of the tie-break between equally scored moves
+     * @param parallelism        number of search workers to split the search across; above 1 the search
+     *                           runs on the {@link BotSearchPool}, whose size caps the threads really used.
+     *                           1 searches on a single thread
+     */
+    AIPlayer(int id, String name, Color color, List<IPiece> initialPieces, IClock clock,
+             long budgetNanos, long thinkIntervalNanos, long seed, int parallelism) {
+        super(id, name, color, initialPieces, clock);
+        if (budgetNanos <= 0) throw new IllegalArgumentException("budgetNanos must be > 0");
+        if (thinkIntervalNanos < 0) throw new IllegalArgumentException("thinkIntervalNanos must be >= 0");
+        if (parallelism < 1) throw new IllegalArgumentException("parallelism must be >= 1");
+        this.budgetNanos = budgetNanos;
+        this.thinkIntervalNanos = thinkIntervalNanos;
+        this.seed = seed;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Searches for the best action once every think interval.
+     *
+     * @param board the game board
+     * @param now   current game-clock time in nanoseconds
+     * @return a move or jump command, empty if nothing is worth doing or it is not time to think
+     */
+    @Override
+    public Optional<ICommand> decide(IBoard board, long now) {
+        if (!isDecisionDue(now)) return Optional.empty();
+
+        Candidate best = timedSearch(SearchPosition.of(board, getId()));
+        if (best == null) return Optional.empty();
+        return Optional.of(best.to() == null
+                ? new JumpCommand(board.getPiece(best.from()), board)
+                : new MoveCommand(best.from(), best.to(), board));
+    }
+
+    /**
+     * Copies the board once every think interval and searches it on the {@link BotSearchPool}.
+     * No new search starts while one is running.
+     *
+     * @param board the game board
+     * @param now   current game-clock time in nanoseconds
+     * @param act   receives the source and target of the action found, equal for a jump
+     */
+    @Override
+    public void decideAsync(IBoard board, long now, BiConsumer<Position, Position> act) {
+        if (searching || !isDecisionDue(now)) return;
+
+        SearchPosition position = SearchPosition.of(board, getId());
+        int started = generation;
+        searching = true;
+        BotSearchPool.get().execute(() -> {
+            try {
+                Candidate best = timedSearch(position);
+                if (best != null && started == generation) {
+                    act.accept(best.from(), best.to() == null ? best.from() : best.to());
+                }
+            } finally {
+                searching = false;
+            }
+        });
+    }
+
+    /**
+     * Checks whether it is time to think and, if so, schedules the next decision.
+     */
+    private boolean isDecisionDue(long now) {
+        if (isFailed() || now < nextDecisionNanos) return false;
+        nextDecisionNanos = now + thinkIntervalNanos;
+        return true;
+    }
+
+    /**
+     * Searches a position within the budget and records the search time.
+     */
+    private Candidate timedSearch(SearchPosition position) {
+        long started = System.nanoTime();
+        Candidate best = search(position, started + budgetNanos);
+        lastSearchNanos = System.nanoTime() - started;
+        return best;
+    }
+
+    /**
+     * Also lets the next decision happen on the first update of the new game. The transposition
+     * table is kept: its entries are keyed by board hash, so they stay valid across games.
+     */
+    @Override
+    public void reset() {
+        super.reset();
+        nextDecisionNanos = Long.MIN_VALUE;
+        generation++;
+    }
+
+    /**
+     * @return true while an asynchronous search is running
+     */
+    public boolean isSearching() {
+        return searching;
+    }
+
+    /**
+     * @return wall-clock duration of the last search, in nanoseconds
+     */
+    public long getLastSearchNanos() {
+        return lastSearchNanos;
+    }
+
+    /**
+     * @return number of legal moves scored by the last search
+     */
+    public int getLastSearchedMoves() {
+        return lastSearchedMoves;
+    }
+
+    /**
+     * @return wall-clock time budget of one decision, in nanoseconds
+     */
+    public long getBudgetNanos() {
+        return budgetNanos;
+    }
+
+    /**
+     * @return number of search workers the search is split across, 1 for a search on the calling thread
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    // ---------------------- Search ----------------------
+
+    /**
+     * Scores the actions of every piece that can act, then refines the best ones.
+     *
+     * @param board    the game board
+     * @param deadline {@link System#nanoTime()} after which the search stops
+     * @return the best action with a positive score, or null
+     */
+    private Candidate search(SearchPosition board, long deadline) {
+        List<SearchPiece> ready = new ArrayList<>();
+        for (SearchPiece piece : board.getPieces()) {
+            if (piece.owner() == getId() && piece.canAction()) ready.add(piece);
+        }
+        if (ready.isEmpty()) {
+            lastSearchedMoves = 0;
+            return null;
+        }
+
+        long position = board.getHash();
+        List<Candidate> candidates = parallelism > 1
+                ? BotSearchPool.get().invoke(new ScoreTask(board, ready, 0, ready.size(), position, deadline))
+                : scoreSequentially(board, ready, position, deadline);
+
+        int searched = 0;
+        for (Candidate c : candidates) {
+            if (c.to() != null) searched++;
+        }
+        lastSearchedMoves = searched;
+
+        candidates.sort(Comparator.comparingDouble(Candidate::score).reversed());
+        Candidate best = parallelism > 1
+                ? refineInParallel(board, candidates, position, deadline)
+                : refineBestFirst(board, candidates, position, deadline);
+        return best != null && best.score() > 0 ? best : null;
+    }
+
+    /**
+     * Scores the pieces one after the other until the deadline; the first piece is always scored.
+     */
+    private List<Candidate> scoreSequentially(SearchPosition board, List<SearchPiece> ready, long position, long deadline) {
+        List<Candidate> candidates = new ArrayList<>();
+        for (SearchPiece piece : ready) {
+            scoreActions(board, piece, position, candidates);
+            if (System.nanoTime() >= deadline) break;
+        }
+        return candidates;
+    }
+
+    /**
+     * Refines candidates in score order. Refining only lowers scores, so the search stops at the
+     * first candidate that cannot beat the best refined one.
+     */
+    private Candidate refineBestFirst(SearchPosition board, List<Candidate> candidates, long position, long deadline) {
+        Candidate best = null;
+        for (Candidate c : candidates) {
+            if (best != null && (c.score() <= best.score() || System.nanoTime() >= deadline)) break;
+            double score = refine(board, c, position);
+            if (best == null || score > best.score()) {
+                best = new Candidate(c.piece(), c.from(), c.to(), score);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Refines the best candidates concurrently and picks the best refined one.
+     */
+    private Candidate refineInParallel(SearchPosition board, List<Candidate> candidates, long position, long deadline) {
+        if (candidates.isEmpty()) return null;
+
+        int workers = Math.min(parallelism, BotSearchPool.PARALLELISM);
+        int width = Math.min(candidates.size(), REFINE_WIDTH * workers);
+        double[] refined = new double[width];
+        BotSearchPool.get().invoke(new RefineTask(board, candidates, refined, 0, width, position, deadline));
+
+        Candidate best = null;
+        for (int i = 0; i < width; i++) {
+            if (Double.isNaN(refined[i])) continue;
+            if (best == null || refined[i] > best.score()) {
+                Candidate c = candidates.get(i);
+                best = new Candidate(c.piece(), c.from(), c.to(), refined[i]);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Adds the jump and move candidates of one piece.
+     */
+    private void scoreActions(SearchPosition board, SearchPiece piece, long position, List<Candidate> out) {
+        Position from = piece.pos();
+        double atRisk = risk(board, piece, from, null, null);
+        if (atRisk > 0) {
+            out.add(new Candidate(piece, from, null, atRisk * JUMP_FACTOR));
+        }
+        for (Position to : piece.legalMoves()) {
+            out.add(new Candidate(piece, from, to, scoreMove(board, piece, from, to, atRisk, position)));
+        }
+    }
+
+    /**
+     * Returns a candidate's score less its exposure, looked up in or stored to the table.
+     */
+    private double refine(SearchPosition board, Candidate c, long position) {
+        if (c.to() == null) return c.score();
+
+        long key = position ^ moveKey(c.from(), c.to());
+        double exposure = table.get(key);
+        if (Double.isNaN(exposure)) {
+            exposure = exposure(board, c);
+            table.put(key, exposure);
+        }
+        return c.score() - exposure;
+    }
+
+    /**
+     * Scores the pieces of a range, splitting it across workers. Pieces reached after the deadline
+     * are skipped, except the first one.
+     */
+    private final class ScoreTask extends RecursiveTask<List<Candidate>> {
+        private final SearchPosition board;
+        private final List<SearchPiece> pieces;
+        private final int lo;
+        private final int hi;
+        private final long position;
+        private final long deadline;
+
+        ScoreTask(SearchPosition board, List<SearchPiece> pieces, int lo, int hi, long position, long deadline) {
+            this.board = board;
+            this.pieces = pieces;
+            this.lo = lo;
+            this.hi = hi;
+            this.position = position;
+            this.deadline = deadline;
+        }
+
+        @Override
+        protected List<Candidate> compute() {
+            if (hi - lo == 1) {
+                List<Candidate> out = new ArrayList<>();
+                if (lo == 0 || System.nanoTime() < deadline) scoreActions(board, pieces.get(lo), position, out);
+                return out;
+            }
+            int mid = (lo + hi) >>> 1;
+            ScoreTask left = new ScoreTask(board, pieces, lo, mid, position, deadline);
+            left.fork();
+            List<Candidate> out = new ScoreTask(board, pieces, mid, hi, position, deadline).compute();
+            out.addAll(left.join());
+            return out;
+        }
+    }
+
+    /**
+     * Refines the candidates of a range into {@code refined}, splitting it across workers.
+     * Candidates reached after the deadline are left as NaN, except the first one.
+     */
+    private final class RefineTask extends RecursiveAction {
+        private final SearchPosition board;
+        private final List<Candidate> candidates;
+        private final double[] refined;
+        private final int lo;
+        private final int hi;
+        private final long position;
+        private final long deadline;
+
+        RefineTask(SearchPosition board, List<Candidate> candidates, double[] refined, int lo, int hi,
+                   long position, long deadline) {
+            this.board = board;
+            this.candidates = candidates;
+            this.refined = refined;
+            this.lo = lo;
+            this.hi = hi;
+            this.position = position;
+            this.deadline = deadline;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo == 1) {
+                refined[lo] = lo == 0 || System.nanoTime() < deadline
+                        ? refine(board, candidates.get(lo), position)
+                        : Double.NaN;
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new RefineTask(board, candidates, refined, lo, mid, position, deadline),
+                    new RefineTask(board, candidates, refined, mid, hi, position, deadline));
+        }
+    }
+
+    /**
+     * Scores a move: material won, plus the loss avoided if the piece was threatened,
+     * minus the expected loss on the destination square.
+     */
+    private double scoreMove(SearchPosition board, SearchPiece piece, Position from, Position to, double atRisk,
+                             long position) {
+        double score = atRisk;
+
+        SearchPiece target = board.getPiece(to);
+        if (target != null) {
+            if (!target.isCapturable()) return -valueOf(piece.type());
+            score += valueOf(target.type()) * (target.canAction() ? DODGE_FACTOR : 1);
+        }
+        if (piece.type() == EPieceType.P && to.getRow() == promotionRow(board)) {
+            score += valueOf(EPieceType.Q) - valueOf(EPieceType.P);
+        }
+
+        score -= risk(board, piece, to, from, target);
+        return score + positional(board, piece, from, to) + tieBreak(position ^ moveKey(from, to));
+    }
+
+    /**
+     * Second ply: the expected loss a move adds on our other pieces, because the moved piece
+     * rests and no longer defends, or because it opened a line of attack.
+     */
+    private double exposure(SearchPosition board, Candidate c) {
+        SearchPiece taken = board.getPiece(c.to());
+        double added = 0;
+        for (SearchPiece other : board.getPieces()) {
+            if (other.owner() != getId() || other == c.piece()) continue;
+            double before = risk(board, other, other.pos(), null, null);
+            double after = riskAfterMove(board, other, c.from(), c.piece(), taken);
+            added += Math.max(0, after - before);
+        }
+        return added;
+    }
+
+    /**
+     * Expected loss of a piece on a square: its value if attacked and undefended,
+     * otherwise what it is worth more than its cheapest attacker.
+     *
+     * @param board    the game board
+     * @param piece    the piece standing on the square
+     * @param square   the square
+     * @param vacated  square treated as empty, or null
+     * @param taken    opponent piece treated as captured, or null
+     */
+    private double risk(SearchPosition board, SearchPiece piece, Position square, Position vacated, SearchPiece taken) {
+        double attacker = cheapestAttacker(board, square, true, vacated, piece, taken);
+        if (attacker == NONE) return 0;
+
+        double value = valueOf(piece.type());
+        double defender = cheapestAttacker(board, square, false, vacated, piece, taken);
+        return defender == NONE ? value : Math.max(0, value - attacker);
+    }
+
+    /**
+     * {@link #risk} of a piece after another piece left {@code vacated} and now rests.
+     */
+    private double riskAfterMove(SearchPosition board, SearchPiece piece, Position vacated, SearchPiece moved, SearchPiece taken) {
+        Position square = piece.pos();
+        double attacker = cheapestAttacker(board, square, true, vacated, piece, taken);
+        if (attacker == NONE) return 0;
+
+        double value = valueOf(piece.type());
+        double defender = cheapestAttacker(board, square, false, vacated, piece, moved);
+        return defender == NONE ? value : Math.max(0, value - attacker);
+    }
+
+    /**
+     * Finds the value of the cheapest ready piece of one side attacking a square.
+     *
+     * @param board     the game board
+     * @param square    the attacked square
+     * @param opponents true for opponent pieces, false for ours
+     * @param vacated   square treated as empty, or null
+     * @param excluded1 piece not counted, or null
+     * @param excluded2 piece not counted, or null
+     * @return the attacker's value, or {@link #NONE}
+     */
+    private double cheapestAttacker(SearchPosition board, Position square, boolean opponents, Position vacated,
+                                    SearchPiece excluded1, SearchPiece excluded2) {
+        double cheapest = NONE;
+        for (SearchPiece p : board.getPieces()) {
+            if ((p.owner() != getId()) != opponents) continue;
+            if (p == excluded1 || p == excluded2 || !isReady(p)) continue;
+            double value = valueOf(p.type());
+            if (value < cheapest && attacks(board, p, square, vacated)) cheapest = value;
+        }
+        return cheapest;
+    }
+
+    /**
+     * Checks whether a piece could capture on a square, by its move table and a clear path.
+     */
+    private static boolean attacks(SearchPosition board, SearchPiece piece, Position square, Position vacated) {
+        Position from = piece.pos();
+        int dRow = square.getRow() - from.getRow();
+        int dCol = square.getCol() - from.getCol();
+        if (dRow == 0 && dCol == 0) return false;
+
+        for (Move m : piece.moves()) {
+            if (m.dx() != dRow || m.dy() != dCol || !canCaptureWith(m, piece)) continue;
+            if (piece.type().isCanSkip() || isPathClear(board, from, dRow, dCol, vacated)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Checks the move's conditions for a capture.
+     */
+    private static boolean canCaptureWith(Move m, SearchPiece piece) {
+        return m.allows(ECondition.satisfiedBy(true, piece.firstMove()));
+    }
+
+    /**
+     * Checks that the squares strictly between {@code from} and {@code from + (dRow, dCol)} are empty.
+     */
+    private static boolean isPathClear(SearchPosition board, Position from, int dRow, int dCol, Position vacated) {
+        int steps = Math.max(Math.abs(dRow), Math.abs(dCol));
+        int stepRow = Integer.signum(dRow);
+        int stepCol = Integer.signum(dCol);
+        for (int i = 1; i < steps; i++) {
+            Position current = from.add(stepRow * i, stepCol * i);
+            if (board.hasPiece(current) && !current.equals(vacated)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * A piece is a threat, or a defender, if it can act now or is in its short rest.
+     */
+    private static boolean isReady(SearchPiece piece) {
+        return piece.canAction() || piece.state() == EState.SHORT_REST;
+    }
+
+    /**
+     * Small preference for central squares and pawn advance; the king stays home unless forced.
+     */
+    private static double positional(SearchPosition board, SearchPiece piece, Position from, Position to) {
+        if (piece.type() == EPieceType.K) return -POSITIONAL_WEIGHT;
+
+        double centerRow = (board.getRows() - 1) / 2.0;
+        double centerCol = (board.getCols() - 1) / 2.0;
+        double gain = Math.abs(from.getRow() - centerRow) + Math.abs(from.getCol() - centerCol)
+                - Math.abs(to.getRow() - centerRow) - Math.abs(to.getCol() - centerCol);
+        if (piece.type() == EPieceType.P) gain += Math.abs(to.getRow() - from.getRow());
+        return gain * POSITIONAL_WEIGHT;
+    }
+
+    // ---------------------- Hashing ----------------------
+
+    private static long moveKey(Position from, Position to) {
+        return mix(0x9E3779B97F4A7C15L
+                + ((long) from.getRow() << 24 | from.getCol() << 16 | to.getRow() << 8 | to.getCol()));
+    }
+
+    /**
+     * Deterministic pseudo-random tie-break in [0, TIE_BREAK), independent of evaluation order.
+     */
+    private double tieBreak(long key) {
+        return (mix(seed ^ key) >>> 11) * 0x1.0p-53 * TIE_BREAK;
+    }
+
+    /**
+     * SplitMix64 finalizer.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private int promotionRow(SearchPosition board) {
+        return getId() == 0 ? board.getRows() - 1 : 0;
+    }
+
+    private static double valueOf(EPieceType type) {
+        return type == EPieceType.K ? KING_VALUE : type.getScore();
+    }
+}
@@ -0,0 +1,43 @@
+package player;
+
+import constants.ServerConfig;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * Fork/join pool shared by the parallel searches of all computer players of the process.
+ * <p>
+ * Its size is capped ({@code bot.search.threads}, by default all cores but one) so that
+ * searches, however many bots run them, cannot take every core away from the game loops.
+ * </p>
+ */
+public final class BotSearchPool {
+
+    /** Number of worker threads of the pool. */
+    public static final int PARALLELISM = ServerConfig.BOT_SEARCH_THREADS > 0
+            ? ServerConfig.BOT_SEARCH_THREADS
+            : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+
+    // Private constructor to prevent instantiation
+    private BotSearchPool() {}
+
+    /**
+     * @return the shared pool, created on first use
+     */
+    static ForkJoinPool get() {
+        return Holder.POOL;
+    }
+
+    /**
+     * Lazily created pool of daemon workers.
+     */
+    private static final class Holder {
+        static final ForkJoinPool POOL = new ForkJoinPool(PARALLELISM, pool -> {
+            ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            t.setName("bot-search-" + t.getPoolIndex());
+            t.setDaemon(true);
+            return t;
+        }, null, false);
+    }
+}
@@ -0,0 +1,198 @@
+package player;
+
+import interfaces.IPiece;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * Compact store of a player's pieces: the active pieces packed at the front of an array,
+ * and the captured ones in a separate set.
+ * <p>
+ * A capture moves the last active piece into the freed slot and a promotion puts the new piece
+ * in the old one's slot, so both run in O(1) and the board's update loop only ever visits pieces
+ * still in play. {@link #activeView()} is a live, read-only list over the array created once, so
+ * indexed iteration allocates nothing. The order of the active pieces is not preserved by a
+ * capture.
+ * </p>
+ * <p>
+ * Pieces are compared by identity. The store is not thread-safe; it is touched by the game loop only.
+ * </p>
+ * <p>
+ * The starting pieces are remembered, so {@link #reset()} can put them back in play for a new game.
+ * </p>
+ */
+final class PieceStore {
+
+    private IPiece[] active;
+    private int size;
+
+    /** The starting pieces, in their initial order. */
+    private final IPiece[] initial;
+
+    /** Slot of each active piece in {@link #active}. */
+    private final Map<IPiece, Integer> slots = new IdentityHashMap<>();
+
+    private final Set<IPiece> captured = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private final List<IPiece> activeView = new ActiveView();
+    private final Set<IPiece> capturedView = Collections.unmodifiableSet(captured);
+
+    /**
+     * Creates a store whose pieces are all active.
+     *
+     * @param initialPieces the starting pieces, without nulls or duplicates
+     */
+    PieceStore(Collection<IPiece> initialPieces) {
+        this.active = new IPiece[Math.max(1, initialPieces.size())];
+        for (IPiece piece : initialPieces) {
+            add(piece);
+        }
+        this.initial = Arrays.copyOf(active, size);
+    }
+
+    /**
+     * Makes exactly the starting pieces active again, in their initial order, and forgets the
+     * captured ones. Pieces added since, such as promoted queens, are dropped.
+     */
+    void reset() {
+        Arrays.fill(active, 0, size, null);
+        slots.clear();
+        captured.clear();
+        size = 0;
+        for (IPiece piece : initial) {
+            add(piece);
+        }
+    }
+
+    /**
+     * @return the number of active pieces
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns an active piece by slot.
+     *
+     * @param index slot in {@code [0, size())}
+     * @return the piece
+     */
+    IPiece get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        return active[index];
+    }
+
+    /**
+     * @param piece a piece
+     * @return true if the piece is active in this store
+     */
+    boolean isActive(IPiece piece) {
+        return slots.containsKey(piece);
+    }
+
+    /**
+     * Adds an active piece at the end.
+     *
+     * @param piece the piece
+     */
+    void add(IPiece piece) {
+        if (piece == null) throw new IllegalArgumentException("piece cannot be null");
+        if (slots.containsKey(piece)) throw new IllegalArgumentException("piece already active: " + piece);
+        if (size == active.length) {
+            IPiece[] grown = new IPiece[active.length * 2];
+            System.arraycopy(active, 0, grown, 0, size);
+            active = grown;
+        }
+        active[size] = piece;
+        slots.put(piece, size);
+        size++;
+    }
+
+    /**
+     * Moves an active piece to the captured set; the last active piece takes its slot.
+     *
+     * @param piece the piece
+     * @return true if the piece was active
+     */
+    boolean capture(IPiece piece) {
+        if (!remove(piece)) return false;
+        captured.add(piece);
+        return true;
+    }
+
+    /**
+     * Drops an active piece without recording it as captured; the last active piece takes its slot.
+     *
+     * @param piece the piece
+     * @return true if the piece was active
+     */
+    boolean remove(IPiece piece) {
+        Integer slot = slots.remove(piece);
+        if (slot == null) return false;
+
+        int last = --size;
+        if (slot != last) {
+            IPiece moved = active[last];
+            active[slot] = moved;
+            slots.put(moved, slot);
+        }
+        active[last] = null;
+        return true;
+    }
+
+    /**
+     * Puts a new piece in the slot of an active one, e.g. a queen in place of a promoted pawn.
+     *
+     * @param piece       the piece leaving play
+     * @param replacement the piece taking its slot
+     * @return true if the piece was active and has been replaced
+     */
+    boolean replace(IPiece piece, IPiece replacement) {
+        if (replacement == null) throw new IllegalArgumentException("replacement cannot be null");
+        if (slots.containsKey(replacement)) throw new IllegalArgumentException("replacement already active");
+        Integer slot = slots.remove(piece);
+        if (slot == null) return false;
+
+        active[slot] = replacement;
+        slots.put(replacement, slot);
+        return true;
+    }
+
+    /**
+     * @return a live, read-only list of the active pieces
+     */
+    List<IPiece> activeView() {
+        return activeView;
+    }
+
+    /**
+     * @return a live, read-only set of the captured pieces
+     */
+    Set<IPiece> capturedView() {
+        return capturedView;
+    }
+
+    /**
+     * Read-only list over the active slots.
+     */
+    private final class ActiveView extends AbstractList<IPiece> implements RandomAccess {
+
+        @Override
+        public IPiece get(int index) {
+            return PieceStore.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
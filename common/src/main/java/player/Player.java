@@ -8,6 +8,7 @@ import pieces.EPieceType;
 import pieces.PiecesFactory;
 import pieces.Position;
 import utils.Slf4jAdapter;
+import utils.SystemClock;
 
 import java.awt.*;
 import java.util.*;
@@ -28,9 +29,13 @@ public class Player implements IPlayer {
     private String name;
     private Position pending;
     private final Color color;
-    private final List<IPiece> pieces;
+    private final PieceStore pieces;
+    /** Starting square of each initial piece, in the store's initial order. */
+    private final Position[] startSquares;
     private int score;
     private boolean isFailed;
+    /** Game clock handed to pieces created during the game (promotions). */
+    private final IClock clock;
 
     /**
      * Constructs a Player with explicit ID, name, color, and initial pieces.
@@ -41,26 +46,55 @@ public class Player implements IPlayer {
      * @param initialPieces list of initial pieces
      */
     Player(int id, String name, Color color, List<IPiece> initialPieces) {
+        this(id, name, color, initialPieces, SystemClock.getInstance());
+    }
+
+    /**
+     * Constructs a Player whose promoted pieces are timed by the given game clock.
+     *
+     * @param id            the player ID
+     * @param name          the player name
+     * @param color         the player's color
+     * @param initialPieces list of initial pieces
+     * @param clock         the game clock
+     */
+    Player(int id, String name, Color color, List<IPiece> initialPieces, IClock clock) {
         if (initialPieces == null) throw new IllegalArgumentException("initialPieces cannot be null");
 
         this.id = id;
         this.name = Objects.requireNonNull(name);
         this.color = color == null ? Color.WHITE : color;
-        this.pieces = new ArrayList<>(initialPieces);
+        this.pieces = new PieceStore(initialPieces);
+        this.startSquares = new Position[initialPieces.size()];
+        for (int i = 0; i < startSquares.length; i++) {
+            startSquares[i] = pieces.get(i).getPos().copy();
+        }
         this.pending = null;
         this.isFailed = false;
+        this.clock = Objects.requireNonNull(clock);
 
         this.score = 0;
-        for (IPiece p : pieces) {
+        for (IPiece p : initialPieces) {
             this.score += p.getType().getScore();
         }
     }
 
     // ===== Getters =====
 
+    /**
+     * Returns the pieces still in play, as a live read-only list that is not copied per call.
+     * Captured pieces are left out, see {@link #getCapturedPieces()}.
+     */
     @Override
     public List<IPiece> getPieces() {
-        return Collections.unmodifiableList(pieces);
+        return pieces.activeView();
+    }
+
+    /**
+     * @return a live, read-only set of the pieces this player lost
+     */
+    public Set<IPiece> getCapturedPieces() {
+        return pieces.capturedView();
     }
 
     @Override
@@ -108,12 +142,13 @@ public class Player implements IPlayer {
     /**
      * Marks a piece as captured and updates score.
      * If the captured piece is a King, marks the player as failed.
+     * A piece that is not in play for this player is ignored, so a capture is counted once.
      *
      * @param p the piece to mark as captured
      */
     @Override
     public void markPieceCaptured(IPiece p) {
-        if (p == null) return;
+        if (p == null || !pieces.capture(p)) return;
 
         p.markCaptured();
         score -= p.getType().getScore();
@@ -166,6 +201,14 @@ public class Player implements IPlayer {
         return Optional.empty();
     }
 
+    /**
+     * Discards the pending selection so the next selection starts a new piece choice.
+     */
+    @Override
+    public void clearSelection() {
+        setPendingFrom(null);
+    }
+
     /**
      * Replaces a pawn with a queen (promotion) at the given position and updates score.
      *
@@ -178,29 +221,48 @@ public class Player implements IPlayer {
     public IPiece replacePToQ(IPiece piece, Position targetPos, BoardConfig bc) {
         if (piece == null) throw new IllegalArgumentException("piece cannot be null");
 
-        pieces.remove(piece);
         score -= piece.getType().getScore();
 
         IPiece queen = PiecesFactory.createPieceByCode(
                 EPieceType.Q,
                 id,
                 targetPos,
-                bc
+                bc,
+                clock
         );
 
         if (queen != null) {
-            pieces.add(queen);
+            // The queen takes the pawn's slot, where a board update loop in progress finds it
+            if (!pieces.replace(piece, queen)) pieces.add(queen);
             score += queen.getType().getScore();
         } else {
+            pieces.remove(piece);
             logger.info("Failed to promote piece to Queen at " + targetPos + " for player " + id);
         }
 
         return queen;
     }
 
+    /**
+     * Puts the initial pieces back on their starting squares in their initial state, and restores
+     * the score, the failed flag and the selection. Promoted queens are discarded.
+     */
+    @Override
+    public void reset() {
+        pieces.reset();
+        score = 0;
+        for (int i = 0; i < startSquares.length; i++) {
+            IPiece piece = pieces.get(i);
+            piece.reset(startSquares[i]);
+            score += piece.getType().getScore();
+        }
+        isFailed = false;
+        pending = null;
+    }
+
     @Override
     public String toString() {
-        long activePieces = pieces.stream().filter(p -> !p.isCaptured()).count();
+        int activePieces = pieces.size();
 
         return String.format(
                 "Player{id=%d, name='%s', color=%s, score=%d, failed=%b, activePieces=%d}",
@@ -2,12 +2,14 @@ package player;
 
 import board.BoardConfig;
 import interfaces.AppLogger;
+import interfaces.IClock;
 import interfaces.IPiece;
 import interfaces.IPlayer;
 import pieces.EPieceType;
 import pieces.PiecesFactory;
 import pieces.Position;
 import utils.Slf4jAdapter;
+import utils.SystemClock;
 
 import java.awt.*;
 import java.util.ArrayList;
@@ -31,11 +33,75 @@ public class PlayerFactory {
      * @return IPlayer constructed with its initial pieces
      */
     public static IPlayer createPlayer(int id, String name, BoardConfig bc) {
-        if (id < 0) throw new IllegalArgumentException("Player id must be >= 0");
+        return createPlayer(id, name, bc, SystemClock.getInstance());
+    }
+
+    /**
+     * Creates a single Player whose pieces are timed by the given game clock.
+     *
+     * @param id    Player ID (0 or 1 for current two-player setup)
+     * @param name  Player name
+     * @param bc    Board configuration
+     * @param clock Game clock shared by all pieces of the game
+     * @return IPlayer constructed with its initial pieces
+     */
+    public static IPlayer createPlayer(int id, String name, BoardConfig bc, IClock clock) {
+        return new Player(id, name, colorOf(id), createPieces(id, bc, clock), clock);
+    }
 
-        // Determine the player's color from the predefined palette
+    /**
+     * Creates a computer player with the default decision budget and think interval,
+     * searching on the game-loop thread.
+     *
+     * @param id    Player ID (0 or 1 for current two-player setup)
+     * @param name  Player name
+     * @param bc    Board configuration
+     * @param clock Game clock shared by all pieces of the game
+     * @return AIPlayer constructed with its initial pieces
+     */
+    public static AIPlayer createBot(int id, String name, BoardConfig bc, IClock clock) {
+        return createBot(id, name, bc, clock,
+                AIPlayer.DEFAULT_BUDGET_NANOS, AIPlayer.DEFAULT_THINK_INTERVAL_NANOS, id, 1);
+    }
+
+    /**
+     * Creates a computer player.
+     *
+     * @param id                 Player ID (0 or 1 for current two-player setup)
+     * @param name               Player name
+     * @param bc                 Board configuration
+     * @param clock              Game clock shared by all pieces of the game
+     * @param budgetNanos        Wall-clock time budget of one decision
+     * @param thinkIntervalNanos Minimum game time between two decisions
+     * @param seed               Seed of the tie-break between equally scored moves
+     * @param parallelism        Search workers to split the search across, on the {@link BotSearchPool};
+     *                           1 searches on a single thread
+     * @return AIPlayer constructed with its initial pieces
+     */
+    public static AIPlayer createBot(int id, String name, BoardConfig bc, IClock clock,
+                                     long budgetNanos, long thinkIntervalNanos, long seed, int parallelism) {
+        return new AIPlayer(id, name, colorOf(id), createPieces(id, bc, clock), clock,
+                budgetNanos, thinkIntervalNanos, seed, parallelism);
+    }
+
+    /**
+     * Determines the player's color from the predefined palette.
+     */
+    private static Color colorOf(int id) {
         Color[] colorPalette = constants.PlayerConstants.PLAYER_COLORS;
-        Color playerColor = id < colorPalette.length ? colorPalette[id] : Color.WHITE;
+        return id < colorPalette.length ? colorPalette[id] : Color.WHITE;
+    }
+
+    /**
+     * Reads the initial piece codes of a player from LoadPieces.board and materializes them.
+     *
+     * @param id    Player ID
+     * @param bc    Board configuration
+     * @param clock Game clock shared by all pieces of the game
+     * @return the player's initial pieces
+     */
+    private static List<IPiece> createPieces(int id, BoardConfig bc, IClock clock) {
+        if (id < 0) throw new IllegalArgumentException("Player id must be >= 0");
 
         // List to hold all pieces for this player
         List<IPiece> playerPieces = new ArrayList<>();
@@ -65,7 +131,7 @@ public class PlayerFactory {
                 Position piecePosition = new Position(startRow, col);
 
                 // Create the piece using the PiecesFactory
-                IPiece piece = PiecesFactory.createPieceByCode(pieceType, id, piecePosition, bc);
+                IPiece piece = PiecesFactory.createPieceByCode(pieceType, id, piecePosition, bc, clock);
 
                 if (piece != null) {
                     playerPieces.add(piece);
@@ -79,8 +145,7 @@ public class PlayerFactory {
             }
         }
 
-        // Construct and return the Player instance
-        return new Player(id, name, playerColor, playerPieces);
+        return playerPieces;
     }
 
     /**
@@ -91,13 +156,25 @@ public class PlayerFactory {
      * @return Array of IPlayer instances
      */
     public static IPlayer[] createPlayers(String[] names, BoardConfig bc) {
+        return createPlayers(names, bc, SystemClock.getInstance());
+    }
+
+    /**
+     * Creates multiple players whose pieces are timed by the given game clock.
+     *
+     * @param names Array of player names; expected length >= 2
+     * @param bc    Board configuration
+     * @param clock Game clock shared by all pieces of the game
+     * @return Array of IPlayer instances
+     */
+    public static IPlayer[] createPlayers(String[] names, BoardConfig bc, IClock clock) {
         if (names == null || names.length < 2) {
             throw new IllegalArgumentException("At least two player names are required");
         }
 
         IPlayer[] players = new IPlayer[names.length];
         for (int i = 0; i < names.length; i++) {
-            players[i] = createPlayer(i, names[i], bc);
+            players[i] = createPlayer(i, names[i], bc, clock);
         }
         return players;
     }
@@ -0,0 +1,143 @@
+package player;
+
+import interfaces.IBoard;
+import interfaces.IPiece;
+import interfaces.IPlayer;
+import moves.Move;
+import pieces.EPieceType;
+import pieces.Position;
+import state.EState;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Frozen copy of what an {@link AIPlayer} search reads from a board: the pieces in play with
+ * their states, the grid, the position hash and the legal moves of the searching player's
+ * pieces that can act.
+ * <p>
+ * It is taken on the thread updating the board, so the search itself can run on any thread
+ * while the live board keeps changing. Piece move sets are shared with the live pieces; they
+ * are never modified once loaded.
+ * </p>
+ */
+final class SearchPosition {
+
+    /**
+     * A piece in play, as the search sees it.
+     *
+     * @param type       piece type
+     * @param owner      owning player id
+     * @param pos        square the piece stands on
+     * @param state      current state
+     * @param firstMove  whether the piece has not moved yet
+     * @param moves      the piece's move set
+     * @param legalMoves legal destinations, only for the searching player's pieces that can act
+     */
+    record SearchPiece(EPieceType type, int owner, Position pos, EState state, boolean firstMove,
+                       List<Move> moves, List<Position> legalMoves) {
+
+        boolean canAction() {
+            return state.isCanAction();
+        }
+
+        boolean isCapturable() {
+            return state.isCanCapturable();
+        }
+    }
+
+    private final int rows;
+    private final int cols;
+    private final long hash;
+
+    /** Pieces in play, in player order. */
+    private final List<SearchPiece> pieces;
+
+    /** Piece standing on each square, {@code row * cols + col}, or null. */
+    private final SearchPiece[] grid;
+
+    private SearchPosition(int rows, int cols, long hash, List<SearchPiece> pieces, SearchPiece[] grid) {
+        this.rows = rows;
+        this.cols = cols;
+        this.hash = hash;
+        this.pieces = pieces;
+        this.grid = grid;
+    }
+
+    /**
+     * Copies a board. Must run on the thread updating it.
+     *
+     * @param board    the board
+     * @param searcher id of the player whose legal moves are computed
+     * @return the frozen position
+     */
+    static SearchPosition of(IBoard board, int searcher) {
+        int rows = board.getRows();
+        int cols = board.getCols();
+        Map<IPiece, SearchPiece> copies = new IdentityHashMap<>();
+        List<SearchPiece> pieces = new ArrayList<>();
+        for (IPlayer player : board.getPlayers()) {
+            for (IPiece piece : player.getPieces()) {
+                if (piece.isCaptured()) continue;
+                SearchPiece copy = copy(board, piece, searcher);
+                copies.put(piece, copy);
+                pieces.add(copy);
+            }
+        }
+
+        SearchPiece[] grid = new SearchPiece[rows * cols];
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                IPiece piece = board.getPiece(new Position(row, col));
+                // A piece that lost on arrival may still stand on the grid
+                if (piece != null) grid[row * cols + col] = copies.computeIfAbsent(piece, p -> copy(board, p, searcher));
+            }
+        }
+        return new SearchPosition(rows, cols, board.getHash(), List.copyOf(pieces), grid);
+    }
+
+    private static SearchPiece copy(IBoard board, IPiece piece, int searcher) {
+        Position pos = piece.getPos().copy();
+        List<Position> legal = piece.getPlayer() == searcher && piece.canAction()
+                ? List.copyOf(board.getLegalMoves(pos))
+                : List.of();
+        return new SearchPiece(piece.getType(), piece.getPlayer(), pos, piece.getCurrentState().getName(),
+                piece.isFirstMove(), piece.getMoves(), legal);
+    }
+
+    int getRows() {
+        return rows;
+    }
+
+    int getCols() {
+        return cols;
+    }
+
+    long getHash() {
+        return hash;
+    }
+
+    /**
+     * @return the pieces in play, in player order
+     */
+    List<SearchPiece> getPieces() {
+        return pieces;
+    }
+
+    /**
+     * @return the piece standing on a square, or null
+     */
+    SearchPiece getPiece(Position pos) {
+        return isInBounds(pos) ? grid[pos.getRow() * cols + pos.getCol()] : null;
+    }
+
+    boolean hasPiece(Position pos) {
+        return getPiece(pos) != null;
+    }
+
+    private boolean isInBounds(Position pos) {
+        return pos.getRow() >= 0 && pos.getRow() < rows && pos.getCol() >= 0 && pos.getCol() < cols;
+    }
+}
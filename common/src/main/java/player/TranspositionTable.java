@@ -0,0 +1,72 @@
+package player;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size, lock-free cache of search results keyed by a 64-bit position/move hash.
+ * <p>
+ * Each slot holds two longs, {@code key ^ value} and {@code value}, written without locking
+ * (the "lockless hashing" scheme of chess engines). A reader recomputes the key from both
+ * words, so a slot torn by two concurrent writers simply reads as a miss. Colliding entries
+ * replace each other; the table never grows.
+ * </p>
+ */
+public final class TranspositionTable {
+
+    /** Value returned by {@link #get(long)} on a miss. */
+    public static final double MISS = Double.NaN;
+
+    private final AtomicLongArray slots;
+    private final int mask;
+
+    /**
+     * Creates a table.
+     *
+     * @param capacity number of entries, rounded up to a power of two
+     */
+    public TranspositionTable(int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("capacity must be > 0");
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) size <<= 1;
+        this.slots = new AtomicLongArray(2 * size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Looks up a value.
+     *
+     * @param key the hash key
+     * @return the stored value, or {@link #MISS}
+     */
+    public double get(long key) {
+        int i = index(key);
+        long check = slots.getOpaque(i);
+        long value = slots.getOpaque(i + 1);
+        return (check ^ value) == key && (check | value) != 0 ? Double.longBitsToDouble(value) : MISS;
+    }
+
+    /**
+     * Stores a value, replacing whatever occupied the slot.
+     *
+     * @param key   the hash key
+     * @param value the value; NaN is not stored, nor 0.0 under key 0, which reads like an empty slot
+     */
+    public void put(long key, double value) {
+        if (Double.isNaN(value)) return;
+        long bits = Double.doubleToRawLongBits(value);
+        int i = index(key);
+        slots.setOpaque(i, key ^ bits);
+        slots.setOpaque(i + 1, bits);
+    }
+
+    /**
+     * @return number of entries the table holds
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    private int index(long key) {
+        return 2 * ((int) (key ^ (key >>> 32)) & mask);
+    }
+}
@@ -0,0 +1,37 @@
+package profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning the resolution of a capture when a piece lands on an occupied square.
+ */
+@Name("kfchess.Capture")
+@Label("Capture Resolution")
+@Category({"KFChess", "Pieces"})
+@Description("A piece arrived on an occupied square and one of the two was captured")
+@StackTrace(false)
+public class CaptureEvent extends jdk.jfr.Event {
+
+    @Label("Square")
+    public String square;
+
+    @Label("Arriving Piece")
+    public String arrivingType;
+
+    @Label("Arriving Player")
+    public int arrivingPlayer;
+
+    @Label("Occupant")
+    public String occupantType;
+
+    @Label("Occupant Player")
+    public int occupantPlayer;
+
+    @Label("Occupant Captured")
+    @Description("True if the occupant was captured; false if it could not be and the arriving piece was lost")
+    public boolean occupantCaptured;
+}
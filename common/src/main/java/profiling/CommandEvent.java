@@ -0,0 +1,35 @@
+package profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning the execution of a player command.
+ */
+@Name("kfchess.Command")
+@Label("Command Execution")
+@Category({"KFChess", "Commands"})
+@Description("Validation and execution of a move or jump command")
+@StackTrace(false)
+public class CommandEvent extends jdk.jfr.Event {
+
+    @Label("Command")
+    @Description("MOVE or JUMP")
+    public String command;
+
+    @Label("Player")
+    public int player;
+
+    @Label("From")
+    public String from;
+
+    @Label("To")
+    public String to;
+
+    @Label("Accepted")
+    @Description("False if the command was rejected as illegal")
+    public boolean accepted;
+}
@@ -0,0 +1,35 @@
+package profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning the JSON encoding or decoding of a network message.
+ */
+@Name("kfchess.MessageCodec")
+@Label("Message Encode/Decode")
+@Category({"KFChess", "Network"})
+@Description("Serialization of an outgoing or parsing of an incoming WebSocket message")
+@StackTrace(false)
+public class MessageCodecEvent extends jdk.jfr.Event {
+
+    /** Value of {@link #operation} for outgoing messages. */
+    public static final String ENCODE = "encode";
+
+    /** Value of {@link #operation} for incoming messages. */
+    public static final String DECODE = "decode";
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Message Type")
+    public String messageType;
+
+    @Label("Size")
+    @DataAmount
+    public long bytes;
+}
@@ -0,0 +1,31 @@
+package profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning a piece state-machine transition.
+ */
+@Name("kfchess.StateTransition")
+@Label("Piece State Transition")
+@Category({"KFChess", "Pieces"})
+@Description("Transition of a piece's state machine, including the reset of the new state")
+@StackTrace(false)
+public class StateTransitionEvent extends jdk.jfr.Event {
+
+    @Label("Trigger")
+    public String trigger;
+
+    @Label("From State")
+    public String fromState;
+
+    @Label("To State")
+    public String toState;
+
+    @Label("Target")
+    @Description("Square the new state moves towards")
+    public String target;
+}
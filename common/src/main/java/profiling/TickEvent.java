@@ -0,0 +1,29 @@
+package profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning one game-loop tick.
+ */
+@Name("kfchess.Tick")
+@Label("Game Tick")
+@Category({"KFChess", "Game Loop"})
+@Description("One game-loop tick: win check, board update, command execution and event publishing")
+@StackTrace(false)
+public class TickEvent extends jdk.jfr.Event {
+
+    @Label("Commands")
+    @Description("Commands executed in the tick")
+    public int commands;
+
+    @Label("Pieces")
+    @Description("Pieces updated in the tick")
+    public int pieces;
+
+    @Label("Game Over")
+    public boolean gameOver;
+}
@@ -0,0 +1,210 @@
+package replay;
+
+import board.BoardConfig;
+import board.PieceTable;
+import command.IllegalCmdException;
+import command.JumpCommand;
+import command.MoveCommand;
+import constants.BoardConstants;
+import constants.GameConstants;
+import game.GameFactory;
+import interfaces.IBoard;
+import interfaces.ICommand;
+import interfaces.IGame;
+import interfaces.IPiece;
+import interfaces.IPlayer;
+import journal.JournalEntry;
+import player.PlayerFactory;
+import utils.TickClock;
+
+import java.awt.*;
+import java.util.List;
+
+/**
+ * Re-simulates recorded games headlessly, as fast as the CPU allows.
+ * <p>
+ * Each replay builds a fresh game with {@link GameFactory} on a {@link TickClock} and calls
+ * {@link IGame#update()} in a tight loop, one call per recorded tick. After the update of a tick,
+ * the commands journaled for that tick are executed, which is where the live game executed them.
+ * The timeline is exact for games recorded in fixed-timestep mode; for games recorded on the
+ * wall clock, commands land on the right tick but piece timings may differ by up to a tick.
+ * </p>
+ * <p>
+ * A cross-checking replayer also plays the journal on a {@link PieceTable} copied from the
+ * initial board, and reports the first tick after which its hash differs from the board's.
+ * </p>
+ * <p>
+ * A replayer holds no per-game state, so one instance can replay many games concurrently.
+ * </p>
+ */
+public class GameReplayer {
+
+    /** Default number of ticks simulated after the last command: 12 s, enough for every action and rest. */
+    public static final long DEFAULT_SETTLE_TICKS = 12_000 / GameConstants.GAME_LOOP_MS;
+
+    private final BoardConfig boardConfig;
+    private final long tickNanos;
+    private final long settleTicks;
+    private final boolean crossCheck;
+
+    /**
+     * Creates a replayer for games played on the server's board at the game loop rate.
+     */
+    public GameReplayer() {
+        this(defaultBoardConfig(), GameConstants.GAME_LOOP_MS * 1_000_000L, DEFAULT_SETTLE_TICKS);
+    }
+
+    /**
+     * Creates a replayer.
+     *
+     * @param boardConfig board the games were played on
+     * @param tickNanos   tick length the games were recorded with
+     * @param settleTicks ticks simulated after the last command, unless the game ends earlier
+     */
+    public GameReplayer(BoardConfig boardConfig, long tickNanos, long settleTicks) {
+        this(boardConfig, tickNanos, settleTicks, false);
+    }
+
+    /**
+     * Creates a replayer, optionally cross-checking every replay on a {@link PieceTable}.
+     *
+     * @param boardConfig board the games were played on
+     * @param tickNanos   tick length the games were recorded with
+     * @param settleTicks ticks simulated after the last command, unless the game ends earlier
+     * @param crossCheck  whether to replay on a piece table too and compare hashes every tick
+     */
+    public GameReplayer(BoardConfig boardConfig, long tickNanos, long settleTicks, boolean crossCheck) {
+        this.boardConfig = boardConfig;
+        this.tickNanos = tickNanos;
+        this.settleTicks = settleTicks;
+        this.crossCheck = crossCheck;
+    }
+
+    /**
+     * @param crossCheck whether to replay on a piece table too and compare hashes every tick
+     * @return a replayer for games played on the server's board at the game loop rate
+     */
+    public static GameReplayer forServerGames(boolean crossCheck) {
+        return new GameReplayer(defaultBoardConfig(), GameConstants.GAME_LOOP_MS * 1_000_000L,
+                DEFAULT_SETTLE_TICKS, crossCheck);
+    }
+
+    /**
+     * @return the board configuration the server uses for new games
+     */
+    public static BoardConfig defaultBoardConfig() {
+        return new BoardConfig(
+                new Dimension(BoardConstants.BOARD_ROWS, BoardConstants.BOARD_COLS),
+                new Dimension(BoardConstants.SQUARE_SIZE * BoardConstants.BOARD_ROWS,
+                        BoardConstants.SQUARE_SIZE * BoardConstants.BOARD_COLS),
+                new Dimension(BoardConstants.BOARD_WIDTH_M, BoardConstants.BOARD_HEIGHT_M)
+        );
+    }
+
+    /**
+     * Creates a new game in its initial position, driven by the given clock.
+     *
+     * @param clock the game clock
+     * @return the game, started at the clock's current time
+     */
+    public IGame newGame(TickClock clock) {
+        IPlayer[] players = PlayerFactory.createPlayers(new String[]{"replay-0", "replay-1"}, boardConfig, clock);
+        IGame game = GameFactory.createNewGame(boardConfig, players, clock);
+        game.setStartTimeNano(clock.nanoTime());
+        return game;
+    }
+
+    /**
+     * Replays one recorded game.
+     *
+     * @param name    name of the recording, copied into the result
+     * @param entries the recorded commands in tick order
+     * @return the outcome of the replay
+     */
+    public ReplayResult replay(String name, List<JournalEntry> entries) {
+        TickClock clock = new TickClock(tickNanos);
+        IGame game = newGame(clock);
+        return replay(name, game, clock, entries);
+    }
+
+    /**
+     * Replays recorded commands on a prepared game.
+     *
+     * @param name    name of the recording, copied into the result
+     * @param game    a game in its initial position, driven by {@code clock}
+     * @param clock   the game clock, at tick 0
+     * @param entries the recorded commands in tick order
+     * @return the outcome of the replay
+     */
+    public ReplayResult replay(String name, IGame game, TickClock clock, List<JournalEntry> entries) {
+        IBoard board = game.getBoard();
+        // Stops being played once it diverged
+        PieceTable table = crossCheck ? PieceTable.of(board) : null;
+        long divergedTick = -1;
+        long lastTick = entries.isEmpty() ? 0 : entries.get(entries.size() - 1).tick();
+        long endTick = lastTick + settleTicks;
+
+        int next = 0;
+        int rejected = 0;
+        IPlayer winner = null;
+        while (clock.getTick() < endTick && (winner = game.win()) == null) {
+            long tick = clock.advance();
+            game.update();
+            if (table != null) table.tick(clock.nanoTime());
+
+            while (next < entries.size() && entries.get(next).tick() == tick) {
+                if (!execute(board, entries.get(next), tick)) rejected++;
+                if (table != null) execute(table, entries.get(next), clock.nanoTime());
+                next++;
+            }
+            if (table != null && table.getHash() != board.getHash()) {
+                divergedTick = tick;
+                table = null;
+            }
+            // Entries for ticks that were never reached (out of order) count as rejected
+            while (next < entries.size() && entries.get(next).tick() < tick) {
+                rejected++;
+                next++;
+            }
+        }
+
+        return new ReplayResult(name, clock.getTick(), next, rejected,
+                winner == null ? -1 : winner.getId(), divergedTick);
+    }
+
+    /**
+     * Executes one recorded command.
+     *
+     * @return true if the command was accepted
+     */
+    private static boolean execute(IBoard board, JournalEntry entry, long tick) {
+        ICommand command;
+        if (entry.kind() == JournalEntry.Kind.JUMP) {
+            IPiece piece = board.getPiece(entry.from());
+            if (piece == null) return false;
+            command = new JumpCommand(piece, board);
+        } else {
+            if (board.getPiece(entry.from()) == null) return false;
+            command = new MoveCommand(entry.from(), entry.to(), board);
+        }
+        command.execute();
+        return command.toJournalEntry(tick).isPresent();
+    }
+
+    /**
+     * Executes one recorded command on a piece table; a rejected command leaves it unchanged.
+     */
+    private static void execute(PieceTable table, JournalEntry entry, long now) {
+        int cols = table.getCols();
+        int from = entry.from().getRow() * cols + entry.from().getCol();
+        try {
+            if (entry.kind() == JournalEntry.Kind.JUMP) {
+                table.jump(from, now);
+            } else {
+                table.move(from, entry.to().getRow() * cols + entry.to().getCol(), now);
+            }
+        } catch (IllegalCmdException e) {
+            // The board rejected it too, or the hashes diverge at this tick
+        }
+    }
+}
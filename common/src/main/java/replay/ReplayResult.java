@@ -0,0 +1,23 @@
+package replay;
+
+/**
+ * Outcome of replaying one recorded game.
+ *
+ * @param name     name of the replayed journal
+ * @param ticks    ticks simulated
+ * @param commands journaled commands replayed
+ * @param rejected journaled commands the replayed game did not accept; non-zero means the
+ *                 replay diverged from the recorded game
+ * @param winner   ID of the winning player, or -1 if the game did not end
+ * @param divergedTick first tick after which the cross-checking piece table's hash differed from
+ *                     the board's, or -1 if it never did or the replay was not cross-checked
+ */
+public record ReplayResult(String name, long ticks, int commands, int rejected, int winner, long divergedTick) {
+
+    /**
+     * @return true if every journaled command was accepted again and the cross-check, if any, agreed
+     */
+    public boolean isConsistent() {
+        return rejected == 0 && divergedTick < 0;
+    }
+}
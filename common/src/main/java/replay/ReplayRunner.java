@@ -0,0 +1,127 @@
+package replay;
+
+import journal.JournalEntry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Replays batches of recorded games in parallel and measures throughput.
+ * <p>
+ * Replays are CPU-bound and independent, so they run on a fixed pool with one
+ * platform thread per core (or the given number of threads).
+ * </p>
+ */
+public class ReplayRunner implements AutoCloseable {
+
+    /**
+     * Outcome of a batch of replays.
+     *
+     * @param results      per-game results, in submission order
+     * @param elapsedNanos wall-clock time of the whole batch
+     */
+    public record Report(List<ReplayResult> results, long elapsedNanos) {
+
+        /** @return number of games replayed */
+        public int games() {
+            return results.size();
+        }
+
+        /** @return total ticks simulated */
+        public long ticks() {
+            return results.stream().mapToLong(ReplayResult::ticks).sum();
+        }
+
+        /** @return total journaled commands replayed */
+        public long commands() {
+            return results.stream().mapToLong(ReplayResult::commands).sum();
+        }
+
+        /** @return number of games whose replay diverged from the recording */
+        public long inconsistent() {
+            return results.stream().filter(r -> !r.isConsistent()).count();
+        }
+
+        /** @return replay throughput in games per second */
+        public double gamesPerSecond() {
+            return elapsedNanos == 0 ? 0 : games() * 1e9 / elapsedNanos;
+        }
+
+        /** @return simulation throughput in ticks per second */
+        public double ticksPerSecond() {
+            return elapsedNanos == 0 ? 0 : ticks() * 1e9 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d games, %d ticks, %d commands, %d inconsistent in %.3f s: %.1f games/s, %.0f ticks/s",
+                    games(), ticks(), commands(), inconsistent(), elapsedNanos / 1e9,
+                    gamesPerSecond(), ticksPerSecond());
+        }
+    }
+
+    private final GameReplayer replayer;
+    private final ExecutorService pool;
+
+    /**
+     * Creates a runner with one thread per available core.
+     *
+     * @param replayer the replayer to run games with
+     */
+    public ReplayRunner(GameReplayer replayer) {
+        this(replayer, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a runner.
+     *
+     * @param replayer the replayer to run games with
+     * @param threads  number of games replayed concurrently
+     */
+    public ReplayRunner(GameReplayer replayer, int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Thread count must be positive: " + threads);
+        }
+        this.replayer = replayer;
+        AtomicInteger seq = new AtomicInteger();
+        this.pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "replay-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Replays every recording once, in parallel, and waits for all of them.
+     *
+     * @param recordings recorded commands by recording name
+     * @return the batch report
+     * @throws InterruptedException if interrupted while waiting
+     * @throws ExecutionException   if a replay failed
+     */
+    public Report run(Map<String, List<JournalEntry>> recordings) throws InterruptedException, ExecutionException {
+        long start = System.nanoTime();
+        List<Future<ReplayResult>> futures = new ArrayList<>(recordings.size());
+        recordings.forEach((name, entries) -> futures.add(pool.submit(() -> replayer.replay(name, entries))));
+
+        List<ReplayResult> results = new ArrayList<>(futures.size());
+        for (Future<ReplayResult> f : futures) {
+            results.add(f.get());
+        }
+        return new Report(results, System.nanoTime() - start);
+    }
+
+    /**
+     * Stops the worker threads.
+     */
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+}
@@ -32,10 +32,9 @@ public class GraphicsData implements IGraphicsData {
     /** Timestamp in nanoseconds of the last frame update. */
     private long lastFrameTimeNanos;
 
-    /** Default constructor initializing frame index and timestamp. */
+    /** Default constructor initializing the frame index. */
     public GraphicsData() {
         this.currentFrame = 0;
-        this.lastFrameTimeNanos = System.nanoTime();
     }
 
     /**
@@ -49,14 +48,15 @@ public class GraphicsData implements IGraphicsData {
         this.totalFrames = frames.length;
         this.framesPerSec = framesPerSec;
         this.currentFrame = 0;
-        this.lastFrameTimeNanos = System.nanoTime();
     }
 
-    /** Resets animation to first frame and updates timestamp. */
+    /**
+     * Resets animation to the first frame. The frame timestamp is set by the owning state
+     * from the game clock via {@link #setLastFrameTimeNanos(long)}.
+     */
     @Override
     public void reset() {
         this.currentFrame = 0;
-        this.lastFrameTimeNanos = System.nanoTime();
     }
 
     /**
@@ -6,6 +6,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import constants.GameConstants;
 import interfaces.IPhysicsData;
 import pieces.Position;
+import utils.TickClock;
 
 /**
  * Manages physics for piece movement including speed, position, and timing.
@@ -56,6 +57,12 @@ public class PhysicsData implements IPhysicsData {
      */
     private long startTimeNanos;
 
+    /**
+     * Duration of the current action in nanoseconds, computed on reset;
+     * {@link Long#MAX_VALUE} if it never finishes.
+     */
+    private long durationNanos;
+
     /**
      * Default constructor; actionTime initialized to -1.
      */
@@ -80,6 +87,7 @@ public class PhysicsData implements IPhysicsData {
     @Override
     public void setSpeedMetersPerSec(double speedMetersPerSec) {
         this.speedMetersPerSec = speedMetersPerSec;
+        if (bc != null) durationNanos = computeDurationNanos();
     }
 
     /**
@@ -99,6 +107,24 @@ public class PhysicsData implements IPhysicsData {
         this.targetPos = to;
         this.bc = bc;
         this.startTimeNanos = startTimeNanos;
+        this.durationNanos = computeDurationNanos();
+    }
+
+    /**
+     * Computes the duration of the current action: the fixed action time if set,
+     * otherwise the time to cover the distance to the target at the piece's speed.
+     */
+    private long computeDurationNanos() {
+        if (actionTime != -1) {
+            return (long) (actionTime * GameConstants.NANOS_IN_SECOND);
+        }
+        if (speedMetersPerSec == 0) return Long.MAX_VALUE;
+
+        double dx = targetPos.dx(startPos) * (bc.physicsDimension().getWidth() / bc.gridDimension().getWidth());
+        double dy = targetPos.dy(startPos) * (bc.physicsDimension().getHeight() / bc.gridDimension().getHeight());
+        double totalDistance = Math.sqrt(dx * dx + dy * dy);
+
+        return (long) Math.ceil(totalDistance / speedMetersPerSec * GameConstants.NANOS_IN_SECOND);
     }
 
     @Override
@@ -127,23 +153,28 @@ public class PhysicsData implements IPhysicsData {
     }
 
     /**
-     * Returns true if the movement/action is finished.
+     * Returns true if the movement/action is finished. An integer comparison against the
+     * duration computed on reset, so on a {@link TickClock} it is exactly
+     * {@code elapsedTicks >= getDurationTicks(tickNanos)}.
      */
     @Override
     public boolean isActionFinished(long now) {
-        if (actionTime != -1) {
-            long elapsedNanos = now - startTimeNanos;
-            return elapsedNanos >= (long) (actionTime * GameConstants.NANOS_IN_SECOND);
-        }
+        return now - startTimeNanos >= durationNanos;
+    }
 
-        if (speedMetersPerSec == 0) return false;
+    @Override
+    public long getStartTimeNanos() {
+        return startTimeNanos;
+    }
 
-        double elapsedSec = (double) (now - startTimeNanos) / GameConstants.NANOS_IN_SECOND;
-        double dx = targetPos.dx(startPos) * (bc.physicsDimension().getWidth() / bc.gridDimension().getWidth());
-        double dy = targetPos.dy(startPos) * (bc.physicsDimension().getHeight() / bc.gridDimension().getHeight());
-        double totalDistance = Math.sqrt(dx * dx + dy * dy);
+    @Override
+    public long getDurationNanos() {
+        return durationNanos;
+    }
 
-        return speedMetersPerSec * elapsedSec >= totalDistance;
+    @Override
+    public long getDurationTicks(long tickNanos) {
+        return TickClock.toTicks(durationNanos, tickNanos);
     }
 
     @Override
@@ -4,6 +4,7 @@ import board.BoardConfig;
 import interfaces.*;
 import pieces.EPieceEvent;
 import pieces.Position;
+import utils.SystemClock;
 
 import java.util.Optional;
 
@@ -30,6 +31,9 @@ public class State implements IState {
     /** Board configuration */
     private final BoardConfig bc;
 
+    /** Game clock used to timestamp the start of each action */
+    private final IClock clock;
+
     /**
      * Constructs a State for a chess piece.
      *
@@ -42,12 +46,29 @@ public class State implements IState {
      */
     public State(EState name, Position startPos, Position targetPos,
                  BoardConfig bc, IPhysicsData physics, IGraphicsData graphics) {
+        this(name, startPos, targetPos, bc, physics, graphics, SystemClock.getInstance());
+    }
+
+    /**
+     * Constructs a State for a chess piece driven by the given game clock.
+     *
+     * @param name      State type
+     * @param startPos  Starting position
+     * @param targetPos Target position
+     * @param bc        Board configuration
+     * @param physics   Physics data
+     * @param graphics  Graphics data
+     * @param clock     Game clock
+     */
+    public State(EState name, Position startPos, Position targetPos,
+                 BoardConfig bc, IPhysicsData physics, IGraphicsData graphics, IClock clock) {
         this.name = name;
         this.startPos = startPos;
         this.targetPos = targetPos;
         this.physics = physics;
         this.graphics = graphics;
         this.bc = bc;
+        this.clock = clock;
     }
 
     /**
@@ -62,8 +83,11 @@ public class State implements IState {
             this.startPos = from;
             this.targetPos = to;
         }
-        long startTimeNanos = System.nanoTime();
-        if (graphics != null) graphics.reset();
+        long startTimeNanos = clock.nanoTime();
+        if (graphics != null) {
+            graphics.reset();
+            graphics.setLastFrameTimeNanos(startTimeNanos);
+        }
         if (physics != null) physics.reset(name, startPos, targetPos, bc, startTimeNanos);
     }
 
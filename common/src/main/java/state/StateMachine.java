@@ -6,6 +6,7 @@ import events.GameEvent;
 import interfaces.IState;
 import pieces.EPieceEvent;
 import pieces.Position;
+import profiling.StateTransitionEvent;
 
 import java.util.Map;
 import java.util.Optional;
@@ -21,6 +22,9 @@ public class StateMachine {
     /** Transition table defining valid state changes */
     private final TransitionTable transitionTable;
 
+    /** State the piece starts in, and returns to on {@link #reset(Position)} */
+    private final EState initState;
+
     /** Currently active state */
     private IState currentState;
 
@@ -35,10 +39,22 @@ public class StateMachine {
     public StateMachine(Map<EState, IState> mapState, TransitionTable transitions, EState initState, Position initPos) {
         this.transitionTable = transitions;
         this.mapState = mapState;
+        this.initState = initState;
         this.currentState = mapState.get(initState);
         this.currentState.reset(initPos, initPos);
     }
 
+    /**
+     * Returns to the initial state, restarted now at the given position, as if just constructed.
+     * No transition event is published.
+     *
+     * @param pos Position of the piece
+     */
+    public void reset(Position pos) {
+        currentState = mapState.get(initState);
+        currentState.reset(pos, pos);
+    }
+
     /**
      * Processes a piece event and transitions to the next state.
      *
@@ -47,6 +63,10 @@ public class StateMachine {
      * @param to    Target position
      */
     public void onEvent(EPieceEvent event, Position from, Position to) {
+        StateTransitionEvent jfr = new StateTransitionEvent();
+        jfr.begin();
+        EState previous = currentState.getName();
+
         if (event == EPieceEvent.DONE && currentState.getName() == EState.MOVE) {
             EventPublisher.getInstance().publish(
                     EGameEvent.PIECE_END_MOVED,
@@ -57,6 +77,14 @@ public class StateMachine {
         EState next = transitionTable.next(currentState.getName(), event);
         currentState = mapState.get(next);
         currentState.reset(from, to);
+
+        if (jfr.shouldCommit()) {
+            jfr.trigger = event.name();
+            jfr.fromState = previous.name();
+            jfr.toState = next.name();
+            jfr.target = String.valueOf(to);
+            jfr.commit();
+        }
     }
 
     /**
@@ -0,0 +1,28 @@
+package utils;
+
+import interfaces.IClock;
+
+/**
+ * Clock backed by {@link System#nanoTime()}; the default clock of a game.
+ */
+public class SystemClock implements IClock {
+
+    private static final SystemClock INSTANCE = new SystemClock();
+
+    private SystemClock() {
+    }
+
+    /**
+     * Returns the shared system clock instance.
+     *
+     * @return System clock
+     */
+    public static SystemClock getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public long nanoTime() {
+        return System.nanoTime();
+    }
+}
@@ -0,0 +1,116 @@
+package utils;
+
+import constants.GameConstants;
+import interfaces.IClock;
+
+/**
+ * Game clock that only moves when told to, by whole ticks of fixed length.
+ * <p>
+ * Driving a game with a tick clock makes it deterministic: every timestamp the engine sees
+ * (action start times, deadlines, animation frames) is {@code origin + tick * tickNanos},
+ * so the same inputs at the same ticks always produce the same timeline, regardless of
+ * how long each tick took to compute.
+ * </p>
+ */
+public class TickClock implements IClock {
+
+    /**
+     * Default time of tick 0. Non-zero because a start time of 0 means "not started" to the game.
+     */
+    public static final long DEFAULT_ORIGIN_NANOS = GameConstants.NANOS_IN_SECOND;
+
+    private final long tickNanos;
+    private final long originNanos;
+
+    /** Ticks elapsed since the origin; written by the tick thread only. */
+    private volatile long tick;
+
+    /**
+     * Creates a clock at tick 0 with the default origin.
+     *
+     * @param tickNanos length of one tick in nanoseconds
+     */
+    public TickClock(long tickNanos) {
+        this(tickNanos, DEFAULT_ORIGIN_NANOS);
+    }
+
+    /**
+     * Creates a clock at tick 0.
+     *
+     * @param tickNanos   length of one tick in nanoseconds
+     * @param originNanos time of tick 0 in nanoseconds
+     */
+    public TickClock(long tickNanos, long originNanos) {
+        if (tickNanos <= 0) {
+            throw new IllegalArgumentException("Tick length must be positive: " + tickNanos);
+        }
+        this.tickNanos = tickNanos;
+        this.originNanos = originNanos;
+    }
+
+    /**
+     * Creates a clock ticking at the game loop rate ({@link GameConstants#GAME_LOOP_MS}).
+     *
+     * @return a new clock at tick 0
+     */
+    public static TickClock atGameLoopRate() {
+        return new TickClock(GameConstants.GAME_LOOP_MS * 1_000_000L);
+    }
+
+    @Override
+    public long nanoTime() {
+        return originNanos + tick * tickNanos;
+    }
+
+    /**
+     * Advances the clock by one tick.
+     *
+     * @return the new tick number
+     */
+    public long advance() {
+        return ++tick;
+    }
+
+    /**
+     * Moves the clock back to tick 0, e.g. before the game it drives is played again.
+     */
+    public void reset() {
+        tick = 0;
+    }
+
+    /**
+     * @return ticks elapsed since the origin
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * @return length of one tick in nanoseconds
+     */
+    public long getTickNanos() {
+        return tickNanos;
+    }
+
+    /**
+     * Converts a duration to the number of whole ticks it takes to elapse on this clock.
+     *
+     * @param nanos a non-negative duration in nanoseconds
+     * @return the duration rounded up to whole ticks
+     */
+    public long toTicks(long nanos) {
+        return toTicks(nanos, tickNanos);
+    }
+
+    /**
+     * Converts a duration to whole ticks of the given length.
+     *
+     * @param nanos     a non-negative duration in nanoseconds; {@link Long#MAX_VALUE} stands for "never"
+     * @param tickNanos tick length in nanoseconds
+     * @return the duration rounded up to whole ticks
+     */
+    public static long toTicks(long nanos, long tickNanos) {
+        if (nanos == Long.MAX_VALUE) return Long.MAX_VALUE;
+        return nanos / tickNanos + (nanos % tickNanos == 0 ? 0 : 1);
+    }
+}
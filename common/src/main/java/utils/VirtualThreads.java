@@ -0,0 +1,101 @@
+package utils;
+
+import interfaces.AppLogger;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Access to virtual threads without requiring a Java 21 compile target.
+ * <p>
+ * The project compiles for Java 17, while deployments run on Java 21. The virtual-thread
+ * APIs are therefore looked up reflectively once; on older runtimes the methods fall back
+ * to daemon platform threads so callers behave the same, only less cheaply.
+ * </p>
+ */
+public final class VirtualThreads {
+
+    private static final AppLogger logger = new Slf4jAdapter(VirtualThreads.class);
+
+    /** {@code Executors.newVirtualThreadPerTaskExecutor()}, or null before Java 21. */
+    private static final Method NEW_PER_TASK_EXECUTOR = lookup(Executors.class, "newVirtualThreadPerTaskExecutor");
+
+    /** {@code Thread.startVirtualThread(Runnable)}, or null before Java 21. */
+    private static final Method START_VIRTUAL_THREAD = lookup(Thread.class, "startVirtualThread", Runnable.class);
+
+    private static final AtomicInteger platformThreadCount = new AtomicInteger();
+
+    // Prevent instantiation
+    private VirtualThreads() {
+    }
+
+    /**
+     * @return true if the running JVM provides virtual threads
+     */
+    public static boolean isSupported() {
+        return NEW_PER_TASK_EXECUTOR != null && START_VIRTUAL_THREAD != null;
+    }
+
+    /**
+     * Creates an executor that runs every task in its own new thread: a virtual thread
+     * when supported, otherwise a daemon platform thread.
+     *
+     * @param name prefix of platform thread names (virtual threads are unnamed)
+     * @return the executor
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String name) {
+        if (NEW_PER_TASK_EXECUTOR != null) {
+            try {
+                return (ExecutorService) NEW_PER_TASK_EXECUTOR.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                logger.warn("Virtual thread executor unavailable, using platform threads: " + e);
+            }
+        }
+        return Executors.newCachedThreadPool(platformThreadFactory(name));
+    }
+
+    /**
+     * Starts a task in a new thread: a virtual thread when supported, otherwise a daemon platform thread.
+     *
+     * @param name platform thread name prefix (virtual threads are unnamed)
+     * @param task the task to run
+     * @return the started thread
+     */
+    public static Thread start(String name, Runnable task) {
+        if (START_VIRTUAL_THREAD != null) {
+            try {
+                return (Thread) START_VIRTUAL_THREAD.invoke(null, task);
+            } catch (ReflectiveOperationException e) {
+                logger.warn("Virtual threads unavailable, using platform threads: " + e);
+            }
+        }
+        Thread t = platformThreadFactory(name).newThread(task);
+        t.start();
+        return t;
+    }
+
+    /**
+     * Factory of daemon platform threads named {@code name-N}.
+     */
+    private static ThreadFactory platformThreadFactory(String name) {
+        return r -> {
+            Thread t = new Thread(r, name + "-" + platformThreadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    /**
+     * Looks up a public static method, returning null if the runtime does not have it.
+     */
+    private static Method lookup(Class<?> owner, String name, Class<?>... parameterTypes) {
+        try {
+            return owner.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -1,11 +1,19 @@
 package board;
 
 import command.IllegalCmdException;
+import constants.BoardConstants;
 import interfaces.IBoardEngine;
+import interfaces.IGraphicsData;
+import interfaces.IPhysicsData;
 import interfaces.IPlayer;
 import interfaces.IPiece;
+import interfaces.IState;
 import org.junit.jupiter.api.Test;
+import pieces.EPieceType;
 import pieces.Position;
+import player.PlayerFactory;
+import state.EState;
+import utils.TickClock;
 
 import java.awt.*;
 import java.util.ArrayList;
@@ -22,6 +30,13 @@ import static org.mockito.Mockito.*;
 class BoardTest {
 
     private Board createBoardWithPiece(IBoardEngine engine, IPiece piece, IPlayer player) {
+        // The board publishes a snapshot of its pieces when constructed
+        if (piece.getCurrentState() == null) {
+            IState state = mock(IState.class);
+            when(state.getPhysics()).thenReturn(mock(IPhysicsData.class));
+            when(state.getGraphics()).thenReturn(mock(IGraphicsData.class));
+            when(piece.getCurrentState()).thenReturn(state);
+        }
         BoardConfig config = new BoardConfig(new Dimension(8, 8), new Dimension(0, 0), new Dimension(0, 0));
         return new Board(config, engine, new IPlayer[]{player});
     }
@@ -165,4 +180,118 @@ class BoardTest {
         verify(engine).handleUpdatePiece(same(board), eq(player), eq(piece), anyLong());
         verify(piece).update(anyLong());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testPublishedSnapshotIsDetachedFromLiveBoard() {
+        IBoardEngine engine = mock(IBoardEngine.class);
+        IPiece piece = mock(IPiece.class);
+        IPiece captured = mock(IPiece.class);
+        IState state = mock(IState.class);
+        IPhysicsData physics = mock(IPhysicsData.class);
+        IGraphicsData graphics = mock(IGraphicsData.class);
+        when(piece.getPos()).thenReturn(new Position(6, 4));
+        when(piece.getType()).thenReturn(EPieceType.P);
+        when(piece.getPlayer()).thenReturn(0);
+        when(piece.getCurrentState()).thenReturn(state);
+        when(captured.getPos()).thenReturn(new Position(1, 1));
+        when(captured.isCaptured()).thenReturn(true);
+        when(state.getName()).thenReturn(EState.IDLE);
+        when(state.getPhysics()).thenReturn(physics);
+        when(state.getGraphics()).thenReturn(graphics);
+        when(physics.getCurrentX()).thenReturn(4.0);
+        when(physics.getCurrentY()).thenReturn(6.0);
+
+        IPlayer player = mock(IPlayer.class);
+        when(player.getPieces()).thenReturn(List.of(piece, captured));
+
+        Board board = createBoardWithPiece(engine, piece, player);
+        BoardSnapshot published = board.publishSnapshot(7);
+
+        assertSame(published, board.getSnapshot());
+        assertEquals(7, published.tick());
+        assertEquals(1, published.pieces().size());
+        assertEquals(1, published.countPieces(0));
+        BoardSnapshot.PieceSnapshot p = published.pieces().get(0);
+        assertEquals(EPieceType.P, p.type());
+        assertEquals(6, p.row());
+        assertEquals(4, p.col());
+        assertEquals(4.0, p.x());
+        assertThrows(UnsupportedOperationException.class, () -> published.pieces().clear());
+
+        // Later changes to the live piece only show up in the next snapshot
+        when(piece.getPos()).thenReturn(new Position(4, 4));
+        when(state.getName()).thenReturn(EState.MOVE);
+        assertEquals(6, published.pieces().get(0).row());
+        assertEquals(EState.IDLE, published.pieces().get(0).state());
+
+        BoardSnapshot next = board.publishSnapshot(8);
+        assertSame(next, board.getSnapshot());
+        assertEquals(4, next.pieces().get(0).row());
+        assertEquals(EState.MOVE, next.pieces().get(0).state());
+    }
+
+    @Test
+    void testRefreshSnapshotOnlyCapturesAfterARead() {
+        BoardConfig bc = new BoardConfig(
+                new Dimension(BoardConstants.BOARD_ROWS, BoardConstants.BOARD_COLS),
+                new Dimension(BoardConstants.BOARD_ROWS * 64, BoardConstants.BOARD_COLS * 64),
+                new Dimension(BoardConstants.BOARD_ROWS, BoardConstants.BOARD_COLS));
+        TickClock clock = TickClock.atGameLoopRate();
+        Board board = new Board(bc, new KFCEngine(),
+                PlayerFactory.createPlayers(new String[]{"a", "b"}, bc, clock), clock);
+
+        board.refreshSnapshot(1);
+        BoardSnapshot initial = board.getSnapshot();
+        assertEquals(0, initial.tick(), "published at construction, and not refreshed before a read");
+        assertEquals(32, initial.pieces().size());
+
+        board.refreshSnapshot(2);
+        board.refreshSnapshot(3);
+        assertEquals(2, board.getSnapshot().tick(), "the read asked for one fresh snapshot");
+
+        board.refreshSnapshot(4);
+        assertEquals(4, board.getSnapshot().tick());
+
+        for (long tick = 5; tick <= 100; tick++) board.refreshSnapshot(tick);
+        assertEquals(5, board.getSnapshot().tick(), "the first read after a gap is as old as the gap");
+        board.refreshSnapshot(101);
+        assertEquals(101, board.getSnapshot().tick());
+    }
+
+    @Test
+    void testIncrementalHashMatchesRecomputationDuringPlay() {
+        BoardConfig bc = new BoardConfig(
+                new Dimension(BoardConstants.BOARD_ROWS, BoardConstants.BOARD_COLS),
+                new Dimension(BoardConstants.SQUARE_SIZE * BoardConstants.BOARD_ROWS,
+                        BoardConstants.SQUARE_SIZE * BoardConstants.BOARD_COLS),
+                new Dimension(BoardConstants.BOARD_WIDTH_M, BoardConstants.BOARD_HEIGHT_M));
+        TickClock clock = TickClock.atGameLoopRate();
+        Board board = new Board(bc, new KFCEngine(),
+                PlayerFactory.createPlayers(new String[]{"a", "b"}, bc, clock), clock);
+        Board twin = new Board(bc, new KFCEngine(),
+                PlayerFactory.createPlayers(new String[]{"c", "d"}, bc, clock), clock);
+
+        long initial = board.getHash();
+        assertEquals(twin.getHash(), initial, "same position, same hash");
+        assertEquals(board.computeHash(), initial);
+
+        for (int tick = 1; tick <= 1200; tick++) {
+            clock.advance();
+            if (tick == 800) { // pieces start in a long rest
+                long beforeMove = board.getHash();
+                board.move(new Position(1, 3), new Position(3, 3));
+                assertNotEquals(beforeMove, board.getHash());
+                board.move(new Position(6, 4), new Position(4, 4));
+                board.jump(board.getPiece(new Position(0, 1)));
+                assertEquals(board.computeHash(), board.getHash());
+            }
+            board.updateAll();
+            twin.updateAll();
+            assertEquals(board.computeHash(), board.getHash(), "tick " + tick);
+        }
+
+        assertNotNull(board.getPiece(new Position(3, 3)));
+        assertNotEquals(initial, board.getHash());
+        assertNotEquals(twin.getHash(), board.getHash());
+    }
+}
@@ -61,8 +61,8 @@ class KFCEngineTest {
         when(piece.getMoves()).thenReturn(List.of(new Move(0, 2, null)));
         when(piece.getType()).thenReturn(EPieceType.R);
         when(piece.getPlayer()).thenReturn(0);
-        when(board.hasPiece(any(Position.class))).thenReturn(false);
-        when(board.hasPiece(block)).thenReturn(true); // path blocked
+        when(board.hasPiece(anyInt(), anyInt())).thenReturn(false);
+        when(board.hasPiece(block.getRow(), block.getCol())).thenReturn(true); // path blocked
         when(board.getPiece(to)).thenReturn(null);
         when(board.getTarget(to)).thenReturn(-1);
 
@@ -0,0 +1,112 @@
+package board;
+
+import interfaces.IPiece;
+import org.junit.jupiter.api.Test;
+import pieces.Position;
+import player.PlayerFactory;
+import replay.GameReplayer;
+import utils.TickClock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link OffHeapGameStore}: game records, their reuse, and games that play exactly
+ * like a {@link Board}, compared by hash.
+ */
+class OffHeapGameStoreTest {
+
+    private final BoardConfig bc = GameReplayer.defaultBoardConfig();
+    private final TickClock clock = TickClock.atGameLoopRate();
+    private final Board board = new Board(bc, new KFCEngine(),
+            PlayerFactory.createPlayers(new String[]{"a", "b"}, bc, clock), clock);
+    private final OffHeapGameStore store = new OffHeapGameStore(PieceTable.of(board), 48, 64);
+
+    @Test
+    void create_startsEveryGameInTheStartLayout() {
+        for (int i = 0; i < 200; i++) {
+            int game = store.create();
+            assertEquals(board.getHash(), store.getHash(game));
+        }
+
+        assertEquals(200, store.size());
+        assertEquals(4L * 64 * store.recordBytes(), store.offHeapBytes());
+    }
+
+    @Test
+    void release_reusesTheRecordAndRejectsStaleIds() {
+        int first = store.create();
+        store.create();
+        clock.advance();
+        store.tick(first, clock.nanoTime());
+
+        store.release(first);
+
+        assertThrows(IllegalArgumentException.class, () -> store.getHash(first));
+        assertEquals(first, store.create());
+        assertEquals(board.getHash(), store.getHash(first));
+        assertEquals(2, store.size());
+    }
+
+    @Test
+    void gamesAreIndependent() {
+        int a = store.create();
+        int b = store.create();
+        for (int tick = 0; tick < 900; tick++) { // past the opening rest
+            clock.advance();
+            store.tick(a, clock.nanoTime());
+            store.tick(b, clock.nanoTime());
+        }
+        long rested = store.getHash(b);
+
+        store.move(a, 8 + 3, 3 * 8 + 3, clock.nanoTime());
+
+        assertNotEquals(rested, store.getHash(a));
+        assertEquals(rested, store.getHash(b));
+    }
+
+    @Test
+    void game_playsLikeBoard() {
+        int game = store.create();
+        Random random = new Random(11);
+
+        for (int tick = 1; tick <= 4000; tick++) {
+            List<Position> ready = readyPieces();
+            if (!ready.isEmpty() && random.nextInt(4) == 0) {
+                Position from = ready.get(random.nextInt(ready.size()));
+                List<Position> legal = board.getLegalMoves(from);
+
+                if (legal.isEmpty() || random.nextInt(5) == 0) {
+                    board.jump(board.getPiece(from));
+                    store.jump(game, sq(from), clock.nanoTime());
+                } else {
+                    Position to = legal.get(random.nextInt(legal.size()));
+                    board.move(from, to);
+                    store.move(game, sq(from), sq(to), clock.nanoTime());
+                }
+            }
+
+            clock.advance();
+            assertEquals(board.updateAll(), store.tick(game, clock.nanoTime()), "pieces in play at tick " + tick);
+            assertEquals(board.getHash(), store.getHash(game), "tick " + tick);
+        }
+    }
+
+    private List<Position> readyPieces() {
+        List<Position> ready = new ArrayList<>();
+        for (int r = 0; r < board.getRows(); r++) {
+            for (int c = 0; c < board.getCols(); c++) {
+                IPiece piece = board.getPiece(new Position(r, c));
+                if (piece != null && !piece.isCaptured() && piece.canAction()) ready.add(new Position(r, c));
+            }
+        }
+        return ready;
+    }
+
+    private int sq(Position pos) {
+        return pos.getRow() * board.getCols() + pos.getCol();
+    }
+}
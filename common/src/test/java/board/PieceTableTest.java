@@ -0,0 +1,157 @@
+package board;
+
+import command.IllegalCmdException;
+import interfaces.IPiece;
+import org.junit.jupiter.api.Test;
+import pieces.EPieceType;
+import pieces.Position;
+import player.PlayerFactory;
+import replay.GameReplayer;
+import state.EState;
+import utils.TickClock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link PieceTable}: it must play out exactly like a {@link Board} with {@link KFCEngine}.
+ */
+class PieceTableTest {
+
+    private final BoardConfig bc = GameReplayer.defaultBoardConfig();
+    private final TickClock clock = TickClock.atGameLoopRate();
+    private final Board board = new Board(bc, new KFCEngine(),
+            PlayerFactory.createPlayers(new String[]{"a", "b"}, bc, clock), clock);
+
+    @Test
+    void of_copiesTheStartLayout() {
+        PieceTable table = PieceTable.of(board);
+
+        assertEquals(32, table.size());
+        assertEquals(board.getHash(), table.getHash());
+        int king = table.occupantOf(3);
+        assertEquals(EPieceType.K, table.typeOf(king));
+        assertEquals(0, table.ownerOf(king));
+        assertEquals(EState.LONG_REST, table.stateOf(king));
+        assertEquals(PieceTable.NONE, table.occupantOf(3 * 8 + 3));
+        assertEquals(32, table.tick(clock.nanoTime()));
+    }
+
+    @Test
+    void commandsAreRejectedDuringTheOpeningRest() {
+        PieceTable table = PieceTable.of(board);
+
+        assertFalse(table.isMoveLegal(8 + 3, 3 * 8 + 3));
+        assertThrows(IllegalCmdException.class, () -> table.move(8 + 3, 3 * 8 + 3, clock.nanoTime()));
+        assertThrows(IllegalCmdException.class, () -> table.jump(3 * 8 + 3, clock.nanoTime()));
+    }
+
+    @Test
+    void randomPlay_matchesBoardTickForTick() {
+        PieceTable table = PieceTable.of(board);
+        Random random = new Random(7);
+        int cols = board.getCols();
+        int moves = 0;
+        int jumps = 0;
+
+        for (int tick = 1; tick <= 6000; tick++) {
+            long now = clock.nanoTime();
+            List<Position> ready = readyPieces();
+            if (!ready.isEmpty() && random.nextInt(4) == 0) {
+                Position from = ready.get(random.nextInt(ready.size()));
+                int fromSq = from.getRow() * cols + from.getCol();
+                List<Position> legal = board.getLegalMoves(from);
+                assertLegalityAgrees(table, from);
+
+                if (legal.isEmpty() || random.nextInt(5) == 0) {
+                    board.jump(board.getPiece(from));
+                    table.jump(fromSq, now);
+                    jumps++;
+                } else {
+                    Position to = legal.get(random.nextInt(legal.size()));
+                    board.move(from, to);
+                    table.move(fromSq, to.getRow() * cols + to.getCol(), now);
+                    moves++;
+                }
+                assertEquals(board.getHash(), table.getHash(), "after command at tick " + tick);
+            }
+
+            clock.advance();
+            now = clock.nanoTime();
+            assertEquals(board.updateAll(), table.tick(now), "pieces in play at tick " + tick);
+            assertEquals(board.getHash(), table.getHash(), "tick " + tick);
+            if (tick % 100 == 0) assertSamePosition(table);
+        }
+
+        assertTrue(moves > 100, "moves played: " + moves);
+        assertTrue(jumps > 10, "jumps played: " + jumps);
+        assertTrue(countInPlay(table) < 32, "some pieces were captured");
+        assertTrue(countQueens(table) > 2, "some pawns were promoted");
+    }
+
+    /**
+     * Returns the squares of the pieces able to act, in board order.
+     */
+    private List<Position> readyPieces() {
+        List<Position> ready = new ArrayList<>();
+        for (int r = 0; r < board.getRows(); r++) {
+            for (int c = 0; c < board.getCols(); c++) {
+                IPiece piece = board.getPiece(new Position(r, c));
+                if (piece != null && !piece.isCaptured() && piece.canAction()) ready.add(new Position(r, c));
+            }
+        }
+        return ready;
+    }
+
+    private void assertLegalityAgrees(PieceTable table, Position from) {
+        int cols = board.getCols();
+        for (int r = 0; r < board.getRows(); r++) {
+            for (int c = 0; c < cols; c++) {
+                Position to = new Position(r, c);
+                assertEquals(board.getBoardRulesEngine().isMoveLegal(board, from, to),
+                        table.isMoveLegal(from.getRow() * cols + from.getCol(), r * cols + c),
+                        from + " -> " + to);
+            }
+        }
+    }
+
+    private void assertSamePosition(PieceTable table) {
+        int cols = board.getCols();
+        for (int r = 0; r < board.getRows(); r++) {
+            for (int c = 0; c < cols; c++) {
+                Position pos = new Position(r, c);
+                IPiece piece = board.getPiece(pos);
+                int row = table.occupantOf(r * cols + c);
+                assertEquals(board.getTarget(pos), table.targetOf(r * cols + c), "target " + pos);
+                if (piece == null) {
+                    assertEquals(PieceTable.NONE, row, "empty " + pos);
+                    continue;
+                }
+                assertNotEquals(PieceTable.NONE, row, "occupied " + pos);
+                assertEquals(piece.getType(), table.typeOf(row), "type " + pos);
+                assertEquals(piece.getPlayer(), table.ownerOf(row), "owner " + pos);
+                assertEquals(piece.getCurrentState().getName(), table.stateOf(row), "state " + pos);
+                assertEquals(piece.isCaptured(), table.isCaptured(row), "captured " + pos);
+            }
+        }
+    }
+
+    private int countQueens(PieceTable table) {
+        int queens = 0;
+        for (int i = 0; i < table.size(); i++) {
+            if (table.typeOf(i) == EPieceType.Q) queens++;
+        }
+        return queens;
+    }
+
+    private int countInPlay(PieceTable table) {
+        int inPlay = 0;
+        for (int i = 0; i < table.size(); i++) {
+            if (!table.isCaptured(i)) inPlay++;
+        }
+        return inPlay;
+    }
+}
@@ -6,11 +6,16 @@ import events.IEventListener;
 import interfaces.IBoard;
 import interfaces.IBoardEngine;
 import interfaces.IPiece;
+import journal.JournalEntry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import pieces.Position;
 
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 class MoveCommandTest {
@@ -74,4 +79,20 @@ class MoveCommandTest {
         verify(illegalListener, times(1)).onEvent(any());
         verify(movedListener, never()).onEvent(any());
     }
-}
\ No newline at end of file
+
+    @Test
+    void toJournalEntryDescribesOnlyAcceptedMoves() {
+        when(engine.isMoveLegal(board, from, to)).thenReturn(true);
+        MoveCommand legal = new MoveCommand(from, to, board);
+        legal.execute();
+
+        assertEquals(Optional.of(new JournalEntry(7, 0, JournalEntry.Kind.MOVE, from, to)),
+                legal.toJournalEntry(7));
+
+        when(engine.isMoveLegal(board, from, to)).thenReturn(false);
+        MoveCommand illegal = new MoveCommand(from, to, board);
+        illegal.execute();
+
+        assertTrue(illegal.toJournalEntry(8).isEmpty());
+    }
+}
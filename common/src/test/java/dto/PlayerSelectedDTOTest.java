@@ -69,4 +69,19 @@ class PlayerSelectedDTOTest {
         assertEquals(9, deserialized.playerId());
         assertEquals(pos, deserialized.selection());
     }
+
+    @Test
+    void testSequenceNumberRoundTripAndDefault() throws Exception {
+        // seq survives serialization; a payload without seq defaults to 0
+        ObjectMapper mapper = new ObjectMapper();
+        PlayerSelectedDTO original = new PlayerSelectedDTO(1, new Position(2, 3), 42L);
+
+        PlayerSelectedDTO roundTrip = mapper.readValue(mapper.writeValueAsString(original), PlayerSelectedDTO.class);
+        assertEquals(42L, roundTrip.seq());
+
+        PlayerSelectedDTO legacy = mapper.readValue(
+                "{\"playerId\":1,\"selection\":{\"row\":2,\"col\":3}}", PlayerSelectedDTO.class);
+        assertEquals(0L, legacy.seq());
+        assertEquals(new PlayerSelectedDTO(1, new Position(2, 3)), legacy);
+    }
 }
@@ -40,6 +40,21 @@ class EventPublisherTest {
         verify(listener2, times(1)).onEvent(event);
     }
 
+    @Test
+    void testMuted_dropsEventsOfTheTaskOnly() {
+        publisher.subscribe(EGameEvent.PIECE_START_MOVED, listener1);
+        GameEvent event = new GameEvent(EGameEvent.PIECE_START_MOVED, "data");
+
+        publisher.muted(() -> {
+            publisher.publish(EGameEvent.PIECE_START_MOVED, event);
+            return null;
+        });
+        verify(listener1, never()).onEvent(any());
+
+        publisher.publish(EGameEvent.PIECE_START_MOVED, event);
+        verify(listener1, times(1)).onEvent(event);
+    }
+
     @Test
     void testUnsubscribe() {
         publisher.subscribe(EGameEvent.PIECE_START_MOVED, listener1);
@@ -5,7 +5,10 @@ import events.EventPublisher;
 import events.IEventListener;
 import interfaces.IGame;
 import interfaces.IPlayer;
+import metrics.NodeMetrics;
+import metrics.TickMetrics;
 import org.junit.jupiter.api.Test;
+import utils.TickClock;
 
 import javax.swing.*;
 import java.lang.reflect.Field;
@@ -60,6 +63,39 @@ class GameLoopTest {
         publisher.unsubscribe(EGameEvent.GAME_UPDATE, listener);
     }
 
+    @Test
+    void tickRecordsMetrics() throws Exception {
+        IGame game = mock(IGame.class);
+        when(game.win()).thenReturn(null);
+        when(game.getLastCommandCount()).thenReturn(3);
+        when(game.getLastUpdatedPieceCount()).thenReturn(32);
+
+        GameLoop loop = new GameLoop(game);
+
+        Method tick = GameLoop.class.getDeclaredMethod("tick");
+        tick.setAccessible(true);
+        tick.invoke(loop);
+        tick.invoke(loop);
+
+        TickMetrics.Snapshot s = loop.getMetrics().snapshot();
+        assertEquals(2, s.ticks());
+        assertEquals(6, s.commandsPerTick().sum());
+        assertEquals(64, s.piecesPerTick().sum());
+        assertEquals(1, s.jitter().count());
+    }
+
+    @Test
+    void runRegistersMetricsAndStopRemovesThem() {
+        IGame game = mock(IGame.class);
+        GameLoop loop = new GameLoop(game);
+
+        loop.run();
+        assertTrue(NodeMetrics.getInstance().getGames().contains(loop.getMetrics()));
+
+        loop.stop();
+        assertFalse(NodeMetrics.getInstance().getGames().contains(loop.getMetrics()));
+    }
+
     @Test
     void tickStopsWhenWinnerExists() throws Exception {
         IGame game = mock(IGame.class);
@@ -87,4 +123,62 @@ class GameLoopTest {
         verify(listener).onEvent(argThat(event -> event.type() == EGameEvent.GAME_ENDED));
         publisher.unsubscribe(EGameEvent.GAME_ENDED, listener);
     }
-}
\ No newline at end of file
+
+    @Test
+    void fixedTimestepTickAdvancesClockOnceBeforeUpdate() throws Exception {
+        IGame game = mock(IGame.class);
+        when(game.win()).thenReturn(null);
+        TickClock clock = new TickClock(16_000_000L);
+        doAnswer(inv -> {
+            assertEquals(1, clock.getTick(), "clock advanced before the update");
+            return null;
+        }).when(game).update();
+
+        GameLoop loop = new GameLoop(game, clock);
+
+        Method tick = GameLoop.class.getDeclaredMethod("tick");
+        tick.setAccessible(true);
+        tick.invoke(loop);
+
+        verify(game).update();
+        assertEquals(1, clock.getTick());
+    }
+
+    @Test
+    void fixedTimestepTimerEventRunsOneTickPerElapsedStep() {
+        IGame game = mock(IGame.class);
+        when(game.win()).thenReturn(null);
+        TickClock clock = new TickClock(16_000_000L);
+        GameLoop loop = new GameLoop(game, clock);
+
+        assertEquals(3, loop.onTimer(56_000_000L), "3.5 steps elapsed");
+        assertEquals(1, loop.onTimer(64_000_000L), "the half step carried over");
+        assertEquals(0, loop.onTimer(70_000_000L));
+        assertEquals(4, clock.getTick());
+        verify(game, times(4)).update();
+    }
+
+    @Test
+    void fixedTimestepTimerEventDropsLongStalls() {
+        IGame game = mock(IGame.class);
+        when(game.win()).thenReturn(null);
+        TickClock clock = new TickClock(16_000_000L);
+        GameLoop loop = new GameLoop(game, clock);
+
+        assertEquals(GameLoop.MAX_TICKS_PER_EVENT, loop.onTimer(1_600_000_000L));
+        assertEquals(1, loop.onTimer(1_616_000_000L), "backlog beyond the cap is not replayed");
+        assertEquals(GameLoop.MAX_TICKS_PER_EVENT + 1, clock.getTick());
+    }
+
+    @Test
+    void fixedTimestepTimerEventStopsAtWin() {
+        IGame game = mock(IGame.class);
+        when(game.win()).thenReturn(null, mock(IPlayer.class));
+        TickClock clock = new TickClock(16_000_000L);
+        GameLoop loop = new GameLoop(game, clock);
+
+        assertEquals(2, loop.onTimer(64_000_000L));
+        verify(game, times(1)).update();
+        verify(game).setRunning(false);
+    }
+}
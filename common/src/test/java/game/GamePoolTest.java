@@ -0,0 +1,161 @@
+package game;
+
+import board.BoardConfig;
+import interfaces.IBoard;
+import interfaces.IGame;
+import interfaces.IPiece;
+import interfaces.IPlayer;
+import org.junit.jupiter.api.Test;
+import pieces.EPieceType;
+import pieces.Position;
+import replay.GameReplayer;
+import utils.TickClock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link GamePool}: a released game is reset in place and then plays exactly like a new one.
+ */
+class GamePoolTest {
+
+    private final BoardConfig bc = GameReplayer.defaultBoardConfig();
+    private final String[] names = {"a", "b"};
+
+    @Test
+    void acquire_reusesReleasedGameInStartPosition() {
+        GamePool pool = new GamePool(bc, TickClock::atGameLoopRate, 4);
+        IGame game = pool.acquire(names);
+        List<IPiece> initial = new ArrayList<>(game.getPlayerById(0).getPieces());
+        play(game, new Random(7), 6000);
+        assertTrue(countQueens(game) > 0, "some pawns were promoted");
+        assertTrue(game.getPlayerById(0).getPieces().size() < 16, "some pieces were captured");
+
+        assertTrue(pool.release(game));
+        IGame reused = pool.acquire(new String[]{"c", "d"});
+        IGame fresh = new GamePool(bc, TickClock::atGameLoopRate, 0).acquire(names);
+
+        assertSame(game, reused);
+        assertEquals(1, pool.getCreatedCount());
+        assertEquals(1, pool.getReusedCount());
+        assertEquals("c", reused.getPlayerById(0).getName());
+        assertEquals(0, reused.getTick());
+        assertEquals(0, reused.getStartTimeNano());
+        assertEquals(fresh.getBoard().getHash(), reused.getBoard().getHash());
+        assertEquals(initial, reused.getPlayerById(0).getPieces());
+        for (int id = 0; id < names.length; id++) {
+            IPlayer player = reused.getPlayerById(id);
+            assertEquals(fresh.getPlayerById(id).getScore(), player.getScore());
+            assertFalse(player.isFailed());
+            for (IPiece piece : player.getPieces()) {
+                assertFalse(piece.isCaptured());
+                assertTrue(piece.isFirstMove());
+                assertSame(piece, reused.getBoard().getPiece(piece.getPos()));
+            }
+        }
+    }
+
+    @Test
+    void reusedGame_playsLikeNewGame() {
+        GamePool pool = new GamePool(bc, TickClock::atGameLoopRate, 1);
+        IGame game = pool.acquire(names);
+        play(game, new Random(3), 3000);
+        pool.release(game);
+
+        IGame reused = pool.acquire(names);
+        IGame fresh = new GamePool(bc, TickClock::atGameLoopRate, 0).acquire(names);
+        Random random = new Random(5);
+        for (int tick = 1; tick <= 3000; tick++) {
+            List<Position> ready = readyPieces(fresh.getBoard());
+            assertEquals(ready, readyPieces(reused.getBoard()), "ready pieces at tick " + tick);
+            if (!ready.isEmpty() && random.nextInt(4) == 0) {
+                Position from = ready.get(random.nextInt(ready.size()));
+                List<Position> legal = fresh.getBoard().getLegalMoves(from);
+                Position to = legal.isEmpty() ? null : legal.get(random.nextInt(legal.size()));
+                command(fresh.getBoard(), from, to);
+                command(reused.getBoard(), from, to);
+            }
+            advance(fresh);
+            advance(reused);
+            assertEquals(fresh.getBoard().getHash(), reused.getBoard().getHash(), "tick " + tick);
+        }
+    }
+
+    @Test
+    void release_keepsAtMostMaxIdleGames() {
+        GamePool pool = new GamePool(bc, TickClock::atGameLoopRate, 1);
+        IGame first = pool.acquire(names);
+        IGame second = pool.acquire(names);
+
+        assertTrue(pool.release(first));
+        assertFalse(pool.release(second));
+        assertEquals(1, pool.getIdleCount());
+        assertSame(first, pool.acquire(names));
+        assertEquals(0, pool.getIdleCount());
+    }
+
+    @Test
+    void release_rejectsRunningGame() {
+        GamePool pool = new GamePool(bc, TickClock::atGameLoopRate, 1);
+        IGame game = pool.acquire(names);
+        game.setRunning(true);
+
+        assertThrows(IllegalStateException.class, () -> pool.release(game));
+        assertEquals(0, pool.getIdleCount());
+    }
+
+    /**
+     * Plays random moves and jumps, one command every four ticks on average.
+     */
+    private static void play(IGame game, Random random, int ticks) {
+        for (int tick = 0; tick < ticks; tick++) {
+            List<Position> ready = readyPieces(game.getBoard());
+            if (!ready.isEmpty() && random.nextInt(4) == 0) {
+                Position from = ready.get(random.nextInt(ready.size()));
+                List<Position> legal = game.getBoard().getLegalMoves(from);
+                command(game.getBoard(), from, legal.isEmpty() ? null : legal.get(random.nextInt(legal.size())));
+            }
+            advance(game);
+        }
+    }
+
+    /**
+     * Moves the piece, or jumps it in place when there is no target.
+     */
+    private static void command(IBoard board, Position from, Position to) {
+        if (to == null) {
+            board.jump(board.getPiece(from));
+        } else {
+            board.move(from, to);
+        }
+    }
+
+    private static void advance(IGame game) {
+        ((TickClock) game.getClock()).advance();
+        game.update();
+    }
+
+    private static List<Position> readyPieces(IBoard board) {
+        List<Position> ready = new ArrayList<>();
+        for (int r = 0; r < board.getRows(); r++) {
+            for (int c = 0; c < board.getCols(); c++) {
+                IPiece piece = board.getPiece(new Position(r, c));
+                if (piece != null && !piece.isCaptured() && piece.canAction()) ready.add(new Position(r, c));
+            }
+        }
+        return ready;
+    }
+
+    private static int countQueens(IGame game) {
+        int queens = 0;
+        for (IPlayer player : game.getPlayers()) {
+            for (IPiece piece : player.getPieces()) {
+                if (piece.getType() == EPieceType.Q) queens++;
+            }
+        }
+        return queens;
+    }
+}
@@ -1,14 +1,29 @@
 package game;
 
+import board.BoardConfig;
+import constants.BoardConstants;
 import interfaces.ICommand;
 import interfaces.IBoard;
+import interfaces.IGame;
+import interfaces.IGameJournal;
+import interfaces.IPiece;
 import interfaces.IPlayer;
+import journal.JournalEntry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import pieces.Position;
+import player.PlayerFactory;
+import utils.TickClock;
 
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -58,6 +73,89 @@ class GameTest {
         verify(cmd).execute();
     }
 
+    @Test
+    void testUpdateReportsWorkDone() {
+        Position pos = new Position(1, 1);
+        ICommand cmd = mock(ICommand.class);
+        when(player1.handleSelection(board, pos)).thenReturn(Optional.of(cmd));
+        when(board.updateAll()).thenReturn(32);
+
+        game.handleSelection(player1, pos);
+        game.update();
+        assertEquals(1, game.getLastCommandCount());
+        assertEquals(32, game.getLastUpdatedPieceCount());
+
+        game.update();
+        assertEquals(0, game.getLastCommandCount());
+    }
+
+    @Test
+    void testAcceptedCommandsAreJournaledOncePerTick() {
+        Position pos = new Position(1, 1);
+        Position rejectedPos = new Position(2, 2);
+        JournalEntry entry = new JournalEntry(2, 0, JournalEntry.Kind.JUMP, pos, pos);
+        ICommand accepted = mock(ICommand.class);
+        when(accepted.toJournalEntry(2)).thenReturn(Optional.of(entry));
+        ICommand rejected = mock(ICommand.class);
+        when(player1.handleSelection(board, pos)).thenReturn(Optional.of(accepted));
+        when(player1.handleSelection(board, rejectedPos)).thenReturn(Optional.of(rejected));
+
+        IGameJournal journal = mock(IGameJournal.class);
+        List<List<JournalEntry>> batches = new ArrayList<>();
+        doAnswer(inv -> batches.add(List.copyOf(inv.getArgument(1))))
+                .when(journal).appendTick(anyLong(), anyList());
+        game.setJournal(journal);
+
+        game.update(); // tick 1: nothing accepted, nothing journaled
+        game.handleSelection(player1, pos);
+        game.handleSelection(player1, rejectedPos);
+        game.update(); // tick 2
+
+        assertEquals(2, game.getTick());
+        verify(journal).appendTick(eq(2L), anyList());
+        assertEquals(List.of(List.of(entry)), batches);
+    }
+
+    @Test
+    void testSelectionsAreAppliedOnUpdateThreadOnly() {
+        Position pos = new Position(1, 1);
+        game.handleSelection(0, pos);
+
+        // selection is not handed to the player until update
+        verify(player1, never()).handleSelection(any(), any());
+
+        when(player1.handleSelection(board, pos)).thenReturn(Optional.empty());
+        game.update();
+
+        verify(player1).handleSelection(board, pos);
+    }
+
+    @Test
+    void testConcurrentSelectionsAreAllDrained() throws Exception {
+        final int threads = 8;
+        final int perThread = 250;
+        AtomicInteger executed = new AtomicInteger();
+        ICommand cmd = executed::incrementAndGet;
+        when(player1.handleSelection(eq(board), any())).thenReturn(Optional.of(cmd));
+
+        ExecutorService ex = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(threads);
+        for (int i = 0; i < threads; i++) {
+            ex.submit(() -> {
+                for (int j = 0; j < perThread; j++) {
+                    game.handleSelection(0, new Position(j % 8, j % 8));
+                }
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS), "producers finished in time");
+        ex.shutdownNow();
+
+        game.update();
+
+        assertEquals(threads * perThread, executed.get());
+    }
+
     @Test
     void testWinLogic() {
         // No player failed
@@ -89,4 +187,64 @@ class GameTest {
         assertTrue(elapsed >= 20);
         assertTrue(elapsed < 1000);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testElapsedTimeUsesGameClock() {
+        long[] now = {5_000_000_000L};
+        Game clocked = new Game(board, new IPlayer[]{player1, player2}, () -> now[0]);
+
+        clocked.setStartTimeNano(4_000_000_000L);
+        assertEquals(1000, clocked.getElapsedMillis());
+
+        now[0] += TimeUnit.MILLISECONDS.toNanos(250);
+        assertEquals(1250, clocked.getElapsedMillis());
+    }
+
+    @Test
+    void testFixedTimestepRunsAreIdentical() {
+        assertEquals(playScriptedGame(), playScriptedGame());
+    }
+
+    /**
+     * Plays a short scripted game on a tick clock and records every piece's square,
+     * state and pixel position after each tick.
+     */
+    private static List<String> playScriptedGame() {
+        BoardConfig bc = new BoardConfig(
+                new Dimension(BoardConstants.BOARD_ROWS, BoardConstants.BOARD_COLS),
+                new Dimension(BoardConstants.SQUARE_SIZE * BoardConstants.BOARD_ROWS,
+                        BoardConstants.SQUARE_SIZE * BoardConstants.BOARD_COLS),
+                new Dimension(BoardConstants.BOARD_WIDTH_M, BoardConstants.BOARD_HEIGHT_M));
+        TickClock clock = TickClock.atGameLoopRate();
+        IPlayer[] players = PlayerFactory.createPlayers(new String[]{"a", "b"}, bc, clock);
+        IGame realGame = GameFactory.createNewGame(bc, players, clock);
+        realGame.setStartTimeNano(clock.nanoTime());
+
+        List<String> trace = new ArrayList<>();
+        for (int tick = 1; tick <= 1200; tick++) {
+            if (tick == 800) { // pieces start in a long rest
+                realGame.handleSelection(1, new Position(6, 4));
+                realGame.handleSelection(1, new Position(4, 4));
+                realGame.handleSelection(0, new Position(1, 3));
+                realGame.handleSelection(0, new Position(3, 3));
+            }
+            clock.advance();
+            realGame.update();
+
+            StringBuilder sb = new StringBuilder();
+            for (int r = 0; r < bc.gridDimension().height; r++) {
+                for (int c = 0; c < bc.gridDimension().width; c++) {
+                    IPiece p = realGame.getBoard().getPiece(new Position(r, c));
+                    if (p == null) continue;
+                    sb.append(r).append(c).append(p.getCurrentState().getName())
+                            .append(p.getCurrentState().getPhysics().getCurrentX())
+                            .append(p.getCurrentState().getPhysics().getCurrentY()).append(';');
+                }
+            }
+            trace.add(sb.toString());
+        }
+        assertNotNull(realGame.getBoard().getPiece(new Position(4, 4)), "scripted move was played");
+        assertEquals(1200 * 16, realGame.getElapsedMillis());
+        return trace;
+    }
+}
@@ -0,0 +1,102 @@
+package journal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import pieces.Position;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameJournalTest {
+
+    @TempDir
+    Path dir;
+
+    private static JournalEntry move(long tick, int player, int fromRow, int fromCol, int toRow, int toCol) {
+        return new JournalEntry(tick, player, JournalEntry.Kind.MOVE,
+                new Position(fromRow, fromCol), new Position(toRow, toCol));
+    }
+
+    private static JournalEntry jump(long tick, int player, int row, int col) {
+        Position at = new Position(row, col);
+        return new JournalEntry(tick, player, JournalEntry.Kind.JUMP, at, at);
+    }
+
+    @Test
+    void entriesRoundTripInTickOrder() throws Exception {
+        List<JournalEntry> expected = List.of(
+                move(3, 1, 6, 4, 4, 4),
+                jump(3, 0, 1, 3),
+                move(120, 0, 1, 4, 3, 4));
+
+        GameJournal journal = new GameJournal(dir, "game");
+        journal.appendTick(3, expected.subList(0, 2));
+        journal.appendTick(120, expected.subList(2, 3));
+        journal.closeAsync().get(5, TimeUnit.SECONDS);
+
+        assertEquals(expected, JournalReader.read(dir, "game"));
+    }
+
+    @Test
+    void rollsOverToNewSegments() throws Exception {
+        int frame = 4 + GameJournal.PAYLOAD_HEADER_BYTES + GameJournal.ENTRY_BYTES + 4;
+        GameJournal journal = new GameJournal(dir, "game", GameJournal.HEADER_BYTES + 2L * frame);
+
+        List<JournalEntry> expected = new ArrayList<>();
+        for (int tick = 1; tick <= 5; tick++) {
+            JournalEntry entry = move(tick, tick % 2, 1, tick, 2, tick);
+            expected.add(entry);
+            journal.appendTick(tick, List.of(entry));
+        }
+        journal.closeAsync().get(5, TimeUnit.SECONDS);
+
+        assertEquals(3, GameJournal.segments(dir, "game").size());
+        assertEquals(expected, JournalReader.read(dir, "game"));
+    }
+
+    @Test
+    void tornTailIsIgnoredAndReopenStartsNewSegment() throws Exception {
+        GameJournal journal = new GameJournal(dir, "game");
+        journal.appendTick(1, List.of(move(1, 0, 1, 0, 2, 0)));
+        journal.appendTick(2, List.of(move(2, 1, 6, 0, 5, 0)));
+        journal.closeAsync().get(5, TimeUnit.SECONDS);
+
+        // Simulate a crash in the middle of writing the last frame
+        Path segment = GameJournal.segments(dir, "game").get(0);
+        truncate(segment, Files.size(segment) - 3);
+
+        List<JournalEntry> entries = new ArrayList<>();
+        assertFalse(JournalReader.readSegment(segment, entries));
+        assertEquals(List.of(move(1, 0, 1, 0, 2, 0)), entries);
+
+        GameJournal reopened = new GameJournal(dir, "game");
+        reopened.appendTick(3, List.of(jump(3, 0, 1, 1)));
+        reopened.closeAsync().get(5, TimeUnit.SECONDS);
+
+        assertEquals(2, GameJournal.segments(dir, "game").size());
+        assertEquals(List.of(move(1, 0, 1, 0, 2, 0), jump(3, 0, 1, 1)), JournalReader.read(dir, "game"));
+    }
+
+    @Test
+    void closedJournalIgnoresAppends() throws Exception {
+        GameJournal journal = new GameJournal(dir, "game");
+        journal.closeAsync().get(5, TimeUnit.SECONDS);
+        journal.appendTick(1, List.of(jump(1, 0, 1, 1)));
+
+        assertTrue(JournalReader.read(dir, "game").isEmpty());
+    }
+
+    private static void truncate(Path file, long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HistogramTest {
+
+    @Test
+    void bucketsCoverEveryValueWithBoundedError() {
+        long[] samples = {0, 1, 7, 8, 9, 15, 16, 17, 1000, 123_456_789L, Long.MAX_VALUE};
+        for (long v : samples) {
+            int b = Histogram.bucketOf(v);
+            assertTrue(b >= 0 && b < Histogram.BUCKET_COUNT, "bucket in range for " + v);
+            assertTrue(Histogram.lowerBound(b) <= v && v <= Histogram.upperBound(b), "bounds contain " + v);
+            assertTrue(Histogram.upperBound(b) - Histogram.lowerBound(b) <= Math.max(0, v / Histogram.SUB_BUCKETS),
+                    "bucket width within 1/8 of " + v);
+        }
+    }
+
+    @Test
+    void bucketsAreContiguous() {
+        for (int b = 0; b < Histogram.BUCKET_COUNT - 1; b++) {
+            assertEquals(Histogram.upperBound(b) + 1, Histogram.lowerBound(b + 1));
+        }
+    }
+
+    @Test
+    void percentilesAndSummary() {
+        Histogram h = new Histogram();
+        for (int i = 1; i <= 100; i++) h.record(i);
+
+        Histogram.Snapshot s = h.snapshot();
+        assertEquals(100, s.count());
+        assertEquals(5050, s.sum());
+        assertEquals(100, s.max());
+        assertEquals(50.5, s.mean(), 1e-9);
+
+        assertTrue(s.percentile(50) >= 50 && s.percentile(50) <= 50 + 50 / 8);
+        assertEquals(100, s.percentile(100));
+        assertEquals(1, s.percentile(0));
+    }
+
+    @Test
+    void negativeValuesAreRecordedAsZero() {
+        Histogram h = new Histogram();
+        h.record(-5);
+        assertEquals(1, h.getCount());
+        assertEquals(0, h.getSum());
+        assertEquals(0, h.snapshot().percentile(99));
+    }
+
+    @Test
+    void minusGivesIntervalDistribution() {
+        Histogram h = new Histogram();
+        h.record(10);
+        Histogram.Snapshot before = h.snapshot();
+        h.record(1000);
+        h.record(1000);
+
+        Histogram.Snapshot interval = h.snapshot().minus(before);
+        assertEquals(2, interval.count());
+        assertEquals(2000, interval.sum());
+        assertTrue(interval.percentile(1) >= 1000);
+    }
+
+    @Test
+    void resetClearsEverything() {
+        Histogram h = new Histogram();
+        h.record(42);
+        h.reset();
+        assertEquals(0, h.getCount());
+        assertEquals(0, h.getMax());
+        assertEquals(0, h.snapshot().percentile(50));
+    }
+
+    @Test
+    void concurrentRecordingLosesNothing() throws Exception {
+        Histogram h = new Histogram();
+        int threads = 8, perThread = 10_000;
+        ExecutorService ex = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            final int offset = t;
+            ex.submit(() -> {
+                for (int i = 0; i < perThread; i++) h.record(i + offset);
+                done.countDown();
+            });
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        ex.shutdown();
+
+        Histogram.Snapshot s = h.snapshot();
+        long bucketTotal = 0;
+        for (long c : s.counts()) bucketTotal += c;
+        assertEquals((long) threads * perThread, s.count());
+        assertEquals(s.count(), bucketTotal);
+        assertEquals(perThread - 1 + threads - 1, s.max());
+    }
+}
@@ -0,0 +1,73 @@
+package metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TickMetricsTest {
+
+    private static final long BUDGET = 16_000_000L;
+
+    @Test
+    void recordsDurationsWorkAndOverruns() {
+        TickMetrics m = new TickMetrics("g", BUDGET, null);
+
+        m.recordTick(1_000, 2_000_000, 500_000, 3_000_000, 2, 32);
+        m.recordTick(1_000 + BUDGET, 20_000_000, 500_000, 21_000_000, 0, 30);
+
+        TickMetrics.Snapshot s = m.snapshot();
+        assertEquals("g", s.id());
+        assertEquals(2, s.ticks());
+        assertEquals(1, s.overruns());
+        assertEquals(21_000_000, s.tickDuration().max());
+        assertEquals(2, s.commandsPerTick().sum());
+        assertEquals(62, s.piecesPerTick().sum());
+        assertEquals(1_000_000, s.publishDuration().sum());
+    }
+
+    @Test
+    void jitterIsDistanceFromScheduledInterval() {
+        TickMetrics m = new TickMetrics("g", BUDGET, null);
+
+        m.recordTick(0 + 1, 1, 1, 1, 0, 0);              // first tick: no interval yet
+        m.recordTick(1 + BUDGET + 3_000_000, 1, 1, 1, 0, 0);     // 3 ms late
+        m.recordTick(1 + 2 * BUDGET + 1_000_000, 1, 1, 1, 0, 0); // 2 ms early
+
+        TickMetrics.Snapshot s = m.snapshot();
+        assertEquals(2, s.jitter().count());
+        assertEquals(5_000_000, s.jitter().sum());
+        assertEquals(3_000_000, s.jitter().max());
+    }
+
+    @Test
+    void parentAggregatesChildren() {
+        TickMetrics node = new TickMetrics("node", BUDGET, null);
+        TickMetrics a = new TickMetrics("a", BUDGET, node);
+        TickMetrics b = new TickMetrics("b", BUDGET, node);
+
+        a.recordTick(1, 1, 1, 1, 1, 1);
+        b.recordTick(1, 1, 1, 30_000_000, 1, 1);
+
+        assertEquals(1, a.getTickCount());
+        assertEquals(2, node.getTickCount());
+        assertEquals(1, node.getOverrunCount());
+        assertEquals(0, node.snapshot().jitter().count(), "interleaved games must not produce fake jitter");
+    }
+
+    @Test
+    void nodeRegistryListsRunningGamesOnly() {
+        NodeMetrics node = NodeMetrics.getInstance();
+        TickMetrics game = node.createGameMetrics();
+        assertFalse(node.getGames().contains(game));
+
+        node.register(game);
+        assertTrue(node.getGames().contains(game));
+
+        long before = node.getNodeTicks().getTickCount();
+        game.recordTick(1, 1, 1, 1, 0, 0);
+        assertEquals(before + 1, node.getNodeTicks().getTickCount());
+
+        node.unregister(game);
+        assertFalse(node.getGames().contains(game));
+    }
+}
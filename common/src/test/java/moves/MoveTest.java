@@ -21,6 +21,33 @@ class MoveTest {
         assertArrayEquals(conditions, move.condition());
     }
 
+    @Test
+    void conditionsAreCompiledIntoMask() {
+        Move pawnDouble = new Move(2, 0, new ECondition[]{ECondition.FIRST_TIME, ECondition.NON_CAPTURE});
+
+        assertEquals(ECondition.FIRST_TIME.bit() | ECondition.NON_CAPTURE.bit(), pawnDouble.conditionMask());
+        assertTrue(pawnDouble.allows(ECondition.satisfiedBy(false, true)));
+        assertFalse(pawnDouble.allows(ECondition.satisfiedBy(false, false)), "not the first move");
+        assertFalse(pawnDouble.allows(ECondition.satisfiedBy(true, true)), "target occupied");
+    }
+
+    @Test
+    void mismatchedMask_isRejected() {
+        ECondition[] firstTime = {ECondition.FIRST_TIME};
+
+        assertThrows(IllegalArgumentException.class, () -> new Move(1, 0, firstTime, 0));
+        assertEquals(new Move(1, 0, firstTime), new Move(1, 0, firstTime, ECondition.FIRST_TIME.bit()));
+    }
+
+    @Test
+    void moveWithoutConditions_allowsEverything() {
+        Move move = new Move(1, 1, null);
+
+        assertEquals(0, move.conditionMask());
+        assertTrue(move.allows(ECondition.satisfiedBy(true, false)));
+        assertTrue(move.allows(ECondition.satisfiedBy(false, false)));
+    }
+
     @Test
     void testEquals_sameObject() {
         Move move = new Move(0, 1, null);
@@ -0,0 +1,32 @@
+package perft;
+
+import org.junit.jupiter.api.Test;
+import replay.GameReplayer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link Perft}: node counts of the initial layout match the golden values.
+ */
+class PerftTest {
+
+    /** Deepest count checked here; deeper golden values take seconds and are left to {@code PerftTool}. */
+    private static final int TESTED_DEPTH = 4;
+
+    @Test
+    void countsMatchGoldenValues() {
+        Perft perft = new Perft(GameReplayer.defaultBoardConfig());
+        for (int depth = 0; depth <= TESTED_DEPTH; depth++) {
+            Perft.Result result = perft.run(depth);
+            assertEquals(Perft.golden(depth), result.nodes(), "depth " + depth);
+            assertTrue(result.matchesGolden());
+        }
+    }
+
+    @Test
+    void countingLeavesTheBoardUnchanged() {
+        Perft perft = new Perft(GameReplayer.defaultBoardConfig());
+        long first = perft.run(3).nodes();
+        assertEquals(first, perft.run(3).nodes());
+    }
+}
@@ -0,0 +1,166 @@
+package player;
+
+import board.Board;
+import board.BoardConfig;
+import board.KFCEngine;
+import constants.BoardConstants;
+import game.GameFactory;
+import interfaces.IBoard;
+import interfaces.ICommand;
+import interfaces.IGame;
+import interfaces.IPiece;
+import interfaces.IPlayer;
+import journal.JournalEntry;
+import org.junit.jupiter.api.Test;
+import pieces.EPieceType;
+import pieces.PiecesFactory;
+import pieces.Position;
+import utils.TickClock;
+
+import java.awt.*;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link AIPlayer}: it respects rests, takes free material and fits in a tick.
+ */
+class AIPlayerTest {
+
+    private static final BoardConfig BC = new BoardConfig(
+            new Dimension(BoardConstants.BOARD_ROWS, BoardConstants.BOARD_COLS),
+            new Dimension(BoardConstants.SQUARE_SIZE * BoardConstants.BOARD_ROWS,
+                    BoardConstants.SQUARE_SIZE * BoardConstants.BOARD_COLS),
+            new Dimension(BoardConstants.BOARD_WIDTH_M, BoardConstants.BOARD_HEIGHT_M));
+
+    /** Generous budget so a cold JVM still scores every move. */
+    private static final long UNHURRIED_BUDGET_NANOS = 1_000_000_000L;
+
+    @Test
+    void capturesThreateningQueenOnceRested() {
+        TickClock clock = TickClock.atGameLoopRate();
+        AIPlayer bot = new AIPlayer(0, "bot", Color.WHITE, List.of(
+                piece(EPieceType.K, 0, 0, 7, clock),
+                piece(EPieceType.R, 0, 0, 0, clock)), clock, UNHURRIED_BUDGET_NANOS, 0, 1, 1);
+        Player human = new Player(1, "human", Color.BLACK, List.of(
+                piece(EPieceType.K, 1, 7, 4, clock),
+                piece(EPieceType.Q, 1, 4, 0, clock)), clock);
+        IBoard board = new Board(BC, new KFCEngine(), new IPlayer[]{bot, human}, clock);
+
+        assertTrue(bot.decide(board, clock.nanoTime()).isEmpty(), "pieces start in a long rest");
+
+        for (int i = 0; i < 1000; i++) {
+            clock.advance();
+            board.updateAll();
+        }
+        Optional<ICommand> cmd = bot.decide(board, clock.nanoTime());
+        assertTrue(cmd.isPresent());
+        cmd.get().execute();
+
+        assertNull(board.getPiece(new Position(0, 0)));
+        assertEquals(0, board.getTarget(new Position(4, 0)));
+    }
+
+    @Test
+    void botGamePlaysMovesWithinTickBudget() {
+        TickClock clock = TickClock.atGameLoopRate();
+        IPlayer[] players = {
+                PlayerFactory.createBot(0, "white", BC, clock),
+                PlayerFactory.createBot(1, "black", BC, clock)
+        };
+        IGame game = GameFactory.createNewGame(BC, players, clock);
+        game.setStartTimeNano(clock.nanoTime());
+
+        int commands = 0;
+        for (int tick = 0; tick < 3000 && game.win() == null; tick++) {
+            clock.advance();
+            game.update();
+            commands += game.getLastCommandCount();
+            awaitSearches(players);
+        }
+
+        assertTrue(commands > 0, "bots played");
+        for (IPlayer p : players) {
+            AIPlayer bot = (AIPlayer) p;
+            assertTrue(bot.getLastSearchNanos() < clock.getTickNanos(),
+                    "search took " + bot.getLastSearchNanos() + " ns");
+        }
+    }
+
+    @Test
+    void decideAsync_searchesOffTheCallingThreadAndActsOnce() throws Exception {
+        TickClock clock = TickClock.atGameLoopRate();
+        AIPlayer bot = new AIPlayer(0, "bot", Color.WHITE, List.of(
+                piece(EPieceType.K, 0, 0, 7, clock),
+                piece(EPieceType.R, 0, 0, 0, clock)), clock, UNHURRIED_BUDGET_NANOS, 0, 1, 1);
+        Player human = new Player(1, "human", Color.BLACK, List.of(
+                piece(EPieceType.K, 1, 7, 4, clock),
+                piece(EPieceType.Q, 1, 4, 0, clock)), clock);
+        IBoard board = new Board(BC, new KFCEngine(), new IPlayer[]{bot, human}, clock);
+        for (int i = 0; i < 1000; i++) {
+            clock.advance();
+            board.updateAll();
+        }
+
+        Thread caller = Thread.currentThread();
+        CompletableFuture<Position[]> action = new CompletableFuture<>();
+        bot.decideAsync(board, clock.nanoTime(), (from, to) -> {
+            if (Thread.currentThread() == caller) action.completeExceptionally(new AssertionError("searched on the caller"));
+            else action.complete(new Position[]{from, to});
+        });
+        // no second search while the first one runs
+        bot.decideAsync(board, clock.nanoTime(), (from, to) -> action.completeExceptionally(new AssertionError("twice")));
+
+        Position[] played = action.get(5, TimeUnit.SECONDS);
+        assertEquals(new Position(0, 0), played[0]);
+        assertEquals(new Position(4, 0), played[1]);
+    }
+
+    @Test
+    void parallelSearchAgreesWithSequentialSearch() {
+        TickClock clock = TickClock.atGameLoopRate();
+        AIPlayer sequential = PlayerFactory.createBot(0, "seq", BC, clock, UNHURRIED_BUDGET_NANOS, 0, 7, 1);
+        AIPlayer parallel = PlayerFactory.createBot(0, "par", BC, clock, UNHURRIED_BUDGET_NANOS, 0, 7, 4);
+        IBoard seqBoard = new Board(BC, new KFCEngine(),
+                new IPlayer[]{sequential, PlayerFactory.createPlayer(1, "black", BC, clock)}, clock);
+        IBoard parBoard = new Board(BC, new KFCEngine(),
+                new IPlayer[]{parallel, PlayerFactory.createPlayer(1, "black", BC, clock)}, clock);
+        for (int i = 0; i < 1000; i++) {
+            clock.advance();
+            seqBoard.updateAll();
+            parBoard.updateAll();
+        }
+
+        // Same position, same seed: both searches score the same moves and break ties alike.
+        // Later parallel runs hit the transposition table; only the last one is played.
+        JournalEntry expected = play(sequential.decide(seqBoard, clock.nanoTime()).orElseThrow());
+        ICommand cmd = null;
+        for (int run = 0; run < 3; run++) {
+            cmd = parallel.decide(parBoard, clock.nanoTime()).orElseThrow();
+        }
+        JournalEntry actual = play(cmd);
+        assertEquals(expected.from(), actual.from());
+        assertEquals(expected.to(), actual.to());
+        assertEquals(expected.kind(), actual.kind());
+        assertEquals(4, parallel.getParallelism());
+        assertEquals(sequential.getLastSearchedMoves(), parallel.getLastSearchedMoves());
+    }
+
+    private static void awaitSearches(IPlayer[] players) {
+        for (IPlayer p : players) {
+            while (((AIPlayer) p).isSearching()) Thread.onSpinWait();
+        }
+    }
+
+    private static JournalEntry play(ICommand cmd) {
+        cmd.execute();
+        return cmd.toJournalEntry(0).orElseThrow();
+    }
+
+    private static IPiece piece(EPieceType type, int player, int row, int col, TickClock clock) {
+        return PiecesFactory.createPieceByCode(type, player, new Position(row, col), BC, clock);
+    }
+}
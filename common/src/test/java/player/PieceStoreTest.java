@@ -0,0 +1,98 @@
+package player;
+
+import interfaces.IPiece;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for PieceStore: slot swaps on capture and promotion, and the live read-only views.
+ */
+class PieceStoreTest {
+
+    private final IPiece a = mock(IPiece.class);
+    private final IPiece b = mock(IPiece.class);
+    private final IPiece c = mock(IPiece.class);
+
+    @Test
+    void capture_movesLastPieceIntoFreedSlot() {
+        PieceStore store = new PieceStore(List.of(a, b, c));
+
+        assertTrue(store.capture(a));
+
+        assertEquals(2, store.size());
+        assertSame(c, store.get(0));
+        assertSame(b, store.get(1));
+        assertFalse(store.isActive(a));
+        assertTrue(store.capturedView().contains(a));
+    }
+
+    @Test
+    void capture_ofInactivePiece_isIgnored() {
+        PieceStore store = new PieceStore(List.of(a, b));
+        store.capture(b);
+
+        assertFalse(store.capture(b));
+        assertFalse(store.capture(c));
+        assertEquals(1, store.size());
+        assertEquals(1, store.capturedView().size());
+    }
+
+    @Test
+    void replace_keepsSlot() {
+        PieceStore store = new PieceStore(List.of(a, b));
+
+        assertTrue(store.replace(a, c));
+
+        assertSame(c, store.get(0));
+        assertSame(b, store.get(1));
+        assertFalse(store.isActive(a));
+        assertTrue(store.capturedView().isEmpty());
+        assertFalse(store.replace(a, mock(IPiece.class)));
+    }
+
+    @Test
+    void reset_restoresInitialPiecesInOrder() {
+        PieceStore store = new PieceStore(List.of(a, b, c));
+        IPiece queen = mock(IPiece.class);
+        store.capture(a);
+        store.replace(b, queen);
+
+        store.reset();
+
+        assertEquals(3, store.size());
+        assertSame(a, store.get(0));
+        assertSame(b, store.get(1));
+        assertSame(c, store.get(2));
+        assertFalse(store.isActive(queen));
+        assertTrue(store.capturedView().isEmpty());
+    }
+
+    @Test
+    void add_growsPastInitialCapacity() {
+        PieceStore store = new PieceStore(List.of());
+        store.add(a);
+        store.add(b);
+        store.add(c);
+
+        assertEquals(List.of(a, b, c), store.activeView());
+        assertThrows(IllegalArgumentException.class, () -> store.add(a));
+    }
+
+    @Test
+    void activeView_isLiveReadOnlyAndReused() {
+        PieceStore store = new PieceStore(List.of(a, b));
+        List<IPiece> view = store.activeView();
+
+        store.capture(a);
+
+        assertSame(view, store.activeView());
+        assertEquals(List.of(b), view);
+        assertThrows(UnsupportedOperationException.class, () -> view.add(a));
+        assertThrows(UnsupportedOperationException.class, () -> store.capturedView().clear());
+        assertThrows(IndexOutOfBoundsException.class, () -> view.get(1));
+    }
+}
@@ -0,0 +1,55 @@
+package player;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link TranspositionTable}.
+ */
+class TranspositionTableTest {
+
+    @Test
+    void storesAndReplacesEntries() {
+        TranspositionTable table = new TranspositionTable(100);
+        assertEquals(128, table.capacity());
+        assertTrue(Double.isNaN(table.get(42)));
+
+        table.put(42, 1.5);
+        table.put(7, 0.0);
+        assertEquals(1.5, table.get(42));
+        assertEquals(0.0, table.get(7));
+
+        // Same slot, different key: the newer entry wins and the older one misses
+        long colliding = 42 + 128;
+        table.put(colliding, -3.0);
+        assertEquals(-3.0, table.get(colliding));
+        assertTrue(Double.isNaN(table.get(42)));
+    }
+
+    @Test
+    void concurrentWritersNeverProduceForeignValues() throws Exception {
+        TranspositionTable table = new TranspositionTable(16);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            pool.execute(() -> {
+                for (long key = 1; key < 200_000; key++) {
+                    table.put(key, key);
+                    double v = table.get(key ^ 1);
+                    assertTrue(Double.isNaN(v) || v == (key ^ 1));
+                }
+            });
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+
+        for (long key = 1; key < 1000; key++) {
+            double v = table.get(key);
+            assertTrue(Double.isNaN(v) || v == key, "key " + key + " read " + v);
+        }
+    }
+}
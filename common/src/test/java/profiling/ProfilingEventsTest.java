@@ -0,0 +1,96 @@
+package profiling;
+
+import command.MoveCommand;
+import interfaces.IBoard;
+import interfaces.IBoardEngine;
+import interfaces.IPiece;
+import interfaces.IState;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import pieces.EPieceEvent;
+import pieces.Position;
+import state.EState;
+import state.StateMachine;
+import state.TransitionTable;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Verifies that the instrumented code paths emit their JFR events with populated fields.
+ */
+class ProfilingEventsTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void moveCommandEmitsCommandEvent() throws Exception {
+        IBoard board = mock(IBoard.class);
+        IBoardEngine engine = mock(IBoardEngine.class);
+        IPiece piece = mock(IPiece.class);
+        Position from = new Position(6, 4);
+        Position to = new Position(4, 4);
+        when(board.getBoardRulesEngine()).thenReturn(engine);
+        when(board.getPiece(from)).thenReturn(piece);
+        when(piece.getPlayer()).thenReturn(1);
+        when(engine.isMoveLegal(board, from, to)).thenReturn(true);
+
+        List<RecordedEvent> events = record("kfchess.Command", () -> new MoveCommand(from, to, board).execute());
+
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals("MOVE", event.getString("command"));
+        assertEquals(1, event.getInt("player"));
+        assertEquals(from.toString(), event.getString("from"));
+        assertEquals(to.toString(), event.getString("to"));
+        assertTrue(event.getBoolean("accepted"));
+    }
+
+    @Test
+    void stateMachineEmitsTransitionEvent() throws Exception {
+        IState move = mock(IState.class);
+        IState rest = mock(IState.class);
+        when(move.getName()).thenReturn(EState.MOVE);
+        when(rest.getName()).thenReturn(EState.LONG_REST);
+        TransitionTable transitions = mock(TransitionTable.class);
+        when(transitions.next(EState.MOVE, EPieceEvent.DONE)).thenReturn(EState.LONG_REST);
+        Position pos = new Position(2, 3);
+        StateMachine machine = new StateMachine(
+                Map.of(EState.MOVE, move, EState.LONG_REST, rest), transitions, EState.MOVE, pos);
+
+        List<RecordedEvent> events = record("kfchess.StateTransition",
+                () -> machine.onEvent(EPieceEvent.DONE, pos, pos));
+
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals("DONE", event.getString("trigger"));
+        assertEquals("MOVE", event.getString("fromState"));
+        assertEquals("LONG_REST", event.getString("toState"));
+    }
+
+    /**
+     * Runs the action under a recording with only the given event enabled and returns its events.
+     */
+    private List<RecordedEvent> record(String eventName, Runnable action) throws Exception {
+        Path file = dir.resolve("test.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName).withThreshold(Duration.ZERO);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals(eventName))
+                .toList();
+    }
+}
@@ -0,0 +1,152 @@
+package replay;
+
+import board.BoardConfig;
+import interfaces.IBoard;
+import interfaces.IGame;
+import interfaces.IGameJournal;
+import interfaces.IPiece;
+import journal.JournalEntry;
+import org.junit.jupiter.api.Test;
+import pieces.Position;
+import utils.TickClock;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameReplayerTest {
+
+    private static final long TICK_NANOS = 16_000_000L;
+    private static final int LIVE_TICKS = 2_000;
+
+    /**
+     * Journal keeping the entries in memory.
+     */
+    private static final class MemoryJournal implements IGameJournal {
+        final List<JournalEntry> entries = new ArrayList<>();
+
+        @Override
+        public void appendTick(long tick, List<JournalEntry> batch) {
+            entries.addAll(batch);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * Plays a scripted game through player selections, recording it.
+     */
+    private static IGame playLiveGame(GameReplayer replayer, MemoryJournal journal) {
+        TickClock clock = new TickClock(TICK_NANOS);
+        IGame game = replayer.newGame(clock);
+        game.setJournal(journal);
+
+        for (int tick = 1; tick <= LIVE_TICKS; tick++) {
+            switch (tick) {
+                case 800 -> { // pieces start in a long rest
+                    select(game, 1, 6, 4, 4, 4);
+                    select(game, 0, 1, 3, 3, 3);
+                }
+                case 1000 -> select(game, 0, 0, 1, 0, 1); // jump
+                case 1400 -> select(game, 1, 4, 4, 3, 3); // pawn takes pawn
+                default -> { }
+            }
+            clock.advance();
+            game.update();
+        }
+        return game;
+    }
+
+    private static void select(IGame game, int player, int fromRow, int fromCol, int toRow, int toCol) {
+        game.handleSelection(player, new Position(fromRow, fromCol));
+        game.handleSelection(player, new Position(toRow, toCol));
+    }
+
+    private static String describe(IBoard board) {
+        StringBuilder sb = new StringBuilder();
+        BoardConfig bc = board.getBoardConfig();
+        for (int r = 0; r < bc.gridDimension().height; r++) {
+            for (int c = 0; c < bc.gridDimension().width; c++) {
+                IPiece p = board.getPiece(new Position(r, c));
+                if (p != null) {
+                    sb.append(r).append(c).append(p.getType()).append(p.getPlayer())
+                            .append(p.getCurrentState().getName()).append(';');
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    @Test
+    void replayReproducesRecordedGame() {
+        GameReplayer live = new GameReplayer();
+        MemoryJournal journal = new MemoryJournal();
+        IGame recorded = playLiveGame(live, journal);
+
+        assertEquals(4, journal.entries.size(), "all scripted commands were accepted and journaled");
+        long lastTick = journal.entries.get(journal.entries.size() - 1).tick();
+
+        GameReplayer replayer = new GameReplayer(GameReplayer.defaultBoardConfig(), TICK_NANOS, LIVE_TICKS - lastTick);
+        TickClock clock = new TickClock(TICK_NANOS);
+        IGame replayed = replayer.newGame(clock);
+        ReplayResult result = replayer.replay("live", replayed, clock, journal.entries);
+
+        assertTrue(result.isConsistent());
+        assertEquals(4, result.commands());
+        assertEquals(LIVE_TICKS, result.ticks());
+        assertEquals(-1, result.winner());
+        assertEquals(describe(recorded.getBoard()), describe(replayed.getBoard()));
+        assertNull(replayed.getBoard().getPiece(new Position(4, 4)), "capturing pawn left its square");
+    }
+
+    @Test
+    void crossCheckedReplayAgreesWithPieceTable() {
+        MemoryJournal journal = new MemoryJournal();
+        playLiveGame(new GameReplayer(), journal);
+
+        ReplayResult result = GameReplayer.forServerGames(true).replay("live", journal.entries);
+
+        assertEquals(-1, result.divergedTick());
+        assertTrue(result.isConsistent());
+        assertEquals(4, result.commands());
+    }
+
+    @Test
+    void illegalRecordedCommandIsReportedAsDivergence() {
+        Position from = new Position(6, 4);
+        List<JournalEntry> entries = List.of(
+                new JournalEntry(800, 1, JournalEntry.Kind.MOVE, from, new Position(2, 4)));
+
+        ReplayResult result = new GameReplayer().replay("bad", entries);
+
+        assertFalse(result.isConsistent());
+        assertEquals(1, result.rejected());
+    }
+
+    @Test
+    void runnerReplaysBatchInParallel() throws Exception {
+        MemoryJournal journal = new MemoryJournal();
+        playLiveGame(new GameReplayer(), journal);
+
+        Map<String, List<JournalEntry>> batch = new LinkedHashMap<>();
+        for (int i = 0; i < 4; i++) {
+            batch.put("game-" + i, journal.entries);
+        }
+
+        ReplayRunner.Report report;
+        try (ReplayRunner runner = new ReplayRunner(new GameReplayer(), 2)) {
+            report = runner.run(batch);
+        }
+
+        assertEquals(4, report.games());
+        assertEquals(0, report.inconsistent());
+        assertEquals(List.of("game-0", "game-1", "game-2", "game-3"),
+                report.results().stream().map(ReplayResult::name).toList());
+        assertTrue(report.gamesPerSecond() > 0);
+    }
+}
@@ -49,4 +49,28 @@ class PhysicsDataTest {
         // After enough time, action should be finished
         assertTrue(physics.isActionFinished(enoughTime), "Should be finished after enough time");
     }
+
+    @Test
+    void testDurationConvertsToWholeTicks() {
+        PhysicsData moving = new PhysicsData();
+        moving.setSpeedMetersPerSec(10); // 8 physics units per cell -> 0.8 s per cell
+        moving.reset(EState.MOVE, new Position(0, 0), new Position(2, 0), bc, 0);
+
+        assertEquals(1_600_000_000L, moving.getDurationNanos());
+        assertEquals(100, moving.getDurationTicks(16_000_000L)); // 1.6 s / 16 ms = 100
+        assertEquals(3, moving.getDurationTicks(600_000_000L));  // rounded up
+
+        long finish = 100 * 16_000_000L;
+        assertFalse(moving.isActionFinished(finish - 16_000_000L));
+        assertTrue(moving.isActionFinished(finish));
+    }
+
+    @Test
+    void testStillPieceNeverFinishes() {
+        PhysicsData still = new PhysicsData();
+        still.reset(EState.IDLE, startPos, startPos, bc, 0);
+
+        assertEquals(Long.MAX_VALUE, still.getDurationTicks(16_000_000L));
+        assertFalse(still.isActionFinished(Long.MAX_VALUE / 2));
+    }
 }
@@ -0,0 +1,43 @@
+package utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TickClockTest {
+
+    @Test
+    void advancesByWholeTicksFromOrigin() {
+        TickClock clock = new TickClock(16_000_000L, 1_000L);
+
+        assertEquals(0, clock.getTick());
+        assertEquals(1_000L, clock.nanoTime());
+        assertEquals(1_000L, clock.nanoTime(), "time does not move between ticks");
+
+        assertEquals(1, clock.advance());
+        assertEquals(2, clock.advance());
+        assertEquals(1_000L + 32_000_000L, clock.nanoTime());
+    }
+
+    @Test
+    void defaultOriginIsNonZero() {
+        assertEquals(TickClock.DEFAULT_ORIGIN_NANOS, TickClock.atGameLoopRate().nanoTime());
+        assertTrue(TickClock.DEFAULT_ORIGIN_NANOS > 0);
+    }
+
+    @Test
+    void durationsRoundUpToWholeTicks() {
+        TickClock clock = new TickClock(10);
+
+        assertEquals(0, clock.toTicks(0));
+        assertEquals(1, clock.toTicks(1));
+        assertEquals(1, clock.toTicks(10));
+        assertEquals(2, clock.toTicks(11));
+        assertEquals(Long.MAX_VALUE, clock.toTicks(Long.MAX_VALUE));
+    }
+
+    @Test
+    void rejectsNonPositiveTickLength() {
+        assertThrows(IllegalArgumentException.class, () -> new TickClock(0));
+    }
+}
@@ -0,0 +1,31 @@
+package utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualThreadsTest {
+
+    @Test
+    void perTaskExecutorRunsTasks() throws Exception {
+        ExecutorService ex = VirtualThreads.newThreadPerTaskExecutor("test");
+        try {
+            Future<Integer> f = ex.submit(() -> 6 * 7);
+            assertEquals(42, f.get(5, TimeUnit.SECONDS));
+        } finally {
+            ex.shutdown();
+        }
+    }
+
+    @Test
+    void startedThreadsDoNotKeepTheJvmAlive() throws Exception {
+        Thread t = VirtualThreads.start("test", () -> { });
+        t.join(5000);
+        assertFalse(t.isAlive());
+        assertTrue(t.isDaemon(), "virtual threads are daemons; platform fallback must be too");
+    }
+}
@@ -0,0 +1,193 @@
+package loadtest;
+
+import board.BoardConfig;
+import com.fasterxml.jackson.databind.JsonNode;
+import constants.BoardConstants;
+import dto.EventType;
+import dto.Message;
+import dto.PlayerSelectedDTO;
+import endpoint.launch.ChessClientEndpoint;
+import pieces.Position;
+
+import javax.websocket.WebSocketContainer;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One simulated player: connects, names itself so the server can start its game,
+ * then sends selections at a fixed rate and times the server's broadcast of each one.
+ * <p>
+ * Selections alternate between a square of the bot's home rows (picking a piece) and a
+ * random square (the destination), so the server sees the same mix of selections, moves
+ * and rejected commands as from a human. Each selection carries a sequence number;
+ * the echo with the same number ends its latency measurement.
+ * </p>
+ */
+public class Bot implements Runnable {
+
+    private final int index;
+    private final LoadTestConfig config;
+    private final WebSocketContainer container;
+    private final LoadStats stats;
+
+    /** {@link System#nanoTime()} at which the bot stops sending. */
+    private final long stopAtNanos;
+
+    /** Send time of each selection not yet echoed, by sequence number. */
+    private final Map<Long, Long> outstanding = new ConcurrentHashMap<>();
+
+    /** Released when the game's initial state arrives. */
+    private final CountDownLatch gameStarted = new CountDownLatch(1);
+
+    private ChessClientEndpoint client;
+    private long seq = 0;
+
+    /**
+     * @param index       bot number, used for its player name
+     * @param config      run settings
+     * @param container   WebSocket container shared by all bots
+     * @param stats       shared counters
+     * @param stopAtNanos {@link System#nanoTime()} at which to stop sending
+     */
+    public Bot(int index, LoadTestConfig config, WebSocketContainer container, LoadStats stats, long stopAtNanos) {
+        this.index = index;
+        this.config = config;
+        this.container = container;
+        this.stats = stats;
+        this.stopAtNanos = stopAtNanos;
+    }
+
+    @Override
+    public void run() {
+        try {
+            client = new ChessClientEndpoint(config.uri(), container);
+        } catch (Exception e) {
+            stats.connectFailures.increment();
+            return;
+        }
+        stats.connected.increment();
+
+        try {
+            client.setMessageListener(this::onMessage);
+            client.sendCommand(EventType.SET_NAME, "bot-" + index);
+
+            if (!gameStarted.await(Math.max(0, stopAtNanos - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                stats.joinTimeouts.increment();
+                return;
+            }
+            stats.gamesJoined.increment();
+
+            sendLoop();
+
+            // Give the last selections time to come back
+            TimeUnit.MILLISECONDS.sleep(config.echoTimeoutMillis());
+            stats.lost.add(outstanding.size());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            stats.sendErrors.increment();
+        } finally {
+            client.close();
+        }
+    }
+
+    /**
+     * Sends selections at the configured rate until the stop time.
+     */
+    private void sendLoop() throws InterruptedException {
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / config.selectionsPerSecond());
+        long timeout = TimeUnit.MILLISECONDS.toNanos(config.echoTimeoutMillis());
+        // Random phase so bots do not send in lockstep
+        long next = System.nanoTime() + ThreadLocalRandom.current().nextLong(interval);
+        boolean wasConnected = true;
+
+        while (next < stopAtNanos) {
+            long wait = next - System.nanoTime();
+            if (wait > 0) TimeUnit.NANOSECONDS.sleep(wait);
+            next += interval;
+
+            boolean isConnected = client.isConnected();
+            if (wasConnected && !isConnected) stats.disconnects.increment();
+            wasConnected = isConnected;
+
+            expireLost(System.nanoTime() - timeout);
+            sendSelection();
+        }
+    }
+
+    /**
+     * Sends the next selection and remembers when it was sent.
+     */
+    private void sendSelection() {
+        int playerId = client.getPlayerId();
+        long id = ++seq;
+        Position pos = id % 2 == 1 ? homeSquare(playerId) : randomSquare();
+
+        outstanding.put(id, System.nanoTime());
+        try {
+            client.sendCommand(EventType.PLAYER_SELECTED, new PlayerSelectedDTO(playerId, pos, id));
+            stats.sent.increment();
+        } catch (Exception e) {
+            outstanding.remove(id);
+            stats.sendErrors.increment();
+        }
+    }
+
+    /**
+     * Counts selections sent before the given time and still unanswered as lost.
+     */
+    private void expireLost(long sentBeforeNanos) {
+        for (Iterator<Long> it = outstanding.values().iterator(); it.hasNext(); ) {
+            if (it.next() < sentBeforeNanos) {
+                it.remove();
+                stats.lost.increment();
+            }
+        }
+    }
+
+    /**
+     * Handles a message from the server; runs on the WebSocket receive thread.
+     */
+    private void onMessage(Message<JsonNode> message) {
+        switch (message.type()) {
+            case GAME_INIT, RESUMED -> gameStarted.countDown();
+            case PLAYER_SELECTED -> onSelectionEcho(message.data());
+            default -> { }
+        }
+    }
+
+    /**
+     * Completes the latency measurement of an own selection.
+     */
+    private void onSelectionEcho(JsonNode data) {
+        if (data.path("playerId").asInt(-1) != client.getPlayerId()) return;
+
+        Long sentAt = outstanding.remove(data.path("seq").asLong(0));
+        if (sentAt != null) {
+            stats.echoLatency.record(System.nanoTime() - sentAt);
+            stats.echoed.increment();
+        }
+    }
+
+    /**
+     * Returns a random square of the player's starting rows.
+     */
+    private Position homeSquare(int playerId) {
+        List<Integer> rows = BoardConfig.rowsOfPlayer.get(Math.max(0, playerId) % BoardConfig.rowsOfPlayer.size());
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        return new Position(rows.get(rnd.nextInt(rows.size())), rnd.nextInt(BoardConstants.BOARD_COLS));
+    }
+
+    /**
+     * Returns a random square of the board.
+     */
+    private static Position randomSquare() {
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        return new Position(rnd.nextInt(BoardConstants.BOARD_ROWS), rnd.nextInt(BoardConstants.BOARD_COLS));
+    }
+}
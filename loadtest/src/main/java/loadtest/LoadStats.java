@@ -0,0 +1,95 @@
+package loadtest;
+
+import metrics.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters shared by all bots of a run. Every field is updated without locks from
+ * WebSocket receive threads and bot threads alike.
+ */
+public class LoadStats {
+
+    /** Time from sending a selection to receiving the server's broadcast of it, in nanoseconds. */
+    final Histogram echoLatency = new Histogram();
+
+    /** Bots whose WebSocket connection opened. */
+    final LongAdder connected = new LongAdder();
+
+    /** Bots that could not connect. */
+    final LongAdder connectFailures = new LongAdder();
+
+    /** Bots that received their game's initial state. */
+    final LongAdder gamesJoined = new LongAdder();
+
+    /** Bots that were never paired into a game. */
+    final LongAdder joinTimeouts = new LongAdder();
+
+    /** Selections sent. */
+    final LongAdder sent = new LongAdder();
+
+    /** Own selections echoed back by the server. */
+    final LongAdder echoed = new LongAdder();
+
+    /** Selections that could not be sent (e.g. closed session). */
+    final LongAdder sendErrors = new LongAdder();
+
+    /** Selections that were never echoed within the timeout. */
+    final LongAdder lost = new LongAdder();
+
+    /** Connections closed by the server or the network during the run. */
+    final LongAdder disconnects = new LongAdder();
+
+    /**
+     * @return errors of any kind: failed connects, unpaired bots, failed sends, lost selections, disconnects
+     */
+    long errors() {
+        return connectFailures.sum() + joinTimeouts.sum() + sendErrors.sum() + lost.sum() + disconnects.sum();
+    }
+
+    /**
+     * Formats an interval report.
+     *
+     * @param latency   latency distribution of the interval
+     * @param sentDelta selections sent in the interval
+     * @param seconds   interval length in seconds
+     * @return one report line
+     */
+    String formatInterval(Histogram.Snapshot latency, long sentDelta, double seconds) {
+        return String.format("sent %8.1f/s  echoed %8.1f/s  latency ms p50 %7.2f p90 %7.2f p99 %7.2f max %7.2f  "
+                        + "bots %d/%d in game  errors %d",
+                sentDelta / seconds, latency.count() / seconds,
+                millis(latency.percentile(50)), millis(latency.percentile(90)),
+                millis(latency.percentile(99)), millis(latency.percentile(100)),
+                gamesJoined.sum(), connected.sum(), errors());
+    }
+
+    /**
+     * Formats the end-of-run summary.
+     *
+     * @param seconds length of the measured traffic phase in seconds
+     * @return multi-line summary
+     */
+    String formatSummary(double seconds) {
+        Histogram.Snapshot latency = echoLatency.snapshot();
+        long sentTotal = sent.sum();
+        return String.join(System.lineSeparator(),
+                "==== Load test summary ====",
+                String.format("bots connected %d, connect failures %d, joined games %d, never paired %d",
+                        connected.sum(), connectFailures.sum(), gamesJoined.sum(), joinTimeouts.sum()),
+                String.format("selections sent %d (%.1f/s), echoed %d (%.1f/s)",
+                        sentTotal, sentTotal / seconds, echoed.sum(), echoed.sum() / seconds),
+                String.format("echo latency ms: mean %.2f p50 %.2f p90 %.2f p99 %.2f p99.9 %.2f max %.2f",
+                        latency.mean() / TimeUnit.MILLISECONDS.toNanos(1),
+                        millis(latency.percentile(50)), millis(latency.percentile(90)),
+                        millis(latency.percentile(99)), millis(latency.percentile(99.9)), millis(latency.max())),
+                String.format("errors: send %d, lost %d, disconnects %d; error rate %.3f%% of sent",
+                        sendErrors.sum(), lost.sum(), disconnects.sum(),
+                        sentTotal == 0 ? 0.0 : 100.0 * (sendErrors.sum() + lost.sum()) / sentTotal));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,121 @@
+package loadtest;
+
+import metrics.Histogram;
+import utils.VirtualThreads;
+
+import javax.websocket.ContainerProvider;
+import javax.websocket.WebSocketContainer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Headless load generator: runs many {@link Bot}s against a running game server and
+ * reports selection-echo latency, throughput and error rates.
+ * <p>
+ * Start the server with multi-room hosting so bots are paired into many games:
+ * {@code -Dserver.rooms.multi=true}. Each bot runs on its own virtual thread (platform
+ * threads before Java 21); all bots share one WebSocket container.
+ * </p>
+ */
+public class LoadTest {
+
+    /**
+     * Runs a load test.
+     *
+     * @param args {@code --key=value} options, see {@link LoadTestConfig#USAGE}
+     * @throws Exception if the run is interrupted
+     */
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config;
+        try {
+            config = LoadTestConfig.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(LoadTestConfig.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        LoadStats stats = run(config);
+        System.exit(stats.errors() == 0 ? 0 : 1);
+    }
+
+    /**
+     * Runs the bots described by the configuration and prints progress and a summary.
+     *
+     * @param config run settings
+     * @return the run's counters
+     * @throws InterruptedException if interrupted while waiting for the bots
+     */
+    public static LoadStats run(LoadTestConfig config) throws InterruptedException {
+        System.out.printf("Load test: %d bots, %.1f selections/s each, %ds ramp-up, %ds traffic against %s%n",
+                config.bots(), config.selectionsPerSecond(), config.rampUpSeconds(),
+                config.durationSeconds(), config.uri());
+
+        LoadStats stats = new LoadStats();
+        WebSocketContainer container = ContainerProvider.getWebSocketContainer();
+
+        long rampNanos = TimeUnit.SECONDS.toNanos(config.rampUpSeconds());
+        long trafficStart = System.nanoTime() + rampNanos;
+        long stopAt = trafficStart + TimeUnit.SECONDS.toNanos(config.durationSeconds());
+
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "LoadTest-Reporter");
+            t.setDaemon(true);
+            return t;
+        });
+        reporter.scheduleAtFixedRate(new IntervalReport(stats, config.reportIntervalSeconds()),
+                config.reportIntervalSeconds(), config.reportIntervalSeconds(), TimeUnit.SECONDS);
+
+        ExecutorService bots = VirtualThreads.newThreadPerTaskExecutor("Bot");
+        long start = System.nanoTime();
+        for (int i = 0; i < config.bots(); i++) {
+            // Spread connections evenly over the ramp-up
+            long launchAt = start + rampNanos * i / config.bots();
+            long wait = launchAt - System.nanoTime();
+            if (wait > 0) TimeUnit.NANOSECONDS.sleep(wait);
+            bots.submit(new Bot(i, config, container, stats, stopAt));
+        }
+
+        bots.shutdown();
+        long graceMillis = config.echoTimeoutMillis() + TimeUnit.SECONDS.toMillis(30);
+        if (!bots.awaitTermination(TimeUnit.NANOSECONDS.toMillis(stopAt - System.nanoTime()) + graceMillis,
+                TimeUnit.MILLISECONDS)) {
+            System.out.println("Some bots did not finish in time");
+            bots.shutdownNow();
+        }
+        reporter.shutdownNow();
+
+        double trafficSeconds = Math.max(1e-9, (stopAt - trafficStart) / 1e9);
+        System.out.println(stats.formatSummary(trafficSeconds));
+        return stats;
+    }
+
+    /**
+     * Prints the traffic of the last interval.
+     */
+    private static final class IntervalReport implements Runnable {
+
+        private final LoadStats stats;
+        private final double seconds;
+        private Histogram.Snapshot previous;
+        private long previousSent;
+
+        IntervalReport(LoadStats stats, int seconds) {
+            this.stats = stats;
+            this.seconds = seconds;
+            this.previous = stats.echoLatency.snapshot();
+        }
+
+        @Override
+        public void run() {
+            Histogram.Snapshot current = stats.echoLatency.snapshot();
+            long sent = stats.sent.sum();
+            System.out.println(stats.formatInterval(current.minus(previous), sent - previousSent, seconds));
+            previous = current;
+            previousSent = sent;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package loadtest;
+
+import constants.ServerConfig;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Settings of a load-test run, parsed from {@code --key=value} command-line arguments.
+ *
+ * @param uri                  server game endpoint
+ * @param bots                 number of simulated players (rounded up to full games by the server)
+ * @param selectionsPerSecond  {@code PLAYER_SELECTED} messages each bot sends per second
+ * @param durationSeconds      how long bots keep sending once the ramp-up is over
+ * @param rampUpSeconds        time over which bot connections are spread
+ * @param reportIntervalSeconds seconds between progress reports
+ * @param echoTimeoutMillis    time after which a selection without echo counts as lost
+ */
+public record LoadTestConfig(
+        URI uri,
+        int bots,
+        double selectionsPerSecond,
+        int durationSeconds,
+        int rampUpSeconds,
+        int reportIntervalSeconds,
+        long echoTimeoutMillis
+) {
+
+    /** Recognized option names. */
+    private static final Set<String> OPTIONS = Set.of(
+            "url", "bots", "rate", "duration", "ramp", "report", "echo-timeout");
+
+    /** Usage text printed for {@code --help} or invalid arguments. */
+    public static final String USAGE = String.join(System.lineSeparator(),
+            "Usage: java -jar loadtest.jar [options]",
+            "  --url=ws://localhost:8025/ws/game  server game endpoint",
+            "  --bots=100                         simulated players",
+            "  --rate=2                           selections per second per bot",
+            "  --duration=60                      seconds of traffic after ramp-up",
+            "  --ramp=10                          seconds over which bots connect",
+            "  --report=5                         seconds between progress reports",
+            "  --echo-timeout=5000                ms before an unanswered selection counts as lost");
+
+    /**
+     * Validates the settings.
+     *
+     * @throws IllegalArgumentException if a value is out of range
+     */
+    public LoadTestConfig {
+        if (bots <= 0) throw new IllegalArgumentException("bots must be positive");
+        if (selectionsPerSecond <= 0) throw new IllegalArgumentException("rate must be positive");
+        if (durationSeconds <= 0) throw new IllegalArgumentException("duration must be positive");
+        if (rampUpSeconds < 0) throw new IllegalArgumentException("ramp must not be negative");
+        if (reportIntervalSeconds <= 0) throw new IllegalArgumentException("report must be positive");
+        if (echoTimeoutMillis <= 0) throw new IllegalArgumentException("echo-timeout must be positive");
+    }
+
+    /**
+     * Parses command-line arguments; missing options take their defaults.
+     *
+     * @param args arguments of the form {@code --key=value}
+     * @return the configuration
+     * @throws IllegalArgumentException on unknown options or malformed values
+     */
+    public static LoadTestConfig parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("Expected --key=value but got: " + arg);
+            }
+            String key = arg.substring(2, eq);
+            if (!OPTIONS.contains(key)) {
+                throw new IllegalArgumentException("Unknown option: --" + key);
+            }
+            options.put(key, arg.substring(eq + 1));
+        }
+
+        String defaultUrl = "ws://localhost:" + ServerConfig.PORT + ServerConfig.WS_PATH + ServerConfig.SERVER_ENDPOINT;
+        try {
+            return new LoadTestConfig(
+                    URI.create(options.getOrDefault("url", defaultUrl)),
+                    Integer.parseInt(options.getOrDefault("bots", "100")),
+                    Double.parseDouble(options.getOrDefault("rate", "2")),
+                    Integer.parseInt(options.getOrDefault("duration", "60")),
+                    Integer.parseInt(options.getOrDefault("ramp", "10")),
+                    Integer.parseInt(options.getOrDefault("report", "5")),
+                    Long.parseLong(options.getOrDefault("echo-timeout", "5000"))
+            );
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed number: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadTestConfigTest {
+
+    @Test
+    void defaultsApplyWhenNoOptionsGiven() {
+        LoadTestConfig config = LoadTestConfig.parse(new String[0]);
+
+        assertEquals(100, config.bots());
+        assertEquals(2.0, config.selectionsPerSecond());
+        assertEquals(60, config.durationSeconds());
+        assertTrue(config.uri().toString().startsWith("ws://localhost:"));
+        assertTrue(config.uri().toString().endsWith("/game"));
+    }
+
+    @Test
+    void optionsOverrideDefaults() {
+        LoadTestConfig config = LoadTestConfig.parse(new String[]{
+                "--url=ws://example:9000/ws/game", "--bots=2000", "--rate=0.5",
+                "--duration=30", "--ramp=0", "--report=1", "--echo-timeout=250"});
+
+        assertEquals(URI.create("ws://example:9000/ws/game"), config.uri());
+        assertEquals(2000, config.bots());
+        assertEquals(0.5, config.selectionsPerSecond());
+        assertEquals(30, config.durationSeconds());
+        assertEquals(0, config.rampUpSeconds());
+        assertEquals(1, config.reportIntervalSeconds());
+        assertEquals(250, config.echoTimeoutMillis());
+    }
+
+    @Test
+    void invalidArgumentsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> LoadTestConfig.parse(new String[]{"--bots"}));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestConfig.parse(new String[]{"--unknown=1"}));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestConfig.parse(new String[]{"--bots=many"}));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestConfig.parse(new String[]{"--bots=0"}));
+    }
+}
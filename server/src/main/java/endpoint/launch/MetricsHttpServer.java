@@ -0,0 +1,190 @@
+package endpoint.launch;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import metrics.Histogram;
+import metrics.NodeMetrics;
+import metrics.TickMetrics;
+import server.GameRooms;
+import server.ServerMetrics;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Embedded HTTP endpoint exposing live server metrics for monitoring.
+ * <p>
+ * Serves {@code /metrics} in the Prometheus text exposition format (sessions, rooms,
+ * message counters and rates, serialization time, tick statistics and overruns, heap)
+ * and {@code /health} as a plain liveness check. Built on the JDK {@link HttpServer};
+ * scrapes only read lock-free counters and never pause game loops.
+ * </p>
+ */
+public class MetricsHttpServer {
+
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private final Supplier<GameRooms> rooms;
+
+    private HttpServer server;
+
+    /** Counter values and time of the previous scrape, for per-second rates. */
+    private long lastScrapeNanos;
+    private long lastMessagesIn;
+    private long lastMessagesOut;
+
+    /**
+     * @param rooms source of the room router whose sessions and rooms are reported
+     */
+    public MetricsHttpServer(Supplier<GameRooms> rooms) {
+        this.rooms = rooms;
+    }
+
+    /**
+     * Starts serving on the given address.
+     *
+     * @param host interface to bind
+     * @param port port to bind; 0 picks a free port
+     * @throws IOException if the port cannot be bound
+     */
+    public void start(String host, int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(host, port), 0);
+        server.createContext("/metrics", exchange -> respond(exchange, 200, CONTENT_TYPE, scrape()));
+        server.createContext("/health", exchange -> respond(exchange, 200, "text/plain; charset=utf-8", "ok\n"));
+        server.setExecutor(Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "MetricsHttpServer");
+            t.setDaemon(true);
+            return t;
+        }));
+        server.start();
+    }
+
+    /**
+     * Stops serving.
+     */
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+    }
+
+    /**
+     * @return the bound port, or -1 if not started
+     */
+    public int getPort() {
+        return server == null ? -1 : server.getAddress().getPort();
+    }
+
+    /**
+     * Renders all metrics in the Prometheus text format.
+     *
+     * @return the exposition text
+     */
+    public synchronized String scrape() {
+        StringBuilder out = new StringBuilder(4096);
+        ServerMetrics traffic = ServerMetrics.getInstance();
+        GameRooms router = rooms.get();
+
+        gauge(out, "kfchess_sessions", "Connected WebSocket sessions", router.getSessionCount());
+        gauge(out, "kfchess_rooms", "Rooms hosting or waiting for players", router.getRoomCount());
+        gauge(out, "kfchess_games_running", "Games whose loop is running", NodeMetrics.getInstance().getGames().size());
+
+        long now = System.nanoTime();
+        long in = traffic.getMessagesIn();
+        long outCount = traffic.getMessagesOut();
+        double seconds = lastScrapeNanos == 0 ? 0 : (now - lastScrapeNanos) / NANOS_PER_SECOND;
+        counter(out, "kfchess_messages_in_total", "Messages received from clients", in);
+        counter(out, "kfchess_messages_out_total", "Messages written to clients", outCount);
+        counter(out, "kfchess_send_failures_total", "Writes to clients that failed", traffic.getSendFailures());
+        gauge(out, "kfchess_messages_in_per_second", "Received messages per second since the previous scrape",
+                seconds > 0 ? (in - lastMessagesIn) / seconds : 0);
+        gauge(out, "kfchess_messages_out_per_second", "Written messages per second since the previous scrape",
+                seconds > 0 ? (outCount - lastMessagesOut) / seconds : 0);
+        lastScrapeNanos = now;
+        lastMessagesIn = in;
+        lastMessagesOut = outCount;
+
+        summary(out, "kfchess_serialize_seconds", "Time to serialize an outgoing message",
+                traffic.getSerializeNanos().snapshot(), NANOS_PER_SECOND);
+
+        TickMetrics.Snapshot ticks = NodeMetrics.getInstance().getNodeTicks().snapshot();
+        counter(out, "kfchess_tick_overruns_total", "Ticks longer than the tick budget, all games", ticks.overruns());
+        summary(out, "kfchess_tick_seconds", "Game loop tick duration, all games", ticks.tickDuration(), NANOS_PER_SECOND);
+        summary(out, "kfchess_tick_update_seconds", "game.update() duration, all games", ticks.updateDuration(), NANOS_PER_SECOND);
+        summary(out, "kfchess_tick_publish_seconds", "Tick event publish duration, all games", ticks.publishDuration(), NANOS_PER_SECOND);
+        summary(out, "kfchess_tick_jitter_seconds", "Deviation of tick intervals from the schedule", ticks.jitter(), NANOS_PER_SECOND);
+        summary(out, "kfchess_tick_commands", "Commands executed per tick", ticks.commandsPerTick(), 1);
+        summary(out, "kfchess_tick_pieces", "Pieces updated per tick", ticks.piecesPerTick(), 1);
+
+        header(out, "kfchess_game_tick_overruns_total", "Ticks longer than the tick budget, per running game", "counter");
+        for (TickMetrics game : NodeMetrics.getInstance().getGames()) {
+            out.append("kfchess_game_tick_overruns_total{game=\"").append(game.getId()).append("\"} ")
+                    .append(game.getOverrunCount()).append('\n');
+        }
+
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        gauge(out, "jvm_heap_used_bytes", "Used heap memory", heap.getUsed());
+        gauge(out, "jvm_heap_committed_bytes", "Committed heap memory", heap.getCommitted());
+        gauge(out, "jvm_heap_max_bytes", "Maximum heap memory (-1 if undefined)", heap.getMax());
+        gauge(out, "jvm_threads_live", "Live platform threads", ManagementFactory.getThreadMXBean().getThreadCount());
+
+        return out.toString();
+    }
+
+    // ---------------------- Exposition Format ----------------------
+
+    private static void header(StringBuilder out, String name, String help, String type) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void gauge(StringBuilder out, String name, String help, double value) {
+        header(out, name, help, "gauge");
+        out.append(name).append(' ').append(format(value)).append('\n');
+    }
+
+    private static void counter(StringBuilder out, String name, String help, long value) {
+        header(out, name, help, "counter");
+        out.append(name).append(' ').append(value).append('\n');
+    }
+
+    /**
+     * Writes a histogram as a Prometheus summary, dividing values by {@code unit}.
+     */
+    private static void summary(StringBuilder out, String name, String help, Histogram.Snapshot h, double unit) {
+        header(out, name, help, "summary");
+        for (double q : QUANTILES) {
+            out.append(name).append("{quantile=\"").append(q).append("\"} ")
+                    .append(format(h.percentile(q * 100) / unit)).append('\n');
+        }
+        out.append(name).append("_sum ").append(format(h.sum() / unit)).append('\n');
+        out.append(name).append("_count ").append(h.count()).append('\n');
+    }
+
+    private static String format(double value) {
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        return Double.toString(value);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package endpoint.launch;
+
+import perft.Perft;
+import replay.GameReplayer;
+
+/**
+ * Command-line entry point counting KFChess move-generation nodes from the initial layout.
+ * <p>
+ * Every depth from 1 to {@code --depth} is counted {@code --repeat} times; the best time of each
+ * depth gives its nodes per second. The exit code is 1 if any count differs from its golden value,
+ * i.e. if a rules or engine change altered which moves are legal.
+ * </p>
+ */
+public final class PerftTool {
+
+    /** Usage text printed for invalid arguments. */
+    private static final String USAGE = String.join(System.lineSeparator(),
+            "Usage: java -cp chess-websocket-server.jar endpoint.launch.PerftTool [options]",
+            "  --depth=" + Perft.maxGoldenDepth() + "    deepest count",
+            "  --repeat=3   counts per depth; the fastest is reported");
+
+    // Private constructor to prevent instantiation
+    private PerftTool() {}
+
+    public static void main(String[] args) {
+        int depth = Perft.maxGoldenDepth();
+        int repeat = 3;
+        try {
+            for (String arg : args) {
+                int eq = arg.indexOf('=');
+                String key = eq < 0 ? arg : arg.substring(0, eq);
+                String value = eq < 0 ? "" : arg.substring(eq + 1);
+                switch (key) {
+                    case "--depth" -> depth = Integer.parseInt(value);
+                    case "--repeat" -> repeat = Integer.parseInt(value);
+                    default -> throw new IllegalArgumentException("Unknown option: " + arg);
+                }
+            }
+            if (depth < 1 || repeat < 1) throw new IllegalArgumentException("depth and repeat must be >= 1");
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+
+        Perft perft = new Perft(GameReplayer.defaultBoardConfig());
+        boolean allMatch = true;
+        for (int d = 1; d <= depth; d++) {
+            Perft.Result best = null;
+            for (int i = 0; i < repeat; i++) {
+                Perft.Result r = perft.run(d);
+                if (best == null || r.elapsedNanos() < best.elapsedNanos()) best = r;
+            }
+            long golden = Perft.golden(d);
+            String check = golden < 0 ? "no golden value" : best.matchesGolden() ? "ok" : "MISMATCH, expected " + golden;
+            System.out.printf("depth %d: %,d nodes in %.1f ms, %,.0f nodes/s (%s)%n",
+                    d, best.nodes(), best.elapsedNanos() / 1e6, best.nodesPerSecond(), check);
+            allMatch &= best.matchesGolden();
+        }
+        System.exit(allMatch ? 0 : 1);
+    }
+}
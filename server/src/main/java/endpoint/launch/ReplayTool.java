@@ -0,0 +1,96 @@
+package endpoint.launch;
+
+import constants.ServerConfig;
+import journal.JournalEntry;
+import journal.JournalReader;
+import replay.GameReplayer;
+import replay.ReplayResult;
+import replay.ReplayRunner;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command-line entry point replaying the game journals written by the server.
+ * <p>
+ * Every journal in the directory is re-simulated headlessly; {@code --repeat} replays the
+ * whole set several times to measure sustained throughput; {@code --cross-check} also plays
+ * every journal on a {@link board.PieceTable} and compares hashes tick by tick. The exit code
+ * is 1 if any replay diverged from its recording.
+ * </p>
+ */
+public final class ReplayTool {
+
+    /** Usage text printed for invalid arguments. */
+    private static final String USAGE = String.join(System.lineSeparator(),
+            "Usage: java -cp chess-websocket-server.jar endpoint.launch.ReplayTool [options]",
+            "  --dir=<server.journal.dir>  directory holding the journals",
+            "  --threads=<cores>           games replayed in parallel",
+            "  --repeat=1                  times every journal is replayed",
+            "  --cross-check               also replay on a piece table and compare hashes");
+
+    // Private constructor to prevent instantiation
+    private ReplayTool() {}
+
+    public static void main(String[] args) throws Exception {
+        Path dir = Path.of(ServerConfig.JOURNAL_DIR.isEmpty() ? "." : ServerConfig.JOURNAL_DIR);
+        int threads = Runtime.getRuntime().availableProcessors();
+        int repeat = 1;
+        boolean crossCheck = false;
+        try {
+            for (String arg : args) {
+                int eq = arg.indexOf('=');
+                String key = eq < 0 ? arg : arg.substring(0, eq);
+                String value = eq < 0 ? "" : arg.substring(eq + 1);
+                switch (key) {
+                    case "--dir" -> dir = Path.of(value);
+                    case "--threads" -> threads = Integer.parseInt(value);
+                    case "--repeat" -> repeat = Integer.parseInt(value);
+                    case "--cross-check" -> crossCheck = true;
+                    default -> throw new IllegalArgumentException("Unknown option: " + arg);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+
+        Map<String, List<JournalEntry>> journals = new LinkedHashMap<>();
+        for (String name : JournalReader.list(dir)) {
+            journals.put(name, JournalReader.read(dir, name));
+        }
+        if (journals.isEmpty()) {
+            System.err.println("No journals in " + dir.toAbsolutePath());
+            System.exit(2);
+            return;
+        }
+
+        Map<String, List<JournalEntry>> batch = new LinkedHashMap<>();
+        for (int i = 0; i < repeat; i++) {
+            for (Map.Entry<String, List<JournalEntry>> e : journals.entrySet()) {
+                batch.put(repeat == 1 ? e.getKey() : e.getKey() + "#" + i, e.getValue());
+            }
+        }
+
+        System.out.printf("Replaying %d journals x %d on %d threads%n", journals.size(), repeat, threads);
+        ReplayRunner.Report report;
+        try (ReplayRunner runner = new ReplayRunner(GameReplayer.forServerGames(crossCheck), threads)) {
+            report = runner.run(batch);
+        }
+
+        for (ReplayResult r : report.results()) {
+            if (r.rejected() > 0) {
+                System.out.printf("  %s diverged: %d of %d commands rejected%n", r.name(), r.rejected(), r.commands());
+            }
+            if (r.divergedTick() >= 0) {
+                System.out.printf("  %s diverged: piece table hash differs after tick %d%n", r.name(), r.divergedTick());
+            }
+        }
+        System.out.println(report);
+        System.exit(report.inconsistent() == 0 ? 0 : 1);
+    }
+}
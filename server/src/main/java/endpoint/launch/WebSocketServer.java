@@ -4,12 +4,15 @@ import org.glassfish.tyrus.server.Server;
 import constants.ServerConfig;
 import server.ChessServerEndpoint;
 
+import java.io.IOException;
+
 /**
  * Main entry point for launching the WebSocket server used in the chess game.
  * <p>
  * This class initializes and starts a Tyrus WebSocket server using configuration
  * parameters defined in {@link ServerConfig}. It binds the server to the provided
  * host, port, and WebSocket path, and exposes the {@link ChessServerEndpoint}.
+ * A {@link MetricsHttpServer} serves monitoring data next to it unless disabled.
  * </p>
  */
 public class WebSocketServer {
@@ -30,6 +33,8 @@ public class WebSocketServer {
                 ChessServerEndpoint.class
         );
 
+        MetricsHttpServer metrics = new MetricsHttpServer(ChessServerEndpoint::getGameRooms);
+
         try {
             // Start the server
             server.start();
@@ -41,11 +46,23 @@ public class WebSocketServer {
                     ServerConfig.SERVER_ENDPOINT
             );
 
+            // Start the metrics/health endpoint; it is optional, so the game server keeps running without it
+            if (ServerConfig.METRICS_PORT > 0) {
+                try {
+                    metrics.start(ServerConfig.METRICS_HOST, ServerConfig.METRICS_PORT);
+                    System.out.printf("Metrics at http://%s:%d/metrics%n", ServerConfig.METRICS_HOST, metrics.getPort());
+                } catch (IOException e) {
+                    System.err.printf("Metrics endpoint disabled, cannot bind %s:%d: %s%n",
+                            ServerConfig.METRICS_HOST, ServerConfig.METRICS_PORT, e.getMessage());
+                }
+            }
+
             // Keep server running until user presses a key
 //            System.out.println("Press any key to stop...");
             Thread.currentThread().join();
         } finally {
             // Ensure server is stopped gracefully
+            metrics.stop();
             server.stop();
             System.out.println("WebSocket server stopped.");
         }
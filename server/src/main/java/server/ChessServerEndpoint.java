@@ -10,15 +10,30 @@ import java.io.IOException;
  * WebSocket endpoint for the chess game server.
  * <p>
  * This class acts as a thin layer between WebSocket events and the
- * {@link GameHandler}, delegating all connection, messaging, and error-handling
- * logic to it.
+ * {@link GameRooms}, which delegates all connection, messaging, and error-handling
+ * logic to the {@link GameHandler} of each session's game.
+ * </p>
+ * <p>
+ * With {@link ServerConfig#VIRTUAL_THREADS} enabled, messages and close events are
+ * queued on the session's inbound lane (see {@link SessionExecutors}) instead of
+ * being processed on the container's worker thread.
  * </p>
  */
 @ServerEndpoint(ServerConfig.SERVER_ENDPOINT)
 public class ChessServerEndpoint {
 
-    /** Shared game handler instance responsible for processing all events. */
-    private static final GameHandler gameHandler = new GameHandler();
+    /** Shared room router responsible for processing all events. */
+    private static final GameRooms gameRooms = new GameRooms();
+
+    /** Per-session lanes used when virtual-thread mode is on. */
+    private static final SessionExecutors sessionExecutors = SessionExecutors.getInstance();
+
+    /**
+     * @return the room router shared by all connections of this server
+     */
+    public static GameRooms getGameRooms() {
+        return gameRooms;
+    }
 
     /**
      * Triggered when a new WebSocket connection is established.
@@ -28,7 +43,8 @@ public class ChessServerEndpoint {
      */
     @OnOpen
     public void onOpen(Session session) throws IOException {
-        gameHandler.handleOpen(session);
+        sessionExecutors.register(session);
+        gameRooms.handleOpen(session);
     }
 
     /**
@@ -39,7 +55,11 @@ public class ChessServerEndpoint {
      */
     @OnClose
     public void onClose(Session session, CloseReason reason) {
-        gameHandler.handleClose(session, reason);
+        Runnable close = () -> {
+            gameRooms.handleClose(session, reason);
+            sessionExecutors.unregister(session);
+        };
+        if (!sessionExecutors.submitInbound(session, close)) close.run();
     }
 
     /**
@@ -50,7 +70,7 @@ public class ChessServerEndpoint {
      */
     @OnError
     public void onError(Session session, Throwable throwable) {
-        gameHandler.handleError(session, throwable);
+        gameRooms.handleError(session, throwable);
     }
 
     /**
@@ -61,6 +81,9 @@ public class ChessServerEndpoint {
      */
     @OnMessage
     public void onMessage(String message, Session session) {
-        gameHandler.handleMessage(message, session);
+        ServerMetrics.getInstance().messageIn();
+        if (!sessionExecutors.submitInbound(session, () -> gameRooms.handleMessage(message, session))) {
+            gameRooms.handleMessage(message, session);
+        }
     }
 }
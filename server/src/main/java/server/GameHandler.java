@@ -6,29 +6,41 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import constants.BoardConstants;
 import constants.GameConstants;
 import constants.Messages;
+import constants.ServerConfig;
 import dto.*;
-import game.GameFactory;
 import game.GameLoop;
+import game.GamePool;
+import interfaces.IClock;
 import interfaces.IGame;
 import interfaces.IGameLoop;
-import interfaces.IPlayer;
-import player.PlayerFactory;
+import journal.GameJournal;
+import profiling.MessageCodecEvent;
 import board.BoardConfig;
+import utils.SystemClock;
+import utils.TickClock;
 
+import javax.swing.SwingUtilities;
 import javax.websocket.CloseReason;
 import javax.websocket.Session;
 import java.awt.*;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * Handles all core logic related to the multiplayer chess game:
  * <ul>
- *   <li>Manages player sessions and IDs</li>
+ *   <li>Manages player sessions, IDs and resumable seats</li>
  *   <li>Processes incoming WebSocket messages</li>
  *   <li>Initializes and starts the game when ready</li>
  *   <li>Delegates game events to {@link IGame}</li>
@@ -41,6 +53,19 @@ import java.util.logging.Logger;
 public class GameHandler {
 
     private static final Logger LOGGER = Logger.getLogger(GameHandler.class.getName());
+
+    /** Sequence making journal names unique within the process. */
+    private static final AtomicLong JOURNAL_SEQ = new AtomicLong();
+
+    /**
+     * Thread sending the board hashes of all rooms, so the game loop never waits on a write.
+     */
+    private static final ExecutorService STATE_HASH_SENDER = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "GameHandler-StateHash");
+        t.setDaemon(true);
+        return t;
+    });
+
     private final ObjectMapper mapper = new ObjectMapper();
 
     /**
@@ -56,61 +81,337 @@ public class GameHandler {
     );
 
     /**
-     * The current game instance (null until both players have joined).
+     * Session token of each seat (index = player ID); null while the seat is free.
+     * A seat keeps its token while its player is disconnected so it can be reclaimed.
+     */
+    private final String[] seatTokens = new String[GameConstants.MAX_PLAYERS];
+
+    /**
+     * Every selection broadcast in the current game, in broadcast order.
+     * Used to send a resuming client the selections it missed.
+     */
+    private final List<PlayerSelectedDTO> selectionLog = new ArrayList<>();
+
+    /**
+     * Game-clock time each logged selection was handed to the game (same index as {@link #selectionLog}).
+     * Lets a client that diverged rebuild the game by re-simulating it.
+     */
+    private final List<Long> selectionNanos = new ArrayList<>();
+
+    /**
+     * Invoked when all players are gone (and their seats can no longer be resumed).
+     */
+    private final Runnable shutdownHook;
+
+    /**
+     * How long seats of a running game are kept after the last player disconnected.
+     */
+    private final long resumeGraceMillis;
+
+    /**
+     * Scheduler for the delayed shutdown; created on first use.
+     */
+    private ScheduledExecutorService shutdownScheduler;
+
+    /**
+     * Pending delayed shutdown, cancelled when a player resumes.
+     */
+    private ScheduledFuture<?> pendingShutdown;
+
+    /**
+     * Game clock of this handler; clients synchronize to it via {@link EventType#CLOCK_PING}.
+     * A {@link TickClock} stepped by the game loop when {@link ServerConfig#FIXED_TIMESTEP} is set.
+     * Replaced by the clock of the game once it starts, which reads the same until the first tick.
+     */
+    private volatile IClock clock = newClock();
+
+    /**
+     * Pool the game is taken from, and returned to when the handler is closed.
+     */
+    private final GamePool gamePool;
+
+    /**
+     * The current game instance (null until both players have joined, and again once closed).
+     * Replaced under the handler lock and the selection log lock.
+     */
+    private volatile IGame game = null;
+
+    /**
+     * Loop ticking the current game (null until the game starts).
+     */
+    private IGameLoop gameLoop = null;
+
+    /**
+     * Set by {@link #close()}; a closed handler ignores every message.
+     */
+    private volatile boolean closed = false;
+
+    /**
+     * Creates a handler that exits the process once all players left.
+     */
+    public GameHandler() {
+        this(() -> System.exit(0));
+    }
+
+    /**
+     * Creates a handler with a custom action for when all players left.
+     *
+     * @param shutdownHook action run when no player is connected or can still resume
+     */
+    public GameHandler(Runnable shutdownHook) {
+        this(shutdownHook, ServerConfig.SESSION_RESUME_GRACE_MS);
+    }
+
+    /**
+     * Creates a handler with a custom shutdown action and resume grace period.
+     *
+     * @param shutdownHook      action run when no player is connected or can still resume
+     * @param resumeGraceMillis how long seats of a running game stay reclaimable
      */
-    private IGame game = null;
+    public GameHandler(Runnable shutdownHook, long resumeGraceMillis) {
+        this(shutdownHook, resumeGraceMillis, createGamePool(0));
+    }
+
+    /**
+     * Creates a handler whose game is taken from a pool shared with other handlers.
+     *
+     * @param shutdownHook      action run when no player is connected or can still resume
+     * @param resumeGraceMillis how long seats of a running game stay reclaimable
+     * @param gamePool          pool the game is acquired from and released to on {@link #close()}
+     */
+    public GameHandler(Runnable shutdownHook, long resumeGraceMillis, GamePool gamePool) {
+        this.shutdownHook = Objects.requireNonNull(shutdownHook);
+        this.resumeGraceMillis = resumeGraceMillis;
+        this.gamePool = Objects.requireNonNull(gamePool);
+    }
+
+    /**
+     * Creates a pool of server games, timed like this handler's clock.
+     *
+     * @param maxIdle maximum number of finished games kept for reuse; 0 disables reuse
+     * @return the pool
+     */
+    static GamePool createGamePool(int maxIdle) {
+        return new GamePool(createBoardConfig(), GameHandler::newClock, maxIdle);
+    }
+
+    /**
+     * @return a new game clock as configured by {@link ServerConfig#FIXED_TIMESTEP}
+     */
+    private static IClock newClock() {
+        return ServerConfig.FIXED_TIMESTEP ? TickClock.atGameLoopRate() : SystemClock.getInstance();
+    }
 
     // ---------------------- Connection Handling ----------------------
 
     /**
      * Handles a new WebSocket connection.
+     * <p>
+     * A session presenting the token of a seat reclaims that seat; any other session
+     * gets the first free seat and a new token.
+     * </p>
      *
      * @param session the new client session
+     * @return false if the handler is closed and left the session alone, so it must go elsewhere
      * @throws IOException if the connection cannot be established
      */
-    public synchronized void handleOpen(Session session) throws IOException {
-        int playerId = sessionPlayerIds.size();
+    public synchronized boolean handleOpen(Session session) throws IOException {
+        if (closed) return false;
+
+        String token = queryParam(session, ServerConfig.TOKEN_PARAM);
+        int resumedId = token == null ? -1 : findSeat(token);
+        if (resumedId >= 0) {
+            resumeSeat(session, resumedId);
+            return true;
+        }
+
+        int playerId = findSeat(null);
 
         // Reject connection if max players reached
-        if (playerId >= GameConstants.MAX_PLAYERS) {
+        if (playerId < 0) {
             session.close(new CloseReason(
                     CloseReason.CloseCodes.TRY_AGAIN_LATER,
                     Messages.get(Messages.Key.GAME_FULL_MESSAGE))
             );
-            return;
+            return true;
         }
 
-        // Assign new player ID to session
+        // Assign new player ID and token to session
+        seatTokens[playerId] = UUID.randomUUID().toString();
         sessionPlayerIds.put(session, playerId);
         logInfo("Client connected: %s, assigned playerId: %d", session.getId(), playerId);
 
-        // Notify client of assigned ID
+        // Notify client of assigned ID and token
         Messaging.sendMessage(session, new Message<>(EventType.PLAYER_ID, playerId));
+        Messaging.sendMessage(session, new Message<>(EventType.SESSION_TOKEN, seatTokens[playerId]));
 
         // If waiting for another player, notify current one
         if (sessionPlayerIds.size() < GameConstants.MAX_PLAYERS) {
             Messaging.sendMessage(session,
                     new Message<>(EventType.WAIT, Messages.get(Messages.Key.WAIT_MESSAGE)));
         }
+        return true;
+    }
+
+    /**
+     * Rebinds a reconnecting session to its seat and sends it what it needs to rebuild
+     * its replica: a game snapshot plus every selection with the time it was applied.
+     *
+     * @param session  the reconnecting session
+     * @param playerId the reclaimed seat
+     */
+    private void resumeSeat(Session session, int playerId) {
+        // A stale session of the same seat (half-open connection) is replaced
+        sessionPlayerIds.entrySet().removeIf(e -> e.getValue() == playerId);
+        sessionPlayerIds.put(session, playerId);
+        cancelPendingShutdown();
+        logInfo("Client resumed: %s, playerId: %d", session.getId(), playerId);
+
+        Messaging.sendMessage(session, new Message<>(EventType.PLAYER_ID, playerId));
+        Messaging.sendMessage(session, new Message<>(EventType.SESSION_TOKEN, seatTokens[playerId]));
+
+        if (game == null) {
+            if (sessionPlayerIds.size() < GameConstants.MAX_PLAYERS) {
+                Messaging.sendMessage(session,
+                        new Message<>(EventType.WAIT, Messages.get(Messages.Key.WAIT_MESSAGE)));
+            }
+            return;
+        }
+
+        synchronized (selectionLog) {
+            long[] applied = selectionNanos.stream().mapToLong(Long::longValue).toArray();
+            Messaging.sendMessage(session, new Message<>(EventType.RESUMED,
+                    new ResumeDTO(createInitialGameDTO(), new ArrayList<>(selectionLog), applied)));
+        }
     }
 
     /**
      * Handles when a client disconnects.
+     * <p>
+     * Before the game starts the seat is released. Once the game runs, the seat is kept
+     * so the player can resume; if nobody is left, the shutdown hook runs after the
+     * resume grace period unless a player comes back.
+     * </p>
      *
      * @param session the disconnected session
      * @param reason  the reason for disconnection
      */
-    public void handleClose(Session session, CloseReason reason) {
-        sessionPlayerIds.remove(session);
+    public synchronized void handleClose(Session session, CloseReason reason) {
+        Integer playerId = sessionPlayerIds.remove(session);
         logInfo("Client disconnected: %s, reason: %s", session.getId(), reason);
+        if (playerId == null) return; // rejected or replaced by a resumed session
+
+        if (game == null) {
+            seatTokens[playerId] = null;
+        }
 
-        // If all players left, shut down server
-        if (sessionPlayerIds.isEmpty()) {
+        if (!sessionPlayerIds.isEmpty()) return;
+
+        if (game == null || resumeGraceMillis <= 0) {
             logInfo("Server closed. All players leave.");
-            System.exit(0);
+            shutdownHook.run();
+        } else {
+            scheduleShutdown();
         }
     }
 
+    /**
+     * Schedules the shutdown hook to run after the resume grace period.
+     */
+    private void scheduleShutdown() {
+        if (shutdownScheduler == null) {
+            shutdownScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "GameHandler-Shutdown");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        cancelPendingShutdown();
+        pendingShutdown = shutdownScheduler.schedule(() -> {
+            synchronized (this) {
+                if (!sessionPlayerIds.isEmpty()) return;
+                logInfo("Server closed. No player resumed within %d ms.", resumeGraceMillis);
+                shutdownHook.run();
+            }
+        }, resumeGraceMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Cancels a scheduled shutdown, if any.
+     */
+    private void cancelPendingShutdown() {
+        if (pendingShutdown != null) {
+            pendingShutdown.cancel(false);
+            pendingShutdown = null;
+        }
+    }
+
+    /**
+     * @return true while the handler is open, the game has not started and a seat is free
+     */
+    public synchronized boolean isAcceptingPlayers() {
+        return !closed && game == null && findSeat(null) >= 0;
+    }
+
+    /**
+     * @param token a session token presented by a reconnecting client
+     * @return true if the handler is open and one of its seats holds the token
+     */
+    public synchronized boolean holdsSeat(String token) {
+        return !closed && token != null && findSeat(token) >= 0;
+    }
+
+    /**
+     * Stops the game loop and the delayed-shutdown scheduler, and returns the game to the pool.
+     * Used when the handler is discarded while the process keeps running. The handler drops the
+     * game before releasing it, so no later message reaches a game another room may reuse.
+     */
+    public synchronized void close() {
+        closed = true;
+        cancelPendingShutdown();
+        if (shutdownScheduler != null) {
+            shutdownScheduler.shutdownNow();
+            shutdownScheduler = null;
+        }
+
+        IGame finished;
+        IGameLoop loop;
+        synchronized (selectionLog) {
+            finished = game;
+            loop = gameLoop;
+            game = null;
+            gameLoop = null;
+        }
+        if (loop != null) {
+            loop.stop();
+            // Ticks already queued by the loop's timer run on the event dispatch thread; release after them
+            SwingUtilities.invokeLater(() -> gamePool.release(finished));
+        }
+    }
+
+    /**
+     * Finds the seat holding the given token, or the first free seat when the token is null.
+     *
+     * @param token session token, or null to look for a free seat
+     * @return seat index, or -1 if none
+     */
+    private int findSeat(String token) {
+        for (int i = 0; i < seatTokens.length; i++) {
+            if (Objects.equals(seatTokens[i], token)) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the first value of a query parameter of the session's request URI.
+     */
+    static String queryParam(Session session, String name) {
+        Map<String, List<String>> params = session.getRequestParameterMap();
+        if (params == null) return null;
+        List<String> values = params.get(name);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
     /**
      * Handles errors that occur during a WebSocket session.
      *
@@ -133,16 +434,27 @@ public class GameHandler {
      * @param session the session that sent the message
      */
     public void handleMessage(String message, Session session) {
+        if (closed) return;
         Integer playerId = sessionPlayerIds.get(session);
         if (playerId == null) return; // Ignore if session not recognized
 
         try {
+            MessageCodecEvent jfr = new MessageCodecEvent();
+            jfr.begin();
+
             // Deserialize into generic message with JSON payload
             Message<JsonNode> genericMsg = mapper.readValue(
                     message,
                     mapper.getTypeFactory().constructParametricType(Message.class, JsonNode.class)
             );
 
+            if (jfr.shouldCommit()) {
+                jfr.operation = MessageCodecEvent.DECODE;
+                jfr.messageType = String.valueOf(genericMsg.type());
+                jfr.bytes = message.length();
+                jfr.commit();
+            }
+
             // Route message by type
             handleMessageByType(genericMsg, session, playerId);
         } catch (JsonProcessingException e) {
@@ -157,6 +469,8 @@ public class GameHandler {
         switch (msg.type()) {
             case SET_NAME -> handleSetName(msg.data(), playerId);
             case PLAYER_SELECTED -> handlePlayerSelected(msg.data(), playerId);
+            case CLOCK_PING -> handleClockPing(msg.data(), session);
+            case RESYNC_REQUEST -> handleResyncRequest(session, playerId);
             default -> LOGGER.warning("Unknown message type: " + msg.type());
         }
     }
@@ -183,7 +497,7 @@ public class GameHandler {
      * @param playerId the player who sent the message
      */
     private void handlePlayerSelected(JsonNode data, int playerId) {
-        if (game == null) return;
+        if (closed || game == null) return;
 
         try {
             PlayerSelectedDTO cmd = mapper.treeToValue(data, PlayerSelectedDTO.class);
@@ -194,19 +508,103 @@ public class GameHandler {
                 return;
             }
 
-            // Delegate selection to game logic
-            game.handleSelection(cmd.playerId(), cmd.selection());
+            // Log, apply and broadcast in one order for every session
+            synchronized (selectionLog) {
+                IGame current = game;
+                if (current == null) return; // closed meanwhile
 
-            // Broadcast selection event to all players
-            Messaging.broadcastMessage(
-                    sessionPlayerIds.keySet(),
-                    new Message<>(EventType.PLAYER_SELECTED, cmd)
-            );
+                selectionLog.add(cmd);
+                selectionNanos.add(clock.nanoTime());
+
+                // Delegate selection to game logic
+                current.handleSelection(cmd.playerId(), cmd.selection());
+
+                // Broadcast selection event to all players
+                Messaging.broadcastMessage(
+                        sessionPlayerIds.keySet(),
+                        new Message<>(EventType.PLAYER_SELECTED, cmd)
+                );
+            }
         } catch (JsonProcessingException e) {
             LOGGER.log(Level.SEVERE, "Failed to handle PLAYER_SELECTED", e);
         }
     }
 
+    /**
+     * Handles a {@link EventType#CLOCK_PING} message by answering with the game clock time.
+     *
+     * @param data    JSON node containing the client's send time
+     * @param session the session that sent the ping
+     */
+    private void handleClockPing(JsonNode data, Session session) {
+        try {
+            ClockSyncDTO ping = mapper.treeToValue(data, ClockSyncDTO.class);
+            Messaging.sendMessage(session, new Message<>(EventType.CLOCK_PONG,
+                    new ClockSyncDTO(ping.clientSendNanos(), clock.nanoTime())));
+        } catch (JsonProcessingException e) {
+            LOGGER.log(Level.SEVERE, "Failed to handle CLOCK_PING", e);
+        }
+    }
+
+    /**
+     * Handles a {@link EventType#RESYNC_REQUEST} by sending the requesting session the whole
+     * selection history with the time each selection was applied.
+     *
+     * @param session  the session whose replica diverged
+     * @param playerId the player of the session
+     */
+    private void handleResyncRequest(Session session, int playerId) {
+        if (closed || game == null) return;
+
+        synchronized (selectionLog) {
+            if (game == null) return; // closed meanwhile
+            logInfo("Resynchronizing player %d after %d selections", playerId, selectionLog.size());
+            long[] applied = selectionNanos.stream().mapToLong(Long::longValue).toArray();
+            Messaging.sendMessage(session, new Message<>(EventType.RESYNC,
+                    new ResyncDTO(createInitialGameDTO(), new ArrayList<>(selectionLog), applied, selectionLog.size())));
+        }
+    }
+
+    // ---------------------- State Hashes ----------------------
+
+    /**
+     * Called by the game loop after each update: every {@link ServerConfig#STATE_HASH_TICKS}
+     * ticks, hands the board hash to the shared sender thread.
+     */
+    public void onGameUpdated() {
+        StateHashDTO dto = captureStateHash();
+        if (dto != null) {
+            STATE_HASH_SENDER.execute(() -> broadcastStateHash(dto));
+        }
+    }
+
+    /**
+     * Reads the board hash of the current tick, on the thread updating the game.
+     *
+     * @return the hash with its game time and selection count, or null if no game runs, hashes
+     *         are disabled or the current tick is not a multiple of {@link ServerConfig#STATE_HASH_TICKS}
+     */
+    public StateHashDTO captureStateHash() {
+        IGame current = game;
+        if (current == null || ServerConfig.STATE_HASH_TICKS <= 0
+                || current.getTick() % ServerConfig.STATE_HASH_TICKS != 0) return null;
+
+        int eventCount;
+        synchronized (selectionLog) {
+            eventCount = selectionLog.size();
+        }
+        return new StateHashDTO(current.getClock().nanoTime(), current.getBoard().getHash(), eventCount);
+    }
+
+    /**
+     * Broadcasts a board hash to every session.
+     *
+     * @param dto the hash captured by {@link #captureStateHash()}
+     */
+    public void broadcastStateHash(StateHashDTO dto) {
+        Messaging.broadcastMessage(sessionPlayerIds.keySet(), new Message<>(EventType.STATE_HASH, dto));
+    }
+
     // ---------------------- Game Initialization ----------------------
 
     /**
@@ -214,7 +612,7 @@ public class GameHandler {
      */
     private void initializeGameIfReady() {
         synchronized (this) {
-            if (sessionPlayerIds.size() < GameConstants.MAX_PLAYERS || game != null) return;
+            if (closed || sessionPlayerIds.size() < GameConstants.MAX_PLAYERS || game != null) return;
 
             createGame();
             sendInitialGameStateToAll();
@@ -225,25 +623,45 @@ public class GameHandler {
      * Creates a new game with board configuration and players.
      */
     private void createGame() {
-        BoardConfig boardConfig = new BoardConfig(
+        // Take a game for the assigned names; its pieces are timed by its own clock
+        game = gamePool.acquire(new String[]{playerNames.get(0), playerNames.get(1)});
+        clock = game.getClock();
+        if (!ServerConfig.JOURNAL_DIR.isEmpty()) {
+            openJournal();
+        }
+
+        // Start game loop
+        GameLoop loop = new GameLoop(game, clock);
+        loop.setUpdateListener(this::onGameUpdated);
+        gameLoop = loop;
+        gameLoop.run();
+    }
+
+    /**
+     * Creates the configuration of the server's board.
+     */
+    private static BoardConfig createBoardConfig() {
+        return new BoardConfig(
                 new Dimension(BoardConstants.BOARD_ROWS, BoardConstants.BOARD_COLS),
                 new Dimension(BoardConstants.SQUARE_SIZE * BoardConstants.BOARD_ROWS,
                         BoardConstants.SQUARE_SIZE * BoardConstants.BOARD_COLS),
                 new Dimension(BoardConstants.BOARD_WIDTH_M, BoardConstants.BOARD_HEIGHT_M) // window size
         );
+    }
 
-        // Create players with assigned names
-        IPlayer[] players = PlayerFactory.createPlayers(
-                new String[]{playerNames.get(0), playerNames.get(1)},
-                boardConfig
-        );
-
-        // Create game instance
-        game = GameFactory.createNewGame(boardConfig, players);
-
-        // Start game loop
-        IGameLoop gameLoop = new GameLoop(game);
-        gameLoop.run();
+    /**
+     * Attaches a command journal to the new game. A journal that cannot be opened is
+     * reported and the game runs without one.
+     */
+    private void openJournal() {
+        String name = "game-" + System.currentTimeMillis() + "-" + JOURNAL_SEQ.incrementAndGet();
+        try {
+            game.setJournal(new GameJournal(Path.of(ServerConfig.JOURNAL_DIR), name,
+                    ServerConfig.JOURNAL_SEGMENT_BYTES));
+            logInfo("Journaling game to %s", name);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to open game journal " + name, e);
+        }
     }
 
     /**
@@ -283,10 +701,10 @@ public class GameHandler {
     // ---------------------- Getters ----------------------
 
     /**
-     * @return the current game instance, or null if not started
+     * @return the current game instance, or null if not started or closed
      */
     public IGame getGame() {
-        return game;
+        return closed ? null : game;
     }
 
     /**
@@ -0,0 +1,203 @@
+package server;
+
+import constants.ServerConfig;
+import game.GamePool;
+
+import javax.websocket.CloseReason;
+import javax.websocket.Session;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Routes WebSocket sessions to the {@link GameHandler} ("room") hosting their game.
+ * <p>
+ * In multi-room mode, new players fill the current lobby room two at a time and a new
+ * room is opened once it is full; a room is discarded when all its players are gone.
+ * A reconnecting player presenting a session token is routed back to the room holding
+ * that seat. In single-room mode every session goes to one handler, which ends the
+ * process once its players are gone.
+ * </p>
+ * <p>
+ * Rooms take their game from a shared {@link GamePool} and return it when closed, so a busy
+ * server resets finished games in place instead of allocating a new one per match.
+ * </p>
+ */
+public class GameRooms {
+
+    private static final Logger LOGGER = Logger.getLogger(GameRooms.class.getName());
+
+    /** Whether new rooms are opened once the lobby is full. */
+    private final boolean multiRoom;
+
+    /** Action run when a room's players are all gone in single-room mode. */
+    private final Runnable singleRoomShutdown;
+
+    /** Rooms currently hosting or waiting for players. */
+    private final Set<GameHandler> rooms = ConcurrentHashMap.newKeySet();
+
+    /** Room each connected session belongs to. */
+    private final Map<Session, GameHandler> sessionRooms = new ConcurrentHashMap<>();
+
+    /** Room new players are currently assigned to. */
+    private final AtomicReference<GameHandler> lobby = new AtomicReference<>();
+
+    /** Finished games of closed rooms, reset and reused by the rooms opened next. */
+    private final GamePool gamePool = GameHandler.createGamePool(ServerConfig.GAME_POOL_SIZE);
+
+    /**
+     * Creates the router configured by {@link ServerConfig#MULTI_ROOM}.
+     */
+    public GameRooms() {
+        this(ServerConfig.MULTI_ROOM, () -> System.exit(0));
+    }
+
+    /**
+     * Creates a router.
+     *
+     * @param multiRoom          whether to host many games
+     * @param singleRoomShutdown action run when the only room is empty (single-room mode)
+     */
+    public GameRooms(boolean multiRoom, Runnable singleRoomShutdown) {
+        this.multiRoom = multiRoom;
+        this.singleRoomShutdown = singleRoomShutdown;
+    }
+
+    // ---------------------- Connection Routing ----------------------
+
+    /**
+     * Assigns a new session to a room and lets the room handle the connection.
+     * <p>
+     * A room may close between being picked and taking the session, when its last player's
+     * grace period runs out; the room then rejects the session and another room is picked.
+     * </p>
+     *
+     * @param session the new client session
+     * @return the room the session was routed to
+     * @throws IOException if the room fails to handle the connection
+     */
+    public synchronized GameHandler handleOpen(Session session) throws IOException {
+        String token = GameHandler.queryParam(session, ServerConfig.TOKEN_PARAM);
+        while (true) {
+            GameHandler room = resumableRoom(token);
+            if (room == null) {
+                room = lobby.get();
+                if (room == null || (multiRoom && !room.isAcceptingPlayers())) {
+                    room = openRoom();
+                }
+            }
+
+            sessionRooms.put(session, room);
+            if (room.handleOpen(session)) return room;
+
+            // Closed meanwhile: forget it even if its close is still under way
+            sessionRooms.remove(session, room);
+            rooms.remove(room);
+            lobby.compareAndSet(room, null);
+        }
+    }
+
+    /**
+     * Passes a closed session to its room.
+     *
+     * @param session the disconnected session
+     * @param reason  the reason for disconnection
+     */
+    public void handleClose(Session session, CloseReason reason) {
+        GameHandler room = sessionRooms.remove(session);
+        if (room != null) room.handleClose(session, reason);
+    }
+
+    /**
+     * Passes an incoming message to the sender's room.
+     *
+     * @param message the raw message
+     * @param session the sending session
+     */
+    public void handleMessage(String message, Session session) {
+        GameHandler room = sessionRooms.get(session);
+        if (room != null) room.handleMessage(message, session);
+    }
+
+    /**
+     * Passes a session error to the session's room.
+     *
+     * @param session   the session where the error occurred
+     * @param throwable the thrown exception or error
+     */
+    public void handleError(Session session, Throwable throwable) {
+        GameHandler room = session == null ? null : sessionRooms.get(session);
+        if (room != null) {
+            room.handleError(session, throwable);
+        } else {
+            LOGGER.log(Level.SEVERE, "Error on unassigned session: " + throwable.getMessage(), throwable);
+        }
+    }
+
+    /**
+     * Finds the room holding the seat of a session token.
+     *
+     * @param token session token, or null
+     * @return the room, or null if the token is absent or unknown
+     */
+    private GameHandler resumableRoom(String token) {
+        if (token == null) return null;
+        for (GameHandler room : rooms) {
+            if (room.holdsSeat(token)) return room;
+        }
+        return null;
+    }
+
+    /**
+     * Opens a new room and makes it the lobby.
+     */
+    private GameHandler openRoom() {
+        AtomicReference<GameHandler> self = new AtomicReference<>();
+        GameHandler room = new GameHandler(multiRoom ? () -> closeRoom(self.get()) : singleRoomShutdown,
+                ServerConfig.SESSION_RESUME_GRACE_MS, gamePool);
+        self.set(room);
+
+        rooms.add(room);
+        lobby.set(room);
+        LOGGER.fine(() -> String.format("Opened room, %d active", rooms.size()));
+        return room;
+    }
+
+    /**
+     * Discards an empty room. Runs on the room's own shutdown path, so it only touches
+     * concurrent structures and never takes this router's lock.
+     */
+    private void closeRoom(GameHandler room) {
+        rooms.remove(room);
+        lobby.compareAndSet(room, null);
+        room.close();
+        LOGGER.fine(() -> String.format("Closed room, %d active", rooms.size()));
+    }
+
+    // ---------------------- Getters ----------------------
+
+    /**
+     * @return number of rooms hosting or waiting for players
+     */
+    public int getRoomCount() {
+        return rooms.size();
+    }
+
+    /**
+     * @return number of connected sessions across all rooms
+     */
+    public int getSessionCount() {
+        return sessionRooms.size();
+    }
+
+    /**
+     * @return the pool of games shared by the rooms
+     */
+    public GamePool getGamePool() {
+        return gamePool;
+    }
+}
@@ -1,7 +1,9 @@
 package server;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import dto.Message;
+import profiling.MessageCodecEvent;
 
 import javax.websocket.Session;
 import java.io.IOException;
@@ -13,7 +15,8 @@ import java.util.logging.Logger;
  * Utility class responsible for sending messages to WebSocket clients.
  * <p>
  * Provides methods for sending a single message to one session
- * or broadcasting the same message to multiple sessions.
+ * or broadcasting the same message to multiple sessions. Writes go through
+ * the session's outbound lane when {@link SessionExecutors} are enabled.
  * </p>
  */
 public class Messaging {
@@ -30,6 +33,10 @@ public class Messaging {
 
     /**
      * Sends a message to a single WebSocket session.
+     * <p>
+     * The message is serialized on the calling thread. The write runs on the session's outbound lane
+     * when {@link SessionExecutors} are enabled, otherwise directly on the calling thread.
+     * </p>
      *
      * @param session the WebSocket session to send the message to
      * @param message the message object to send (will be serialized to JSON)
@@ -39,20 +46,74 @@ public class Messaging {
 
         try {
             // Serialize message to JSON and send to client
-            session.getBasicRemote().sendText(MAPPER.writeValueAsString(message));
-        } catch (IOException e) {
+            sendText(session, serialize(message));
+        } catch (JsonProcessingException e) {
             LOGGER.log(Level.WARNING,
-                    "Failed to send message to session " + session.getId(), e);
+                    "Failed to serialize message for session " + session.getId(), e);
         }
     }
 
     /**
-     * Broadcasts a message to all connected sessions.
+     * Broadcasts a message to all connected sessions. The message is serialized once.
      *
      * @param sessions the set of sessions to send the message to
      * @param message  the message object to broadcast
      */
     public static void broadcastMessage(Set<Session> sessions, Message<?> message) {
-        sessions.forEach(s -> sendMessage(s, message));
+        String json;
+        try {
+            json = serialize(message);
+        } catch (JsonProcessingException e) {
+            LOGGER.log(Level.WARNING, "Failed to serialize broadcast message", e);
+            return;
+        }
+
+        for (Session s : sessions) {
+            if (s != null && s.isOpen()) sendText(s, json);
+        }
+    }
+
+    /**
+     * Serializes a message to JSON, recording the time taken.
+     */
+    private static String serialize(Message<?> message) throws JsonProcessingException {
+        MessageCodecEvent jfr = new MessageCodecEvent();
+        jfr.begin();
+        long start = System.nanoTime();
+        String json = MAPPER.writeValueAsString(message);
+        ServerMetrics.getInstance().serialized(System.nanoTime() - start);
+
+        if (jfr.shouldCommit()) {
+            jfr.operation = MessageCodecEvent.ENCODE;
+            jfr.messageType = String.valueOf(message.type());
+            jfr.bytes = json.length();
+            jfr.commit();
+        }
+        return json;
+    }
+
+    /**
+     * Queues the write on the session's outbound lane, or writes right away if it has none.
+     */
+    private static void sendText(Session session, String json) {
+        if (!SessionExecutors.getInstance().submitOutbound(session, () -> write(session, json))) {
+            write(session, json);
+        }
+    }
+
+    /**
+     * Performs the blocking write.
+     */
+    private static void write(Session session, String json) {
+        if (!session.isOpen()) return;
+
+        try {
+            session.getBasicRemote().sendText(json);
+            ServerMetrics.getInstance().messageOut();
+        } catch (IOException e) {
+            ServerMetrics.getInstance().sendFailure();
+            LOGGER.log(Level.WARNING,
+                    "Failed to send message to session " + session.getId(), e);
+        }
     }
 }
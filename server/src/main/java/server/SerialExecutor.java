@@ -0,0 +1,91 @@
+package server;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Executor that runs its tasks one at a time, in submission order, on threads of a delegate executor.
+ * <p>
+ * Submitting never blocks and takes no lock: tasks go into a concurrent queue and the submitter that
+ * finds the executor idle starts a drain task on the delegate. The drain runs queued tasks until the
+ * queue is empty, so a burst of tasks costs a single delegate thread.
+ * </p>
+ */
+public class SerialExecutor implements Executor {
+
+    private static final Logger LOGGER = Logger.getLogger(SerialExecutor.class.getName());
+
+    private final Executor delegate;
+
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+    /** Tasks submitted and not yet finished; the drain runs while this is positive. */
+    private final AtomicInteger pending = new AtomicInteger();
+
+    /**
+     * @param delegate executor providing the threads tasks run on
+     */
+    public SerialExecutor(Executor delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Queues a task, starting a drain on the delegate if none is running.
+     * If the delegate rejects the drain (e.g. while shutting down), the task is withdrawn and the
+     * exception rethrown, leaving the executor idle so later tasks can start a drain again. Tasks
+     * queued by other submitters meanwhile counted on that drain, so it is retried for them.
+     */
+    @Override
+    public void execute(Runnable task) {
+        tasks.add(task);
+        if (pending.getAndIncrement() == 0) {
+            try {
+                delegate.execute(this::drain);
+            } catch (RuntimeException e) {
+                tasks.remove(task);
+                if (pending.decrementAndGet() > 0) retryDrain();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Starts a drain for tasks queued while a drain was being rejected. If the delegate rejects
+     * it again, those tasks are dropped so the executor is left idle rather than stuck.
+     */
+    private void retryDrain() {
+        try {
+            delegate.execute(this::drain);
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Serial drain rejected, dropping queued tasks", e);
+            do {
+                tasks.poll();
+            } while (pending.decrementAndGet() > 0);
+        }
+    }
+
+    /**
+     * Runs queued tasks until none are left. A failing task is logged and does not stop the queue.
+     */
+    private void drain() {
+        do {
+            Runnable task = tasks.poll();
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.SEVERE, "Serial task failed", e);
+            }
+        } while (pending.decrementAndGet() > 0);
+    }
+
+    /**
+     * @return number of tasks submitted and not yet finished
+     */
+    public int getPendingCount() {
+        return pending.get();
+    }
+}
@@ -0,0 +1,79 @@
+package server;
+
+import metrics.Histogram;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process-wide WebSocket traffic counters, updated lock-free from container and session threads.
+ */
+public class ServerMetrics {
+
+    private static final ServerMetrics INSTANCE = new ServerMetrics();
+
+    private ServerMetrics() {
+    }
+
+    /** Messages received from clients. */
+    private final LongAdder messagesIn = new LongAdder();
+
+    /** Messages written to clients (a broadcast counts once per recipient). */
+    private final LongAdder messagesOut = new LongAdder();
+
+    /** Writes that failed with an I/O error. */
+    private final LongAdder sendFailures = new LongAdder();
+
+    /** Time to serialize an outgoing message to JSON, in nanoseconds. */
+    private final Histogram serializeNanos = new Histogram();
+
+    /**
+     * @return the shared instance
+     */
+    public static ServerMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    /** Counts a received message. */
+    public void messageIn() {
+        messagesIn.increment();
+    }
+
+    /** Counts a written message. */
+    public void messageOut() {
+        messagesOut.increment();
+    }
+
+    /** Counts a failed write. */
+    public void sendFailure() {
+        sendFailures.increment();
+    }
+
+    /**
+     * Records the serialization time of one outgoing message.
+     *
+     * @param nanos time spent serializing
+     */
+    public void serialized(long nanos) {
+        serializeNanos.record(nanos);
+    }
+
+    /** @return messages received since start */
+    public long getMessagesIn() {
+        return messagesIn.sum();
+    }
+
+    /** @return messages written since start */
+    public long getMessagesOut() {
+        return messagesOut.sum();
+    }
+
+    /** @return failed writes since start */
+    public long getSendFailures() {
+        return sendFailures.sum();
+    }
+
+    /** @return serialization time distribution */
+    public Histogram getSerializeNanos() {
+        return serializeNanos;
+    }
+}
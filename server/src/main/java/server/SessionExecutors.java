@@ -0,0 +1,157 @@
+package server;
+
+import constants.ServerConfig;
+import utils.VirtualThreads;
+
+import javax.websocket.CloseReason;
+import javax.websocket.Session;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Per-session serial executors running on virtual threads.
+ * <p>
+ * When enabled, every session gets two lanes: an inbound lane processing its messages and close event
+ * in arrival order, and an outbound lane performing its blocking writes in send order. Container worker
+ * threads only enqueue, so a slow client blocks a cheap virtual thread instead of a worker, and one
+ * session's writes never wait behind another's. When disabled, no lanes exist and callers run work
+ * on the current thread, as before.
+ * </p>
+ */
+public class SessionExecutors {
+
+    private static final Logger LOGGER = Logger.getLogger(SessionExecutors.class.getName());
+
+    private static final SessionExecutors INSTANCE =
+            new SessionExecutors(ServerConfig.VIRTUAL_THREADS, ServerConfig.OUTBOUND_QUEUE_LIMIT);
+
+    /**
+     * Inbound and outbound lanes of one session.
+     *
+     * @param inbound  lane for messages and the close event
+     * @param outbound lane for writes
+     * @param dropping set once the session is being closed for falling behind
+     */
+    private record Lanes(SerialExecutor inbound, SerialExecutor outbound, AtomicBoolean dropping) {
+    }
+
+    private final boolean enabled;
+    private final int outboundLimit;
+
+    /** Threads the lanes run on; null when disabled. */
+    private final ExecutorService threads;
+
+    private final Map<Session, Lanes> lanes = new ConcurrentHashMap<>();
+
+    /**
+     * @param enabled       whether sessions get lanes
+     * @param outboundLimit queued writes after which a session is disconnected
+     */
+    public SessionExecutors(boolean enabled, int outboundLimit) {
+        this.enabled = enabled;
+        this.outboundLimit = outboundLimit;
+        this.threads = enabled ? VirtualThreads.newThreadPerTaskExecutor("Session") : null;
+    }
+
+    /**
+     * Returns the executors configured by {@link ServerConfig#VIRTUAL_THREADS}.
+     *
+     * @return the shared instance
+     */
+    public static SessionExecutors getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @return true if sessions get their own lanes
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Creates the lanes of a new session. Does nothing when disabled.
+     *
+     * @param session the new session
+     */
+    public void register(Session session) {
+        if (enabled) {
+            lanes.put(session, new Lanes(new SerialExecutor(threads), new SerialExecutor(threads), new AtomicBoolean()));
+        }
+    }
+
+    /**
+     * Drops the lanes of a session once its close was processed. Queued writes still run
+     * and are skipped by the sender since the session is closed.
+     *
+     * @param session the closed session
+     */
+    public void unregister(Session session) {
+        lanes.remove(session);
+    }
+
+    /**
+     * Queues inbound work of a session behind its earlier inbound work.
+     *
+     * @param session the session the work belongs to
+     * @param task    the work
+     * @return true if queued; false if the session has no lanes and the caller should run the task itself
+     */
+    public boolean submitInbound(Session session, Runnable task) {
+        Lanes l = lanes.get(session);
+        if (l == null) return false;
+        l.inbound().execute(task);
+        return true;
+    }
+
+    /**
+     * Queues a write to a session behind its earlier writes. A session with more than the
+     * configured number of queued writes is closed instead, since its client cannot keep up.
+     *
+     * @param session the destination session
+     * @param write   the blocking write
+     * @return true if queued or dropped; false if the session has no lanes and the caller should write itself
+     */
+    public boolean submitOutbound(Session session, Runnable write) {
+        Lanes l = lanes.get(session);
+        if (l == null) return false;
+
+        if (l.outbound().getPendingCount() >= outboundLimit) {
+            if (l.dropping().compareAndSet(false, true)) {
+                LOGGER.warning(() -> "Disconnecting slow session " + session.getId()
+                        + ": " + outboundLimit + " messages queued");
+                closeSlowSession(session, l);
+            }
+            return true;
+        }
+        l.outbound().execute(write);
+        return true;
+    }
+
+    /**
+     * @param session a session
+     * @return number of writes queued for it, or 0 if it has no lanes
+     */
+    public int getOutboundPending(Session session) {
+        Lanes l = lanes.get(session);
+        return l == null ? 0 : l.outbound().getPendingCount();
+    }
+
+    /**
+     * Closes a session that fell behind; its close event then flows through the inbound lane.
+     */
+    private void closeSlowSession(Session session, Lanes l) {
+        l.inbound().execute(() -> {
+            try {
+                session.close(new CloseReason(CloseReason.CloseCodes.TRY_AGAIN_LATER, "Client too slow"));
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Failed to close slow session " + session.getId(), e);
+            }
+        });
+    }
+}
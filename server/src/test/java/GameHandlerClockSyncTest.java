@@ -0,0 +1,47 @@
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dto.ClockSyncDTO;
+import dto.EventType;
+import dto.Message;
+import org.junit.jupiter.api.Test;
+import server.GameHandler;
+import server.Messaging;
+
+import javax.websocket.Session;
+import java.lang.reflect.Field;
+import java.util.concurrent.ConcurrentMap;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class GameHandlerClockSyncTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void clockPing_isAnsweredWithPongEchoingClientTime() throws Exception {
+        GameHandler handler = new GameHandler();
+        Session s = mock(Session.class);
+        when(s.getId()).thenReturn("s1");
+
+        Field sessionMapField = GameHandler.class.getDeclaredField("sessionPlayerIds");
+        sessionMapField.setAccessible(true);
+        @SuppressWarnings("unchecked")
+        ConcurrentMap<Session, Integer> map = (ConcurrentMap<Session, Integer>) sessionMapField.get(handler);
+        map.put(s, 0);
+
+        String json = mapper.writeValueAsString(new Message<>(EventType.CLOCK_PING, new ClockSyncDTO(1234L, 0L)));
+
+        try (var mockedMessaging = mockStatic(Messaging.class)) {
+            long before = System.nanoTime();
+            handler.handleMessage(json, s);
+            long after = System.nanoTime();
+
+            mockedMessaging.verify(() -> Messaging.sendMessage(eq(s), argThat(m -> {
+                if (m.type() != EventType.CLOCK_PONG) return false;
+                ClockSyncDTO pong = (ClockSyncDTO) m.data();
+                return pong.clientSendNanos() == 1234L
+                        && pong.serverNanos() >= before && pong.serverNanos() <= after;
+            })));
+        }
+    }
+}
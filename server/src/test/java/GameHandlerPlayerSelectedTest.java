@@ -3,6 +3,7 @@ import dto.EventType;
 import dto.Message;
 import dto.PlayerSelectedDTO;
 import interfaces.IGame;
+import interfaces.IGameLoop;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import server.GameHandler;
@@ -12,6 +13,7 @@ import javax.websocket.Session;
 import java.lang.reflect.Field;
 import java.util.concurrent.ConcurrentMap;
 
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -92,4 +94,42 @@ class GameHandlerPlayerSelectedTest {
             mockedMessaging.verify(() -> Messaging.broadcastMessage(any(), any()), atLeastOnce());
         }
     }
+
+    @Test
+    void afterClose_handlePlayerSelected_ignoresAndDoesNotCallGameOrBroadcast() throws Exception {
+        // Arrange
+        Session s = mock(Session.class);
+        when(s.getId()).thenReturn("s3");
+
+        Field sessionMapField = GameHandler.class.getDeclaredField("sessionPlayerIds");
+        sessionMapField.setAccessible(true);
+        @SuppressWarnings("unchecked")
+        ConcurrentMap<Session, Integer> map = (ConcurrentMap<Session, Integer>) sessionMapField.get(handler);
+        map.put(s, 1);
+
+        IGame mockGame = mock(IGame.class);
+        Field gameField = GameHandler.class.getDeclaredField("game");
+        gameField.setAccessible(true);
+        gameField.set(handler, mockGame);
+        IGameLoop mockLoop = mock(IGameLoop.class);
+        Field loopField = GameHandler.class.getDeclaredField("gameLoop");
+        loopField.setAccessible(true);
+        loopField.set(handler, mockLoop);
+
+        String json = mapper.writeValueAsString(
+                new Message<>(EventType.PLAYER_SELECTED, new PlayerSelectedDTO(1, null)));
+
+        try (var mockedMessaging = mockStatic(Messaging.class)) {
+            // Act
+            handler.close();
+            handler.handleMessage(json, s);
+
+            // Assert: the loop is stopped and the released game is no longer reachable
+            verify(mockLoop).stop();
+            assertNull(handler.getGame());
+            assertNull(gameField.get(handler));
+            verify(mockGame, never()).handleSelection(anyInt(), any());
+            mockedMessaging.verify(() -> Messaging.broadcastMessage(any(), any()), never());
+        }
+    }
 }
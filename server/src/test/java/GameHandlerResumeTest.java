@@ -0,0 +1,146 @@
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dto.*;
+import interfaces.IBoard;
+import interfaces.IGame;
+import interfaces.IPlayer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+import pieces.Position;
+import server.GameHandler;
+import server.Messaging;
+
+import javax.websocket.CloseReason;
+import javax.websocket.Session;
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for resumable sessions: seat tokens, catch-up after reconnect and delayed shutdown.
+ */
+class GameHandlerResumeTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final CloseReason closed = new CloseReason(CloseReason.CloseCodes.GOING_AWAY, "test");
+
+    private Runnable shutdownHook;
+    private IGame game;
+
+    @BeforeEach
+    void setup() {
+        shutdownHook = mock(Runnable.class);
+        game = mock(IGame.class);
+        IBoard board = mock(IBoard.class);
+        when(game.getBoard()).thenReturn(board);
+        when(game.getPlayers()).thenReturn(new IPlayer[0]);
+    }
+
+    private static Session session(String id, Map<String, List<String>> params) {
+        Session s = mock(Session.class);
+        when(s.getId()).thenReturn(id);
+        when(s.getRequestParameterMap()).thenReturn(params);
+        return s;
+    }
+
+    private static String tokenSentTo(MockedStatic<Messaging> mocked, Session s) {
+        ArgumentCaptor<Message<?>> captor = ArgumentCaptor.forClass(Message.class);
+        mocked.verify(() -> Messaging.sendMessage(eq(s), captor.capture()), atLeastOnce());
+        return captor.getAllValues().stream()
+                .filter(m -> m.type() == EventType.SESSION_TOKEN)
+                .map(m -> (String) m.data())
+                .findFirst().orElseThrow();
+    }
+
+    private static void setGame(GameHandler handler, IGame game) throws Exception {
+        Field gameField = GameHandler.class.getDeclaredField("game");
+        gameField.setAccessible(true);
+        gameField.set(handler, game);
+    }
+
+    @Test
+    void reconnectWithToken_reclaimsSeat_andReceivesSelectionHistory() throws Exception {
+        GameHandler handler = new GameHandler(shutdownHook, 60_000);
+        Session s1 = session("s1", Map.of());
+        Session s2 = session("s2", Map.of());
+
+        try (var mocked = mockStatic(Messaging.class)) {
+            handler.handleOpen(s1);
+            handler.handleOpen(s2);
+            String token = tokenSentTo(mocked, s1);
+            setGame(handler, game);
+
+            for (int col = 0; col < 2; col++) {
+                String json = mapper.writeValueAsString(new Message<>(EventType.PLAYER_SELECTED,
+                        new PlayerSelectedDTO(0, new Position(6, col), col + 1)));
+                handler.handleMessage(json, s1);
+            }
+
+            handler.handleClose(s1, closed);
+            assertFalse(handler.getSessionPlayerIds().containsKey(s1));
+
+            Session resumed = session("s3", Map.of("token", List.of(token)));
+            handler.handleOpen(resumed);
+
+            assertEquals(0, handler.getSessionPlayerIds().get(resumed));
+            mocked.verify(() -> Messaging.sendMessage(eq(resumed), argThat(m -> {
+                if (m.type() != EventType.RESUMED) return false;
+                ResumeDTO dto = (ResumeDTO) m.data();
+                return dto.selections().size() == 2
+                        && dto.selections().get(1).seq() == 2
+                        && dto.appliedNanos().length == 2;
+            })));
+        }
+        verify(shutdownHook, never()).run();
+    }
+
+    @Test
+    void unknownToken_getsFreeSeat() throws Exception {
+        GameHandler handler = new GameHandler(shutdownHook, 60_000);
+        Session s1 = session("s1", Map.of("token", List.of("not-a-token")));
+
+        try (var ignored = mockStatic(Messaging.class)) {
+            handler.handleOpen(s1);
+        }
+        assertEquals(0, handler.getSessionPlayerIds().get(s1));
+    }
+
+    @Test
+    void seatIsReleasedWhenPlayerLeavesBeforeGameStarts() throws Exception {
+        GameHandler handler = new GameHandler(shutdownHook, 60_000);
+        Session s1 = session("s1", Map.of());
+        Session s2 = session("s2", Map.of());
+        Session s3 = session("s3", Map.of());
+
+        try (var ignored = mockStatic(Messaging.class)) {
+            handler.handleOpen(s1);
+            handler.handleOpen(s2);
+            handler.handleClose(s1, closed);
+            handler.handleOpen(s3);
+        }
+        assertEquals(0, handler.getSessionPlayerIds().get(s3));
+    }
+
+    @Test
+    void allPlayersGoneDuringGame_shutdownWaitsForGracePeriod() throws Exception {
+        GameHandler handler = new GameHandler(shutdownHook, 200);
+        Session s1 = session("s1", Map.of());
+        Session s2 = session("s2", Map.of());
+
+        try (var ignored = mockStatic(Messaging.class)) {
+            handler.handleOpen(s1);
+            handler.handleOpen(s2);
+            setGame(handler, game);
+            handler.handleClose(s1, closed);
+            handler.handleClose(s2, closed);
+        }
+
+        verify(shutdownHook, never()).run();
+        verify(shutdownHook, timeout(2_000)).run();
+    }
+}
@@ -0,0 +1,125 @@
+import com.fasterxml.jackson.databind.ObjectMapper;
+import constants.ServerConfig;
+import dto.*;
+import interfaces.IBoard;
+import interfaces.IClock;
+import interfaces.IGame;
+import interfaces.IPlayer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pieces.Position;
+import server.GameHandler;
+import server.Messaging;
+
+import javax.websocket.Session;
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for desync detection support: periodic board hashes and resync answers.
+ */
+class GameHandlerStateHashTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private IGame game;
+    private IBoard board;
+
+    @BeforeEach
+    void setup() {
+        game = mock(IGame.class);
+        board = mock(IBoard.class);
+        when(game.getBoard()).thenReturn(board);
+        when(game.getPlayers()).thenReturn(new IPlayer[0]);
+    }
+
+    private static Session session(String id) {
+        Session s = mock(Session.class);
+        when(s.getId()).thenReturn(id);
+        when(s.getRequestParameterMap()).thenReturn(Map.of());
+        return s;
+    }
+
+    private static void setGame(GameHandler handler, IGame game) throws Exception {
+        Field gameField = GameHandler.class.getDeclaredField("game");
+        gameField.setAccessible(true);
+        gameField.set(handler, game);
+    }
+
+    @Test
+    void captureStateHash_onHashTick_readsClockAndBoardHash() throws Exception {
+        GameHandler handler = new GameHandler(() -> { }, 60_000);
+        IClock clock = mock(IClock.class);
+        when(clock.nanoTime()).thenReturn(1_234L);
+        when(game.getClock()).thenReturn(clock);
+        when(game.getTick()).thenReturn((long) ServerConfig.STATE_HASH_TICKS * 3);
+        when(board.getHash()).thenReturn(0xC0FFEEL);
+        setGame(handler, game);
+
+        assertEquals(new StateHashDTO(1_234L, 0xC0FFEEL, 0), handler.captureStateHash());
+    }
+
+    @Test
+    void captureStateHash_betweenHashTicks_returnsNull() throws Exception {
+        GameHandler handler = new GameHandler(() -> { }, 60_000);
+        when(game.getTick()).thenReturn((long) ServerConfig.STATE_HASH_TICKS + 1);
+        setGame(handler, game);
+
+        assertNull(handler.captureStateHash());
+    }
+
+    @Test
+    void captureStateHash_beforeGameStarts_returnsNull() {
+        assertNull(new GameHandler(() -> { }, 60_000).captureStateHash());
+    }
+
+    @Test
+    void broadcastStateHash_sendsToEverySession() throws Exception {
+        GameHandler handler = new GameHandler(() -> { }, 60_000);
+        StateHashDTO dto = new StateHashDTO(1_234L, 0xC0FFEEL, 0);
+
+        try (var mocked = mockStatic(Messaging.class)) {
+            handler.handleOpen(session("s1"));
+            handler.handleOpen(session("s2"));
+
+            handler.broadcastStateHash(dto);
+
+            mocked.verify(() -> Messaging.broadcastMessage(argThat((Set<Session> s) -> s.size() == 2),
+                    argThat((Message<?> m) -> m.type() == EventType.STATE_HASH && m.data().equals(dto))));
+        }
+    }
+
+    @Test
+    void resyncRequest_answersWithEverySelectionAndItsTime() throws Exception {
+        GameHandler handler = new GameHandler(() -> { }, 60_000);
+        Session s1 = session("s1");
+        Session s2 = session("s2");
+
+        try (var mocked = mockStatic(Messaging.class)) {
+            handler.handleOpen(s1);
+            handler.handleOpen(s2);
+            setGame(handler, game);
+
+            for (int col = 0; col < 2; col++) {
+                handler.handleMessage(mapper.writeValueAsString(new Message<>(EventType.PLAYER_SELECTED,
+                        new PlayerSelectedDTO(0, new Position(6, col), col + 1))), s1);
+            }
+            handler.handleMessage(mapper.writeValueAsString(new Message<>(EventType.RESYNC_REQUEST, null)), s2);
+
+            mocked.verify(() -> Messaging.sendMessage(eq(s2), argThat(m -> {
+                if (m.type() != EventType.RESYNC) return false;
+                ResyncDTO dto = (ResyncDTO) m.data();
+                return dto.eventCount() == 2
+                        && dto.selections().size() == 2
+                        && dto.selections().get(1).seq() == 2
+                        && dto.appliedNanos().length == 2
+                        && dto.appliedNanos()[0] <= dto.appliedNanos()[1];
+            })));
+        }
+    }
+}
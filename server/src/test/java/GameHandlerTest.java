@@ -22,7 +22,7 @@ class GameHandlerTest {
     @BeforeEach
     void setup() {
         shutdownHook = mock(Runnable.class);
-        handler = new GameHandler();
+        handler = new GameHandler(shutdownHook);
     }
 
     @Test
@@ -0,0 +1,149 @@
+import dto.EventType;
+import dto.Message;
+import interfaces.IBoard;
+import interfaces.IGame;
+import interfaces.IPlayer;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+import server.GameHandler;
+import server.GameRooms;
+import server.Messaging;
+
+import javax.websocket.CloseReason;
+import javax.websocket.Session;
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for routing sessions to game rooms.
+ */
+class GameRoomsTest {
+
+    private final CloseReason closed = new CloseReason(CloseReason.CloseCodes.GOING_AWAY, "test");
+
+    private static Session session(String id, Map<String, List<String>> params) {
+        Session s = mock(Session.class);
+        when(s.getId()).thenReturn(id);
+        when(s.getRequestParameterMap()).thenReturn(params);
+        return s;
+    }
+
+    private static void setGame(GameHandler handler) throws Exception {
+        IGame game = mock(IGame.class);
+        when(game.getBoard()).thenReturn(mock(IBoard.class));
+        when(game.getPlayers()).thenReturn(new IPlayer[0]);
+
+        Field gameField = GameHandler.class.getDeclaredField("game");
+        gameField.setAccessible(true);
+        gameField.set(handler, game);
+    }
+
+    @Test
+    void multiRoom_pairsPlayersTwoByTwo() throws Exception {
+        GameRooms rooms = new GameRooms(true, () -> fail("single-room shutdown in multi-room mode"));
+
+        try (var ignored = mockStatic(Messaging.class)) {
+            GameHandler a = rooms.handleOpen(session("s1", Map.of()));
+            GameHandler b = rooms.handleOpen(session("s2", Map.of()));
+            GameHandler c = rooms.handleOpen(session("s3", Map.of()));
+
+            assertSame(a, b);
+            assertNotSame(a, c);
+            assertEquals(2, rooms.getRoomCount());
+            assertEquals(3, rooms.getSessionCount());
+        }
+    }
+
+    @Test
+    void multiRoom_emptyRoomIsDiscarded() throws Exception {
+        GameRooms rooms = new GameRooms(true, () -> fail("single-room shutdown in multi-room mode"));
+        Session s1 = session("s1", Map.of());
+
+        try (var ignored = mockStatic(Messaging.class)) {
+            rooms.handleOpen(s1);
+            rooms.handleClose(s1, closed);
+
+            assertEquals(0, rooms.getRoomCount());
+            assertEquals(0, rooms.getSessionCount());
+
+            // The next player gets a fresh room
+            GameHandler next = rooms.handleOpen(session("s2", Map.of()));
+            assertTrue(next.isAcceptingPlayers());
+            assertEquals(1, rooms.getRoomCount());
+        }
+    }
+
+    @Test
+    void reconnectWithToken_isRoutedToItsRoom() throws Exception {
+        GameRooms rooms = new GameRooms(true, () -> { });
+        Session s1 = session("s1", Map.of());
+
+        try (MockedStatic<Messaging> mocked = mockStatic(Messaging.class)) {
+            GameHandler first = rooms.handleOpen(s1);
+            rooms.handleOpen(session("s2", Map.of()));
+            setGame(first);
+            rooms.handleOpen(session("s3", Map.of()));
+
+            ArgumentCaptor<Message<?>> captor = ArgumentCaptor.forClass(Message.class);
+            mocked.verify(() -> Messaging.sendMessage(eq(s1), captor.capture()), atLeastOnce());
+            String token = captor.getAllValues().stream()
+                    .filter(m -> m.type() == EventType.SESSION_TOKEN)
+                    .map(m -> (String) m.data())
+                    .findFirst().orElseThrow();
+
+            rooms.handleClose(s1, closed);
+            GameHandler resumed = rooms.handleOpen(session("s1b", Map.of("token", List.of(token))));
+
+            assertSame(first, resumed);
+        }
+    }
+
+    @Test
+    void singleRoom_rejectsThirdPlayer_andShutsDownWhenEmpty() throws Exception {
+        Runnable shutdown = mock(Runnable.class);
+        GameRooms rooms = new GameRooms(false, shutdown);
+        Session s1 = session("s1", Map.of());
+        Session s2 = session("s2", Map.of());
+        Session s3 = session("s3", Map.of());
+
+        try (var ignored = mockStatic(Messaging.class)) {
+            GameHandler a = rooms.handleOpen(s1);
+            GameHandler b = rooms.handleOpen(s2);
+            GameHandler c = rooms.handleOpen(s3);
+
+            assertSame(a, b);
+            assertSame(a, c);
+            verify(s3).close(any(CloseReason.class));
+
+            rooms.handleClose(s1, closed);
+            rooms.handleClose(s2, closed);
+            verify(shutdown).run();
+        }
+    }
+
+    @Test
+    void closedRoom_rejectsSession_andAnotherRoomTakesIt() throws Exception {
+        GameRooms rooms = new GameRooms(false, () -> { });
+        Session s2 = session("s2", Map.of());
+
+        try (var ignored = mockStatic(Messaging.class)) {
+            GameHandler first = rooms.handleOpen(session("s1", Map.of()));
+            // Closed after being picked as the lobby, before taking the next session
+            first.close();
+
+            assertFalse(first.handleOpen(session("s1b", Map.of())));
+            GameHandler next = rooms.handleOpen(s2);
+
+            assertNotSame(first, next);
+            assertEquals(1, rooms.getRoomCount());
+            assertTrue(next.getSessionPlayerIds().containsKey(s2));
+            assertFalse(first.getSessionPlayerIds().containsKey(s2));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+import endpoint.launch.MetricsHttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import server.GameRooms;
+import server.ServerMetrics;
+
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the metrics/health HTTP endpoint.
+ */
+class MetricsHttpServerTest {
+
+    private final GameRooms rooms = new GameRooms(true, () -> { });
+    private final MetricsHttpServer metrics = new MetricsHttpServer(() -> rooms);
+
+    @AfterEach
+    void tearDown() {
+        metrics.stop();
+    }
+
+    private static String get(String url, StringBuilder contentType) throws Exception {
+        HttpURLConnection conn = (HttpURLConnection) new URL(url).openConnection();
+        assertEquals(200, conn.getResponseCode());
+        contentType.append(conn.getContentType());
+        try (InputStream in = conn.getInputStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    void scrape_containsRequiredMetricsInPrometheusFormat() {
+        ServerMetrics.getInstance().messageIn();
+        ServerMetrics.getInstance().serialized(2_000);
+
+        String text = metrics.scrape();
+
+        for (String name : new String[]{"kfchess_sessions", "kfchess_rooms", "kfchess_messages_in_total",
+                "kfchess_messages_out_total", "kfchess_messages_in_per_second", "kfchess_messages_out_per_second",
+                "kfchess_serialize_seconds_count", "kfchess_tick_overruns_total", "jvm_heap_used_bytes"}) {
+            assertTrue(text.lines().anyMatch(l -> l.startsWith(name + " ") || l.startsWith(name + "{")),
+                    "missing " + name);
+        }
+        assertTrue(text.contains("# TYPE kfchess_messages_in_total counter"));
+        assertTrue(text.contains("kfchess_serialize_seconds{quantile=\"0.99\"}"));
+
+        // Every sample line is "name[{labels}] value"
+        text.lines().filter(l -> !l.startsWith("#")).forEach(l ->
+                assertTrue(l.matches("[a-z_]+(\\{[a-z]+=\"[^\"]*\"})? -?[0-9.eE+-]+"), "malformed line: " + l));
+    }
+
+    @Test
+    void http_servesMetricsAndHealth() throws Exception {
+        metrics.start("127.0.0.1", 0);
+        String base = "http://127.0.0.1:" + metrics.getPort();
+
+        StringBuilder type = new StringBuilder();
+        String body = get(base + "/metrics", type);
+        assertTrue(type.toString().startsWith("text/plain; version=0.0.4"));
+        assertTrue(body.contains("kfchess_sessions 0"));
+
+        assertEquals("ok\n", get(base + "/health", new StringBuilder()));
+    }
+}
@@ -0,0 +1,154 @@
+import org.junit.jupiter.api.Test;
+import server.SerialExecutor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the per-session serial executor.
+ */
+class SerialExecutorTest {
+
+    @Test
+    void tasksRunOneAtATimeInSubmissionOrder() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            SerialExecutor serial = new SerialExecutor(pool);
+            List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger maxRunning = new AtomicInteger();
+            CountDownLatch done = new CountDownLatch(1000);
+
+            for (int i = 0; i < 1000; i++) {
+                final int n = i;
+                serial.execute(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    order.add(n);
+                    running.decrementAndGet();
+                    done.countDown();
+                });
+            }
+
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertEquals(1, maxRunning.get());
+            for (int i = 0; i < 1000; i++) assertEquals(i, order.get(i));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void failingTaskDoesNotStopLaterTasks() throws Exception {
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            SerialExecutor serial = new SerialExecutor(pool);
+            CountDownLatch ran = new CountDownLatch(1);
+
+            serial.execute(() -> { throw new IllegalStateException("boom"); });
+            serial.execute(ran::countDown);
+
+            assertTrue(ran.await(5, TimeUnit.SECONDS));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void rejectedDrain_leavesExecutorUsable() {
+        AtomicInteger calls = new AtomicInteger();
+        SerialExecutor serial = new SerialExecutor(r -> {
+            if (calls.getAndIncrement() == 0) throw new RejectedExecutionException("shutting down");
+            r.run();
+        });
+        AtomicInteger ran = new AtomicInteger();
+
+        assertThrows(RejectedExecutionException.class, () -> serial.execute(ran::incrementAndGet));
+        assertEquals(0, serial.getPendingCount());
+
+        serial.execute(ran::incrementAndGet);
+        assertEquals(1, ran.get());
+        assertEquals(0, serial.getPendingCount());
+    }
+
+    @Test
+    void taskQueuedWhileDrainIsRejected_stillRuns() {
+        AtomicInteger calls = new AtomicInteger();
+        AtomicInteger ran = new AtomicInteger();
+        SerialExecutor[] serial = new SerialExecutor[1];
+        serial[0] = new SerialExecutor(r -> {
+            if (calls.getAndIncrement() == 0) {
+                // another submitter queues behind the drain being started, then it is rejected
+                Thread other = new Thread(() -> serial[0].execute(ran::incrementAndGet));
+                other.start();
+                assertDoesNotThrow(() -> other.join());
+                throw new RejectedExecutionException("shutting down");
+            }
+            r.run();
+        });
+
+        assertThrows(RejectedExecutionException.class, () -> serial[0].execute(ran::incrementAndGet));
+        assertEquals(1, ran.get());
+        assertEquals(0, serial[0].getPendingCount());
+    }
+
+    @Test
+    void taskQueuedWhileDelegateRejects_isDroppedAndExecutorStaysUsable() {
+        AtomicInteger calls = new AtomicInteger();
+        AtomicInteger ran = new AtomicInteger();
+        SerialExecutor[] serial = new SerialExecutor[1];
+        serial[0] = new SerialExecutor(r -> {
+            int call = calls.getAndIncrement();
+            if (call == 0) {
+                Thread other = new Thread(() -> serial[0].execute(ran::incrementAndGet));
+                other.start();
+                assertDoesNotThrow(() -> other.join());
+            }
+            if (call < 2) throw new RejectedExecutionException("shut down");
+            r.run();
+        });
+
+        assertThrows(RejectedExecutionException.class, () -> serial[0].execute(ran::incrementAndGet));
+        assertEquals(0, ran.get());
+        assertEquals(0, serial[0].getPendingCount());
+
+        serial[0].execute(ran::incrementAndGet);
+        assertEquals(1, ran.get());
+    }
+
+    @Test
+    void concurrentSubmittersLoseNoTask() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        ExecutorService submitters = Executors.newFixedThreadPool(4);
+        try {
+            SerialExecutor serial = new SerialExecutor(pool);
+            AtomicInteger count = new AtomicInteger();
+            CountDownLatch done = new CountDownLatch(4 * 500);
+
+            for (int t = 0; t < 4; t++) {
+                submitters.submit(() -> {
+                    for (int i = 0; i < 500; i++) {
+                        serial.execute(() -> {
+                            count.incrementAndGet();
+                            done.countDown();
+                        });
+                    }
+                });
+            }
+
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertEquals(2000, count.get());
+        } finally {
+            pool.shutdown();
+            submitters.shutdown();
+        }
+    }
+}
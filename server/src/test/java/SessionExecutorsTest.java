@@ -0,0 +1,89 @@
+import org.junit.jupiter.api.Test;
+import server.SessionExecutors;
+
+import javax.websocket.CloseReason;
+import javax.websocket.Session;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for per-session inbound/outbound lanes.
+ */
+class SessionExecutorsTest {
+
+    @Test
+    void disabled_callerRunsWork() {
+        SessionExecutors executors = new SessionExecutors(false, 10);
+        Session s = mock(Session.class);
+        executors.register(s);
+
+        assertFalse(executors.submitInbound(s, () -> fail("must not be queued")));
+        assertFalse(executors.submitOutbound(s, () -> fail("must not be queued")));
+    }
+
+    @Test
+    void enabled_runsEachLaneInOrderOffTheCallingThread() throws Exception {
+        SessionExecutors executors = new SessionExecutors(true, 1000);
+        Session s = mock(Session.class);
+        executors.register(s);
+
+        Thread caller = Thread.currentThread();
+        List<Integer> writes = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(100);
+        for (int i = 0; i < 100; i++) {
+            final int n = i;
+            assertTrue(executors.submitOutbound(s, () -> {
+                assertNotSame(caller, Thread.currentThread());
+                writes.add(n);
+                done.countDown();
+            }));
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 100; i++) assertEquals(i, writes.get(i));
+    }
+
+    @Test
+    void unregisteredSession_hasNoLanes() {
+        SessionExecutors executors = new SessionExecutors(true, 10);
+        Session s = mock(Session.class);
+        executors.register(s);
+        executors.unregister(s);
+
+        assertFalse(executors.submitInbound(s, () -> { }));
+    }
+
+    @Test
+    void slowSession_isClosedOnceOverTheLimit() throws Exception {
+        SessionExecutors executors = new SessionExecutors(true, 2);
+        Session s = mock(Session.class);
+        when(s.getId()).thenReturn("slow");
+        executors.register(s);
+
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable blockedWrite = () -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        executors.submitOutbound(s, blockedWrite);
+        executors.submitOutbound(s, blockedWrite);
+
+        // Over the limit: dropped and the session is closed (once)
+        executors.submitOutbound(s, () -> fail("must not be queued"));
+        executors.submitOutbound(s, () -> fail("must not be queued"));
+
+        verify(s, timeout(5000).times(1)).close(any(CloseReason.class));
+        assertEquals(2, executors.getOutboundPending(s));
+        release.countDown();
+    }
+}